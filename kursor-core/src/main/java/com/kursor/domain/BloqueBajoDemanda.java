@@ -0,0 +1,147 @@
+package com.kursor.domain;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Bloque cuyas preguntas se cargan la primera vez que se necesitan.
+ *
+ * <p>Se usa en los cursos fragmentados, donde cada bloque reside en su propio
+ * archivo YAML. Al cargar el curso solo se leen los metadatos del bloque y el
+ * número de preguntas; las preguntas se construyen cuando se accede a ellas
+ * por primera vez (por ejemplo, al seleccionar el bloque) o cuando se solicita
+ * su carga explícitamente con {@link #cargar()}.</p>
+ *
+ * <p>Mientras las preguntas no se han cargado, {@link #getNumeroPreguntas()} y
+ * {@link #tienePreguntas()} responden con el recuento leído del archivo, sin
+ * provocar la carga.</p>
+ *
+ * <p><strong>Thread Safety:</strong> La carga se realiza una sola vez aunque
+ * varios hilos accedan simultáneamente al bloque.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see Bloque
+ */
+public class BloqueBajoDemanda extends Bloque {
+
+    /** Logger para registrar eventos del bloque */
+    private static final Logger logger = LoggerFactory.getLogger(BloqueBajoDemanda.class);
+
+    /** Cargador de las preguntas del bloque, o null una vez cargadas */
+    private Callable<List<Pregunta>> cargador;
+
+    /** Número de preguntas declarado antes de la carga */
+    private final int numeroPreguntasDeclarado;
+
+    /** Indica si las preguntas ya se han cargado */
+    private volatile boolean cargado;
+
+    /**
+     * Constructor para crear un bloque con carga diferida de preguntas.
+     *
+     * @param id Identificador único del bloque (no debe ser null o vacío)
+     * @param titulo Título del bloque (no debe ser null o vacío)
+     * @param descripcion Descripción del bloque (puede ser null)
+     * @param tipo Tipo del bloque (puede ser null)
+     * @param numeroPreguntas Número de preguntas que contendrá el bloque una vez cargado
+     * @param cargador Función que construye las preguntas del bloque (no debe ser null)
+     * @throws IllegalArgumentException si algún parámetro obligatorio no es válido
+     */
+    public BloqueBajoDemanda(String id, String titulo, String descripcion, String tipo,
+                             int numeroPreguntas, Callable<List<Pregunta>> cargador) {
+        super(id, titulo, descripcion, tipo);
+
+        if (cargador == null) {
+            throw new IllegalArgumentException("El cargador de preguntas no puede ser null");
+        }
+        this.cargador = cargador;
+        this.numeroPreguntasDeclarado = numeroPreguntas;
+    }
+
+    /**
+     * Carga las preguntas del bloque si aún no se han cargado.
+     *
+     * @throws RuntimeException si las preguntas no se pueden cargar
+     */
+    public void cargar() {
+        if (cargado) {
+            return;
+        }
+
+        synchronized (this) {
+            if (cargado) {
+                return;
+            }
+
+            logger.debug("Cargando preguntas del bloque bajo demanda: " + getId());
+            try {
+                super.setPreguntas(cargador.call());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Error al cargar las preguntas del bloque " + getId() +
+                                         ": " + e.getMessage(), e);
+            }
+            cargador = null;
+            cargado = true;
+            logger.info("Preguntas del bloque cargadas bajo demanda - ID: " + getId() +
+                       ", Cantidad: " + super.getNumeroPreguntas());
+        }
+    }
+
+    /**
+     * Indica si las preguntas del bloque ya se han cargado.
+     *
+     * @return true si las preguntas están en memoria
+     */
+    public boolean isCargado() {
+        return cargado;
+    }
+
+    @Override
+    public List<Pregunta> getPreguntas() {
+        cargar();
+        return super.getPreguntas();
+    }
+
+    @Override
+    public void setPreguntas(List<Pregunta> preguntas) {
+        synchronized (this) {
+            super.setPreguntas(preguntas);
+            cargador = null;
+            cargado = true;
+        }
+    }
+
+    @Override
+    public void addPregunta(Pregunta pregunta) {
+        cargar();
+        super.addPregunta(pregunta);
+    }
+
+    @Override
+    public int getNumeroPreguntas() {
+        return cargado ? super.getNumeroPreguntas() : numeroPreguntasDeclarado;
+    }
+
+    @Override
+    public boolean tienePreguntas() {
+        return cargado ? super.tienePreguntas() : numeroPreguntasDeclarado > 0;
+    }
+
+    @Override
+    public List<Pregunta> getPreguntasPorTipo(String tipo) {
+        cargar();
+        return super.getPreguntasPorTipo(tipo);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BloqueBajoDemanda{id='%s', titulo='%s', tipo='%s', preguntas=%d, cargado=%s}",
+                           getId(), getTitulo(), getTipo(), getNumeroPreguntas(), cargado);
+    }
+}
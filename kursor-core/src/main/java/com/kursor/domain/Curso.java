@@ -283,7 +283,7 @@ public class Curso {
      */
     public int getNumeroPreguntas() {
         int totalPreguntas = bloques.stream()
-                                   .mapToInt(bloque -> bloque.getPreguntas().size())
+                                   .mapToInt(Bloque::getNumeroPreguntas)
                                    .sum();
         
         logger.debug("Obteniendo número total de preguntas de curso - ID: " + id + 
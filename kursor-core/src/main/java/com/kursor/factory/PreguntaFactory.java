@@ -1,12 +1,15 @@
 package com.kursor.factory;
 
 import com.kursor.domain.Pregunta;
+import com.kursor.modules.CamposPregunta;
 import com.kursor.modules.PreguntaModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.kursor.shared.util.ModuleManager;
+import com.kursor.shared.util.PoolCadenas;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Factory para crear instancias de preguntas de diferentes tipos.
@@ -72,7 +75,24 @@ public class PreguntaFactory {
      * @throws RuntimeException si hay un error durante la creación
      */
     public static Pregunta crearPregunta(Map<String, Object> datos) {
-        logger.debug("Creando pregunta desde datos YAML: " + datos);
+        return crearPregunta(datos, null);
+    }
+    
+    /**
+     * Crea una pregunta a partir de datos YAML compartiendo sus cadenas.
+     * 
+     * <p>Antes de delegar en el módulo, las claves, cadenas y listas de cadenas
+     * de los datos se sustituyen por sus instancias del pool, de modo que el
+     * parser del módulo recibe ya los valores compartidos.</p>
+     * 
+     * @param datos Mapa con los datos YAML de la pregunta
+     * @param pool Pool de cadenas del cargador, o null para no compartir valores
+     * @return Pregunta creada según el tipo especificado
+     * @throws IllegalArgumentException si los datos son inválidos o no se encuentra el módulo
+     * @throws RuntimeException si hay un error durante la creación
+     */
+    public static Pregunta crearPregunta(Map<String, Object> datos, PoolCadenas pool) {
+        logger.debug("Creando pregunta desde datos YAML: {}", datos);
         
         // Validar datos de entrada
         if (datos == null) {
@@ -80,32 +100,86 @@ public class PreguntaFactory {
             throw new IllegalArgumentException("Datos de pregunta no pueden ser null");
         }
         
-        // Extraer tipo de pregunta
+        // Extraer tipo de pregunta y buscar módulo correspondiente
         String tipo = (String) datos.get("tipo");
+        PreguntaModule modulo = buscarModulo(tipo);
+        
+        if (pool != null) {
+            datos = pool.datos(datos);
+        }
+        
+        Map<String, Object> preguntaData = datos;
+        return crear(modulo, tipo, () -> modulo.parsePregunta(preguntaData));
+    }
+    
+    /**
+     * Crea una pregunta a partir de sus campos leídos en streaming.
+     * 
+     * <p>Es la vía del cargador de cursos: el módulo recibe la vista tipada
+     * con {@link PreguntaModule#parsePregunta(CamposPregunta)}, sin que se
+     * construya un mapa por pregunta. Las cadenas de la vista ya vienen
+     * compartidas por el cargador, si usa un pool.</p>
+     * 
+     * @param campos Campos de la pregunta, incluido su tipo
+     * @return Pregunta creada según el tipo especificado
+     * @throws IllegalArgumentException si los campos son inválidos o no se encuentra el módulo
+     * @throws RuntimeException si hay un error durante la creación
+     * @since 2.0.0
+     */
+    public static Pregunta crearPregunta(CamposPregunta campos) {
+        if (campos == null) {
+            logger.error("Error al crear pregunta: campos no pueden ser null");
+            throw new IllegalArgumentException("Campos de pregunta no pueden ser null");
+        }
+        
+        String tipo = campos.getTexto("tipo");
+        PreguntaModule modulo = buscarModulo(tipo);
+        return crear(modulo, tipo, () -> modulo.parsePregunta(campos));
+    }
+    
+    /**
+     * Busca el módulo de un tipo de pregunta.
+     * 
+     * @param tipo Tipo de pregunta
+     * @return Módulo del tipo
+     * @throws IllegalArgumentException si el tipo es vacío o no hay módulo para él
+     */
+    private static PreguntaModule buscarModulo(String tipo) {
         if (tipo == null || tipo.trim().isEmpty()) {
             logger.error("Error al crear pregunta: tipo no puede ser null o vacío");
             throw new IllegalArgumentException("Tipo de pregunta no puede ser null o vacío");
         }
         
-        // Buscar módulo correspondiente
-        PreguntaModule modulo = ModuleManager.getInstance().findModuleByQuestionType(tipo.trim());
+        PreguntaModule modulo = ModuleManager.getInstance().findModuleByQuestionType(tipo);
         if (modulo == null) {
-            logger.error("No se encontró módulo para el tipo de pregunta: " + tipo);
+            logger.error("No se encontró módulo para el tipo de pregunta: {}", tipo);
             throw new IllegalArgumentException("No se encontró módulo para el tipo: " + tipo);
         }
         
-        logger.debug("Módulo encontrado para tipo '" + tipo + "': " + modulo.getModuleName());
-        
+        logger.debug("Módulo encontrado para tipo '{}': {}", tipo, modulo);
+        return modulo;
+    }
+    
+    /**
+     * Delega la creación de una pregunta en su módulo y comprueba el resultado.
+     * 
+     * @param modulo Módulo del tipo de pregunta
+     * @param tipo Tipo de pregunta
+     * @param parseo Llamada al método de parseo del módulo
+     * @return Pregunta creada
+     * @throws RuntimeException si el módulo falla o no crea la pregunta
+     */
+    private static Pregunta crear(PreguntaModule modulo, String tipo, Supplier<Pregunta> parseo) {
         try {
             // Delegar creación al módulo
-            Pregunta pregunta = modulo.parsePregunta(datos);
+            Pregunta pregunta = parseo.get();
             
             if (pregunta == null) {
                 logger.error("El módulo " + modulo.getModuleName() + " retornó null para tipo: " + tipo);
                 throw new RuntimeException("El módulo no pudo crear la pregunta");
             }
             
-            logger.info("Pregunta creada exitosamente - Tipo: " + tipo + ", ID: " + pregunta.getId());
+            logger.info("Pregunta creada exitosamente - Tipo: {}, ID: {}", tipo, pregunta.getId());
             return pregunta;
             
         } catch (Exception e) {
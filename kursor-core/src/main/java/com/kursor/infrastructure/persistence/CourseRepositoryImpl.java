@@ -77,16 +77,8 @@ public class CourseRepositoryImpl implements CourseRepository {
         }
         
         try {
-            List<CursoDTO> todosLosCursos = cursoManager.cargarCursosCompletos();
-            
-            if (todosLosCursos == null) {
-                logger.warn("CursoManager retornó null, no se puede buscar curso");
-                return Optional.empty();
-            }
-            
-            Optional<CursoDTO> curso = todosLosCursos.stream()
-                .filter(c -> id.equals(c.getId()))
-                .findFirst();
+            // Solo se hidrata el curso pedido, a través de la caché de cursos completos
+            Optional<CursoDTO> curso = Optional.ofNullable(cursoManager.obtenerCursoPorId(id));
             
             if (curso.isPresent()) {
                 logger.debug("Curso encontrado: {}", curso.get().getTitulo());
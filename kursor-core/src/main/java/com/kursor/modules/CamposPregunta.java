@@ -0,0 +1,233 @@
+package com.kursor.modules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vista tipada y reutilizable de los campos de una pregunta.
+ *
+ * <p>El parser en streaming de cursos lee los campos de cada pregunta
+ * directamente del flujo de tokens y los deja en esta vista, que reutiliza de
+ * una pregunta a la siguiente. Los módulos que implementan
+ * {@link PreguntaModule#parsePregunta(CamposPregunta)} leen de ella los valores
+ * ya tipados ({@link #getTexto(String)}, {@link #getListaTextos(String)}...),
+ * sin que se construya un mapa genérico por pregunta ni se conviertan sus
+ * valores con casts.</p>
+ *
+ * <p>Los valores escalares se conservan con el tipo que les da el YAML
+ * ({@link String}, {@link Boolean} o {@link Number}); las listas de cadenas
+ * son inmutables y pueden estar compartidas entre preguntas, de modo que el
+ * dominio puede guardarlas sin copiarlas.</p>
+ *
+ * <p><strong>Importante:</strong> la vista solo es válida durante la llamada a
+ * {@code parsePregunta}. Los módulos no deben guardar una referencia a ella,
+ * porque su contenido se sustituye con el de la pregunta siguiente. Si
+ * necesitan los datos como mapa, {@link #aMapa()} devuelve una copia.</p>
+ *
+ * <p><strong>Thread Safety:</strong> No es thread-safe; cada hilo de carga usa
+ * su propia vista.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PreguntaModule#parsePregunta(CamposPregunta)
+ * @see com.kursor.service.CursoYamlStreamParser
+ */
+public final class CamposPregunta {
+
+    /** Capacidad inicial, suficiente para las preguntas habituales */
+    private static final int CAPACIDAD_INICIAL = 8;
+
+    /** Nombres de los campos, en orden de lectura */
+    private String[] nombres = new String[CAPACIDAD_INICIAL];
+
+    /** Valores de los campos, en la misma posición que su nombre */
+    private Object[] valores = new Object[CAPACIDAD_INICIAL];
+
+    /** Número de campos de la pregunta actual */
+    private int tamano;
+
+    /**
+     * Crea una vista con los campos de un mapa, para usar el SPI tipado fuera
+     * del parser en streaming.
+     *
+     * @param datos Datos de la pregunta (no se modifican)
+     * @return Vista nueva con los mismos campos
+     */
+    public static CamposPregunta de(Map<String, Object> datos) {
+        CamposPregunta campos = new CamposPregunta();
+        datos.forEach(campos::poner);
+        return campos;
+    }
+
+    /**
+     * Vacía la vista para reutilizarla con otra pregunta.
+     */
+    public void limpiar() {
+        Arrays.fill(valores, 0, tamano, null);
+        tamano = 0;
+    }
+
+    /**
+     * Establece el valor de un campo. Lo usa el cargador al leer la pregunta.
+     *
+     * @param campo Nombre del campo
+     * @param valor Valor del campo (puede ser null)
+     * @throws IllegalArgumentException si el nombre del campo es null
+     */
+    public void poner(String campo, Object valor) {
+        if (campo == null) {
+            throw new IllegalArgumentException("El nombre del campo no puede ser null");
+        }
+        int posicion = posicion(campo);
+        if (posicion >= 0) {
+            valores[posicion] = valor;
+            return;
+        }
+        if (tamano == nombres.length) {
+            nombres = Arrays.copyOf(nombres, tamano * 2);
+            valores = Arrays.copyOf(valores, tamano * 2);
+        }
+        nombres[tamano] = campo;
+        valores[tamano] = valor;
+        tamano++;
+    }
+
+    /**
+     * Indica si la pregunta tiene un campo, aunque su valor sea null.
+     *
+     * @param campo Nombre del campo
+     * @return true si el campo está presente
+     */
+    public boolean contiene(String campo) {
+        return posicion(campo) >= 0;
+    }
+
+    /**
+     * Obtiene el valor de un campo tal como se leyó.
+     *
+     * @param campo Nombre del campo
+     * @return Valor del campo, o null si no está presente
+     */
+    public Object get(String campo) {
+        int posicion = posicion(campo);
+        return posicion >= 0 ? valores[posicion] : null;
+    }
+
+    /**
+     * Obtiene un campo escalar como texto. Los números y booleanos se
+     * convierten a su representación textual.
+     *
+     * @param campo Nombre del campo
+     * @return Texto del campo, o null si no está presente, es null o no es escalar
+     */
+    public String getTexto(String campo) {
+        Object valor = get(campo);
+        if (valor instanceof String) {
+            return (String) valor;
+        }
+        return valor instanceof Number || valor instanceof Boolean ? valor.toString() : null;
+    }
+
+    /**
+     * Obtiene un campo como booleano. Acepta booleanos YAML y los textos
+     * {@code "true"} y {@code "false"} en cualquier combinación de mayúsculas.
+     *
+     * @param campo Nombre del campo
+     * @param porDefecto Valor si el campo no está presente o no es un booleano
+     * @return Valor booleano del campo
+     */
+    public boolean getBooleano(String campo, boolean porDefecto) {
+        Object valor = get(campo);
+        if (valor instanceof Boolean) {
+            return (Boolean) valor;
+        }
+        if (valor instanceof String) {
+            String texto = ((String) valor).trim();
+            if ("true".equalsIgnoreCase(texto)) {
+                return true;
+            }
+            if ("false".equalsIgnoreCase(texto)) {
+                return false;
+            }
+        }
+        return porDefecto;
+    }
+
+    /**
+     * Obtiene un campo como lista de textos.
+     *
+     * <p>Si la lista solo contiene cadenas se devuelve tal cual (inmutable y
+     * posiblemente compartida). Si contiene otros escalares se devuelve una
+     * lista nueva con su representación textual.</p>
+     *
+     * @param campo Nombre del campo
+     * @return Lista de textos, o null si el campo no está presente o no es una lista
+     */
+    public List<String> getListaTextos(String campo) {
+        Object valor = get(campo);
+        if (!(valor instanceof List)) {
+            return null;
+        }
+
+        List<?> lista = (List<?>) valor;
+        for (Object elemento : lista) {
+            if (!(elemento instanceof String)) {
+                List<String> textos = new ArrayList<>(lista.size());
+                for (Object otro : lista) {
+                    textos.add(otro != null ? otro.toString() : null);
+                }
+                return textos;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<String> textos = (List<String>) lista;
+        return textos;
+    }
+
+    /**
+     * Obtiene el número de campos de la pregunta.
+     *
+     * @return Número de campos
+     */
+    public int size() {
+        return tamano;
+    }
+
+    /**
+     * Copia los campos a un mapa mutable, en orden de lectura.
+     *
+     * @return Mapa nuevo con los campos de la pregunta
+     */
+    public Map<String, Object> aMapa() {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        for (int i = 0; i < tamano; i++) {
+            mapa.put(nombres[i], valores[i]);
+        }
+        return mapa;
+    }
+
+    /**
+     * Busca la posición de un campo. Las preguntas tienen pocos campos, por lo
+     * que la búsqueda lineal es más rápida que un mapa y no reserva memoria.
+     *
+     * @param campo Nombre del campo
+     * @return Posición del campo, o -1 si no está presente
+     */
+    private int posicion(String campo) {
+        for (int i = 0; i < tamano; i++) {
+            if (nombres[i].equals(campo)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "CamposPregunta" + aMapa();
+    }
+}
@@ -1,14 +1,8 @@
 package com.kursor.modules;
 
-import java.util.Map;
-import javafx.scene.Node;
 import com.kursor.domain.Pregunta;
-import org.slf4j.LoggerFactory;
-import com.kursor.presentation.controllers.PreguntaEventListener;
-import javafx.scene.control.Button;
-import javafx.scene.layout.VBox;
-
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interfaz para módulos de preguntas que manejan tipos específicos de preguntas.
@@ -16,11 +10,16 @@ import java.util.List;
  * <p>Cada módulo es responsable de:</p>
  * <ul>
  *   <li>Gestionar preguntas de un tipo específico</li>
- *   <li>Crear la interfaz de usuario para sus preguntas</li>
  *   <li>Validar respuestas según su lógica específica</li>
  *   <li>Parsear datos YAML para crear preguntas</li>
  * </ul>
  * 
+ * <p>Es el núcleo sin interfaz gráfica del SPI: no depende de JavaFX, de modo
+ * que los cursos pueden cargarse, validarse y corregirse en una JVM sin
+ * toolkit gráfico (procesos por lotes, tests, modo servidor). La interfaz de
+ * usuario de cada tipo de pregunta es una contribución aparte,
+ * {@link PreguntaModuleUI}, que solo carga la aplicación de escritorio.</p>
+ * 
  * <p>Los módulos se cargan dinámicamente como plugins y deben registrarse
  * en el archivo META-INF/services/com.kursor.modules.PreguntaModule</p>
  * 
@@ -28,6 +27,7 @@ import java.util.List;
  * @version 2.0.0
  * @since 1.0.0
  * @see Pregunta
+ * @see PreguntaModuleUI
  */
 public interface PreguntaModule {
     
@@ -37,6 +37,22 @@ public interface PreguntaModule {
      * @return Tipo de pregunta (ej: "test", "flashcard", "completar_huecos", "truefalse")
      */
     String getQuestionType();
+
+    /**
+     * Obtiene otros nombres con los que los cursos pueden indicar el tipo de
+     * pregunta de este módulo (por ejemplo, {@code "flashcards"} para
+     * {@code "flashcard"}).
+     * 
+     * <p>Los alias se indexan junto al tipo al cargar el módulo, por lo que
+     * deben ser constantes. Si el módulo incluye un descriptor, deben coincidir
+     * con su propiedad {@code alias}.</p>
+     * 
+     * @return Lista de alias, vacía por defecto
+     * @since 2.0.0
+     */
+    default List<String> getQuestionTypeAliases() {
+        return List.of();
+    }
         
     /**
      * Obtiene el nombre del módulo para mostrar en la interfaz de usuario.
@@ -70,37 +86,27 @@ public interface PreguntaModule {
      * @throws IllegalArgumentException si los datos YAML no son válidos para este tipo de pregunta
      */
     Pregunta parsePregunta(Map<String, Object> preguntaData);
-    
+
     /**
-     * Crea la interfaz de usuario para una pregunta específica.
-     * 
-     * <p>Este método debe crear y configurar todos los controles JavaFX
-     * necesarios para mostrar la pregunta al usuario.</p>
+     * Crea una pregunta a partir de sus campos leídos en streaming.
      * 
-     * @param pregunta La pregunta para la cual crear la vista
-     * @return Nodo JavaFX que representa la interfaz de la pregunta
-     * @throws IllegalArgumentException si el tipo de pregunta no es compatible con este módulo
-     */
-    Node createQuestionView(Pregunta pregunta);
-    
-    /**
-     * Configura la interfaz de usuario completa para una pregunta.
+     * <p>Es la vía que usa el cargador de cursos: los campos se leen
+     * directamente del flujo de tokens del YAML a una vista reutilizable, sin
+     * construir un mapa por pregunta. Los módulos pueden sobrescribir este
+     * método para leer sus campos ya tipados; la implementación por defecto
+     * copia los campos a un mapa y llama a {@link #parsePregunta(Map)}.</p>
      * 
-     * <p>Este método permite al módulo configurar todas las secciones de la UI:
-     * cabecera (progreso), contenido (pregunta) y pie (botones). El módulo tiene
-     * control total sobre la presentación y comportamiento de su tipo de pregunta.</p>
+     * <p>La vista solo es válida durante la llamada: el módulo no debe
+     * guardarla.</p>
      * 
-     * @param pregunta La pregunta para la cual configurar la UI
-     * @param headerContainer Contenedor para la cabecera (progreso, título)
-     * @param contentContainer Contenedor para el contenido principal (pregunta)
-     * @param footerContainer Contenedor para el pie (botones, antes del botón "Terminar")
-     * @param eventListener Listener para notificar eventos al contenedor principal
+     * @param campos Campos de la pregunta
+     * @return Pregunta creada a partir de los campos
+     * @throws IllegalArgumentException si los campos no son válidos para este tipo de pregunta
+     * @since 2.0.0
      */
-    void configureCompleteUI(Pregunta pregunta, 
-                           VBox headerContainer, 
-                           VBox contentContainer, 
-                           VBox footerContainer,
-                           PreguntaEventListener eventListener);
+    default Pregunta parsePregunta(CamposPregunta campos) {
+        return parsePregunta(campos.aMapa());
+    }
     
     /**
      * Valida la respuesta del usuario para una pregunta específica.
@@ -114,37 +120,6 @@ public interface PreguntaModule {
      */
     boolean validarRespuesta(Pregunta pregunta, Object respuesta);
     
-    /**
-     * Muestra el resultado de la validación en la UI.
-     * 
-     * <p>Este método debe actualizar la interfaz para mostrar si la respuesta
-     * fue correcta o incorrecta, incluyendo la respuesta correcta si es necesario.</p>
-     * 
-     * @param pregunta La pregunta validada
-     * @param esCorrecta Si la respuesta fue correcta
-     * @param respuestaUsuario La respuesta que dio el usuario
-     * @param contentContainer Contenedor donde mostrar el resultado
-     */
-    void mostrarResultado(Pregunta pregunta, 
-                         boolean esCorrecta, 
-                         Object respuestaUsuario,
-                         VBox contentContainer);
-    
-    /**
-     * Crea la interfaz de usuario para una pregunta específica en el contexto de curso.
-     * 
-     * <p>Este método crea una interfaz optimizada para la ejecución de cursos,
-     * diferente de la vista de prueba que se usa en la pestaña de módulos.</p>
-     * 
-     * @param pregunta La pregunta para la cual crear la vista
-     * @return Nodo JavaFX que representa la interfaz de la pregunta para curso
-     * @throws IllegalArgumentException si el tipo de pregunta no es compatible con este módulo
-     */
-    default Node createQuestionUI(Pregunta pregunta) {
-        // Por defecto, usar la vista estándar
-        return createQuestionView(pregunta);
-    }
-    
     /**
      * Verifica si este tipo de pregunta requiere validación antes de continuar.
      * 
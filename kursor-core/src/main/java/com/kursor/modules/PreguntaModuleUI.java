@@ -0,0 +1,95 @@
+package com.kursor.modules;
+
+import com.kursor.domain.Pregunta;
+import com.kursor.presentation.controllers.PreguntaEventListener;
+import javafx.scene.Node;
+import javafx.scene.layout.VBox;
+
+/**
+ * Contribución de interfaz de usuario JavaFX de un módulo de preguntas.
+ * 
+ * <p>Separa la presentación de {@link PreguntaModule}, que queda sin
+ * dependencias de JavaFX. Cada módulo registra su interfaz en el archivo
+ * META-INF/services/com.kursor.modules.PreguntaModuleUI de su propio JAR, y la
+ * aplicación de escritorio la localiza por tipo de pregunta con
+ * {@link com.kursor.presentation.views.VistasModulos}. Un módulo que no
+ * necesite funcionar sin JavaFX puede implementar las dos interfaces en la
+ * misma clase.</p>
+ * 
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PreguntaModule
+ * @see PreguntaEventListener
+ */
+public interface PreguntaModuleUI {
+    
+    /**
+     * Obtiene el tipo de pregunta que muestra esta interfaz.
+     * 
+     * @return Tipo de pregunta, igual al de su {@link PreguntaModule}
+     */
+    String getQuestionType();
+    
+    /**
+     * Crea la interfaz de usuario para una pregunta específica.
+     * 
+     * <p>Este método debe crear y configurar todos los controles JavaFX
+     * necesarios para mostrar la pregunta al usuario.</p>
+     * 
+     * @param pregunta La pregunta para la cual crear la vista
+     * @return Nodo JavaFX que representa la interfaz de la pregunta
+     * @throws IllegalArgumentException si el tipo de pregunta no es compatible con este módulo
+     */
+    Node createQuestionView(Pregunta pregunta);
+    
+    /**
+     * Configura la interfaz de usuario completa para una pregunta.
+     * 
+     * <p>Este método permite al módulo configurar todas las secciones de la UI:
+     * cabecera (progreso), contenido (pregunta) y pie (botones). El módulo tiene
+     * control total sobre la presentación y comportamiento de su tipo de pregunta.</p>
+     * 
+     * @param pregunta La pregunta para la cual configurar la UI
+     * @param headerContainer Contenedor para la cabecera (progreso, título)
+     * @param contentContainer Contenedor para el contenido principal (pregunta)
+     * @param footerContainer Contenedor para el pie (botones, antes del botón "Terminar")
+     * @param eventListener Listener para notificar eventos al contenedor principal
+     */
+    void configureCompleteUI(Pregunta pregunta, 
+                           VBox headerContainer, 
+                           VBox contentContainer, 
+                           VBox footerContainer,
+                           PreguntaEventListener eventListener);
+    
+    /**
+     * Muestra el resultado de la validación en la UI.
+     * 
+     * <p>Este método debe actualizar la interfaz para mostrar si la respuesta
+     * fue correcta o incorrecta, incluyendo la respuesta correcta si es necesario.</p>
+     * 
+     * @param pregunta La pregunta validada
+     * @param esCorrecta Si la respuesta fue correcta
+     * @param respuestaUsuario La respuesta que dio el usuario
+     * @param contentContainer Contenedor donde mostrar el resultado
+     */
+    void mostrarResultado(Pregunta pregunta, 
+                         boolean esCorrecta, 
+                         Object respuestaUsuario,
+                         VBox contentContainer);
+    
+    /**
+     * Crea la interfaz de usuario para una pregunta específica en el contexto de curso.
+     * 
+     * <p>Este método crea una interfaz optimizada para la ejecución de cursos,
+     * diferente de la vista de prueba que se usa en la pestaña de módulos.</p>
+     * 
+     * @param pregunta La pregunta para la cual crear la vista
+     * @return Nodo JavaFX que representa la interfaz de la pregunta para curso
+     * @throws IllegalArgumentException si el tipo de pregunta no es compatible con este módulo
+     */
+    default Node createQuestionUI(Pregunta pregunta) {
+        // Por defecto, usar la vista estándar
+        return createQuestionView(pregunta);
+    }
+}
@@ -0,0 +1,96 @@
+package com.kursor.persistence.config;
+
+import java.util.Locale;
+
+/**
+ * Perfiles de acceso a la base de datos SQLite.
+ *
+ * <p>Cada perfil fija el modo de journal de SQLite, el nivel de sincronización
+ * y el número de conexiones de lectura de {@link PoolConexionesSQLite}. El
+ * perfil se elige con la propiedad del sistema {@value #PROPIEDAD}
+ * (por ejemplo {@code -Dkursor.db.perfil=compatible}); por defecto se usa
+ * {@link #CONCURRENTE}.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PoolConexionesSQLite
+ */
+public enum PerfilPersistencia {
+
+    /**
+     * Journal WAL con sincronización NORMAL, una conexión de escritura y
+     * varias de lectura. Las lecturas (estadísticas, historial, Kursor Studio)
+     * no se bloquean mientras se escriben respuestas.
+     */
+    CONCURRENTE("WAL", "NORMAL", 4),
+
+    /**
+     * Journal de rollback clásico con sincronización FULL y una única
+     * conexión. Para bases de datos en sistemas de archivos que no admiten
+     * WAL, como algunas unidades de red.
+     */
+    COMPATIBLE("DELETE", "FULL", 0);
+
+    /** Propiedad del sistema con el nombre del perfil */
+    public static final String PROPIEDAD = "kursor.db.perfil";
+
+    /** Valor de {@code PRAGMA journal_mode} */
+    private final String journalMode;
+
+    /** Valor de {@code PRAGMA synchronous} */
+    private final String synchronous;
+
+    /** Número máximo de conexiones de lectura */
+    private final int lectores;
+
+    PerfilPersistencia(String journalMode, String synchronous, int lectores) {
+        this.journalMode = journalMode;
+        this.synchronous = synchronous;
+        this.lectores = lectores;
+    }
+
+    /**
+     * Obtiene el perfil configurado en las propiedades del sistema.
+     *
+     * @return Perfil configurado, o {@link #CONCURRENTE} si no hay ninguno o no es válido
+     */
+    public static PerfilPersistencia configurado() {
+        String nombre = System.getProperty(PROPIEDAD);
+        if (nombre == null || nombre.isBlank()) {
+            return CONCURRENTE;
+        }
+        try {
+            return valueOf(nombre.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return CONCURRENTE;
+        }
+    }
+
+    /**
+     * Obtiene el modo de journal de SQLite.
+     *
+     * @return Valor de {@code PRAGMA journal_mode}
+     */
+    public String getJournalMode() {
+        return journalMode;
+    }
+
+    /**
+     * Obtiene el nivel de sincronización de SQLite.
+     *
+     * @return Valor de {@code PRAGMA synchronous}
+     */
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Obtiene el número máximo de conexiones de lectura.
+     *
+     * @return Número de lectores; 0 si las lecturas usan la conexión de escritura
+     */
+    public int getLectores() {
+        return lectores;
+    }
+}
@@ -1,5 +1,9 @@
 package com.kursor.persistence.config;
 
+import com.kursor.persistence.migration.MigradorEsquema;
+import com.kursor.persistence.writer.DiarioRespuestas;
+import com.kursor.persistence.writer.EscritorRespuestas;
+import com.kursor.shared.util.PerfiladorArranque;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
@@ -7,6 +11,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.sql.Connection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -16,6 +22,22 @@ import java.util.Map;
  * <p>Esta clase proporciona la configuración centralizada para el EntityManagerFactory
  * y gestiona la conexión con la base de datos SQLite.</p>
  * 
+ * <p>Las conexiones salen de un {@link PoolConexionesSQLite} con el perfil
+ * {@link PerfilPersistencia#configurado()}. Los EntityManager de
+ * {@link #createEntityManager()} escriben a través de la única conexión de
+ * escritura; los de {@link #createEntityManagerLectura()} usan las conexiones
+ * de lectura, que con el journal WAL no esperan a que terminen las escrituras
+ * de respuestas.</p>
+ * 
+ * <p>El esquema no lo genera Hibernate: {@link MigradorEsquema} aplica las
+ * migraciones SQL pendientes antes de crear el EntityManagerFactory.</p>
+ * 
+ * <p>Las respuestas de las sesiones se escriben en segundo plano con el
+ * {@link EscritorRespuestas} de {@link #getEscritorRespuestas()}. Cada
+ * respuesta se anota antes en un {@link DiarioRespuestas} junto a la base de
+ * datos; al inicializar, las que quedaron sin escribir en una ejecución
+ * anterior se escriben antes de que ninguna sesión cargue su progreso.</p>
+ * 
  * @author Juan José Ruiz Pérez <jjrp1@um.es>
  * @version 1.0.0
  * @since 1.0.0
@@ -28,6 +50,9 @@ public class PersistenceConfig {
     private static final String DATABASE_PATH = "data/kursor.db";
 
     private static EntityManagerFactory entityManagerFactory;
+    private static EntityManagerFactory entityManagerFactoryLectura;
+    private static PoolConexionesSQLite pool;
+    private static EscritorRespuestas escritorRespuestas;
     private static boolean initialized = false;
     
     /**
@@ -56,16 +81,32 @@ public class PersistenceConfig {
             // Crear directorio de datos si no existe
             createDataDirectory();
             
-            // Configurar propiedades de la base de datos
-            Map<String, Object> properties = createDatabaseProperties();
+            // Abrir el pool de conexiones y configurar las propiedades de la base de datos
+            pool = new PoolConexionesSQLite(DATABASE_PATH, PerfilPersistencia.configurado());
+            Map<String, Object> properties = createDatabaseProperties(false);
+            
+            // Aplicar las migraciones pendientes del esquema
+            try (PerfiladorArranque.Medicion m = PerfiladorArranque.getInstance().medir("persistencia", "migraciones");
+                 Connection conexion = pool.obtenerEscritura()) {
+                new MigradorEsquema().migrar(conexion);
+            }
             
             // Crear EntityManagerFactory
-            entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME, properties);
+            try (PerfiladorArranque.Medicion m = PerfiladorArranque.getInstance().medir("persistencia", "hibernate")) {
+                entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME, properties);
+            }
+            
+            // Arrancar el escritor de respuestas, recuperando las pendientes del diario
+            try (PerfiladorArranque.Medicion m = PerfiladorArranque.getInstance().medir("persistencia", "diario")) {
+                DiarioRespuestas diario = DiarioRespuestas.abrir(Path.of(DATABASE_PATH + DiarioRespuestas.SUFIJO));
+                escritorRespuestas = EscritorRespuestas.configurado(entityManagerFactory::createEntityManager, diario);
+            }
             
             initialized = true;
             logger.info("PersistenceConfig inicializado exitosamente");
             
         } catch (Exception e) {
+            closePool();
             logger.error("Error al inicializar PersistenceConfig", e);
             throw new RuntimeException("Error al inicializar PersistenceConfig", e);
         }
@@ -94,12 +135,67 @@ public class PersistenceConfig {
         return getEntityManagerFactory().createEntityManager();
     }
     
+    /**
+     * Obtiene el escritor en segundo plano de las respuestas.
+     * 
+     * @return Escritor de respuestas
+     * @throws IllegalStateException si no está inicializado
+     */
+    public static EscritorRespuestas getEscritorRespuestas() {
+        getEntityManagerFactory();
+        return escritorRespuestas;
+    }
+    
+    /**
+     * Crea un nuevo EntityManager de solo lectura.
+     * 
+     * <p>Usa las conexiones de lectura del pool, por lo que sus consultas se
+     * ejecutan en paralelo con las escrituras. Cualquier intento de escribir
+     * con él falla. La factoría de lectura se crea en la primera llamada.</p>
+     * 
+     * @return EntityManager de solo lectura
+     * @throws IllegalStateException si no está inicializado
+     */
+    public static EntityManager createEntityManagerLectura() {
+        return getEntityManagerFactoryLectura().createEntityManager();
+    }
+    
+    /**
+     * Obtiene la factoría de EntityManager de solo lectura, creándola si aún
+     * no existe.
+     * 
+     * @return EntityManagerFactory de solo lectura
+     * @throws IllegalStateException si no está inicializado
+     */
+    private static synchronized EntityManagerFactory getEntityManagerFactoryLectura() {
+        getEntityManagerFactory();
+        if (entityManagerFactoryLectura == null) {
+            entityManagerFactoryLectura = Persistence.createEntityManagerFactory(
+                PERSISTENCE_UNIT_NAME, createDatabaseProperties(true));
+            logger.info("EntityManagerFactory de lectura inicializado");
+        }
+        return entityManagerFactoryLectura;
+    }
+    
     /**
      * Cierra el EntityManagerFactory.
      * 
      * <p>Este método debe ser llamado al finalizar la aplicación para liberar recursos.</p>
      */
     public static synchronized void shutdown() {
+        if (escritorRespuestas != null) {
+            escritorRespuestas.close();
+            escritorRespuestas = null;
+        }
+        if (entityManagerFactoryLectura != null) {
+            try {
+                entityManagerFactoryLectura.close();
+            } catch (Exception e) {
+                logger.error("Error al cerrar EntityManagerFactory de lectura", e);
+            } finally {
+                entityManagerFactoryLectura = null;
+            }
+        }
         if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
             try {
                 logger.info("Cerrando EntityManagerFactory...");
@@ -112,6 +208,17 @@ public class PersistenceConfig {
                 initialized = false;
             }
         }
+        closePool();
+    }
+    
+    /**
+     * Cierra el pool de conexiones, si está abierto.
+     */
+    private static void closePool() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
     }
     
     /**
@@ -148,38 +255,41 @@ public class PersistenceConfig {
     /**
      * Crea las propiedades de configuración de la base de datos.
      * 
+     * @param lectura true para la factoría de solo lectura
      * @return Map con las propiedades de configuración
      */
-    private static Map<String, Object> createDatabaseProperties() {
+    private static Map<String, Object> createDatabaseProperties(boolean lectura) {
         Map<String, Object> properties = new HashMap<>();
         
-        // Configuración de SQLite
-        properties.put("javax.persistence.jdbc.driver", "org.sqlite.JDBC");
-        properties.put("javax.persistence.jdbc.url", "jdbc:sqlite:" + DATABASE_PATH);
-        properties.put("javax.persistence.jdbc.user", "");
-        properties.put("javax.persistence.jdbc.password", "");
-        
         // Configuración de Hibernate
         properties.put("hibernate.dialect", "org.hibernate.community.dialect.SQLiteDialect");
-        properties.put("hibernate.hbm2ddl.auto", "update");
+        properties.put("hibernate.hbm2ddl.auto", "none");
         properties.put("hibernate.show_sql", "false");
         properties.put("hibernate.format_sql", "true");
         
-        // Configuración de conexión
-        properties.put("hibernate.connection.pool_size", "1");
-        properties.put("hibernate.connection.autocommit", "false");
+        // Configuración de conexión: el pool aplica los pragmas de SQLite
+        // (journal, synchronous, cache_size, mmap_size, busy_timeout, foreign_keys)
+        properties.put("hibernate.connection.provider_class", new ProveedorConexionesSQLite(pool, lectura));
         
         // Configuración de logging
         properties.put("hibernate.use_sql_comments", "true");
         properties.put("hibernate.jdbc.batch_size", "20");
         
-        // Configuración específica para SQLite
-        properties.put("hibernate.connection.foreign_keys", "true");
-        
-        logger.debug("Propiedades de base de datos configuradas");
+        logger.debug("Propiedades de base de datos configuradas (perfil {}, {})",
+            pool.getPerfil(), lectura ? "lectura" : "escritura");
         return properties;
     }
     
+    /**
+     * Obtiene el perfil de acceso a la base de datos en uso.
+     * 
+     * @return Perfil del pool, o el configurado si aún no está inicializado
+     */
+    public static PerfilPersistencia getPerfil() {
+        PoolConexionesSQLite actual = pool;
+        return actual != null ? actual.getPerfil() : PerfilPersistencia.configurado();
+    }
+    
     /**
      * Obtiene la ruta de la base de datos.
      * 
@@ -229,6 +339,7 @@ public class PersistenceConfig {
             info.append("Tamaño: ").append(String.format("%.2f MB", size / (1024.0 * 1024.0))).append("\n");
         }
         
+        info.append("Perfil: ").append(getPerfil()).append("\n");
         info.append("Inicializado: ").append(isInitialized()).append("\n");
         
         return info.toString();
@@ -0,0 +1,398 @@
+package com.kursor.persistence.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de conexiones JDBC para una base de datos SQLite, con una conexión de
+ * escritura y varias de lectura.
+ *
+ * <p>SQLite admite un único escritor a la vez, así que el pool mantiene una
+ * sola conexión de escritura que se presta en exclusiva y por orden de
+ * llegada. Con el journal WAL ({@link PerfilPersistencia#CONCURRENTE}) los
+ * lectores no se bloquean mientras se escribe: cada conexión de lectura ve el
+ * último estado confirmado de la base de datos. Las conexiones de lectura se
+ * abren bajo demanda hasta el máximo del perfil y se marcan con
+ * {@code PRAGMA query_only}, de modo que un uso indebido para escribir falla
+ * en lugar de competir con el escritor.</p>
+ *
+ * <p>Cada conexión física se configura al abrirse con:</p>
+ * <ul>
+ *   <li>{@code journal_mode} y {@code synchronous} del perfil</li>
+ *   <li>{@code cache_size} de {@value #CACHE_KB} KiB y {@code mmap_size} de
+ *       {@value #MMAP_BYTES} bytes</li>
+ *   <li>{@code busy_timeout} igual a la espera máxima del pool, para que otro
+ *       proceso (Kursor Studio) que escriba no provoque errores
+ *       {@code SQLITE_BUSY} inmediatos</li>
+ *   <li>{@code temp_store = MEMORY} y {@code foreign_keys = ON}</li>
+ * </ul>
+ *
+ * <p>Las conexiones prestadas se devuelven al pool con {@link Connection#close()}.
+ * Si se devuelven con una transacción abierta, se deshace y se restablece el
+ * modo autocommit antes de prestarlas de nuevo.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Es thread-safe. Cada conexión prestada
+ * debe usarse desde un solo hilo hasta que se devuelva.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PerfilPersistencia
+ * @see ProveedorConexionesSQLite
+ */
+public final class PoolConexionesSQLite implements AutoCloseable {
+
+    /** Logger para registrar eventos del pool */
+    private static final Logger logger = LoggerFactory.getLogger(PoolConexionesSQLite.class);
+
+    /** Tamaño de la caché de páginas de cada conexión, en KiB */
+    public static final int CACHE_KB = 16 * 1024;
+
+    /** Tamaño máximo del mapeo en memoria de la base de datos, en bytes */
+    public static final long MMAP_BYTES = 256L * 1024 * 1024;
+
+    /** Espera máxima por defecto para obtener una conexión */
+    public static final Duration ESPERA_POR_DEFECTO = Duration.ofSeconds(5);
+
+    /** URL JDBC de la base de datos */
+    private final String url;
+
+    /** Perfil de acceso */
+    private final PerfilPersistencia perfil;
+
+    /** Espera máxima para obtener una conexión, en milisegundos */
+    private final long esperaMs;
+
+    /** Permiso de la conexión de escritura, concedido por orden de llegada */
+    private final Semaphore permisoEscritura = new Semaphore(1, true);
+
+    /** Conexión física de escritura; solo se usa con el permiso adquirido */
+    private Connection escritor;
+
+    /** Conexiones de lectura libres */
+    private final BlockingQueue<Connection> lectoresLibres;
+
+    /** Número de conexiones de lectura abiertas */
+    private final AtomicInteger lectoresAbiertos = new AtomicInteger();
+
+    /** Todas las conexiones físicas abiertas, para cerrarlas con el pool */
+    private final Set<Connection> abiertas = ConcurrentHashMap.newKeySet();
+
+    /** Indica si el pool se ha cerrado */
+    private volatile boolean cerrado;
+
+    /**
+     * Crea un pool para la base de datos indicada con la espera por defecto.
+     *
+     * @param rutaBaseDatos Ruta del archivo de la base de datos
+     * @param perfil Perfil de acceso
+     * @throws SQLException si no se puede abrir la conexión de escritura
+     */
+    public PoolConexionesSQLite(String rutaBaseDatos, PerfilPersistencia perfil) throws SQLException {
+        this(rutaBaseDatos, perfil, ESPERA_POR_DEFECTO);
+    }
+
+    /**
+     * Crea un pool para la base de datos indicada.
+     *
+     * <p>La conexión de escritura se abre de inmediato, para que el modo de
+     * journal quede establecido antes de abrir ningún lector.</p>
+     *
+     * @param rutaBaseDatos Ruta del archivo de la base de datos
+     * @param perfil Perfil de acceso
+     * @param espera Espera máxima para obtener una conexión
+     * @throws SQLException si no se puede abrir la conexión de escritura
+     * @throws IllegalArgumentException si la espera es negativa
+     */
+    public PoolConexionesSQLite(String rutaBaseDatos, PerfilPersistencia perfil, Duration espera) throws SQLException {
+        Objects.requireNonNull(rutaBaseDatos, "rutaBaseDatos");
+        this.perfil = Objects.requireNonNull(perfil, "perfil");
+        if (espera.isNegative()) {
+            throw new IllegalArgumentException("La espera máxima no puede ser negativa: " + espera);
+        }
+        this.url = "jdbc:sqlite:" + rutaBaseDatos;
+        this.esperaMs = espera.toMillis();
+        this.lectoresLibres = new ArrayBlockingQueue<>(Math.max(1, perfil.getLectores()));
+        this.escritor = abrir(false);
+        logger.info("Pool SQLite abierto: {} (perfil {}, {} lectores)", rutaBaseDatos, perfil, perfil.getLectores());
+    }
+
+    /**
+     * Presta la conexión de escritura, esperando a que la devuelva quien la
+     * tenga.
+     *
+     * @return Conexión de escritura; se devuelve al pool con {@code close()}
+     * @throws SQLTimeoutException si no queda libre dentro de la espera máxima
+     * @throws SQLException si el pool está cerrado o no se puede abrir la conexión
+     */
+    public Connection obtenerEscritura() throws SQLException {
+        comprobarAbierto();
+        try {
+            if (!permisoEscritura.tryAcquire(esperaMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("La conexión de escritura sigue ocupada tras " + esperaMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrumpido esperando la conexión de escritura", e);
+        }
+
+        try {
+            comprobarAbierto();
+            if (escritor == null || escritor.isClosed()) {
+                escritor = abrir(false);
+            }
+            return prestar(escritor, false);
+        } catch (SQLException | RuntimeException e) {
+            permisoEscritura.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Presta una conexión de lectura. Si el perfil no tiene lectores, presta
+     * la conexión de escritura.
+     *
+     * @return Conexión de solo lectura; se devuelve al pool con {@code close()}
+     * @throws SQLTimeoutException si no queda ninguna libre dentro de la espera máxima
+     * @throws SQLException si el pool está cerrado o no se puede abrir la conexión
+     */
+    public Connection obtenerLectura() throws SQLException {
+        if (perfil.getLectores() == 0) {
+            return obtenerEscritura();
+        }
+        comprobarAbierto();
+
+        Connection lector = lectoresLibres.poll();
+        if (lector == null && lectoresAbiertos.incrementAndGet() <= perfil.getLectores()) {
+            try {
+                lector = abrir(true);
+            } catch (SQLException | RuntimeException e) {
+                lectoresAbiertos.decrementAndGet();
+                throw e;
+            }
+        } else if (lector == null) {
+            lectoresAbiertos.decrementAndGet();
+            try {
+                lector = lectoresLibres.poll(esperaMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrumpido esperando una conexión de lectura", e);
+            }
+            if (lector == null) {
+                throw new SQLTimeoutException("No hay conexiones de lectura libres tras " + esperaMs + " ms");
+            }
+        }
+        return prestar(lector, true);
+    }
+
+    /**
+     * Obtiene el perfil de acceso del pool.
+     *
+     * @return Perfil de acceso
+     */
+    public PerfilPersistencia getPerfil() {
+        return perfil;
+    }
+
+    /**
+     * Obtiene la URL JDBC de la base de datos.
+     *
+     * @return URL JDBC
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Obtiene el número de conexiones de lectura abiertas.
+     *
+     * @return Lectores abiertos, prestados o libres
+     */
+    public int getLectoresAbiertos() {
+        return lectoresAbiertos.get();
+    }
+
+    /**
+     * Cierra el pool y todas sus conexiones físicas, incluidas las prestadas.
+     */
+    @Override
+    public void close() {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        for (Connection conexion : abiertas) {
+            cerrarFisica(conexion);
+        }
+        lectoresLibres.clear();
+        logger.info("Pool SQLite cerrado: {}", url);
+    }
+
+    /**
+     * Abre y configura una conexión física.
+     *
+     * @param lectura true para una conexión de solo lectura
+     * @return Conexión configurada
+     * @throws SQLException si no se puede abrir o configurar
+     */
+    private Connection abrir(boolean lectura) throws SQLException {
+        Connection conexion = DriverManager.getConnection(url);
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute("PRAGMA busy_timeout = " + esperaMs);
+            if (!lectura) {
+                try (ResultSet modo = statement.executeQuery("PRAGMA journal_mode = " + perfil.getJournalMode())) {
+                    String actual = modo.next() ? modo.getString(1) : null;
+                    if (!perfil.getJournalMode().equalsIgnoreCase(actual)) {
+                        logger.warn("SQLite mantiene el journal '{}' en lugar de '{}' en {}",
+                            actual, perfil.getJournalMode(), url);
+                    }
+                }
+            }
+            statement.execute("PRAGMA synchronous = " + perfil.getSynchronous());
+            statement.execute("PRAGMA cache_size = -" + CACHE_KB);
+            statement.execute("PRAGMA mmap_size = " + MMAP_BYTES);
+            statement.execute("PRAGMA temp_store = MEMORY");
+            statement.execute("PRAGMA foreign_keys = ON");
+            if (lectura) {
+                statement.execute("PRAGMA query_only = ON");
+            }
+        } catch (SQLException e) {
+            cerrarFisica(conexion);
+            throw e;
+        }
+        abiertas.add(conexion);
+        logger.debug("Conexión SQLite de {} abierta: {}", lectura ? "lectura" : "escritura", url);
+        return conexion;
+    }
+
+    /**
+     * Envuelve una conexión física para prestarla.
+     */
+    private Connection prestar(Connection fisica, boolean lectura) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, new ConexionPrestada(fisica, lectura));
+    }
+
+    /**
+     * Recibe una conexión devuelta, la deja lista para el siguiente préstamo
+     * y la pone de nuevo a disposición.
+     */
+    private void devolver(Connection fisica, boolean lectura) {
+        boolean valida = !cerrado;
+        if (valida) {
+            try {
+                if (!fisica.getAutoCommit()) {
+                    fisica.rollback();
+                    fisica.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                logger.warn("Conexión SQLite descartada al devolverla: {}", e.getMessage());
+                valida = false;
+            }
+        }
+
+        if (lectura) {
+            if (!valida || !lectoresLibres.offer(fisica)) {
+                cerrarFisica(fisica);
+                lectoresAbiertos.decrementAndGet();
+            }
+        } else {
+            if (!valida) {
+                cerrarFisica(fisica);
+            }
+            permisoEscritura.release();
+        }
+    }
+
+    private void cerrarFisica(Connection conexion) {
+        abiertas.remove(conexion);
+        try {
+            conexion.close();
+        } catch (SQLException e) {
+            logger.debug("Error al cerrar conexión SQLite: {}", e.getMessage());
+        }
+    }
+
+    private void comprobarAbierto() throws SQLException {
+        if (cerrado) {
+            throw new SQLException("El pool de conexiones está cerrado: " + url);
+        }
+    }
+
+    /**
+     * Conexión prestada: delega en la conexión física y la devuelve al pool
+     * al cerrarse.
+     */
+    private final class ConexionPrestada implements InvocationHandler {
+
+        private final Connection fisica;
+        private final boolean lectura;
+        private boolean devuelta;
+
+        ConexionPrestada(Connection fisica, boolean lectura) {
+            this.fisica = fisica;
+            this.lectura = lectura;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!devuelta) {
+                        devuelta = true;
+                        devolver(fisica, lectura);
+                    }
+                    return null;
+                case "isClosed":
+                    return devuelta || fisica.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "ConexionPrestada{" + (lectura ? "lectura" : "escritura") + ", " + url + "}";
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (devuelta) {
+                throw new SQLException("La conexión ya se ha devuelto al pool");
+            }
+            try {
+                return method.invoke(fisica, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.kursor.persistence.config;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Proveedor de conexiones de Hibernate respaldado por un {@link PoolConexionesSQLite}.
+ *
+ * <p>Un proveedor de escritura presta la conexión de escritura del pool y uno
+ * de lectura presta sus conexiones de lectura. Se registra como instancia en
+ * la propiedad {@code hibernate.connection.provider_class}. El pool no
+ * pertenece al proveedor: lo cierra quien lo creó, porque puede compartirse
+ * entre varias factorías de EntityManager.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PersistenceConfig
+ */
+public final class ProveedorConexionesSQLite implements ConnectionProvider {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Pool del que se obtienen las conexiones */
+    private final transient PoolConexionesSQLite pool;
+
+    /** Indica si se prestan conexiones de lectura */
+    private final boolean lectura;
+
+    /**
+     * Crea un proveedor sobre un pool.
+     *
+     * @param pool Pool de conexiones
+     * @param lectura true para prestar conexiones de lectura, false para la de escritura
+     */
+    public ProveedorConexionesSQLite(PoolConexionesSQLite pool, boolean lectura) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.lectura = lectura;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return lectura ? pool.obtenerLectura() : pool.obtenerEscritura();
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        conn.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this) || unwrapType.isInstance(pool);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isInstance(this)) {
+            return unwrapType.cast(this);
+        }
+        if (unwrapType.isInstance(pool)) {
+            return unwrapType.cast(pool);
+        }
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+}
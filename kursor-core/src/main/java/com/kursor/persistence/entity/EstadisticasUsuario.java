@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
  * @since 1.0.0
  */
 @Entity
-@Table(name = "estadisticas_usuario")
+@Table(name = "estadisticas_usuario", uniqueConstraints = {
+    @UniqueConstraint(name = "ux_estadisticas_usuario_usuario_curso", columnNames = {"usuario_id", "curso_id"})
+})
 public class EstadisticasUsuario {
     
     @Id
@@ -15,7 +15,9 @@ import java.time.LocalDateTime;
  * @since 1.0.0
  */
 @Entity
-@Table(name = "preguntas_sesion")
+@Table(name = "preguntas_sesion", indexes = {
+    @Index(name = "ix_preguntas_sesion_sesion_pregunta", columnList = "sesion_id, pregunta_id")
+})
 public class PreguntaSesion {
     
     @Id
@@ -17,7 +17,9 @@ import java.util.List;
  * @since 1.0.0
  */
 @Entity
-@Table(name = "sesiones")
+@Table(name = "sesiones", indexes = {
+    @Index(name = "ix_sesiones_curso_bloque_inicio", columnList = "curso_id, bloque_id, fecha_inicio")
+})
 public class Sesion {
     
     @Id
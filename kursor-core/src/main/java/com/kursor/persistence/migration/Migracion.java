@@ -0,0 +1,150 @@
+package com.kursor.persistence.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Migración SQL del esquema de la base de datos.
+ *
+ * <p>Cada migración es un script cuyo nombre sigue el patrón
+ * {@code V<versión>__<descripción>.sql}, por ejemplo
+ * {@code V2__indices_consultas.sql}. La versión fija el orden en que se
+ * aplica y la suma de comprobación (SHA-256 del contenido, con los saltos de
+ * línea normalizados) permite detectar si un script ya aplicado se ha
+ * modificado después.</p>
+ *
+ * <p>Las sentencias del script se separan con {@code ;}. Las líneas que
+ * empiezan por {@code --} son comentarios. Los scripts no deben contener
+ * {@code ;} dentro de literales ni definir triggers.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see MigradorEsquema
+ */
+public final class Migracion {
+
+    /** Patrón del nombre de archivo de una migración */
+    private static final Pattern NOMBRE = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    /** Versión de la migración */
+    private final int version;
+
+    /** Descripción legible, tomada del nombre del archivo */
+    private final String descripcion;
+
+    /** Nombre del archivo */
+    private final String archivo;
+
+    /** Contenido del script, con saltos de línea normalizados */
+    private final String sql;
+
+    /** Suma de comprobación del contenido */
+    private final String checksum;
+
+    private Migracion(int version, String descripcion, String archivo, String sql) {
+        this.version = version;
+        this.descripcion = descripcion;
+        this.archivo = archivo;
+        this.sql = sql;
+        this.checksum = calcularChecksum(sql);
+    }
+
+    /**
+     * Crea una migración a partir del nombre y el contenido de su script.
+     *
+     * @param archivo Nombre del archivo, sin directorio
+     * @param contenido Contenido del script
+     * @return Migración
+     * @throws IllegalArgumentException si el nombre no sigue el patrón {@code V<versión>__<descripción>.sql}
+     */
+    public static Migracion de(String archivo, String contenido) {
+        Objects.requireNonNull(contenido, "contenido");
+        Matcher matcher = NOMBRE.matcher(Objects.requireNonNull(archivo, "archivo"));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Nombre de migración no válido: " + archivo
+                + " (se esperaba V<versión>__<descripción>.sql)");
+        }
+        return new Migracion(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+            archivo, contenido.replace("\r\n", "\n").replace('\r', '\n'));
+    }
+
+    /**
+     * Divide el script en sentencias, sin comentarios ni sentencias vacías.
+     *
+     * @return Sentencias en orden
+     */
+    public List<String> getSentencias() {
+        StringBuilder sinComentarios = new StringBuilder(sql.length());
+        for (String linea : sql.split("\n")) {
+            if (!linea.trim().startsWith("--")) {
+                sinComentarios.append(linea).append('\n');
+            }
+        }
+
+        List<String> sentencias = new ArrayList<>();
+        for (String sentencia : sinComentarios.toString().split(";")) {
+            if (!sentencia.isBlank()) {
+                sentencias.add(sentencia.trim());
+            }
+        }
+        return sentencias;
+    }
+
+    private static String calcularChecksum(String sql) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sql.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Obtiene la versión de la migración.
+     *
+     * @return Versión
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Obtiene la descripción de la migración.
+     *
+     * @return Descripción
+     */
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    /**
+     * Obtiene el nombre del archivo de la migración.
+     *
+     * @return Nombre del archivo
+     */
+    public String getArchivo() {
+        return archivo;
+    }
+
+    /**
+     * Obtiene la suma de comprobación del script.
+     *
+     * @return SHA-256 en hexadecimal
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    @Override
+    public String toString() {
+        return "Migracion{V" + version + " " + descripcion + "}";
+    }
+}
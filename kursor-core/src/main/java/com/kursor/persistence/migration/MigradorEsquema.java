@@ -0,0 +1,260 @@
+package com.kursor.persistence.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Aplica las migraciones del esquema de la base de datos al arrancar.
+ *
+ * <p>Sustituye a {@code hibernate.hbm2ddl.auto=update}: el esquema se define
+ * en scripts SQL versionados ({@link Migracion}) que se aplican en orden de
+ * versión, cada uno en su propia transacción. La tabla
+ * {@value #TABLA_HISTORIAL} registra la versión, la suma de comprobación y la
+ * fecha de cada migración aplicada, de modo que en cada arranque solo se
+ * ejecutan las pendientes y no hace falta inspeccionar el esquema.</p>
+ *
+ * <p>El arranque falla con {@link IllegalStateException} si un script ya
+ * aplicado se ha modificado (su suma de comprobación no coincide) o si la base
+ * de datos tiene migraciones que esta versión de Kursor no conoce.</p>
+ *
+ * <p>Cada migración se aplica con {@code BEGIN IMMEDIATE}, que toma el
+ * bloqueo de escritura de SQLite antes de comprobar el historial. Si dos
+ * procesos arrancan a la vez sobre la misma base de datos, el segundo espera
+ * y encuentra la migración ya aplicada.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see Migracion
+ */
+public final class MigradorEsquema {
+
+    /** Logger para registrar eventos de las migraciones */
+    private static final Logger logger = LoggerFactory.getLogger(MigradorEsquema.class);
+
+    /** Tabla con el historial de migraciones aplicadas */
+    public static final String TABLA_HISTORIAL = "historial_esquema";
+
+    /** Ubicación de los scripts en el classpath */
+    public static final String UBICACION = "db/migracion";
+
+    /** Scripts de migración de Kursor. Cada migración nueva se añade al final. */
+    static final List<String> ARCHIVOS = List.of(
+        "V1__esquema_inicial.sql",
+        "V2__indices_consultas.sql"
+    );
+
+    /** Migraciones ordenadas por versión */
+    private final List<Migracion> migraciones;
+
+    /**
+     * Crea un migrador con las migraciones de Kursor.
+     */
+    public MigradorEsquema() {
+        this(cargar(MigradorEsquema.class.getClassLoader(), UBICACION, ARCHIVOS));
+    }
+
+    /**
+     * Crea un migrador con las migraciones indicadas.
+     *
+     * @param migraciones Migraciones, en cualquier orden
+     * @throws IllegalArgumentException si dos migraciones tienen la misma versión
+     */
+    public MigradorEsquema(List<Migracion> migraciones) {
+        List<Migracion> ordenadas = new ArrayList<>(migraciones);
+        ordenadas.sort(Comparator.comparingInt(Migracion::getVersion));
+        for (int i = 1; i < ordenadas.size(); i++) {
+            if (ordenadas.get(i).getVersion() == ordenadas.get(i - 1).getVersion()) {
+                throw new IllegalArgumentException("Versión de migración duplicada: "
+                    + ordenadas.get(i - 1).getArchivo() + " y " + ordenadas.get(i).getArchivo());
+            }
+        }
+        this.migraciones = List.copyOf(ordenadas);
+    }
+
+    /**
+     * Carga los scripts de migración del classpath.
+     *
+     * @param classLoader ClassLoader del que se leen
+     * @param ubicacion Directorio de los scripts en el classpath
+     * @param archivos Nombres de los scripts
+     * @return Migraciones leídas
+     * @throws IllegalStateException si falta algún script o no se puede leer
+     */
+    public static List<Migracion> cargar(ClassLoader classLoader, String ubicacion, List<String> archivos) {
+        List<Migracion> migraciones = new ArrayList<>(archivos.size());
+        for (String archivo : archivos) {
+            String ruta = ubicacion + "/" + archivo;
+            try (InputStream entrada = classLoader.getResourceAsStream(ruta)) {
+                if (entrada == null) {
+                    throw new IllegalStateException("No se encuentra la migración " + ruta);
+                }
+                migraciones.add(Migracion.de(archivo, new String(entrada.readAllBytes(), StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new IllegalStateException("No se pudo leer la migración " + ruta, e);
+            }
+        }
+        return migraciones;
+    }
+
+    /**
+     * Aplica las migraciones pendientes.
+     *
+     * <p>La conexión debe estar en modo autocommit; se deja en el mismo
+     * estado al terminar.</p>
+     *
+     * @param conexion Conexión de escritura a la base de datos
+     * @return Número de migraciones aplicadas
+     * @throws SQLException si falla alguna migración; las aplicadas antes quedan confirmadas
+     * @throws IllegalStateException si el historial no coincide con las migraciones conocidas
+     */
+    public int migrar(Connection conexion) throws SQLException {
+        Objects.requireNonNull(conexion, "conexion");
+        if (!conexion.getAutoCommit()) {
+            throw new IllegalStateException("El migrador necesita una conexión en modo autocommit");
+        }
+
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLA_HISTORIAL + " ("
+                + "version INTEGER PRIMARY KEY, "
+                + "descripcion TEXT NOT NULL, "
+                + "checksum TEXT NOT NULL, "
+                + "aplicada_en TIMESTAMP NOT NULL, "
+                + "duracion_ms INTEGER NOT NULL)");
+        }
+        validar(leerHistorial(conexion));
+
+        int aplicadas = 0;
+        for (Migracion migracion : migraciones) {
+            if (aplicar(conexion, migracion)) {
+                aplicadas++;
+            }
+        }
+
+        if (aplicadas > 0) {
+            logger.info("Esquema migrado a la versión {} ({} migraciones aplicadas)", getVersionActual(), aplicadas);
+        } else {
+            logger.debug("Esquema al día en la versión {}", getVersionActual());
+        }
+        return aplicadas;
+    }
+
+    /**
+     * Aplica una migración si no está ya en el historial.
+     *
+     * @return true si se ha aplicado
+     */
+    private boolean aplicar(Connection conexion, Migracion migracion) throws SQLException {
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute("BEGIN IMMEDIATE");
+            try {
+                Map<Integer, String> historial = leerHistorial(conexion);
+                if (historial.containsKey(migracion.getVersion())) {
+                    statement.execute("COMMIT");
+                    return false;
+                }
+
+                long inicio = System.nanoTime();
+                for (String sentencia : migracion.getSentencias()) {
+                    statement.execute(sentencia);
+                }
+                long duracionMs = (System.nanoTime() - inicio) / 1_000_000;
+
+                try (PreparedStatement registro = conexion.prepareStatement("INSERT INTO " + TABLA_HISTORIAL
+                        + " (version, descripcion, checksum, aplicada_en, duracion_ms) VALUES (?, ?, ?, ?, ?)")) {
+                    registro.setInt(1, migracion.getVersion());
+                    registro.setString(2, migracion.getDescripcion());
+                    registro.setString(3, migracion.getChecksum());
+                    registro.setString(4, LocalDateTime.now().toString());
+                    registro.setLong(5, duracionMs);
+                    registro.executeUpdate();
+                }
+                statement.execute("COMMIT");
+                logger.info("Migración aplicada: {} ({} ms)", migracion.getArchivo(), duracionMs);
+                return true;
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    statement.execute("ROLLBACK");
+                } catch (SQLException rollback) {
+                    e.addSuppressed(rollback);
+                }
+                if (e instanceof SQLException) {
+                    throw new SQLException("Error al aplicar la migración " + migracion.getArchivo()
+                        + ": " + e.getMessage(), e);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Comprueba que el historial corresponde a las migraciones conocidas.
+     */
+    private void validar(Map<Integer, String> historial) {
+        Map<Integer, Migracion> porVersion = new HashMap<>();
+        for (Migracion migracion : migraciones) {
+            porVersion.put(migracion.getVersion(), migracion);
+        }
+
+        for (Map.Entry<Integer, String> aplicada : historial.entrySet()) {
+            Migracion migracion = porVersion.get(aplicada.getKey());
+            if (migracion == null) {
+                throw new IllegalStateException("La base de datos tiene la migración V" + aplicada.getKey()
+                    + ", que esta versión de Kursor no conoce");
+            }
+            if (!migracion.getChecksum().equals(aplicada.getValue())) {
+                throw new IllegalStateException("La migración " + migracion.getArchivo()
+                    + " se ha modificado después de aplicarse (checksum " + migracion.getChecksum()
+                    + ", registrado " + aplicada.getValue() + ")");
+            }
+        }
+    }
+
+    /**
+     * Lee las versiones aplicadas y sus sumas de comprobación.
+     */
+    private static Map<Integer, String> leerHistorial(Connection conexion) throws SQLException {
+        Map<Integer, String> historial = new HashMap<>();
+        try (Statement statement = conexion.createStatement();
+             ResultSet resultado = statement.executeQuery("SELECT version, checksum FROM " + TABLA_HISTORIAL)) {
+            while (resultado.next()) {
+                historial.put(resultado.getInt(1), resultado.getString(2));
+            }
+        }
+        return historial;
+    }
+
+    /**
+     * Obtiene las migraciones del migrador.
+     *
+     * @return Lista inmutable ordenada por versión
+     */
+    public List<Migracion> getMigraciones() {
+        return migraciones;
+    }
+
+    /**
+     * Obtiene la versión de la última migración conocida.
+     *
+     * @return Versión del esquema tras migrar, o 0 si no hay migraciones
+     */
+    public int getVersionActual() {
+        return migraciones.isEmpty() ? 0 : migraciones.get(migraciones.size() - 1).getVersion();
+    }
+}
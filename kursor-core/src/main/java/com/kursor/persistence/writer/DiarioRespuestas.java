@@ -0,0 +1,431 @@
+package com.kursor.persistence.writer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Diario local de solo anexado con las escrituras pendientes del
+ * {@link EscritorRespuestas}.
+ *
+ * <p>Cada escritura encolada se anota en el diario antes de entrar en la cola,
+ * de modo que un cierre inesperado de la aplicación no pierde las respuestas
+ * que aún no se han confirmado en la base de datos. Cada registro lleva su
+ * longitud y una suma CRC32; al abrir el diario se leen los registros válidos
+ * y se ignora un posible registro final incompleto.</p>
+ *
+ * <p>{@link #anotar(RespuestaPendiente)} solo escribe en el fichero. El hilo
+ * escritor llama a {@link #sincronizar()} para forzarlo a disco, de modo que
+ * un único {@code fsync} cubre todas las respuestas anotadas desde el
+ * anterior.</p>
+ *
+ * <p>Las escrituras se confirman en el mismo orden en que se anotan. Cuando
+ * se han confirmado todas, {@link #confirmar(int)} trunca el diario; si
+ * quedan pendientes y el prefijo confirmado supera
+ * {@value #UMBRAL_COMPACTACION} bytes, se copia el resto a un fichero nuevo.
+ * Si el escritor descarta un lote, el diario deja de truncarse hasta el
+ * siguiente arranque ({@link #retener()}), que vuelve a intentarlo.</p>
+ *
+ * <p>Reaplicar un registro ya confirmado no cambia nada: cada registro guarda
+ * el resultado de la pregunta y una instantánea de las estadísticas, y los
+ * registros se reaplican en el mismo orden en que se anotaron.</p>
+ *
+ * <p><strong>Thread Safety:</strong> {@link #anotar(RespuestaPendiente)} se
+ * puede llamar desde cualquier hilo; el resto de operaciones las usa solo el
+ * hilo escritor.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see EscritorRespuestas
+ */
+public final class DiarioRespuestas implements AutoCloseable {
+
+    /** Logger para registrar eventos del diario */
+    private static final Logger logger = LoggerFactory.getLogger(DiarioRespuestas.class);
+
+    /** Sufijo del diario respecto a la ruta de la base de datos */
+    public static final String SUFIJO = "-diario";
+
+    /** Tamaño del prefijo confirmado a partir del cual se compacta el diario */
+    public static final long UMBRAL_COMPACTACION = 1024 * 1024;
+
+    /** Versión del formato de los registros */
+    private static final byte VERSION_REGISTRO = 1;
+
+    /** Longitud máxima de un registro; una longitud mayor indica un registro dañado */
+    private static final int MAXIMO_REGISTRO = 64 * 1024;
+
+    /** Ruta del diario */
+    private final Path ruta;
+
+    /** Escrituras recuperadas al abrir el diario */
+    private final List<RespuestaPendiente> recuperadas;
+
+    /** Posición final de cada registro aún no confirmado, en orden de anotación */
+    private final ArrayDeque<Long> finales = new ArrayDeque<>();
+
+    /** Canal del diario */
+    private FileChannel canal;
+
+    /** Tamaño del diario en bytes */
+    private long tamano;
+
+    /** Bytes del principio del diario ya confirmados en la base de datos */
+    private long confirmado;
+
+    /** Indica si hay registros anotados que aún no se han forzado a disco */
+    private boolean sucio;
+
+    /** Indica si el diario ya no se trunca porque contiene escrituras descartadas */
+    private boolean retenido;
+
+    /** Indica si el diario ha dejado de usarse tras un error de escritura */
+    private boolean averiado;
+
+    private DiarioRespuestas(Path ruta) {
+        this.ruta = ruta;
+        this.recuperadas = new ArrayList<>();
+    }
+
+    /**
+     * Abre el diario y recupera las escrituras que contenga.
+     *
+     * <p>Los registros válidos se reescriben en un diario nuevo, sin el posible
+     * registro final incompleto, y quedan pendientes de confirmar.</p>
+     *
+     * @param ruta Ruta del diario
+     * @return Diario abierto
+     * @throws IOException si no se puede leer o crear el diario
+     */
+    public static DiarioRespuestas abrir(Path ruta) throws IOException {
+        DiarioRespuestas diario = new DiarioRespuestas(Objects.requireNonNull(ruta, "ruta"));
+        diario.recuperadas.addAll(leer(ruta));
+
+        Path temporal = Path.of(ruta + ".tmp");
+        try (FileChannel nuevo = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (RespuestaPendiente respuesta : diario.recuperadas) {
+                diario.tamano += escribirCompleto(nuevo, codificar(respuesta), diario.tamano);
+                diario.finales.add(diario.tamano);
+            }
+            nuevo.force(true);
+        }
+        Files.move(temporal, ruta, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        diario.canal = FileChannel.open(ruta, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        if (!diario.recuperadas.isEmpty()) {
+            logger.info("Diario {}: {} escrituras pendientes de una ejecución anterior", ruta, diario.recuperadas.size());
+        }
+        return diario;
+    }
+
+    /**
+     * Obtiene las escrituras recuperadas al abrir el diario.
+     *
+     * <p>Siguen anotadas: se deben encolar antes que cualquier escritura nueva
+     * y confirmarse como las demás.</p>
+     *
+     * @return Lista inmutable en orden de anotación
+     */
+    public List<RespuestaPendiente> getRecuperadas() {
+        return Collections.unmodifiableList(recuperadas);
+    }
+
+    /**
+     * Anota una escritura al final del diario, sin forzarla a disco.
+     *
+     * @param respuesta Escritura pendiente
+     * @throws IOException si no se puede escribir; el diario deja de usarse
+     */
+    public synchronized void anotar(RespuestaPendiente respuesta) throws IOException {
+        if (averiado) {
+            return;
+        }
+        try {
+            tamano += escribirCompleto(canal, codificar(respuesta), tamano);
+        } catch (IOException e) {
+            averiar(e);
+            throw e;
+        }
+        finales.add(tamano);
+        sucio = true;
+    }
+
+    /**
+     * Fuerza a disco los registros anotados desde la última sincronización.
+     *
+     * @throws IOException si falla la sincronización
+     */
+    public void sincronizar() throws IOException {
+        FileChannel actual;
+        synchronized (this) {
+            if (!sucio || averiado) {
+                return;
+            }
+            sucio = false;
+            actual = canal;
+        }
+        // Fuera del monitor para no bloquear a quien anota durante el fsync
+        actual.force(false);
+    }
+
+    /**
+     * Marca como confirmadas las siguientes escrituras del diario, en orden de
+     * anotación, y trunca o compacta el diario si procede.
+     *
+     * @param numero Número de escrituras confirmadas
+     * @throws IOException si no se puede truncar o compactar; el diario deja de usarse
+     */
+    public synchronized void confirmar(int numero) throws IOException {
+        for (int i = 0; i < numero && !finales.isEmpty(); i++) {
+            confirmado = finales.poll();
+        }
+        if (averiado || retenido) {
+            return;
+        }
+        try {
+            if (finales.isEmpty()) {
+                canal.truncate(0);
+                tamano = 0;
+                confirmado = 0;
+                sucio = false;
+            } else if (confirmado >= UMBRAL_COMPACTACION) {
+                compactar();
+            }
+        } catch (IOException e) {
+            averiar(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deja de truncar y compactar el diario hasta que se cierre, para que las
+     * escrituras de un lote descartado se vuelvan a intentar en el siguiente
+     * arranque junto con todas las posteriores.
+     */
+    public synchronized void retener() {
+        if (!retenido) {
+            retenido = true;
+            logger.warn("Diario {}: hay escrituras descartadas; se conserva completo hasta el siguiente arranque", ruta);
+        }
+    }
+
+    /**
+     * Obtiene el número de escrituras anotadas que aún no se han confirmado.
+     *
+     * @return Escrituras pendientes
+     */
+    public synchronized int getPendientes() {
+        return finales.size();
+    }
+
+    /**
+     * Obtiene el tamaño actual del diario.
+     *
+     * @return Tamaño en bytes
+     */
+    public synchronized long getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Obtiene la ruta del diario.
+     *
+     * @return Ruta del fichero
+     */
+    public Path getRuta() {
+        return ruta;
+    }
+
+    /**
+     * Fuerza a disco y cierra el diario. Si no quedan escrituras pendientes,
+     * elimina el fichero; si quedan, elimina antes las ya confirmadas.
+     */
+    @Override
+    public synchronized void close() {
+        if (canal == null) {
+            return;
+        }
+        try {
+            if (!averiado && !retenido && confirmado > 0 && !finales.isEmpty()) {
+                compactar();
+            }
+            if (!averiado) {
+                canal.force(false);
+            }
+            canal.close();
+            if (!averiado && !retenido && finales.isEmpty()) {
+                Files.deleteIfExists(ruta);
+            }
+        } catch (IOException e) {
+            logger.error("Error al cerrar el diario {}", ruta, e);
+        } finally {
+            canal = null;
+        }
+    }
+
+    /**
+     * Copia los registros pendientes a un diario nuevo y sustituye al actual.
+     */
+    private void compactar() throws IOException {
+        long desde = confirmado;
+        Path temporal = Path.of(ruta + ".tmp");
+        try (FileChannel nuevo = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long copiados = 0;
+            while (copiados < tamano - desde) {
+                copiados += canal.transferTo(desde + copiados, tamano - desde - copiados, nuevo);
+            }
+            nuevo.force(true);
+        }
+        canal.close();
+        Files.move(temporal, ruta, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        canal = FileChannel.open(ruta, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        ArrayDeque<Long> desplazados = new ArrayDeque<>(finales.size());
+        for (long fin : finales) {
+            desplazados.add(fin - desde);
+        }
+        finales.clear();
+        finales.addAll(desplazados);
+        tamano -= desde;
+        confirmado = 0;
+        sucio = false;
+        logger.debug("Diario {} compactado: {} bytes confirmados eliminados", ruta, desde);
+    }
+
+    private void averiar(IOException e) {
+        if (!averiado) {
+            averiado = true;
+            logger.error("Error de escritura en el diario {}; se deja de usar y se conserva para el siguiente arranque",
+                ruta, e);
+        }
+    }
+
+    /**
+     * Escribe un registro completo en la posición indicada, o al final si es negativa.
+     *
+     * @return Bytes escritos
+     */
+    private static int escribirCompleto(FileChannel destino, ByteBuffer registro, long posicion) throws IOException {
+        int longitud = registro.remaining();
+        while (registro.hasRemaining()) {
+            if (posicion < 0) {
+                destino.write(registro);
+            } else {
+                destino.write(registro, posicion + longitud - registro.remaining());
+            }
+        }
+        return longitud;
+    }
+
+    /**
+     * Codifica una escritura como registro: longitud, datos y CRC32 de los datos.
+     */
+    static ByteBuffer codificar(RespuestaPendiente respuesta) {
+        ByteArrayOutputStream datos = new ByteArrayOutputStream(64);
+        try (DataOutputStream salida = new DataOutputStream(datos)) {
+            salida.writeByte(VERSION_REGISTRO);
+            salida.writeLong(respuesta.getSesionId());
+            salida.writeBoolean(!respuesta.isSoloEstadisticas());
+            if (!respuesta.isSoloEstadisticas()) {
+                salida.writeUTF(respuesta.getPreguntaId());
+            }
+            salida.writeBoolean(respuesta.isCorrecta());
+            salida.writeInt(respuesta.getTiempo());
+            salida.writeUTF(respuesta.getInstante().toString());
+            salida.writeInt(respuesta.getPreguntasRespondidas());
+            salida.writeInt(respuesta.getAciertos());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] contenido = datos.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(contenido);
+        ByteBuffer registro = ByteBuffer.allocate(contenido.length + 8);
+        registro.putInt(contenido.length).put(contenido).putInt((int) crc.getValue());
+        return registro.flip();
+    }
+
+    /**
+     * Lee los registros válidos de un fichero, hasta el primero incompleto o dañado.
+     */
+    static List<RespuestaPendiente> leer(Path fichero) throws IOException {
+        List<RespuestaPendiente> respuestas = new ArrayList<>();
+        if (!Files.exists(fichero)) {
+            return respuestas;
+        }
+
+        ByteBuffer contenido = ByteBuffer.wrap(Files.readAllBytes(fichero));
+        while (contenido.remaining() >= 4) {
+            int inicio = contenido.position();
+            int longitud = contenido.getInt();
+            if (longitud <= 0 || longitud > MAXIMO_REGISTRO || contenido.remaining() < longitud + 4) {
+                contenido.position(inicio);
+                break;
+            }
+            byte[] datos = new byte[longitud];
+            contenido.get(datos);
+            CRC32 crc = new CRC32();
+            crc.update(datos);
+            RespuestaPendiente respuesta = contenido.getInt() == (int) crc.getValue() ? decodificar(datos) : null;
+            if (respuesta == null) {
+                contenido.position(inicio);
+                break;
+            }
+            respuestas.add(respuesta);
+        }
+
+        if (contenido.hasRemaining()) {
+            logger.warn("Diario {}: se ignoran {} bytes de un registro incompleto o dañado tras {} registros",
+                fichero, contenido.remaining(), respuestas.size());
+        }
+        return respuestas;
+    }
+
+    /**
+     * Decodifica los datos de un registro.
+     *
+     * @return Escritura, o null si los datos no son válidos
+     */
+    private static RespuestaPendiente decodificar(byte[] datos) {
+        try (DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(datos))) {
+            if (entrada.readByte() != VERSION_REGISTRO) {
+                return null;
+            }
+            long sesionId = entrada.readLong();
+            String preguntaId = entrada.readBoolean() ? entrada.readUTF() : null;
+            boolean correcta = entrada.readBoolean();
+            int tiempo = entrada.readInt();
+            LocalDateTime instante = LocalDateTime.parse(entrada.readUTF());
+            int preguntasRespondidas = entrada.readInt();
+            int aciertos = entrada.readInt();
+            return preguntaId != null
+                ? RespuestaPendiente.respuesta(sesionId, preguntaId, correcta, tiempo, instante, preguntasRespondidas, aciertos)
+                : RespuestaPendiente.estadisticas(sesionId, instante, preguntasRespondidas, aciertos);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
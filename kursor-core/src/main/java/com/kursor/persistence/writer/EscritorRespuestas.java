@@ -0,0 +1,517 @@
+package com.kursor.persistence.writer;
+
+import com.kursor.persistence.entity.PreguntaSesion;
+import com.kursor.persistence.entity.Sesion;
+import com.kursor.persistence.repository.PreguntaSesionRepository;
+import com.kursor.persistence.repository.SesionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Escritor en segundo plano de las respuestas de las sesiones.
+ *
+ * <p>{@link #encolar(RespuestaPendiente)} deja la respuesta en una cola y
+ * vuelve de inmediato, de modo que el hilo de la interfaz nunca espera a
+ * SQLite. Un único hilo escritor vacía la cola por lotes: espera como mucho
+ * el intervalo de escritura desde la primera respuesta pendiente, o hasta
+ * reunir el tamaño de lote, y escribe todo el lote en una sola transacción
+ * (un único commit para todas las respuestas del lote).</p>
+ *
+ * <p>Dentro de un lote las escrituras se agrupan: si una pregunta se responde
+ * varias veces solo se guarda la última respuesta y las estadísticas de cada
+ * sesión se actualizan una sola vez, con la última instantánea.</p>
+ *
+ * <p>Si un lote falla se reintenta, con una espera creciente, hasta
+ * {@value #REINTENTOS} veces. Después se descarta y se registra el error.</p>
+ *
+ * <p>Con un {@link DiarioRespuestas}, cada escritura se anota en el diario
+ * antes de encolarla y el hilo escritor lo fuerza a disco como mucho cada
+ * {@value #SINCRONIZACION_DIARIO_MS} ms, sin esperar al commit del lote. Al
+ * arrancar se escriben primero las escrituras que el diario recupera de una
+ * ejecución anterior, y el constructor no vuelve hasta terminarlas.</p>
+ *
+ * <p>El intervalo y el tamaño del lote se configuran con las propiedades del
+ * sistema {@value #PROPIEDAD_INTERVALO} (milisegundos, por defecto
+ * {@value #INTERVALO_POR_DEFECTO_MS}) y {@value #PROPIEDAD_LOTE} (por defecto
+ * {@value #LOTE_POR_DEFECTO}).</p>
+ *
+ * <p><strong>Thread Safety:</strong> Es thread-safe; se puede encolar desde
+ * cualquier hilo.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see RespuestaPendiente
+ * @see DiarioRespuestas
+ * @see com.kursor.presentation.controllers.CursoSessionManager
+ */
+public final class EscritorRespuestas implements AutoCloseable {
+
+    /** Logger para registrar eventos del escritor */
+    private static final Logger logger = LoggerFactory.getLogger(EscritorRespuestas.class);
+
+    /** Propiedad del sistema con el intervalo de escritura en milisegundos */
+    public static final String PROPIEDAD_INTERVALO = "kursor.escritura.intervalo-ms";
+
+    /** Propiedad del sistema con el tamaño máximo de lote */
+    public static final String PROPIEDAD_LOTE = "kursor.escritura.lote";
+
+    /** Intervalo de escritura por defecto, en milisegundos */
+    public static final int INTERVALO_POR_DEFECTO_MS = 250;
+
+    /** Tamaño de lote por defecto */
+    public static final int LOTE_POR_DEFECTO = 128;
+
+    /** Número de reintentos de un lote que falla antes de descartarlo */
+    public static final int REINTENTOS = 3;
+
+    /** Espera máxima entre dos sincronizaciones del diario con escrituras anotadas, en milisegundos */
+    public static final int SINCRONIZACION_DIARIO_MS = 20;
+
+    /** Espera máxima para escribir las escrituras recuperadas del diario al arrancar */
+    private static final Duration ESPERA_RECUPERACION = Duration.ofSeconds(30);
+
+    /** Marca que pide escribir de inmediato lo pendiente */
+    private static final RespuestaPendiente MARCA_VACIADO = RespuestaPendiente.estadisticas(-1, LocalDateTime.MIN, 0, 0);
+
+    /** Fábrica de EntityManager del hilo escritor */
+    private final Supplier<EntityManager> entityManagers;
+
+    /** Diario de las escrituras pendientes, o null si no se usa */
+    private final DiarioRespuestas diario;
+
+    /** Tamaño máximo de lote */
+    private final int tamanoLote;
+
+    /** Intervalo de escritura, en nanosegundos */
+    private final long intervaloNanos;
+
+    /** Respuestas pendientes */
+    private final BlockingQueue<RespuestaPendiente> cola = new LinkedBlockingQueue<>();
+
+    /** Mantiene el mismo orden en el diario y en la cola */
+    private final Object cerrojoEncolar = new Object();
+
+    /** Última sincronización del diario, en nanosegundos; solo la usa el hilo escritor */
+    private long ultimaSincronizacion;
+
+    /** Número de respuestas encoladas */
+    private final AtomicLong encoladas = new AtomicLong();
+
+    /** Número de respuestas procesadas (escritas o descartadas); protegido por el monitor de esta instancia */
+    private long procesadas;
+
+    /** Número de respuestas descartadas tras agotar los reintentos */
+    private final AtomicLong descartadas = new AtomicLong();
+
+    /** Número de lotes escritos */
+    private final AtomicLong lotes = new AtomicLong();
+
+    /** Hilo escritor */
+    private final Thread hilo;
+
+    /** Indica si se ha pedido cerrar el escritor */
+    private volatile boolean cerrado;
+
+    /**
+     * Crea un escritor con la configuración de las propiedades del sistema.
+     *
+     * @param entityManagers Fábrica de EntityManager para el hilo escritor
+     * @return Escritor arrancado
+     */
+    public static EscritorRespuestas configurado(Supplier<EntityManager> entityManagers) {
+        return configurado(entityManagers, null);
+    }
+
+    /**
+     * Crea un escritor con diario y con la configuración de las propiedades
+     * del sistema.
+     *
+     * @param entityManagers Fábrica de EntityManager para el hilo escritor
+     * @param diario Diario de las escrituras pendientes, o null para no usarlo
+     * @return Escritor arrancado, con las escrituras recuperadas del diario ya procesadas
+     */
+    public static EscritorRespuestas configurado(Supplier<EntityManager> entityManagers, DiarioRespuestas diario) {
+        return new EscritorRespuestas(entityManagers, diario,
+            Integer.getInteger(PROPIEDAD_LOTE, LOTE_POR_DEFECTO),
+            Duration.ofMillis(Integer.getInteger(PROPIEDAD_INTERVALO, INTERVALO_POR_DEFECTO_MS)));
+    }
+
+    /**
+     * Crea y arranca un escritor.
+     *
+     * @param entityManagers Fábrica de EntityManager para el hilo escritor; se
+     *                       crea uno por lote y se cierra al terminarlo
+     * @param tamanoLote Número máximo de respuestas por transacción
+     * @param intervalo Espera máxima desde la primera respuesta pendiente hasta escribirla
+     * @throws IllegalArgumentException si el tamaño de lote no es positivo o el intervalo es negativo
+     */
+    public EscritorRespuestas(Supplier<EntityManager> entityManagers, int tamanoLote, Duration intervalo) {
+        this(entityManagers, null, tamanoLote, intervalo);
+    }
+
+    /**
+     * Crea y arranca un escritor con diario.
+     *
+     * <p>Las escrituras recuperadas del diario se encolan antes que ninguna
+     * otra y el constructor espera a que se procesen. El escritor cierra el
+     * diario al cerrarse.</p>
+     *
+     * @param entityManagers Fábrica de EntityManager para el hilo escritor; se
+     *                       crea uno por lote y se cierra al terminarlo
+     * @param diario Diario de las escrituras pendientes, o null para no usarlo
+     * @param tamanoLote Número máximo de respuestas por transacción
+     * @param intervalo Espera máxima desde la primera respuesta pendiente hasta escribirla
+     * @throws IllegalArgumentException si el tamaño de lote no es positivo o el intervalo es negativo
+     */
+    public EscritorRespuestas(Supplier<EntityManager> entityManagers, DiarioRespuestas diario,
+                              int tamanoLote, Duration intervalo) {
+        this.entityManagers = Objects.requireNonNull(entityManagers, "entityManagers");
+        this.diario = diario;
+        if (tamanoLote < 1) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser positivo: " + tamanoLote);
+        }
+        if (intervalo.isNegative()) {
+            throw new IllegalArgumentException("El intervalo de escritura no puede ser negativo: " + intervalo);
+        }
+        this.tamanoLote = tamanoLote;
+        this.intervaloNanos = intervalo.toNanos();
+
+        // Las escrituras recuperadas ya están en el diario: solo se encolan
+        List<RespuestaPendiente> recuperadas = diario != null ? diario.getRecuperadas() : List.of();
+        encoladas.addAndGet(recuperadas.size());
+        cola.addAll(recuperadas);
+
+        this.hilo = new Thread(this::ejecutar, "kursor-escritor-respuestas");
+        this.hilo.setDaemon(true);
+        this.hilo.start();
+        logger.info("Escritor de respuestas arrancado (lote {}, intervalo {} ms, diario {})", tamanoLote,
+            intervalo.toMillis(), diario != null ? diario.getRuta() : "desactivado");
+
+        if (!recuperadas.isEmpty()) {
+            try {
+                if (vaciar(ESPERA_RECUPERACION)) {
+                    logger.info("Recuperadas {} escrituras del diario", recuperadas.size());
+                } else {
+                    logger.warn("No se han terminado de recuperar las escrituras del diario; quedan {}", getPendientes());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Encola una escritura. No espera a la base de datos.
+     *
+     * @param respuesta Escritura pendiente
+     * @throws IllegalStateException si el escritor está cerrado
+     */
+    public void encolar(RespuestaPendiente respuesta) {
+        Objects.requireNonNull(respuesta, "respuesta");
+        if (cerrado) {
+            throw new IllegalStateException("El escritor de respuestas está cerrado");
+        }
+        synchronized (cerrojoEncolar) {
+            if (diario != null) {
+                try {
+                    diario.anotar(respuesta);
+                } catch (IOException e) {
+                    logger.error("No se pudo anotar la respuesta en el diario: {}", respuesta, e);
+                }
+            }
+            encoladas.incrementAndGet();
+            cola.add(respuesta);
+        }
+    }
+
+    /**
+     * Escribe de inmediato todo lo encolado hasta ahora y espera a que termine.
+     *
+     * @param espera Espera máxima
+     * @return true si todo lo encolado antes de la llamada se ha procesado
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    public boolean vaciar(Duration espera) throws InterruptedException {
+        long objetivo = encoladas.get();
+        cola.add(MARCA_VACIADO);
+        long limite = System.nanoTime() + espera.toNanos();
+        synchronized (this) {
+            while (procesadas < objetivo) {
+                long restante = limite - System.nanoTime();
+                if (restante <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, restante);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtiene el número de escrituras encoladas que aún no se han procesado.
+     *
+     * @return Escrituras pendientes
+     */
+    public synchronized long getPendientes() {
+        return encoladas.get() - procesadas;
+    }
+
+    /**
+     * Obtiene el número de escrituras descartadas tras agotar los reintentos.
+     *
+     * @return Escrituras descartadas
+     */
+    public long getDescartadas() {
+        return descartadas.get();
+    }
+
+    /**
+     * Obtiene el número de lotes escritos.
+     *
+     * @return Transacciones confirmadas
+     */
+    public long getLotes() {
+        return lotes.get();
+    }
+
+    /**
+     * Deja de aceptar escrituras, escribe las pendientes, detiene el hilo
+     * escritor y cierra el diario.
+     */
+    @Override
+    public void close() {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        cola.add(MARCA_VACIADO);
+        try {
+            hilo.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (hilo.isAlive()) {
+            logger.warn("El escritor de respuestas no terminó a tiempo; quedan {} escrituras", getPendientes());
+        } else {
+            logger.info("Escritor de respuestas detenido ({} lotes, {} descartadas)", lotes.get(), descartadas.get());
+        }
+        if (diario != null) {
+            diario.close();
+        }
+    }
+
+    /**
+     * Bucle del hilo escritor.
+     */
+    private void ejecutar() {
+        List<RespuestaPendiente> lote = new ArrayList<>(tamanoLote);
+        while (!cerrado || !cola.isEmpty()) {
+            try {
+                RespuestaPendiente primera = cola.poll(1, TimeUnit.SECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                boolean inmediato = primera == MARCA_VACIADO;
+                if (!inmediato) {
+                    lote.add(primera);
+                }
+
+                // Mientras se reúne el lote, el diario se sincroniza al quedar
+                // la cola en espera o cada SINCRONIZACION_DIARIO_MS
+                long limite = System.nanoTime() + intervaloNanos;
+                while (!inmediato && lote.size() < tamanoLote) {
+                    long restante = limite - System.nanoTime();
+                    if (restante <= 0) {
+                        break;
+                    }
+                    RespuestaPendiente siguiente = cola.poll(
+                        Math.min(restante, TimeUnit.MILLISECONDS.toNanos(SINCRONIZACION_DIARIO_MS)), TimeUnit.NANOSECONDS);
+                    if (siguiente == null
+                            || System.nanoTime() - ultimaSincronizacion >= TimeUnit.MILLISECONDS.toNanos(SINCRONIZACION_DIARIO_MS)) {
+                        sincronizarDiario();
+                    }
+                    if (siguiente == null) {
+                        continue;
+                    }
+                    if (siguiente == MARCA_VACIADO) {
+                        inmediato = true;
+                    } else {
+                        lote.add(siguiente);
+                    }
+                }
+
+                // Un vaciado escribe todo lo pendiente, en lotes del tamaño máximo
+                do {
+                    while (lote.size() < tamanoLote) {
+                        RespuestaPendiente siguiente = cola.poll();
+                        if (siguiente == null) {
+                            break;
+                        }
+                        if (siguiente != MARCA_VACIADO) {
+                            lote.add(siguiente);
+                        }
+                    }
+                    if (!lote.isEmpty()) {
+                        sincronizarDiario();
+                        escribirConReintentos(lote);
+                        marcarProcesadas(lote.size());
+                        lote.clear();
+                    }
+                } while (inmediato && !cola.isEmpty());
+            } catch (InterruptedException e) {
+                if (!cerrado) {
+                    logger.warn("Hilo escritor de respuestas interrumpido");
+                }
+            }
+        }
+        logger.debug("Hilo escritor de respuestas terminado");
+    }
+
+    /**
+     * Fuerza a disco las escrituras anotadas en el diario.
+     */
+    private void sincronizarDiario() {
+        ultimaSincronizacion = System.nanoTime();
+        if (diario != null) {
+            try {
+                diario.sincronizar();
+            } catch (IOException e) {
+                logger.error("Error al sincronizar el diario de respuestas", e);
+            }
+        }
+    }
+
+    /**
+     * Da por terminadas en el diario las escrituras de un lote.
+     *
+     * @param lote Escrituras del lote
+     * @param descartado true si el lote se ha descartado y debe conservarse para el siguiente arranque
+     */
+    private void confirmarDiario(List<RespuestaPendiente> lote, boolean descartado) {
+        if (diario == null) {
+            return;
+        }
+        if (descartado) {
+            diario.retener();
+        }
+        try {
+            diario.confirmar(lote.size());
+        } catch (IOException e) {
+            logger.error("Error al truncar el diario de respuestas", e);
+        }
+    }
+
+    private synchronized void marcarProcesadas(int numero) {
+        procesadas += numero;
+        notifyAll();
+    }
+
+    /**
+     * Escribe un lote, reintentándolo si falla.
+     */
+    private void escribirConReintentos(List<RespuestaPendiente> lote) throws InterruptedException {
+        long esperaMs = Math.max(50, TimeUnit.NANOSECONDS.toMillis(intervaloNanos));
+        for (int intento = 0; ; intento++) {
+            try {
+                escribir(lote);
+                lotes.incrementAndGet();
+                confirmarDiario(lote, false);
+                return;
+            } catch (RuntimeException e) {
+                if (intento >= REINTENTOS) {
+                    descartadas.addAndGet(lote.size());
+                    logger.error("Lote de {} respuestas descartado tras {} reintentos", lote.size(), REINTENTOS, e);
+                    confirmarDiario(lote, true);
+                    return;
+                }
+                logger.warn("Error al escribir un lote de {} respuestas (intento {}): {}",
+                    lote.size(), intento + 1, e.getMessage());
+                Thread.sleep(esperaMs << intento);
+            }
+        }
+    }
+
+    /**
+     * Escribe un lote en una única transacción.
+     *
+     * @param lote Escrituras, en orden de llegada
+     */
+    private void escribir(List<RespuestaPendiente> lote) {
+        Map<Map.Entry<Long, String>, RespuestaPendiente> porPregunta = new LinkedHashMap<>();
+        Map<Long, RespuestaPendiente> porSesion = new LinkedHashMap<>();
+        for (RespuestaPendiente respuesta : lote) {
+            if (!respuesta.isSoloEstadisticas()) {
+                porPregunta.put(new AbstractMap.SimpleImmutableEntry<>(respuesta.getSesionId(), respuesta.getPreguntaId()),
+                    respuesta);
+            }
+            porSesion.put(respuesta.getSesionId(), respuesta);
+        }
+
+        long inicio = System.nanoTime();
+        EntityManager entityManager = entityManagers.get();
+        EntityTransaction tx = entityManager.getTransaction();
+        try {
+            SesionRepository sesionRepository = new SesionRepository(entityManager);
+            PreguntaSesionRepository preguntaSesionRepository = new PreguntaSesionRepository(entityManager);
+            tx.begin();
+
+            Map<Long, Sesion> sesiones = new LinkedHashMap<>();
+            for (Map.Entry<Long, RespuestaPendiente> entrada : porSesion.entrySet()) {
+                Optional<Sesion> sesion = sesionRepository.buscarPorId(entrada.getKey());
+                if (sesion.isEmpty()) {
+                    logger.warn("Sesión {} no encontrada; se descartan sus respuestas pendientes", entrada.getKey());
+                    continue;
+                }
+                RespuestaPendiente ultima = entrada.getValue();
+                sesion.get().setPreguntasRespondidas(ultima.getPreguntasRespondidas());
+                sesion.get().setAciertos(ultima.getAciertos());
+                sesion.get().setTasaAciertos(ultima.getTasaAciertos());
+                sesion.get().setFechaUltimaRevision(ultima.getInstante());
+                sesiones.put(entrada.getKey(), sesion.get());
+            }
+
+            for (RespuestaPendiente respuesta : porPregunta.values()) {
+                Sesion sesion = sesiones.get(respuesta.getSesionId());
+                if (sesion == null) {
+                    continue;
+                }
+                PreguntaSesion preguntaSesion = preguntaSesionRepository
+                    .buscarPorSesionYPregunta(respuesta.getSesionId(), respuesta.getPreguntaId())
+                    .orElseGet(() -> new PreguntaSesion(sesion, respuesta.getPreguntaId()));
+                preguntaSesion.registrarRespuesta("", respuesta.isCorrecta(), respuesta.getTiempo());
+                preguntaSesion.setUpdatedAt(respuesta.getInstante());
+                preguntaSesionRepository.guardar(preguntaSesion);
+            }
+
+            tx.commit();
+            logger.debug("Lote escrito: {} escrituras, {} preguntas, {} sesiones en {} ms", lote.size(),
+                porPregunta.size(), porSesion.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
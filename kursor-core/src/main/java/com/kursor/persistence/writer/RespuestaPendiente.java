@@ -0,0 +1,175 @@
+package com.kursor.persistence.writer;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Escritura pendiente de una sesión, encolada en el {@link EscritorRespuestas}.
+ *
+ * <p>Normalmente representa una respuesta: el resultado de una pregunta y las
+ * estadísticas de la sesión justo después de responderla. Si no tiene
+ * pregunta ({@link #isSoloEstadisticas()}), solo actualiza las estadísticas
+ * de la sesión, por ejemplo al cambiar de posición o al reiniciar.</p>
+ *
+ * <p>Las estadísticas son una instantánea: si varias escrituras de la misma
+ * sesión llegan en el mismo lote, se aplica la última.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see EscritorRespuestas
+ */
+public final class RespuestaPendiente {
+
+    /** Identificador de la sesión */
+    private final long sesionId;
+
+    /** Identificador de la pregunta, o null si solo se actualizan las estadísticas */
+    private final String preguntaId;
+
+    /** Indica si la respuesta fue correcta */
+    private final boolean correcta;
+
+    /** Tiempo dedicado a la pregunta, en segundos */
+    private final int tiempo;
+
+    /** Momento de la respuesta */
+    private final LocalDateTime instante;
+
+    /** Preguntas respondidas en la sesión tras esta escritura */
+    private final int preguntasRespondidas;
+
+    /** Aciertos de la sesión tras esta escritura */
+    private final int aciertos;
+
+    private RespuestaPendiente(long sesionId, String preguntaId, boolean correcta, int tiempo,
+                               LocalDateTime instante, int preguntasRespondidas, int aciertos) {
+        this.sesionId = sesionId;
+        this.preguntaId = preguntaId;
+        this.correcta = correcta;
+        this.tiempo = tiempo;
+        this.instante = Objects.requireNonNull(instante, "instante");
+        this.preguntasRespondidas = preguntasRespondidas;
+        this.aciertos = aciertos;
+    }
+
+    /**
+     * Crea la escritura de una respuesta.
+     *
+     * @param sesionId Identificador de la sesión
+     * @param preguntaId Identificador de la pregunta
+     * @param correcta true si la respuesta es correcta
+     * @param tiempo Tiempo dedicado, en segundos
+     * @param instante Momento de la respuesta
+     * @param preguntasRespondidas Preguntas respondidas en la sesión, incluida esta
+     * @param aciertos Aciertos de la sesión, incluida esta
+     * @return Escritura pendiente
+     */
+    public static RespuestaPendiente respuesta(long sesionId, String preguntaId, boolean correcta, int tiempo,
+                                               LocalDateTime instante, int preguntasRespondidas, int aciertos) {
+        return new RespuestaPendiente(sesionId, Objects.requireNonNull(preguntaId, "preguntaId"), correcta,
+            tiempo, instante, preguntasRespondidas, aciertos);
+    }
+
+    /**
+     * Crea una escritura que solo actualiza las estadísticas de la sesión.
+     *
+     * @param sesionId Identificador de la sesión
+     * @param instante Momento de la actualización
+     * @param preguntasRespondidas Preguntas respondidas en la sesión
+     * @param aciertos Aciertos de la sesión
+     * @return Escritura pendiente
+     */
+    public static RespuestaPendiente estadisticas(long sesionId, LocalDateTime instante,
+                                                  int preguntasRespondidas, int aciertos) {
+        return new RespuestaPendiente(sesionId, null, false, 0, instante, preguntasRespondidas, aciertos);
+    }
+
+    /**
+     * Obtiene el identificador de la sesión.
+     *
+     * @return Identificador de la sesión
+     */
+    public long getSesionId() {
+        return sesionId;
+    }
+
+    /**
+     * Obtiene el identificador de la pregunta.
+     *
+     * @return Identificador de la pregunta, o null si solo se actualizan las estadísticas
+     */
+    public String getPreguntaId() {
+        return preguntaId;
+    }
+
+    /**
+     * Indica si la respuesta fue correcta.
+     *
+     * @return true si fue correcta
+     */
+    public boolean isCorrecta() {
+        return correcta;
+    }
+
+    /**
+     * Obtiene el tiempo dedicado a la pregunta.
+     *
+     * @return Tiempo en segundos
+     */
+    public int getTiempo() {
+        return tiempo;
+    }
+
+    /**
+     * Obtiene el momento de la escritura.
+     *
+     * @return Momento de la respuesta o actualización
+     */
+    public LocalDateTime getInstante() {
+        return instante;
+    }
+
+    /**
+     * Obtiene las preguntas respondidas en la sesión tras esta escritura.
+     *
+     * @return Número de preguntas respondidas
+     */
+    public int getPreguntasRespondidas() {
+        return preguntasRespondidas;
+    }
+
+    /**
+     * Obtiene los aciertos de la sesión tras esta escritura.
+     *
+     * @return Número de aciertos
+     */
+    public int getAciertos() {
+        return aciertos;
+    }
+
+    /**
+     * Obtiene la tasa de aciertos de la sesión tras esta escritura.
+     *
+     * @return Porcentaje de aciertos (0-100)
+     */
+    public double getTasaAciertos() {
+        return preguntasRespondidas > 0 ? (double) aciertos / preguntasRespondidas * 100 : 0;
+    }
+
+    /**
+     * Indica si la escritura solo actualiza las estadísticas de la sesión.
+     *
+     * @return true si no registra ninguna respuesta
+     */
+    public boolean isSoloEstadisticas() {
+        return preguntaId == null;
+    }
+
+    @Override
+    public String toString() {
+        return "RespuestaPendiente{sesion=" + sesionId
+            + (preguntaId != null ? ", pregunta=" + preguntaId + ", correcta=" + correcta : ", estadisticas")
+            + ", respondidas=" + preguntasRespondidas + ", aciertos=" + aciertos + "}";
+    }
+}
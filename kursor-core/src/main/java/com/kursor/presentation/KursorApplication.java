@@ -2,12 +2,20 @@ package com.kursor.presentation;
 
 import com.kursor.persistence.config.PersistenceConfig;
 import com.kursor.presentation.controllers.MainController;
+import com.kursor.presentation.views.VistasModulos;
+import com.kursor.shared.util.CursoManager;
+import com.kursor.shared.util.ModuleManager;
+import com.kursor.shared.util.OrquestadorArranque;
+import com.kursor.shared.util.PerfiladorArranque;
+import com.kursor.shared.util.StrategyManager;
+import com.kursor.yaml.dto.CursoDTO;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javafx.application.Platform;
+import java.util.List;
 
 public class KursorApplication extends Application {
     
@@ -15,6 +23,17 @@ public class KursorApplication extends Application {
     private static final String APP_TITLE = "🎓 Kursor - Plataforma de Aprendizaje Interactivo";
     private static final String APP_VERSION = "1.0.0";
     
+    // Tareas del arranque paralelo
+    private static final String TAREA_PERSISTENCIA = "persistencia";
+    private static final String TAREA_MODULOS = "modulos";
+    private static final String TAREA_ESTRATEGIAS = "estrategias";
+    private static final String TAREA_CATALOGO = "catalogo";
+    private static final String TAREA_CURSO_INICIAL = "cursoInicial";
+    private static final String TAREA_VIGILANCIA_PLUGINS = "vigilanciaPlugins";
+    
+    /** Arranque en curso, iniciado en main() antes de lanzar JavaFX */
+    private static OrquestadorArranque arranque;
+    
     private MainController mainController;
     
     public static void main(String[] args) {
@@ -33,26 +52,15 @@ public class KursorApplication extends Application {
             logger.debug("   - Log File: {}", System.getProperty("kursor.studio.log.file", "kursor-studio.log"));
             logger.debug("   - Log Dir: {}", System.getProperty("kursor.studio.log.dir", "log"));
             
-            // Inicializar configuración de persistencia con dos bases de datos separadas
-            logger.info("🗃️ Inicializando configuración de persistencia...");
-            try {
-                PersistenceConfig.initialize();
-                logger.info("✅ Configuración de persistencia inicializada correctamente");
-                
-                // Mostrar estado de la base de datos
-                if (PersistenceConfig.isInitialized()) {
-                    logger.info("✅ kursor.db: Base de datos inicializada");
-                } else {
-                    logger.info("ℹ️ kursor.db: Base de datos de NO inicializada");
-                    logger.info("ℹ️ Puede configurar la base de datos más tarde desde la interfaz");
-                    throw new RuntimeException("Base de datos no inicializada");
-                }
-                
-            } catch (Exception e) {
+            // Inicializar persistencia, módulos, estrategias y catálogo en paralelo
+            arranque = crearArranque();
+            arranque.iniciar();
+            arranque.getFuturo(TAREA_PERSISTENCIA).exceptionally(e -> {
                 logger.error("❌ Error al inicializar configuración de persistencia", e);
                 logger.error("❌ La aplicación no puede continuar sin la base de datos local");
                 System.exit(1);
-            }
+                return null;
+            });
 
             // Lanzar aplicación JavaFX
             logger.info("🎨 Lanzando interfaz gráfica JavaFX...");
@@ -64,17 +72,93 @@ public class KursorApplication extends Application {
         }
     }
     
+    /**
+     * Crea el arranque de la aplicación con sus tareas y dependencias.
+     * 
+     * <p>Las cabeceras del catálogo no necesitan módulos ni base de datos, por lo
+     * que la ventana principal puede mostrarse en cuanto están listas. El curso
+     * inicial sí necesita los módulos para construir sus preguntas.</p>
+     */
+    private static OrquestadorArranque crearArranque() {
+        return new OrquestadorArranque()
+            .registrar(TAREA_PERSISTENCIA, medida(TAREA_PERSISTENCIA, () -> {
+                logger.info("🗃️ Inicializando configuración de persistencia...");
+                PersistenceConfig.initialize();
+                if (!PersistenceConfig.isInitialized()) {
+                    throw new IllegalStateException("Base de datos no inicializada");
+                }
+                logger.info("✅ kursor.db: Base de datos inicializada");
+            }))
+            .registrar(TAREA_MODULOS, medida(TAREA_MODULOS, ModuleManager::getInstance))
+            .registrar(TAREA_ESTRATEGIAS, medida(TAREA_ESTRATEGIAS, StrategyManager::getInstance))
+            .registrar(TAREA_CATALOGO, medida(TAREA_CATALOGO, () -> CursoManager.getInstance().getCatalogo()))
+            .registrar(TAREA_CURSO_INICIAL, medida(TAREA_CURSO_INICIAL, () -> {
+                List<CursoDTO> cursos = CursoManager.getInstance().cargarCatalogo();
+                if (!cursos.isEmpty()) {
+                    CursoManager.getInstance().obtenerCursoPorId(cursos.get(0).getId());
+                }
+            }), TAREA_CATALOGO, TAREA_MODULOS)
+            .registrar(TAREA_VIGILANCIA_PLUGINS, () -> {
+                // Los cursos completos en memoria tienen preguntas de los módulos anteriores
+                ModuleManager.getInstance().addPluginCambioListener(
+                    evento -> CursoManager.getInstance().invalidarCursosCompletos());
+                // Las interfaces guardadas retienen el ClassLoader de su módulo
+                ModuleManager.getInstance().addPluginCambioListener(VistasModulos::pluginCambiado);
+                ModuleManager.getInstance().iniciarVigilancia();
+                StrategyManager.getInstance().iniciarVigilancia();
+            }, TAREA_MODULOS, TAREA_ESTRATEGIAS);
+    }
+    
+    /**
+     * Envuelve una tarea de arranque para registrar su tiempo y memoria en el
+     * perfilador de arranque.
+     */
+    private static Runnable medida(String fase, Runnable tarea) {
+        return () -> {
+            try (PerfiladorArranque.Medicion m = PerfiladorArranque.getInstance().medir(fase)) {
+                tarea.run();
+            }
+        };
+    }
+    
     @Override
     public void start(Stage primaryStage) {
         try {
+            if (arranque == null) {
+                // Lanzada sin pasar por main(): iniciar aquí el arranque
+                arranque = crearArranque();
+                arranque.iniciar();
+            }
+            
+            // La ventana solo necesita las cabeceras del catálogo
+            arranque.esperar(TAREA_CATALOGO);
+            
+            PerfiladorArranque perfilador = PerfiladorArranque.getInstance();
+            
             // Crear el controlador principal
-            mainController = new MainController(primaryStage);
+            try (PerfiladorArranque.Medicion m = perfilador.medir("interfaz", "controlador")) {
+                mainController = new MainController(primaryStage);
+            }
             
-            // Mostrar la vista principal
-            mainController.showMainView();
+            // Mostrar la lista de cursos mientras termina el arranque
+            try (PerfiladorArranque.Medicion m = perfilador.medir("interfaz", "escena")) {
+                mainController.showCourseList();
+            }
             
             // Mostrar la ventana
-            primaryStage.show();
+            try (PerfiladorArranque.Medicion m = perfilador.medir("interfaz", "ventana")) {
+                primaryStage.show();
+            }
+            
+            // Completar el curso seleccionado y sus sesiones cuando estén los módulos y la base de datos
+            arranque.cuandoTerminen(TAREA_CURSO_INICIAL, TAREA_PERSISTENCIA, TAREA_ESTRATEGIAS)
+                .whenComplete((ignorado, error) -> Platform.runLater(() -> {
+                    try (PerfiladorArranque.Medicion m = perfilador.medir("interfaz", "cursoInicial")) {
+                        mainController.loadInitialCourse();
+                    }
+                    // El arranque termina con el primer curso visible: escribir el informe
+                    perfilador.finalizar();
+                }));
             
             logger.info("✅ Kursor iniciado correctamente");
             
@@ -140,6 +224,10 @@ public class KursorApplication extends Application {
             
             // Aquí se pueden agregar tareas de limpieza adicionales
             // como cerrar conexiones de base de datos, guardar configuraciones, etc.
+            if (arranque != null && arranque.getFuturo(TAREA_VIGILANCIA_PLUGINS).isDone()) {
+                ModuleManager.getInstance().detenerVigilancia();
+                StrategyManager.getInstance().detenerVigilancia();
+            }
             
             logger.info("✅ Recursos liberados correctamente");
             
@@ -1,6 +1,7 @@
 package com.kursor.presentation.controllers;
 
 import com.kursor.presentation.viewmodels.BloqueSelectorViewModel;
+import com.kursor.shared.util.CursoManager;
 import com.kursor.yaml.dto.BloqueDTO;
 import com.kursor.yaml.dto.CursoDTO;
 import org.slf4j.Logger;
@@ -83,6 +84,9 @@ public class BloqueSelectorController {
         
         viewModel.seleccionarBloque(bloque);
         logger.info("Bloque seleccionado correctamente: {}", bloque.getTitulo());
+        
+        // En cursos fragmentados, adelantar la carga de las preguntas del bloque
+        CursoManager.getInstance().cargarBloque(bloque);
     }
     
     /**
@@ -220,12 +220,19 @@ public class CursoExecutionManager {
     }
     
     /**
-     * Convierte un BloqueDTO a Bloque del dominio.
+     * Obtiene el Bloque del dominio correspondiente a un BloqueDTO.
+     * 
+     * <p>Si el DTO es una vista sobre el modelo del curso se devuelve el bloque
+     * original, con sus preguntas. Solo los DTOs independientes se convierten.</p>
      * 
      * @param bloqueDTO El BloqueDTO a convertir
      * @return El Bloque del dominio
      */
     private Bloque convertirABloque(BloqueDTO bloqueDTO) {
+        if (bloqueDTO.getBloque() != null) {
+            return bloqueDTO.getBloque();
+        }
+        
         Bloque bloque = new Bloque();
         
         // Generar ID automáticamente si no existe
@@ -253,15 +260,10 @@ public class CursoExecutionManager {
      * Convierte un Bloque del dominio a BloqueDTO.
      * 
      * @param bloque El Bloque del dominio a convertir
-     * @return El BloqueDTO
+     * @return Vista BloqueDTO sobre el bloque
      */
     private BloqueDTO convertirABloqueDTO(Bloque bloque) {
-        BloqueDTO bloqueDTO = new BloqueDTO();
-        bloqueDTO.setId(bloque.getId());
-        bloqueDTO.setTitulo(bloque.getTitulo());
-        bloqueDTO.setDescripcion(bloque.getDescripcion());
-        bloqueDTO.setTipo(bloque.getTipo());
-        return bloqueDTO;
+        return new BloqueDTO(bloque);
     }
     
     /**
@@ -216,7 +216,8 @@ public class CursoInterfaceController {
                     estrategiaSeleccionada,
                     sesionRepository,
                     preguntaSesionRepository,
-                    estadoEstrategiaRepository
+                    estadoEstrategiaRepository,
+                    PersistenceConfig.getEscritorRespuestas()
                 );
                 logger.info("Gestor de sesión inicializado con persistencia real");
             } else {
@@ -338,15 +339,22 @@ public class CursoInterfaceController {
         logger.debug("Obteniendo todas las preguntas del curso: " + cursoActual.getId());
         
         try {
-            // Cargar el curso completo usando CursoManager
-            com.kursor.domain.Curso cursoCompleto = com.kursor.shared.util.CursoManager.getInstance()
-                .obtenerCursoCompleto(cursoActual.getId());
+            // Usar el modelo del curso que respalda al DTO; si es una cabecera, obtenerlo del CursoManager
+            com.kursor.domain.Curso cursoCompleto = cursoActual.getCurso();
+            if (cursoCompleto == null) {
+                CursoDTO hidratado = com.kursor.shared.util.CursoManager.getInstance()
+                    .obtenerCursoPorId(cursoActual.getId());
+                cursoCompleto = hidratado != null ? hidratado.getCurso() : null;
+            }
             
             if (cursoCompleto == null) {
                 logger.error("No se pudo cargar el curso completo: " + cursoActual.getId());
                 return new java.util.ArrayList<>();
             }
             
+            // En cursos fragmentados, cargar en paralelo los bloques pendientes
+            com.kursor.shared.util.CursoManager.getInstance().precargarBloques(cursoCompleto);
+            
             // Extraer todas las preguntas de todos los bloques
             List<com.kursor.domain.Pregunta> todasLasPreguntas = new java.util.ArrayList<>();
             
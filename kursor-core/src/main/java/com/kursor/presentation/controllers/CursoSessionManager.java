@@ -7,6 +7,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 // Importar entidades y repositorios de persistencia
 import com.kursor.persistence.entity.Sesion;
@@ -16,6 +18,8 @@ import com.kursor.persistence.entity.EstadoSesion;
 import com.kursor.persistence.repository.SesionRepository;
 import com.kursor.persistence.repository.PreguntaSesionRepository;
 import com.kursor.persistence.repository.EstadoEstrategiaRepository;
+import com.kursor.persistence.writer.EscritorRespuestas;
+import com.kursor.persistence.writer.RespuestaPendiente;
 
 /**
  * Gestor de sesión para el progreso del usuario en un curso.
@@ -32,6 +36,11 @@ import com.kursor.persistence.repository.EstadoEstrategiaRepository;
  *   <li><strong>Estadísticas:</strong> Proporciona información sobre el rendimiento</li>
  * </ul>
  * 
+ * <p>Si se crea con un {@link EscritorRespuestas}, las respuestas y las
+ * estadísticas de la sesión se encolan y se escriben en segundo plano: el
+ * estado en memoria se actualiza de inmediato y el hilo que responde no
+ * espera a la base de datos.</p>
+ * 
  * @author Juan José Ruiz Pérez <jjrp1@um.es>
  * @version 2.0.0
  * @since 1.0.0
@@ -65,12 +74,18 @@ public class CursoSessionManager {
     /** Indica si la sesión ha sido inicializada */
     private boolean inicializada;
     
+    /** Momento (System.nanoTime) de la respuesta anterior o del inicio de la sesión */
+    private long inicioPregunta = System.nanoTime();
+    
     // Nuevos campos para persistencia
     private Sesion sesionActual;
     private final SesionRepository sesionRepository;
     private final PreguntaSesionRepository preguntaSesionRepository;
     private final EstadoEstrategiaRepository estadoEstrategiaRepository;
     
+    /** Escritor en segundo plano de las respuestas, o null para escribirlas al momento */
+    private final EscritorRespuestas escritorRespuestas;
+    
     /**
      * Constructor para crear un gestor de sesión para un curso específico con persistencia.
      * 
@@ -85,12 +100,34 @@ public class CursoSessionManager {
                              SesionRepository sesionRepository,
                              PreguntaSesionRepository preguntaSesionRepository,
                              EstadoEstrategiaRepository estadoEstrategiaRepository) {
+        this(cursoId, bloqueId, estrategia, sesionRepository, preguntaSesionRepository,
+             estadoEstrategiaRepository, null);
+    }
+    
+    /**
+     * Constructor para crear un gestor de sesión con persistencia que escribe
+     * las respuestas en segundo plano.
+     * 
+     * @param cursoId Identificador único del curso
+     * @param bloqueId Identificador del bloque
+     * @param estrategia Estrategia de aprendizaje seleccionada
+     * @param sesionRepository Repositorio de sesiones
+     * @param preguntaSesionRepository Repositorio de preguntas de sesión
+     * @param estadoEstrategiaRepository Repositorio de estados de estrategia
+     * @param escritorRespuestas Escritor de respuestas (null para escribirlas al momento)
+     */
+    public CursoSessionManager(String cursoId, String bloqueId, String estrategia,
+                             SesionRepository sesionRepository,
+                             PreguntaSesionRepository preguntaSesionRepository,
+                             EstadoEstrategiaRepository estadoEstrategiaRepository,
+                             EscritorRespuestas escritorRespuestas) {
         this.cursoId = cursoId;
         this.bloqueId = bloqueId;
         this.estrategiaSeleccionada = estrategia;
         this.sesionRepository = sesionRepository;
         this.preguntaSesionRepository = preguntaSesionRepository;
         this.estadoEstrategiaRepository = estadoEstrategiaRepository;
+        this.escritorRespuestas = escritorRespuestas;
         this.respuestas = new HashMap<>();
         this.preguntasRespondidas = new ArrayList<>();
         this.bloqueActual = 0;
@@ -136,6 +173,7 @@ public class CursoSessionManager {
         this.sesionRepository = sesionRepository;
         this.preguntaSesionRepository = preguntaSesionRepository;
         this.estadoEstrategiaRepository = estadoEstrategiaRepository;
+        this.escritorRespuestas = null;
         this.respuestas = new HashMap<>();
         this.preguntasRespondidas = new ArrayList<>();
         this.bloqueActual = 0;
@@ -161,6 +199,7 @@ public class CursoSessionManager {
         this.sesionRepository = null;
         this.preguntaSesionRepository = null;
         this.estadoEstrategiaRepository = null;
+        this.escritorRespuestas = null;
         this.respuestas = new HashMap<>();
         this.preguntasRespondidas = new ArrayList<>();
         this.bloqueActual = 0;
@@ -197,6 +236,7 @@ public class CursoSessionManager {
             cargarProgreso();
             
             this.inicializada = true;
+            this.inicioPregunta = System.nanoTime();
             logger.info("Sesión inicializada - Preguntas respondidas: {}", respuestas.size());
             
         } catch (Exception e) {
@@ -230,22 +270,44 @@ public class CursoSessionManager {
     /**
      * Guarda una respuesta del usuario.
      * 
+     * <p>El tiempo dedicado a la pregunta es el transcurrido desde la
+     * respuesta anterior o, en la primera, desde que se inicializó la
+     * sesión.</p>
+     * 
      * @param preguntaId Identificador de la pregunta
      * @param esCorrecta true si la respuesta es correcta, false en caso contrario
      */
     public void guardarRespuesta(String preguntaId, boolean esCorrecta) {
         logger.debug("Guardando respuesta - Pregunta: {} Correcta: {}", preguntaId, esCorrecta);
         
+        long ahora = System.nanoTime();
+        int tiempoDedicado = (int) TimeUnit.NANOSECONDS.toSeconds(ahora - inicioPregunta);
+        inicioPregunta = ahora;
+        
         respuestas.put(preguntaId, esCorrecta);
         
         if (!preguntasRespondidas.contains(preguntaId)) {
             preguntasRespondidas.add(preguntaId);
         }
         
+        // Encolar la respuesta para escribirla en segundo plano
+        if (sesionActual != null && sesionActual.getId() != null && escritorRespuestas != null) {
+            try {
+                actualizarEstadisticasEnMemoria();
+                escritorRespuestas.encolar(RespuestaPendiente.respuesta(sesionActual.getId(), preguntaId,
+                    esCorrecta, tiempoDedicado, LocalDateTime.now(), sesionActual.getPreguntasRespondidas(),
+                    sesionActual.getAciertos()));
+            } catch (Exception e) {
+                logger.error("Error al encolar respuesta", e);
+            }
+            logger.debug("Respuesta encolada - Total respuestas: {}", respuestas.size());
+            return;
+        }
+        
         // Guardar en base de datos si está disponible
         if (sesionActual != null && preguntaSesionRepository != null) {
             try {
-                guardarRespuestaEnBD(preguntaId, esCorrecta);
+                guardarRespuestaEnBD(preguntaId, esCorrecta, tiempoDedicado);
             } catch (Exception e) {
                 logger.error("Error al guardar respuesta en BD", e);
                 // Continuar en modo memoria si hay error
@@ -269,8 +331,9 @@ public class CursoSessionManager {
      * 
      * @param preguntaId Identificador de la pregunta
      * @param esCorrecta true si la respuesta es correcta, false en caso contrario
+     * @param tiempoDedicado Tiempo dedicado a la pregunta, en segundos
      */
-    private void guardarRespuestaEnBD(String preguntaId, boolean esCorrecta) {
+    private void guardarRespuestaEnBD(String preguntaId, boolean esCorrecta, int tiempoDedicado) {
         // Verificar si ya existe una entrada para esta pregunta
         Optional<PreguntaSesion> preguntaExistente = preguntaSesionRepository
             .buscarPorSesionYPregunta(sesionActual.getId(), preguntaId);
@@ -279,11 +342,11 @@ public class CursoSessionManager {
         if (preguntaExistente.isPresent()) {
             // Actualizar respuesta existente
             preguntaSesion = preguntaExistente.get();
-            preguntaSesion.registrarRespuesta("", esCorrecta, 0); // TODO: Agregar tiempo real
+            preguntaSesion.registrarRespuesta("", esCorrecta, tiempoDedicado);
         } else {
             // Crear nueva entrada
             preguntaSesion = new PreguntaSesion(sesionActual, preguntaId);
-            preguntaSesion.registrarRespuesta("", esCorrecta, 0); // TODO: Agregar tiempo real
+            preguntaSesion.registrarRespuesta("", esCorrecta, tiempoDedicado);
         }
         
         preguntaSesionRepository.guardar(preguntaSesion);
@@ -296,21 +359,31 @@ public class CursoSessionManager {
     private void actualizarEstadisticasSesion() {
         if (sesionActual == null) return;
         
-        // Calcular estadísticas
+        actualizarEstadisticasEnMemoria();
+        
+        // Guardar cambios
+        if (escritorRespuestas != null && sesionActual.getId() != null) {
+            escritorRespuestas.encolar(RespuestaPendiente.estadisticas(sesionActual.getId(), LocalDateTime.now(),
+                sesionActual.getPreguntasRespondidas(), sesionActual.getAciertos()));
+        } else {
+            sesionRepository.guardar(sesionActual);
+        }
+        logger.debug("Estadísticas de sesión actualizadas - Total: {} Correctas: {} Porcentaje: {}%", 
+                    sesionActual.getPreguntasRespondidas(), sesionActual.getAciertos(), sesionActual.getTasaAciertos());
+    }
+    
+    /**
+     * Actualiza las estadísticas de la sesión actual en memoria, sin guardarlas.
+     */
+    private void actualizarEstadisticasEnMemoria() {
         int totalPreguntas = respuestas.size();
         int correctas = (int) respuestas.values().stream().filter(correcta -> correcta).count();
         double porcentaje = totalPreguntas > 0 ? (double) correctas / totalPreguntas * 100 : 0;
         
-        // Actualizar sesión
         sesionActual.setPreguntasRespondidas(totalPreguntas);
         sesionActual.setAciertos(correctas);
         sesionActual.setTasaAciertos(porcentaje);
         sesionActual.actualizarUltimaRevision();
-        
-        // Guardar cambios
-        sesionRepository.guardar(sesionActual);
-        logger.debug("Estadísticas de sesión actualizadas - Total: {} Correctas: {} Porcentaje: {}%", 
-                    totalPreguntas, correctas, porcentaje);
     }
     
     /**
@@ -523,8 +596,10 @@ public class CursoSessionManager {
             // TODO: Guardar posición actual en la sesión
             // sesionActual.setPreguntaActualId(preguntaActualId);
             
-            // Guardar cambios en la sesión
-            sesionRepository.guardar(sesionActual);
+            // Guardar cambios en la sesión (con escritor, ya encolados)
+            if (escritorRespuestas == null) {
+                sesionRepository.guardar(sesionActual);
+            }
             
             logger.info("Progreso guardado en BD - Respuestas: {} Posición: Bloque {} Pregunta {}", 
                        respuestas.size(), bloqueActual, preguntaActual);
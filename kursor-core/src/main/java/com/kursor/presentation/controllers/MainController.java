@@ -1,5 +1,6 @@
 package com.kursor.presentation.controllers;
 
+import com.kursor.shared.util.CursoCambioEvento;
 import com.kursor.shared.util.CursoManager;
 import com.kursor.shared.util.ModuleManager;
 import com.kursor.shared.util.StrategyManager;
@@ -21,7 +22,10 @@ import com.kursor.application.services.AnalyticsService;
 import com.kursor.presentation.controllers.CursoExecutionManager;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Controlador principal de la aplicación Kursor.
@@ -40,11 +44,25 @@ public class MainController {
     private CursoManager cursoManager;
     
     private List<CursoDTO> cursos;
-    private CursoDTO selectedCourse;
+    /** Curso seleccionado; volatile porque los cambios en disco lo leen desde otro hilo */
+    private volatile CursoDTO selectedCourse;
     
     private SessionController sessionController;
     private SessionTableView sessionTableView;
     
+    /** Indica si aún no se ha cargado el curso inicial (módulos y base de datos en arranque) */
+    private boolean cargaInicialPendiente;
+    
+    /** Indica que la lista se está actualizando con un curso ya cargado, sin volver a cargarlo */
+    private boolean mostrandoCambioCursos;
+    
+    /** Hilo que recarga el catálogo y el curso seleccionado tras un cambio en disco */
+    private final ExecutorService cargaCursos = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "kursor-carga-cursos");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+    
     public MainController(Stage primaryStage) {
         this.primaryStage = primaryStage;
         this.viewModel = new MainViewModel();
@@ -67,20 +85,23 @@ public class MainController {
             cursoManager = CursoManager.getInstance();
             logger.debug("✅ CursoManager inicializado correctamente");
             
-            cursos = cursoManager.cargarCursosCompletos();
-            logger.info("📚 Cursos cargados: {} cursos con {} preguntas en total", 
-                cursos.size(), cursos.stream().mapToInt(CursoDTO::getTotalPreguntas).sum());
+            // Solo cabeceras: los cursos completos se cargan al seleccionarlos
+            cursos = cursoManager.cargarCatalogo();
+            logger.info("📚 Catálogo cargado: {} cursos", cursos.size());
             
-            logger.debug("📊 Detalle de cursos cargados:");
+            logger.debug("📊 Detalle del catálogo:");
             for (int i = 0; i < cursos.size(); i++) {
-                CursoDTO curso = cursos.get(i);
-                logger.debug("   {}. {} - {} bloques, {} preguntas", 
-                    i + 1, curso.getTitulo(), curso.getTotalBloques(), curso.getTotalPreguntas());
+                logger.debug("   {}. {}", i + 1, cursos.get(i).getTitulo());
             }
             
             // Actualizar el modelo de vista
             viewModel.setCursos(cursos);
             
+            // Recargar los cursos que se editen mientras la aplicación está abierta,
+            // parseando fuera del hilo de JavaFX
+            cursoManager.addCursoCambioListener(evento -> cargaCursos.execute(() -> handleCursoCambiado(evento)));
+            cursoManager.iniciarVigilancia();
+            
         } catch (Exception e) {
             logger.error("❌ Error crítico al inicializar componentes del sistema", e);
             throw new RuntimeException("Error al inicializar el sistema", e);
@@ -104,14 +125,40 @@ public class MainController {
      * Muestra la vista principal
      */
     public void showMainView() {
+        showCourseList();
+        loadInitialCourse();
+    }
+    
+    /**
+     * Muestra la interfaz con la lista de cursos del catálogo y la cabecera
+     * del primero, sin cargar cursos completos ni sesiones.
+     * 
+     * <p>Solo necesita las cabeceras del catálogo, por lo que puede mostrarse
+     * mientras la persistencia y los módulos terminan de inicializarse. El curso
+     * seleccionado se completa después con {@link #loadInitialCourse()}.</p>
+     */
+    public void showCourseList() {
+        cargaInicialPendiente = true;
         mainView.createMainInterface();
         mainView.updateCourseList(cursos);
         
         // Seleccionar el primer curso por defecto
         if (!cursos.isEmpty()) {
-            selectedCourse = cursos.get(0);
-            viewModel.setSelectedCourse(selectedCourse);
             mainView.selectCourse(0);
+        }
+    }
+    
+    /**
+     * Carga el curso completo y las sesiones del curso seleccionado.
+     * 
+     * <p>Debe llamarse en el hilo de JavaFX cuando los módulos y la base de
+     * datos estén disponibles.</p>
+     */
+    public void loadInitialCourse() {
+        cargaInicialPendiente = false;
+        if (selectedCourse != null) {
+            selectedCourse = hidratarCurso(selectedCourse);
+            viewModel.setSelectedCourse(selectedCourse);
             updateCourseDetails();
             updateSessionsTable();
         }
@@ -121,14 +168,114 @@ public class MainController {
      * Maneja la selección de un curso
      */
     private void handleCourseSelection(int index) {
+        if (mostrandoCambioCursos) {
+            // El curso ya viene cargado de handleCursoCambiado
+            return;
+        }
         if (index >= 0 && index < cursos.size()) {
-            selectedCourse = cursos.get(index);
+            if (cargaInicialPendiente) {
+                // Durante el arranque solo se muestra la cabecera del catálogo
+                selectedCourse = cursos.get(index);
+                viewModel.setSelectedCourse(selectedCourse);
+                updateCourseDetails();
+                return;
+            }
+            selectedCourse = hidratarCurso(cursos.get(index));
             viewModel.setSelectedCourse(selectedCourse);
             updateCourseDetails();
             updateSessionsTable();
         }
     }
     
+    /**
+     * Recarga el catálogo y el curso seleccionado tras un cambio en el
+     * directorio de cursos.
+     * 
+     * <p>Se ejecuta en el hilo de carga de cursos: el curso se parsea aquí y
+     * solo el resultado se muestra en el hilo de JavaFX.</p>
+     * 
+     * @param evento Evento con el curso que ha cambiado
+     */
+    private void handleCursoCambiado(CursoCambioEvento evento) {
+        logger.info("📝 Curso {} en disco: {}", evento.getTipo(), evento.getCursoId());
+        
+        List<CursoDTO> catalogo = cursoManager.cargarCatalogo();
+        
+        String seleccionadoId = selectedCourse != null ? selectedCourse.getId() : null;
+        int indice = -1;
+        for (int i = 0; i < catalogo.size(); i++) {
+            if (catalogo.get(i).getId().equals(seleccionadoId)) {
+                indice = i;
+                break;
+            }
+        }
+        
+        if (indice < 0 && !catalogo.isEmpty()) {
+            // El curso seleccionado ha desaparecido: seleccionar el primero
+            indice = 0;
+        }
+        
+        int seleccion = indice;
+        CursoDTO completo = indice >= 0 ? hidratarCurso(catalogo.get(indice)) : null;
+        Platform.runLater(() -> {
+            String actualId = selectedCourse != null ? selectedCourse.getId() : null;
+            if (!Objects.equals(actualId, seleccionadoId)) {
+                // La selección cambió mientras se cargaba: repetir con la nueva
+                cargaCursos.execute(() -> handleCursoCambiado(evento));
+                return;
+            }
+            mostrarCursosActualizados(catalogo, seleccion, completo);
+        });
+    }
+    
+    /**
+     * Muestra el catálogo recargado y el curso seleccionado, ya cargado.
+     * 
+     * @param catalogo Catálogo actualizado
+     * @param indice Posición del curso seleccionado, o -1 si no queda ninguno
+     * @param completo Curso seleccionado completo, o null si no queda ninguno
+     */
+    private void mostrarCursosActualizados(List<CursoDTO> catalogo, int indice, CursoDTO completo) {
+        cursos = catalogo;
+        viewModel.setCursos(cursos);
+        
+        mostrandoCambioCursos = true;
+        try {
+            mainView.updateCourseList(cursos);
+            if (indice >= 0) {
+                mainView.selectCourse(indice);
+            }
+        } finally {
+            mostrandoCambioCursos = false;
+        }
+        
+        if (completo != null) {
+            selectedCourse = completo;
+            viewModel.setSelectedCourse(selectedCourse);
+            updateCourseDetails();
+            updateSessionsTable();
+        } else {
+            selectedCourse = null;
+            viewModel.setSelectedCourse(null);
+            mainView.updateCourseDetails(null);
+        }
+    }
+    
+    /**
+     * Obtiene el curso completo correspondiente a una cabecera del catálogo.
+     * 
+     * @param cabecera Cabecera del curso seleccionado
+     * @return El curso completo, o la cabecera si no se pudo cargar
+     */
+    private CursoDTO hidratarCurso(CursoDTO cabecera) {
+        CursoDTO completo = cursoManager.obtenerCursoPorId(cabecera.getId());
+        if (completo == null) {
+            logger.warn("No se pudo cargar el curso completo: {}", cabecera.getId());
+            return cabecera;
+        }
+        return completo;
+    }
+    
     /**
      * Actualiza los detalles del curso seleccionado
      */
@@ -297,6 +444,11 @@ public class MainController {
         try {
             logger.info("🔄 Iniciando proceso de cierre ordenado...");
             
+            if (cursoManager != null) {
+                cursoManager.detenerVigilancia();
+            }
+            cargaCursos.shutdownNow();
+            
             // Cerrar ventana principal
             if (primaryStage != null) {
                 primaryStage.close();
@@ -79,7 +79,7 @@ public class SessionController {
     private void initializeRepository() {
         try {
             if (PersistenceConfig.isInitialized()) {
-                this.sesionRepository = new SesionRepository(PersistenceConfig.createEntityManager());
+                this.sesionRepository = new SesionRepository(PersistenceConfig.createEntityManagerLectura());
                 logger.info("SesionRepository inicializado correctamente");
             } else {
                 logger.warn("PersistenceConfig no está inicializado, usando datos ficticios");
@@ -103,6 +103,11 @@ public class SessionController {
         List<SessionViewModel.SessionData> sessions = new ArrayList<>();
         
         try {
+            if (sesionRepository == null && PersistenceConfig.isInitialized()) {
+                // La base de datos se inicializa en paralelo durante el arranque
+                initializeRepository();
+            }
+            
             if (sesionRepository != null) {
                 // Intentar cargar sesiones reales desde la base de datos
                 List<Sesion> sesionesReales = sesionRepository.buscarSesionesPorCurso(curso.getId());
@@ -74,6 +74,9 @@ public class CursoInterfaceView extends Stage implements PreguntaEventListener {
     /** Módulo actual */
     private com.kursor.modules.PreguntaModule moduloActual;
     
+    /** Interfaz de usuario del módulo actual */
+    private com.kursor.modules.PreguntaModuleUI vistaActual;
+    
     /** Gestor de sesión (opcional para persistencia) */
     private final com.kursor.presentation.controllers.CursoSessionManager sessionManager;
     
@@ -334,13 +337,22 @@ public class CursoInterfaceView extends Stage implements PreguntaEventListener {
     private void cargarModuloParaPregunta(com.kursor.domain.Pregunta pregunta) {
         logger.debug("Cargando módulo para pregunta: " + pregunta.getId() + " (tipo: " + pregunta.getTipo() + ")");
         
-        moduloActual = moduleManager.findModuleByQuestionType(pregunta.getTipo());
+        // El módulo que creó la pregunta, aunque se haya sustituido en caliente
+        moduloActual = moduleManager.findModuleForPregunta(pregunta);
+        vistaActual = null;
         if (moduloActual == null) {
             logger.error("No se encontró módulo para el tipo de pregunta: " + pregunta.getTipo());
             mostrarError("Tipo de pregunta no soportado: " + pregunta.getTipo());
             return;
         }
         
+        vistaActual = VistasModulos.para(moduloActual);
+        if (vistaActual == null) {
+            logger.error("El módulo no tiene interfaz de usuario: " + moduloActual.getModuleName());
+            mostrarError("Tipo de pregunta sin interfaz de usuario: " + pregunta.getTipo());
+            return;
+        }
+        
         logger.info("Módulo cargado: " + moduloActual.getModuleName());
     }
     
@@ -352,7 +364,7 @@ public class CursoInterfaceView extends Stage implements PreguntaEventListener {
     private void mostrarPregunta(com.kursor.domain.Pregunta pregunta) {
         logger.debug("Mostrando pregunta: " + pregunta.getId());
         
-        if (moduloActual == null) {
+        if (vistaActual == null) {
             logger.error("No hay módulo cargado para mostrar la pregunta");
             return;
         }
@@ -370,7 +382,7 @@ public class CursoInterfaceView extends Stage implements PreguntaEventListener {
             recrearPieBasico();
             
             // Configurar UI completa con el módulo
-            moduloActual.configureCompleteUI(pregunta, headerContainer, contentContainer, footerContainer, this);
+            vistaActual.configureCompleteUI(pregunta, headerContainer, contentContainer, footerContainer, this);
             
             // Actualizar estado
             estadoPreguntaActual = EstadoPregunta.SIN_CONTESTAR;
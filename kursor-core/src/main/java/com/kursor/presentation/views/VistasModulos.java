@@ -0,0 +1,153 @@
+package com.kursor.presentation.views;
+
+import com.kursor.modules.PreguntaModule;
+import com.kursor.modules.PreguntaModuleUI;
+import com.kursor.shared.util.PluginCambioEvento;
+import com.kursor.shared.util.PluginClassLoader;
+import com.kursor.shared.util.PluginPerezoso;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Localiza la interfaz de usuario ({@link PreguntaModuleUI}) de cada módulo de
+ * preguntas.
+ *
+ * <p>La interfaz se busca con {@link ServiceLoader} en el ClassLoader del
+ * propio módulo, de modo que un módulo cargado en caliente usa la interfaz de
+ * su misma versión del JAR. Entre las interfaces visibles se prefiere la
+ * definida en ese mismo ClassLoader y se exige que muestre el mismo tipo de
+ * pregunta. Si el módulo implementa también {@link PreguntaModuleUI}, se usa el
+ * propio módulo. Los módulos perezosos se instancian para buscar su interfaz
+ * junto a su clase real.</p>
+ *
+ * <p>El resultado se guarda por instancia de módulo. La interfaz guardada
+ * suele pertenecer al mismo ClassLoader que el módulo y lo mantiene alcanzable,
+ * así que las entradas de los plugins sustituidos o retirados se eliminan con
+ * {@link #pluginCambiado(PluginCambioEvento)}, que debe registrarse como
+ * listener de cambios de los módulos.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Los métodos están sincronizados.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PreguntaModuleUI
+ * @see CursoInterfaceView
+ */
+public final class VistasModulos {
+
+    /** Logger para registrar eventos de la búsqueda de interfaces */
+    private static final Logger logger = LoggerFactory.getLogger(VistasModulos.class);
+
+    /** Interfaz de cada módulo ya resuelto (null si no tiene) */
+    private static final Map<PreguntaModule, PreguntaModuleUI> vistas = new WeakHashMap<>();
+
+    private VistasModulos() {
+    }
+
+    /**
+     * Obtiene la interfaz de usuario de un módulo.
+     *
+     * @param modulo Módulo de preguntas (no debe ser null)
+     * @return Su interfaz de usuario, o null si el módulo no aporta ninguna
+     * @throws IllegalArgumentException si el módulo es null
+     * @throws IllegalStateException si el módulo es perezoso y no se puede instanciar
+     */
+    public static synchronized PreguntaModuleUI para(PreguntaModule modulo) {
+        if (modulo == null) {
+            throw new IllegalArgumentException("El módulo no puede ser null");
+        }
+        if (vistas.containsKey(modulo)) {
+            return vistas.get(modulo);
+        }
+
+        PreguntaModuleUI vista = buscar(modulo);
+        vistas.put(modulo, vista);
+        return vista;
+    }
+
+    /**
+     * Busca la interfaz de un módulo en su ClassLoader.
+     *
+     * @param modulo Módulo de preguntas
+     * @return Su interfaz de usuario, o null si no aporta ninguna
+     */
+    private static PreguntaModuleUI buscar(PreguntaModule modulo) {
+        // Los módulos perezosos son proxies definidos en el núcleo: la
+        // interfaz se busca junto a la clase real del plugin
+        PreguntaModule real = PluginPerezoso.obtenerInstancia(modulo);
+        if (real instanceof PreguntaModuleUI) {
+            return (PreguntaModuleUI) real;
+        }
+
+        String tipo = real.getQuestionType();
+        ClassLoader classLoader = real.getClass().getClassLoader();
+        PreguntaModuleUI encontrada = null;
+        try {
+            for (ServiceLoader.Provider<PreguntaModuleUI> proveedor
+                    : ServiceLoader.load(PreguntaModuleUI.class, classLoader).stream().toList()) {
+                boolean mismoJar = proveedor.type().getClassLoader() == classLoader;
+                if (encontrada != null && !mismoJar) {
+                    continue;
+                }
+                PreguntaModuleUI vista = proveedor.get();
+                if (tipo != null && tipo.equals(vista.getQuestionType())) {
+                    encontrada = vista;
+                    if (mismoJar) {
+                        break;
+                    }
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.error("Error al buscar la interfaz del módulo '{}': {}", tipo, e.getMessage());
+        }
+
+        if (encontrada == null) {
+            logger.warn("El módulo '{}' no aporta interfaz de usuario", tipo);
+        } else {
+            logger.debug("Interfaz del módulo '{}': {}", tipo, encontrada.getClass().getName());
+        }
+        return encontrada;
+    }
+
+    /**
+     * Olvida las interfaces de los plugins sustituidos o retirados para que sus
+     * ClassLoader puedan liberarse. Pensado para registrarse con
+     * {@code ModuleManager.addPluginCambioListener(VistasModulos::pluginCambiado)}.
+     *
+     * @param evento Evento del cambio de plugin
+     */
+    public static synchronized void pluginCambiado(PluginCambioEvento evento) {
+        if (evento.getTipo() == PluginCambioEvento.Tipo.CARGADO) {
+            return;
+        }
+        int antes = vistas.size();
+        vistas.entrySet().removeIf(entrada -> esRetirado(entrada.getKey()) || esRetirado(entrada.getValue()));
+        logger.debug("Interfaces olvidadas tras {}: {}", evento, antes - vistas.size());
+    }
+
+    /**
+     * Indica si un objeto pertenece a un plugin sustituido o retirado.
+     *
+     * @param objeto Módulo o interfaz (puede ser null)
+     * @return true si su clase se cargó con un ClassLoader de plugin retirado
+     */
+    private static boolean esRetirado(Object objeto) {
+        if (objeto == null) {
+            return false;
+        }
+        ClassLoader classLoader = objeto.getClass().getClassLoader();
+        return classLoader instanceof PluginClassLoader && ((PluginClassLoader) classLoader).isRetirado();
+    }
+
+    /**
+     * Olvida las interfaces ya resueltas, por ejemplo tras recargar módulos.
+     */
+    public static synchronized void limpiar() {
+        vistas.clear();
+    }
+}
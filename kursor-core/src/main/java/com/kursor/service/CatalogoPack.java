@@ -0,0 +1,466 @@
+package com.kursor.service;
+
+import com.kursor.domain.Bloque;
+import com.kursor.domain.BloqueBajoDemanda;
+import com.kursor.domain.Curso;
+import com.kursor.domain.Pregunta;
+import com.kursor.factory.PreguntaFactory;
+import com.kursor.shared.util.PoolCadenas;
+import com.kursor.yaml.dto.CursoPreviewDTO;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Catálogo de cursos empaquetado en un único archivo indexado.
+ *
+ * <p>En lugar de un directorio con un archivo YAML por curso, el catálogo se
+ * puede distribuir como un archivo {@code .kpak} generado con
+ * {@link CatalogoPackWriter}. El archivo se proyecta en memoria con
+ * {@link FileChannel#map}, de modo que abrirlo solo requiere leer y validar su
+ * cabecera, independientemente del tamaño del catálogo. Las cadenas, los
+ * bloques y las preguntas se leen bajo demanda a partir de sus desplazamientos.</p>
+ *
+ * <p>Estructura del archivo (enteros de 32 bits en big-endian):</p>
+ * <pre>
+ * Cabecera     MAGIC, versión y, para cada tabla, número de entradas y desplazamiento
+ * Cadenas      por cadena: desplazamiento y longitud de sus bytes UTF-8
+ * Cursos       por curso: id, título, descripción, primer bloque, número de bloques
+ * Bloques      por bloque: id, título, descripción, tipo, primera pregunta, número de preguntas
+ * Preguntas    por pregunta: curso, id, desplazamiento y longitud de sus datos
+ * Datos        bytes de las cadenas y datos de las preguntas en el formato de {@link CursoCache}
+ * </pre>
+ *
+ * <p>Los cursos están ordenados por identificador y las referencias a cadenas son
+ * índices en la tabla de cadenas (-1 para null). Una pregunta solo se construye,
+ * mediante {@link PreguntaFactory}, cuando se accede a ella: los bloques de los
+ * cursos obtenidos con {@link #cargarCurso(String)} son {@link BloqueBajoDemanda}.
+ * El acceso es por bloque: las preguntas de un bloque son consecutivas en la
+ * tabla de preguntas y se construyen juntas la primera vez que se piden.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Todas las lecturas usan posiciones absolutas
+ * sobre el buffer proyectado, por lo que la instancia puede compartirse entre
+ * hilos.</p>
+ *
+ * <p><strong>Limitación:</strong> Un buffer proyectado se direcciona con enteros,
+ * por lo que el archivo no puede superar los 2 GiB.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CatalogoPackWriter
+ * @see CursoPreviewService
+ */
+public class CatalogoPack {
+
+    /** Logger para registrar eventos del catálogo empaquetado */
+    private static final Logger logger = LoggerFactory.getLogger(CatalogoPack.class);
+
+    /** Número mágico que identifica los archivos de catálogo ("KPAK") */
+    static final int MAGIC = 0x4B50414B;
+
+    /** Versión del formato del archivo */
+    static final int FORMATO_VERSION = 2;
+
+    /** Tamaño en bytes de la cabecera */
+    static final int TAMANO_CABECERA = 40;
+
+    /** Tamaño en bytes de una entrada de la tabla de cadenas */
+    static final int TAMANO_CADENA = 8;
+
+    /** Tamaño en bytes de una entrada de la tabla de cursos */
+    static final int TAMANO_CURSO = 20;
+
+    /** Tamaño en bytes de una entrada de la tabla de bloques */
+    static final int TAMANO_BLOQUE = 24;
+
+    /** Tamaño en bytes de una entrada de la tabla de preguntas */
+    static final int TAMANO_PREGUNTA = 16;
+
+    /** Referencia a cadena que representa el valor null */
+    static final int SIN_CADENA = -1;
+
+    /** Archivo del catálogo */
+    private final File archivo;
+
+    /** Pool de cadenas del cargador, o null para no compartir valores */
+    private final PoolCadenas pool;
+
+    /** Contenido del archivo proyectado en memoria */
+    private final MappedByteBuffer buffer;
+
+    /** Número de entradas de la tabla de cadenas */
+    private final int numeroCadenas;
+
+    /** Desplazamiento de la tabla de cadenas */
+    private final int offsetCadenas;
+
+    /** Número de entradas de la tabla de cursos */
+    private final int numeroCursos;
+
+    /** Desplazamiento de la tabla de cursos */
+    private final int offsetCursos;
+
+    /** Número de entradas de la tabla de bloques */
+    private final int numeroBloques;
+
+    /** Desplazamiento de la tabla de bloques */
+    private final int offsetBloques;
+
+    /** Número de entradas de la tabla de preguntas */
+    private final int numeroPreguntas;
+
+    /** Desplazamiento de la tabla de preguntas */
+    private final int offsetPreguntas;
+
+    /**
+     * Abre un catálogo empaquetado y valida su cabecera.
+     *
+     * @param archivo Archivo {@code .kpak} (no debe ser null)
+     * @throws IOException si el archivo no se puede leer o no es un catálogo válido
+     * @throws IllegalArgumentException si el archivo es null
+     */
+    public CatalogoPack(File archivo) throws IOException {
+        this(archivo, null);
+    }
+
+    /**
+     * Abre un catálogo empaquetado cuyas cadenas se comparten a través de un pool.
+     *
+     * @param archivo Archivo {@code .kpak} (no debe ser null)
+     * @param pool Pool de cadenas del cargador (puede ser null)
+     * @throws IOException si el archivo no se puede leer o no es un catálogo válido
+     * @throws IllegalArgumentException si el archivo es null
+     */
+    public CatalogoPack(File archivo, PoolCadenas pool) throws IOException {
+        if (archivo == null) {
+            throw new IllegalArgumentException("El archivo del catálogo no puede ser null");
+        }
+        this.archivo = archivo;
+        this.pool = pool;
+
+        try (FileChannel canal = FileChannel.open(archivo.toPath(), StandardOpenOption.READ)) {
+            long tamano = canal.size();
+            if (tamano < TAMANO_CABECERA || tamano > Integer.MAX_VALUE) {
+                throw new IOException("Tamaño de catálogo no válido: " + tamano + " bytes");
+            }
+            // La proyección sigue siendo válida después de cerrar el canal
+            this.buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamano);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("El archivo no es un catálogo de Kursor: " + archivo.getName());
+        }
+        if (buffer.getInt(4) != FORMATO_VERSION) {
+            throw new IOException("Versión de catálogo no soportada: " + buffer.getInt(4));
+        }
+
+        this.numeroCadenas = buffer.getInt(8);
+        this.offsetCadenas = buffer.getInt(12);
+        this.numeroCursos = buffer.getInt(16);
+        this.offsetCursos = buffer.getInt(20);
+        this.numeroBloques = buffer.getInt(24);
+        this.offsetBloques = buffer.getInt(28);
+        this.numeroPreguntas = buffer.getInt(32);
+        this.offsetPreguntas = buffer.getInt(36);
+
+        validarTabla("cadenas", offsetCadenas, numeroCadenas, TAMANO_CADENA);
+        validarTabla("cursos", offsetCursos, numeroCursos, TAMANO_CURSO);
+        validarTabla("bloques", offsetBloques, numeroBloques, TAMANO_BLOQUE);
+        validarTabla("preguntas", offsetPreguntas, numeroPreguntas, TAMANO_PREGUNTA);
+
+        logger.info("Catálogo empaquetado abierto: " + archivo.getName() + " - Cursos: " + numeroCursos +
+                   ", Bloques: " + numeroBloques + ", Preguntas: " + numeroPreguntas);
+    }
+
+    /**
+     * Comprueba que una tabla cabe dentro del archivo.
+     *
+     * @param nombre Nombre de la tabla, para el mensaje de error
+     * @param offset Desplazamiento de la tabla
+     * @param entradas Número de entradas
+     * @param tamanoEntrada Tamaño en bytes de cada entrada
+     * @throws IOException si la tabla se sale del archivo
+     */
+    private void validarTabla(String nombre, int offset, int entradas, int tamanoEntrada) throws IOException {
+        if (offset < TAMANO_CABECERA || entradas < 0 ||
+            (long) offset + (long) entradas * tamanoEntrada > buffer.capacity()) {
+            throw new IOException("Tabla de " + nombre + " fuera de los límites del catálogo");
+        }
+    }
+
+    /**
+     * Obtiene las vistas previas de todos los cursos, con su recuento de bloques
+     * y preguntas.
+     *
+     * @return Lista de vistas previas ordenada por identificador de curso
+     */
+    public List<CursoPreviewDTO> cargarPreviews() {
+        List<CursoPreviewDTO> previews = new ArrayList<>(numeroCursos);
+        for (int i = 0; i < numeroCursos; i++) {
+            previews.add(crearPreview(i));
+        }
+        return previews;
+    }
+
+    /**
+     * Obtiene la vista previa de un curso.
+     *
+     * @param cursoId Identificador del curso
+     * @return La vista previa, o null si el curso no está en el catálogo
+     */
+    public CursoPreviewDTO cargarPreview(String cursoId) {
+        int curso = buscarCurso(cursoId);
+        return curso < 0 ? null : crearPreview(curso);
+    }
+
+    /**
+     * Obtiene un curso con sus bloques. Las preguntas de cada bloque se
+     * construyen la primera vez que se accede a ellas.
+     *
+     * @param cursoId Identificador del curso
+     * @return El curso, o null si no está en el catálogo
+     */
+    public Curso cargarCurso(String cursoId) {
+        int indice = buscarCurso(cursoId);
+        if (indice < 0) {
+            return null;
+        }
+
+        int entrada = offsetCursos + indice * TAMANO_CURSO;
+        Curso curso = new Curso(cursoId, leerCadena(buffer.getInt(entrada + 4)),
+                                leerCadena(buffer.getInt(entrada + 8)));
+
+        int primerBloque = buffer.getInt(entrada + 12);
+        int bloquesDelCurso = buffer.getInt(entrada + 16);
+        List<Bloque> bloques = new ArrayList<>(bloquesDelCurso);
+        for (int b = primerBloque; b < primerBloque + bloquesDelCurso; b++) {
+            int bloque = offsetBloques + b * TAMANO_BLOQUE;
+            String bloqueId = leerCadena(buffer.getInt(bloque));
+            String titulo = compartir(leerCadena(buffer.getInt(bloque + 4)));
+            int primeraPregunta = buffer.getInt(bloque + 16);
+            int preguntasDelBloque = buffer.getInt(bloque + 20);
+
+            bloques.add(new BloqueBajoDemanda(
+                cursoId + "-" + bloqueId,
+                titulo != null ? titulo : bloqueId,
+                compartir(leerCadena(buffer.getInt(bloque + 8))),
+                compartir(leerCadena(buffer.getInt(bloque + 12))),
+                preguntasDelBloque,
+                () -> materializarPreguntas(primeraPregunta, preguntasDelBloque)
+            ));
+        }
+        curso.setBloques(bloques);
+
+        logger.debug("Curso obtenido del catálogo empaquetado - ID: " + cursoId + ", Bloques: " + bloques.size());
+        return curso;
+    }
+
+    /**
+     * Obtiene el archivo del catálogo.
+     *
+     * @return Archivo {@code .kpak}
+     */
+    public File getArchivo() {
+        return archivo;
+    }
+
+    /**
+     * Obtiene el número de cursos del catálogo.
+     *
+     * @return Número de cursos
+     */
+    public int getNumeroCursos() {
+        return numeroCursos;
+    }
+
+    /**
+     * Obtiene el número total de preguntas del catálogo.
+     *
+     * @return Número de preguntas
+     */
+    public int getNumeroPreguntas() {
+        return numeroPreguntas;
+    }
+
+    /**
+     * Crea la vista previa del curso con el índice indicado.
+     *
+     * @param curso Índice del curso en la tabla de cursos
+     * @return Vista previa con recuento
+     */
+    private CursoPreviewDTO crearPreview(int curso) {
+        int entrada = offsetCursos + curso * TAMANO_CURSO;
+        CursoPreviewDTO preview = new CursoPreviewDTO(
+            leerCadena(buffer.getInt(entrada)),
+            leerCadena(buffer.getInt(entrada + 4)),
+            leerCadena(buffer.getInt(entrada + 8)));
+
+        int primerBloque = buffer.getInt(entrada + 12);
+        int bloquesDelCurso = buffer.getInt(entrada + 16);
+        int preguntas = 0;
+        for (int b = primerBloque; b < primerBloque + bloquesDelCurso; b++) {
+            preguntas += buffer.getInt(offsetBloques + b * TAMANO_BLOQUE + 20);
+        }
+        preview.setNumeroBloques(bloquesDelCurso);
+        preview.setNumeroPreguntas(preguntas);
+        return preview;
+    }
+
+    /**
+     * Busca un curso por identificador mediante búsqueda binaria.
+     *
+     * @param cursoId Identificador del curso
+     * @return Índice del curso, o -1 si no existe
+     */
+    private int buscarCurso(String cursoId) {
+        if (cursoId == null) {
+            return -1;
+        }
+        int inferior = 0;
+        int superior = numeroCursos - 1;
+        while (inferior <= superior) {
+            int medio = (inferior + superior) >>> 1;
+            int comparacion = leerCadena(buffer.getInt(offsetCursos + medio * TAMANO_CURSO)).compareTo(cursoId);
+            if (comparacion < 0) {
+                inferior = medio + 1;
+            } else if (comparacion > 0) {
+                superior = medio - 1;
+            } else {
+                return medio;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Construye un rango consecutivo de preguntas.
+     *
+     * @param primera Índice de la primera pregunta
+     * @param cantidad Número de preguntas
+     * @return Lista de preguntas construidas
+     */
+    private List<Pregunta> materializarPreguntas(int primera, int cantidad) {
+        List<Pregunta> preguntas = new ArrayList<>(cantidad);
+        for (int p = primera; p < primera + cantidad; p++) {
+            preguntas.add(materializarPregunta(p));
+        }
+        return preguntas;
+    }
+
+    /**
+     * Construye la pregunta con el índice indicado a partir de sus datos.
+     *
+     * @param pregunta Índice de la pregunta en la tabla de preguntas
+     * @return La pregunta construida por su módulo
+     * @throws RuntimeException si los datos están corruptos o la pregunta no se puede crear
+     */
+    private Pregunta materializarPregunta(int pregunta) {
+        int entrada = offsetPreguntas + pregunta * TAMANO_PREGUNTA;
+        int offset = buffer.getInt(entrada + 8);
+        int longitud = buffer.getInt(entrada + 12);
+
+        Object datos;
+        try {
+            datos = CursoCache.leerValor(new DataInputStream(new LectorBuffer(seccion(offset, longitud))), longitud);
+        } catch (IOException | RuntimeException e) {
+            throw new RuntimeException("Datos corruptos para la pregunta " + pregunta + " del catálogo: " +
+                                     e.getMessage(), e);
+        }
+        if (!(datos instanceof Map)) {
+            throw new RuntimeException("Datos corruptos para la pregunta " + pregunta + " del catálogo");
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> preguntaData = (Map<String, Object>) datos;
+        Pregunta resultado = PreguntaFactory.crearPregunta(preguntaData, pool);
+        if (resultado == null) {
+            throw new RuntimeException("La factory retornó null para la pregunta de tipo: " + preguntaData.get("tipo"));
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene la instancia compartida de una cadena si hay pool. Solo se aplica
+     * a las cadenas que pasan al modelo, no a las que se leen durante las búsquedas.
+     *
+     * @param valor Cadena (puede ser null)
+     * @return La instancia compartida, o el propio valor
+     */
+    private String compartir(String valor) {
+        return pool != null ? pool.cadena(valor) : valor;
+    }
+
+    /**
+     * Lee una cadena de la tabla de cadenas.
+     *
+     * @param indice Índice de la cadena, o {@value #SIN_CADENA} para null
+     * @return La cadena, o null
+     */
+    private String leerCadena(int indice) {
+        if (indice == SIN_CADENA) {
+            return null;
+        }
+        if (indice < 0 || indice >= numeroCadenas) {
+            throw new IllegalStateException("Referencia a cadena fuera de rango en el catálogo: " + indice);
+        }
+        int entrada = offsetCadenas + indice * TAMANO_CADENA;
+        ByteBuffer bytes = seccion(buffer.getInt(entrada), buffer.getInt(entrada + 4));
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    /**
+     * Obtiene una vista independiente de una sección del archivo.
+     *
+     * @param offset Desplazamiento de la sección
+     * @param longitud Longitud en bytes
+     * @return Buffer limitado a la sección
+     */
+    private ByteBuffer seccion(int offset, int longitud) {
+        if (offset < 0 || longitud < 0 || (long) offset + longitud > buffer.capacity()) {
+            throw new IllegalStateException("Sección fuera de los límites del catálogo: " + offset + "+" + longitud);
+        }
+        ByteBuffer vista = buffer.duplicate();
+        vista.position(offset).limit(offset + longitud);
+        return vista.slice();
+    }
+
+    /**
+     * Flujo de entrada sobre un {@link ByteBuffer}, para decodificar los datos
+     * de una pregunta sin copiarlos.
+     */
+    private static class LectorBuffer extends InputStream {
+
+        private final ByteBuffer origen;
+
+        LectorBuffer(ByteBuffer origen) {
+            this.origen = origen;
+        }
+
+        @Override
+        public int read() {
+            return origen.hasRemaining() ? origen.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] destino, int offset, int longitud) {
+            if (!origen.hasRemaining()) {
+                return -1;
+            }
+            int leidos = Math.min(longitud, origen.remaining());
+            origen.get(destino, offset, leidos);
+            return leidos;
+        }
+    }
+}
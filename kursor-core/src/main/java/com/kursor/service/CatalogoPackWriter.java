@@ -0,0 +1,361 @@
+package com.kursor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generador de catálogos empaquetados ({@link CatalogoPack}).
+ *
+ * <p>Recorre un directorio de cursos con la misma estructura que usa
+ * {@link CursoPreviewService} (incluidos los cursos fragmentados) y escribe todo
+ * el catálogo en un único archivo {@code .kpak}. Las cadenas repetidas se
+ * almacenan una sola vez en la tabla de cadenas. Cada instancia acumula las
+ * tablas de un único catálogo, por lo que debe usarse una sola vez.</p>
+ *
+ * <p>Uso desde la línea de comandos:</p>
+ * <pre>
+ * java -cp kursor-core.jar com.kursor.service.CatalogoPackWriter cursos cursos/catalogo.kpak
+ * </pre>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CatalogoPack
+ */
+public class CatalogoPackWriter {
+
+    /** Logger para registrar eventos del generador */
+    private static final Logger logger = LoggerFactory.getLogger(CatalogoPackWriter.class);
+
+    /** Extensiones de archivo YAML soportadas */
+    private static final List<String> YAML_EXTENSIONS = Arrays.asList(".yaml", ".yml");
+
+    /** Mapper para leer los archivos YAML */
+    private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+
+    /** Cadenas del catálogo en orden de inserción */
+    private final List<byte[]> cadenas = new ArrayList<>();
+
+    /** Índice de cada cadena en {@link #cadenas} */
+    private final Map<String, Integer> indiceCadenas = new HashMap<>();
+
+    /** Entradas de la tabla de cursos */
+    private final List<int[]> cursos = new ArrayList<>();
+
+    /** Entradas de la tabla de bloques */
+    private final List<int[]> bloques = new ArrayList<>();
+
+    /** Entradas de la tabla de preguntas */
+    private final List<EntradaPregunta> preguntas = new ArrayList<>();
+
+    /**
+     * Empaqueta todos los cursos de un directorio en un archivo de catálogo.
+     *
+     * <p>El archivo se escribe en un temporal que después se mueve sobre el
+     * destino, de modo que un lector nunca ve un catálogo a medio escribir.</p>
+     *
+     * @param cursosDir Directorio de cursos
+     * @param destino Archivo {@code .kpak} a generar
+     * @return Número de cursos empaquetados
+     * @throws IOException si algún curso no se puede leer o falla la escritura
+     */
+    public int empaquetar(File cursosDir, File destino) throws IOException {
+        File[] cursoDirs = cursosDir.listFiles(f -> f.isDirectory() && !f.getName().startsWith("."));
+        if (cursoDirs == null) {
+            throw new IOException("No se pudo listar el directorio de cursos: " + cursosDir);
+        }
+        // La búsqueda binaria del lector requiere los cursos ordenados por ID
+        Arrays.sort(cursoDirs, Comparator.comparing(File::getName));
+
+        for (File cursoDir : cursoDirs) {
+            File yamlFile = buscarYaml(cursoDir, cursoDir.getName());
+            if (yamlFile == null) {
+                logger.warn("No se encontró archivo YAML para el curso: " + cursoDir.getName());
+                continue;
+            }
+            anadirCurso(cursoDir.getName(), leerCurso(cursoDir, yamlFile));
+        }
+
+        escribir(destino.toPath());
+        logger.info("Catálogo empaquetado en " + destino.getName() + " - Cursos: " + cursos.size() +
+                   ", Preguntas: " + preguntas.size() + ", Tamaño: " + destino.length() + " bytes");
+        return cursos.size();
+    }
+
+    /**
+     * Lee los datos de un curso, reuniendo los bloques si está fragmentado.
+     *
+     * @param cursoDir Directorio del curso
+     * @param yamlFile Archivo YAML del curso
+     * @return Datos del curso con todos sus bloques
+     * @throws IOException si algún archivo no se puede leer
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> leerCurso(File cursoDir, File yamlFile) throws IOException {
+        Map<String, Object> cursoData = yamlMapper.readValue(yamlFile, Map.class);
+        if (cursoData == null) {
+            throw new IOException("Curso vacío: " + yamlFile.getName());
+        }
+
+        File bloquesDir = new File(cursoDir, CursoPreviewService.BLOQUES_DIR);
+        File[] archivos = bloquesDir.listFiles(f -> f.isFile() && !f.getName().startsWith(".") && esYaml(f));
+        if (archivos != null) {
+            Arrays.sort(archivos, Comparator.comparing(File::getName));
+            List<Object> bloquesData = new ArrayList<>();
+            for (File archivo : archivos) {
+                Map<String, Object> bloqueData = yamlMapper.readValue(archivo, Map.class);
+                String nombre = archivo.getName().substring(0, archivo.getName().lastIndexOf('.'));
+                bloqueData.putIfAbsent("id", nombre);
+                bloquesData.add(bloqueData);
+            }
+            cursoData.put("bloques", bloquesData);
+        }
+        return cursoData;
+    }
+
+    /**
+     * Añade un curso, sus bloques y sus preguntas a las tablas del catálogo.
+     *
+     * @param cursoId Identificador del curso
+     * @param cursoData Datos del curso
+     * @throws IOException si los datos de alguna pregunta no se pueden codificar
+     */
+    @SuppressWarnings("unchecked")
+    private void anadirCurso(String cursoId, Map<String, Object> cursoData) throws IOException {
+        int curso = cursos.size();
+        int primerBloque = bloques.size();
+
+        List<Map<String, Object>> bloquesData = (List<Map<String, Object>>) cursoData.get("bloques");
+        if (bloquesData != null) {
+            for (Map<String, Object> bloqueData : bloquesData) {
+                String bloqueTipo = texto(bloqueData.get("tipo"));
+                int primeraPregunta = preguntas.size();
+
+                List<Map<String, Object>> preguntasData = (List<Map<String, Object>>) bloqueData.get("preguntas");
+                if (preguntasData != null) {
+                    for (Map<String, Object> preguntaData : preguntasData) {
+                        Object tipo = preguntaData.get("tipo");
+                        if (tipo == null || tipo.toString().isEmpty()) {
+                            preguntaData.put("tipo", bloqueTipo);
+                        }
+                        preguntas.add(new EntradaPregunta(
+                            curso, texto(preguntaData.get("id")), codificar(preguntaData)));
+                    }
+                }
+
+                bloques.add(new int[] {
+                    cadena(texto(bloqueData.get("id"))),
+                    cadena(texto(bloqueData.get("titulo"))),
+                    cadena(texto(bloqueData.get("descripcion"))),
+                    cadena(bloqueTipo),
+                    primeraPregunta,
+                    preguntas.size() - primeraPregunta
+                });
+            }
+        }
+
+        cursos.add(new int[] {
+            cadena(cursoId),
+            cadena(texto(cursoData.get("titulo"))),
+            cadena(texto(cursoData.get("descripcion"))),
+            primerBloque,
+            bloques.size() - primerBloque
+        });
+    }
+
+    /**
+     * Escribe las tablas acumuladas en el archivo de destino.
+     *
+     * @param destino Ruta del archivo {@code .kpak}
+     * @throws IOException si falla la escritura o el catálogo supera los 2 GiB
+     */
+    private void escribir(Path destino) throws IOException {
+        int[] ids = new int[preguntas.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = cadena(preguntas.get(i).id);
+        }
+
+        long offsetCadenas = CatalogoPack.TAMANO_CABECERA;
+        long offsetCursos = offsetCadenas + (long) cadenas.size() * CatalogoPack.TAMANO_CADENA;
+        long offsetBloques = offsetCursos + (long) cursos.size() * CatalogoPack.TAMANO_CURSO;
+        long offsetPreguntas = offsetBloques + (long) bloques.size() * CatalogoPack.TAMANO_BLOQUE;
+        long offsetDatos = offsetPreguntas + (long) preguntas.size() * CatalogoPack.TAMANO_PREGUNTA;
+
+        long tamano = offsetDatos;
+        for (byte[] bytes : cadenas) {
+            tamano += bytes.length;
+        }
+        for (EntradaPregunta pregunta : preguntas) {
+            tamano += pregunta.datos.length;
+        }
+        if (tamano > Integer.MAX_VALUE) {
+            throw new IOException("El catálogo supera el tamaño máximo de 2 GiB: " + tamano + " bytes");
+        }
+
+        Path directorio = destino.toAbsolutePath().getParent();
+        Files.createDirectories(directorio);
+        Path temporal = Files.createTempFile(directorio, destino.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporal)))) {
+                out.writeInt(CatalogoPack.MAGIC);
+                out.writeInt(CatalogoPack.FORMATO_VERSION);
+                out.writeInt(cadenas.size());
+                out.writeInt((int) offsetCadenas);
+                out.writeInt(cursos.size());
+                out.writeInt((int) offsetCursos);
+                out.writeInt(bloques.size());
+                out.writeInt((int) offsetBloques);
+                out.writeInt(preguntas.size());
+                out.writeInt((int) offsetPreguntas);
+
+                int datos = (int) offsetDatos;
+                for (byte[] bytes : cadenas) {
+                    out.writeInt(datos);
+                    out.writeInt(bytes.length);
+                    datos += bytes.length;
+                }
+                for (int[] curso : cursos) {
+                    escribirEnteros(out, curso);
+                }
+                for (int[] bloque : bloques) {
+                    escribirEnteros(out, bloque);
+                }
+                for (int i = 0; i < preguntas.size(); i++) {
+                    EntradaPregunta pregunta = preguntas.get(i);
+                    out.writeInt(pregunta.curso);
+                    out.writeInt(ids[i]);
+                    out.writeInt(datos);
+                    out.writeInt(pregunta.datos.length);
+                    datos += pregunta.datos.length;
+                }
+
+                for (byte[] bytes : cadenas) {
+                    out.write(bytes);
+                }
+                for (EntradaPregunta pregunta : preguntas) {
+                    out.write(pregunta.datos);
+                }
+            }
+
+            try {
+                Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * Obtiene el índice de una cadena en la tabla de cadenas, añadiéndola si no existe.
+     *
+     * @param valor Cadena, o null
+     * @return Índice de la cadena, o {@value CatalogoPack#SIN_CADENA} si es null
+     */
+    private int cadena(String valor) {
+        if (valor == null) {
+            return CatalogoPack.SIN_CADENA;
+        }
+        return indiceCadenas.computeIfAbsent(valor, v -> {
+            cadenas.add(v.getBytes(StandardCharsets.UTF_8));
+            return cadenas.size() - 1;
+        });
+    }
+
+    /**
+     * Codifica los datos de una pregunta en el formato binario de {@link CursoCache}.
+     *
+     * @param preguntaData Datos de la pregunta
+     * @return Bytes codificados
+     * @throws IOException si algún valor no es de un tipo soportado
+     */
+    private byte[] codificar(Map<String, Object> preguntaData) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            CursoCache.escribirValor(out, new LinkedHashMap<>(preguntaData));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void escribirEnteros(DataOutputStream out, int[] valores) throws IOException {
+        for (int valor : valores) {
+            out.writeInt(valor);
+        }
+    }
+
+    private static String texto(Object valor) {
+        return valor != null ? valor.toString() : null;
+    }
+
+    private static boolean esYaml(File archivo) {
+        String nombre = archivo.getName().toLowerCase();
+        return YAML_EXTENSIONS.stream().anyMatch(nombre::endsWith);
+    }
+
+    private static File buscarYaml(File cursoDir, String cursoId) {
+        for (String extension : YAML_EXTENSIONS) {
+            File yamlFile = new File(cursoDir, cursoId + extension);
+            if (yamlFile.isFile()) {
+                return yamlFile;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Entrada de la tabla de preguntas pendiente de escribir.
+     */
+    private static class EntradaPregunta {
+
+        /** Índice del curso en la tabla de cursos */
+        private final int curso;
+
+        /** Identificador de la pregunta (puede ser null) */
+        private final String id;
+
+        /** Datos de la pregunta codificados */
+        private final byte[] datos;
+
+        EntradaPregunta(int curso, String id, byte[] datos) {
+            this.curso = curso;
+            this.id = id;
+            this.datos = datos;
+        }
+    }
+
+    /**
+     * Punto de entrada para generar un catálogo desde la línea de comandos.
+     *
+     * @param args Directorio de cursos y archivo de destino
+     * @throws IOException si falla la generación
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: CatalogoPackWriter <directorio-cursos> <archivo.kpak>");
+            System.exit(1);
+        }
+        int empaquetados = new CatalogoPackWriter().empaquetar(new File(args[0]), new File(args[1]));
+        System.out.println("Cursos empaquetados: " + empaquetados);
+    }
+}
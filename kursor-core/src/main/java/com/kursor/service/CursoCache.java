@@ -0,0 +1,506 @@
+package com.kursor.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caché binaria de cursos ya parseados.
+ *
+ * <p>Guarda, para cada curso, el árbol de datos resultante de parsear su archivo
+ * YAML en un formato binario compacto ({@code .kursor-cache/<curso>.bin}). En
+ * arranques posteriores el árbol se deserializa directamente, evitando el
+ * coste del parsing YAML.</p>
+ *
+ * <p>Cada entrada está asociada al archivo YAML de origen mediante su tamaño,
+ * su fecha de modificación y el hash SHA-256 de su contenido:</p>
+ * <ul>
+ *   <li>Si tamaño y fecha coinciden, la entrada se usa sin leer el YAML</li>
+ *   <li>Si cambian pero el hash coincide (p. ej. el archivo solo se ha tocado),
+ *       la entrada se reutiliza y se actualiza su cabecera</li>
+ *   <li>En cualquier otro caso la entrada se considera obsoleta</li>
+ * </ul>
+ *
+ * <p>Lo que se guarda son los datos del curso y no los objetos {@code Pregunta},
+ * ya que estos los construyen los módulos cargados dinámicamente. Cualquier
+ * error al leer o escribir la caché se registra y se trata como un fallo de
+ * caché, nunca como un error de carga del curso.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CursoPreviewService
+ */
+public class CursoCache {
+
+    /** Logger para registrar eventos de la caché */
+    private static final Logger logger = LoggerFactory.getLogger(CursoCache.class);
+
+    /** Nombre del directorio de caché dentro del directorio de cursos */
+    public static final String CACHE_DIR = ".kursor-cache";
+
+    /** Extensión de los archivos de caché */
+    private static final String CACHE_EXTENSION = ".bin";
+
+    /** Número mágico que identifica los archivos de caché ("KCUR") */
+    private static final int MAGIC = 0x4B435552;
+
+    /** Versión del formato binario; cambiarla invalida todas las entradas */
+    private static final int FORMATO_VERSION = 1;
+
+    /** Longitud en bytes del hash SHA-256 */
+    private static final int HASH_LENGTH = 32;
+
+    /** Longitud en bytes de la cabecera: marca, versión, tamaño, fecha y hash */
+    private static final int TAMANO_CABECERA = 4 + 4 + 8 + 8 + HASH_LENGTH;
+
+    /** Bytes mínimos de una entrada de mapa: longitud de la clave y marca de tipo */
+    private static final int MINIMO_ENTRADA_MAPA = 4 + 1;
+
+    // Marcas de tipo del formato binario
+    private static final byte TIPO_NULL = 0;
+    private static final byte TIPO_STRING = 1;
+    private static final byte TIPO_INT = 2;
+    private static final byte TIPO_LONG = 3;
+    private static final byte TIPO_DOUBLE = 4;
+    private static final byte TIPO_BOOLEAN = 5;
+    private static final byte TIPO_LIST = 6;
+    private static final byte TIPO_MAP = 7;
+    private static final byte TIPO_BIG_INTEGER = 8;
+    private static final byte TIPO_BIG_DECIMAL = 9;
+
+    /** Directorio donde se almacenan los archivos de caché */
+    private final File cacheDir;
+
+    /**
+     * Constructor para crear la caché sobre un directorio.
+     *
+     * <p>El directorio se crea bajo demanda al escribir la primera entrada.</p>
+     *
+     * @param cacheDir Directorio de caché (no debe ser null)
+     * @throws IllegalArgumentException si el directorio es null
+     */
+    public CursoCache(File cacheDir) {
+        if (cacheDir == null) {
+            throw new IllegalArgumentException("Directorio de caché no puede ser null");
+        }
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Obtiene los datos cacheados de un curso si siguen siendo válidos.
+     *
+     * @param cursoId Identificador del curso
+     * @param yamlFile Archivo YAML de origen del curso
+     * @return Datos del curso (mapa mutable), o null si no hay entrada válida
+     */
+    public Map<String, Object> leer(String cursoId, File yamlFile) {
+        File cacheFile = getCacheFile(cursoId);
+        if (!cacheFile.isFile()) {
+            logger.debug("Sin entrada de caché para el curso: " + cursoId);
+            return null;
+        }
+
+        Map<String, Object> cursoData;
+        long tamanoActual = yamlFile.length();
+        long modificadoActual = yamlFile.lastModified();
+        byte[] hashActual = null;
+
+        try (FileChannel canal = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ);
+             DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(canal)))) {
+
+            if (in.readInt() != MAGIC || in.readInt() != FORMATO_VERSION) {
+                logger.debug("Entrada de caché con formato no reconocido: " + cacheFile.getName());
+                return null;
+            }
+
+            long tamano = in.readLong();
+            long modificado = in.readLong();
+            byte[] hash = new byte[HASH_LENGTH];
+            in.readFully(hash);
+
+            if (tamano != tamanoActual || modificado != modificadoActual) {
+                // Tamaño o fecha distintos: comprobar si el contenido realmente cambió
+                hashActual = calcularHash(yamlFile);
+                if (!Arrays.equals(hash, hashActual)) {
+                    logger.debug("Entrada de caché obsoleta para el curso: " + cursoId);
+                    return null;
+                }
+            }
+
+            // El tamaño se toma del archivo abierto, aunque otro hilo lo sustituya
+            Object datos = leerValor(in, canal.size() - TAMANO_CABECERA);
+            if (!(datos instanceof Map)) {
+                logger.warn("Entrada de caché corrupta para el curso: " + cursoId);
+                return null;
+            }
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> leidos = (Map<String, Object>) datos;
+            cursoData = leidos;
+
+        } catch (Exception e) {
+            logger.warn("No se pudo leer la caché del curso " + cursoId + ": " + e.getMessage());
+            return null;
+        }
+
+        // Reescribir la cabecera con la entrada ya cerrada, reutilizando el hash calculado
+        if (hashActual != null) {
+            logger.debug("Contenido sin cambios, actualizando cabecera de caché: " + cursoId);
+            escribirEntrada(cursoId, tamanoActual, modificadoActual, hashActual, cursoData);
+        }
+
+        logger.debug("Curso obtenido de caché: " + cursoId);
+        return cursoData;
+    }
+
+    /**
+     * Guarda los datos de un curso en la caché.
+     *
+     * <p>La entrada se escribe en un archivo temporal que después se mueve
+     * sobre el definitivo, de modo que un lector concurrente nunca ve una
+     * entrada a medio escribir.</p>
+     *
+     * @param cursoId Identificador del curso
+     * @param yamlFile Archivo YAML de origen del curso
+     * @param cursoData Datos parseados del curso
+     */
+    public void escribir(String cursoId, File yamlFile, Map<String, Object> cursoData) {
+        // Capturar tamaño y fecha antes de calcular el hash para no asociar
+        // un hash nuevo a metadatos antiguos si el archivo cambia entretanto
+        long tamano = yamlFile.length();
+        long modificado = yamlFile.lastModified();
+        byte[] hash;
+        try {
+            hash = calcularHash(yamlFile);
+        } catch (IOException e) {
+            logger.warn("No se pudo escribir la caché del curso " + cursoId + ": " + e.getMessage());
+            return;
+        }
+        escribirEntrada(cursoId, tamano, modificado, hash, cursoData);
+    }
+
+    /**
+     * Escribe una entrada de caché con la cabecera indicada.
+     *
+     * @param cursoId Identificador del curso
+     * @param tamano Tamaño del archivo YAML
+     * @param modificado Fecha de modificación del archivo YAML
+     * @param hash Hash SHA-256 del contenido del archivo YAML
+     * @param cursoData Datos parseados del curso
+     */
+    private void escribirEntrada(String cursoId, long tamano, long modificado, byte[] hash,
+                                 Map<String, Object> cursoData) {
+        File cacheFile = getCacheFile(cursoId);
+        Path temporal = null;
+
+        try {
+            Files.createDirectories(cacheDir.toPath());
+            temporal = Files.createTempFile(cacheDir.toPath(), cursoId, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporal)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMATO_VERSION);
+                out.writeLong(tamano);
+                out.writeLong(modificado);
+                out.write(hash);
+                escribirValor(out, cursoData);
+            }
+
+            try {
+                Files.move(temporal, cacheFile.toPath(),
+                          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporal = null;
+            logger.debug("Curso guardado en caché: " + cursoId + " (" + cacheFile.length() + " bytes)");
+
+        } catch (Exception e) {
+            logger.warn("No se pudo escribir la caché del curso " + cursoId + ": " + e.getMessage());
+        } finally {
+            if (temporal != null) {
+                try {
+                    Files.deleteIfExists(temporal);
+                } catch (IOException e) {
+                    logger.debug("No se pudo eliminar el temporal de caché: " + temporal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Elimina la entrada de caché de un curso, si existe.
+     *
+     * @param cursoId Identificador del curso
+     */
+    public void invalidar(String cursoId) {
+        File cacheFile = getCacheFile(cursoId);
+        if (cacheFile.exists() && !cacheFile.delete()) {
+            logger.warn("No se pudo eliminar la entrada de caché: " + cacheFile.getPath());
+        }
+    }
+
+    /**
+     * Obtiene el directorio donde se almacenan los archivos de caché.
+     *
+     * @return Directorio de caché
+     */
+    public File getCacheDir() {
+        return cacheDir;
+    }
+
+    /**
+     * Obtiene el archivo de caché correspondiente a un curso.
+     *
+     * @param cursoId Identificador del curso
+     * @return Archivo de caché del curso (puede no existir)
+     */
+    File getCacheFile(String cursoId) {
+        return new File(cacheDir, cursoId + CACHE_EXTENSION);
+    }
+
+    /**
+     * Calcula el hash SHA-256 del contenido de un archivo.
+     *
+     * @param file Archivo a procesar
+     * @return Hash SHA-256 del contenido
+     * @throws IOException si no se puede leer el archivo
+     */
+    static byte[] calcularHash(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            byte[] buffer = new byte[8192];
+            int leidos;
+            while ((leidos = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, leidos);
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Escribe un valor del árbol de datos en formato binario.
+     *
+     * <p>El formato es compartido con {@link CatalogoPack}.</p>
+     *
+     * @param out Flujo de salida
+     * @param valor Valor a escribir
+     * @throws IOException si el valor no es de un tipo soportado o falla la escritura
+     */
+    static void escribirValor(DataOutput out, Object valor) throws IOException {
+        if (valor == null) {
+            out.writeByte(TIPO_NULL);
+        } else if (valor instanceof String) {
+            out.writeByte(TIPO_STRING);
+            escribirString(out, (String) valor);
+        } else if (valor instanceof Integer) {
+            out.writeByte(TIPO_INT);
+            out.writeInt((Integer) valor);
+        } else if (valor instanceof Long) {
+            out.writeByte(TIPO_LONG);
+            out.writeLong((Long) valor);
+        } else if (valor instanceof Double) {
+            out.writeByte(TIPO_DOUBLE);
+            out.writeDouble((Double) valor);
+        } else if (valor instanceof Boolean) {
+            out.writeByte(TIPO_BOOLEAN);
+            out.writeBoolean((Boolean) valor);
+        } else if (valor instanceof BigInteger) {
+            out.writeByte(TIPO_BIG_INTEGER);
+            escribirString(out, valor.toString());
+        } else if (valor instanceof BigDecimal) {
+            out.writeByte(TIPO_BIG_DECIMAL);
+            escribirString(out, valor.toString());
+        } else if (valor instanceof List) {
+            List<?> lista = (List<?>) valor;
+            out.writeByte(TIPO_LIST);
+            out.writeInt(lista.size());
+            for (Object elemento : lista) {
+                escribirValor(out, elemento);
+            }
+        } else if (valor instanceof Map) {
+            Map<?, ?> mapa = (Map<?, ?>) valor;
+            out.writeByte(TIPO_MAP);
+            out.writeInt(mapa.size());
+            for (Map.Entry<?, ?> entrada : mapa.entrySet()) {
+                escribirString(out, String.valueOf(entrada.getKey()));
+                escribirValor(out, entrada.getValue());
+            }
+        } else {
+            throw new IOException("Tipo de dato no soportado en caché: " + valor.getClass().getName());
+        }
+    }
+
+    /**
+     * Lee un valor del árbol de datos desde formato binario.
+     *
+     * <p>Las listas y mapas se reconstruyen como {@link ArrayList} y
+     * {@link LinkedHashMap}, igual que los produce el parser YAML.</p>
+     *
+     * <p>Cada tamaño leído se comprueba contra los bytes que quedan antes de
+     * reservar memoria, de modo que una entrada corrupta se rechaza con una
+     * {@link IOException} en lugar de agotar la memoria.</p>
+     *
+     * @param in Flujo de entrada
+     * @param longitud Número de bytes disponibles para el valor
+     * @return Valor leído
+     * @throws IOException si los datos están corruptos o falla la lectura
+     */
+    static Object leerValor(DataInput in, long longitud) throws IOException {
+        return leerValor(new LecturaLimitada(in, longitud));
+    }
+
+    private static Object leerValor(LecturaLimitada lectura) throws IOException {
+        DataInput in = lectura.in;
+        lectura.consumir(1);
+        byte tipo = in.readByte();
+        switch (tipo) {
+            case TIPO_NULL:
+                return null;
+            case TIPO_STRING:
+                return leerString(lectura);
+            case TIPO_INT:
+                lectura.consumir(4);
+                return in.readInt();
+            case TIPO_LONG:
+                lectura.consumir(8);
+                return in.readLong();
+            case TIPO_DOUBLE:
+                lectura.consumir(8);
+                return in.readDouble();
+            case TIPO_BOOLEAN:
+                lectura.consumir(1);
+                return in.readBoolean();
+            case TIPO_BIG_INTEGER:
+                return new BigInteger(leerString(lectura));
+            case TIPO_BIG_DECIMAL:
+                return new BigDecimal(leerString(lectura));
+            case TIPO_LIST: {
+                // Cada elemento ocupa al menos su marca de tipo
+                int tamano = lectura.leerTamano(1, "lista");
+                List<Object> lista = new ArrayList<>(tamano);
+                for (int i = 0; i < tamano; i++) {
+                    lista.add(leerValor(lectura));
+                }
+                return lista;
+            }
+            case TIPO_MAP: {
+                int tamano = lectura.leerTamano(MINIMO_ENTRADA_MAPA, "mapa");
+                Map<String, Object> mapa = new LinkedHashMap<>();
+                for (int i = 0; i < tamano; i++) {
+                    String clave = leerString(lectura);
+                    mapa.put(clave, leerValor(lectura));
+                }
+                return mapa;
+            }
+            default:
+                throw new IOException("Marca de tipo desconocida en caché: " + tipo);
+        }
+    }
+
+    /**
+     * Escribe una cadena como longitud seguida de sus bytes UTF-8.
+     *
+     * @param out Flujo de salida
+     * @param valor Cadena a escribir
+     * @throws IOException si falla la escritura
+     */
+    private static void escribirString(DataOutput out, String valor) throws IOException {
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Lee una cadena escrita con {@link #escribirString(DataOutput, String)}.
+     *
+     * @param lectura Lectura en curso
+     * @return Cadena leída
+     * @throws IOException si la longitud es inválida o falla la lectura
+     */
+    private static String leerString(LecturaLimitada lectura) throws IOException {
+        int longitud = lectura.leerTamano(1, "cadena");
+        lectura.consumir(longitud);
+        byte[] bytes = new byte[longitud];
+        lectura.in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Flujo de entrada junto con los bytes que quedan por leer del valor.
+     */
+    private static final class LecturaLimitada {
+
+        private final DataInput in;
+        private long restantes;
+
+        LecturaLimitada(DataInput in, long longitud) {
+            this.in = in;
+            this.restantes = longitud;
+        }
+
+        /**
+         * Descuenta los bytes que se van a leer.
+         *
+         * @param bytes Número de bytes
+         * @throws IOException si quedan menos bytes de los necesarios
+         */
+        void consumir(long bytes) throws IOException {
+            if (bytes > restantes) {
+                throw new IOException("Entrada de caché truncada: faltan " + (bytes - restantes) + " bytes");
+            }
+            restantes -= bytes;
+        }
+
+        /**
+         * Lee el tamaño de una cadena, lista o mapa y comprueba que sus
+         * elementos caben en los bytes restantes.
+         *
+         * @param minimoPorElemento Bytes que ocupa como mínimo cada elemento
+         * @param que Tipo de valor, para el mensaje de error
+         * @return Tamaño leído
+         * @throws IOException si el tamaño es negativo o no cabe en los datos
+         */
+        int leerTamano(int minimoPorElemento, String que) throws IOException {
+            consumir(4);
+            int tamano = in.readInt();
+            if (tamano < 0 || tamano > restantes / minimoPorElemento) {
+                throw new IOException("Tamaño de " + que + " inválido en caché: " + tamano);
+            }
+            return tamano;
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.kursor.service;
 
 import com.kursor.domain.Curso;
 import com.kursor.domain.Bloque;
+import com.kursor.domain.BloqueBajoDemanda;
 import com.kursor.domain.Pregunta;
 import com.kursor.factory.PreguntaFactory;
+import com.kursor.shared.util.PerfiladorArranque;
+import com.kursor.shared.util.PoolCadenas;
 import com.kursor.yaml.dto.CursoPreviewDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -11,8 +14,15 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,8 +42,32 @@ import org.slf4j.LoggerFactory;
  *   <li><strong>Soporte múltiple de formatos:</strong> .yaml y .yml</li>
  *   <li><strong>Integración con módulos:</strong> Usa ModuleManager para cargar preguntas</li>
  *   <li><strong>Manejo de errores robusto:</strong> Logging detallado de errores</li>
+ *   <li><strong>Carga paralela:</strong> Los cursos completos se cargan concurrentemente
+ *       con un grado de paralelismo configurable</li>
+ *   <li><strong>Caché binaria:</strong> Los datos ya parseados se guardan en
+ *       {@code .kursor-cache/} para evitar el parsing YAML en arranques posteriores</li>
+ *   <li><strong>Parsing en streaming:</strong> Los cursos muy grandes se construyen
+ *       directamente desde el flujo de tokens YAML ({@link CursoYamlStreamParser})</li>
+ *   <li><strong>Catálogo empaquetado:</strong> Si existe un archivo {@value #PACK_ARCHIVO}
+ *       ({@link CatalogoPack}), los cursos se leen de él en lugar de los archivos YAML</li>
  * </ul>
  * 
+ * <p>El grado de paralelismo de {@link #cargarTodosLosCursosCompletos()} se puede
+ * limitar mediante la propiedad de sistema {@value #PARALELISMO_PROPERTY}
+ * (por defecto, el número de procesadores disponibles). Un valor de 1 fuerza
+ * la carga secuencial.</p>
+ * 
+ * <p>La caché binaria de cursos ({@link CursoCache}) está activada por defecto y se
+ * puede desactivar con la propiedad de sistema {@value #CACHE_PROPERTY}{@code =false}.</p>
+ * 
+ * <p>Los archivos YAML cuyo tamaño alcanza el umbral {@value #STREAMING_UMBRAL_PROPERTY}
+ * (en bytes, por defecto {@value #STREAMING_UMBRAL_POR_DEFECTO}) se parsean en streaming
+ * sin pasar por la caché, para no mantener en memoria el árbol completo del documento.</p>
+ * 
+ * <p>El catálogo empaquetado se busca en {@code <cursosDir>/}{@value #PACK_ARCHIVO}, o en la
+ * ruta indicada por la propiedad de sistema {@value #PACK_PROPERTY}. Si no se puede abrir,
+ * el servicio usa los archivos YAML.</p>
+ * 
  * <p>Estructura esperada de directorios:</p>
  * <pre>
  * cursos/
@@ -77,27 +111,185 @@ public class CursoPreviewService {
     /** Extensiones de archivo YAML soportadas */
     private static final List<String> YAML_EXTENSIONS = Arrays.asList(".yaml", ".yml");
     
+    /** Propiedad de sistema para limitar el número de cursos cargados en paralelo */
+    public static final String PARALELISMO_PROPERTY = "kursor.cursos.paralelismo";
+    
+    /** Número máximo de cursos que se cargan simultáneamente */
+    private final int paralelismo;
+    
+    /** Propiedad de sistema para activar o desactivar la caché binaria de cursos */
+    public static final String CACHE_PROPERTY = "kursor.cursos.cache";
+    
+    /** Caché binaria de cursos parseados, o null si está desactivada */
+    private final CursoCache cursoCache;
+    
+    /** Propiedad de sistema con el tamaño en bytes a partir del cual se parsea en streaming */
+    public static final String STREAMING_UMBRAL_PROPERTY = "kursor.cursos.streaming.umbral";
+    
+    /** Umbral por defecto para el parsing en streaming (1 MiB) */
+    public static final long STREAMING_UMBRAL_POR_DEFECTO = 1024L * 1024L;
+    
+    /** Tamaño en bytes a partir del cual un curso se parsea en streaming */
+    private final long umbralStreaming;
+    
+    /** Parser en streaming para cursos grandes */
+    private final CursoYamlStreamParser streamParser;
+    
+    /** Lector de cabeceras para las vistas previas */
+    private final CursoYamlHeaderReader headerReader;
+    
+    /**
+     * Subdirectorio de un curso fragmentado que contiene un archivo YAML por bloque.
+     * Si existe, el archivo YAML del curso actúa como manifiesto con su título y
+     * descripción, y los bloques se leen de este subdirectorio en orden alfabético.
+     */
+    public static final String BLOQUES_DIR = "bloques";
+    
+    /** Propiedad de sistema con la ruta del catálogo empaquetado */
+    public static final String PACK_PROPERTY = "kursor.cursos.pack";
+    
+    /** Nombre por defecto del catálogo empaquetado dentro del directorio de cursos */
+    public static final String PACK_ARCHIVO = "catalogo.kpak";
+    
+    /** Pool de cadenas de los cursos cargados por este servicio; no retiene los cursos desalojados */
+    private final PoolCadenas poolCadenas;
+    
+    /** Catálogo empaquetado, o null si los cursos se leen de los archivos YAML */
+    private final CatalogoPack catalogoPack;
+    
     /**
      * Constructor para crear el servicio de carga de cursos.
      * 
      * <p>Inicializa el servicio con el directorio de cursos especificado
-     * y configura el mapper YAML para procesar los archivos de configuración.</p>
+     * y configura el mapper YAML para procesar los archivos de configuración.
+     * El grado de paralelismo se obtiene de la propiedad de sistema
+     * {@value #PARALELISMO_PROPERTY}.</p>
      * 
      * @param cursosDir Ruta al directorio que contiene los cursos (no debe ser null)
      * @throws IllegalArgumentException si el directorio es null o vacío
      */
     public CursoPreviewService(String cursosDir) {
-        logger.debug("Creando CursoPreviewService - Directorio: " + cursosDir);
+        this(cursosDir, leerParalelismoConfigurado());
+    }
+    
+    /**
+     * Constructor para crear el servicio de carga de cursos con un grado
+     * de paralelismo explícito.
+     * 
+     * @param cursosDir Ruta al directorio que contiene los cursos (no debe ser null)
+     * @param paralelismo Número máximo de cursos cargados simultáneamente (mínimo 1;
+     *                    con 1 la carga es secuencial)
+     * @throws IllegalArgumentException si el directorio es null o vacío, o si el
+     *                                  paralelismo es menor que 1
+     */
+    public CursoPreviewService(String cursosDir, int paralelismo) {
+        logger.debug("Creando CursoPreviewService - Directorio: " + cursosDir + ", Paralelismo: " + paralelismo);
         
         if (cursosDir == null || cursosDir.trim().isEmpty()) {
             logger.error("Error al crear CursoPreviewService: directorio no puede ser null o vacío");
             throw new IllegalArgumentException("Directorio de cursos no puede ser null o vacío");
         }
         
+        if (paralelismo < 1) {
+            logger.error("Error al crear CursoPreviewService: paralelismo inválido: " + paralelismo);
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1");
+        }
+        
         this.yamlMapper = new ObjectMapper(new YAMLFactory());
         this.cursosDir = cursosDir.trim();
+        this.paralelismo = paralelismo;
+        this.cursoCache = Boolean.parseBoolean(System.getProperty(CACHE_PROPERTY, "true"))
+            ? new CursoCache(new File(this.cursosDir, CursoCache.CACHE_DIR))
+            : null;
+        this.umbralStreaming = leerUmbralStreamingConfigurado();
+        this.poolCadenas = new PoolCadenas();
+        this.streamParser = new CursoYamlStreamParser(yamlMapper, poolCadenas);
+        this.headerReader = new CursoYamlHeaderReader(yamlMapper);
+        this.catalogoPack = abrirCatalogoPack(this.cursosDir, poolCadenas);
+        
+        logger.info("CursoPreviewService creado exitosamente - Directorio: " + this.cursosDir + 
+                   ", Paralelismo: " + this.paralelismo);
+    }
+    
+    /**
+     * Lee el grado de paralelismo configurado mediante la propiedad de sistema
+     * {@value #PARALELISMO_PROPERTY}.
+     * 
+     * <p>Si la propiedad no está definida o no es un entero positivo, se usa
+     * el número de procesadores disponibles.</p>
+     * 
+     * @return Grado de paralelismo a utilizar (siempre mayor o igual que 1)
+     */
+    private static int leerParalelismoConfigurado() {
+        int porDefecto = Math.max(1, Runtime.getRuntime().availableProcessors());
+        String valor = System.getProperty(PARALELISMO_PROPERTY);
+        if (valor == null || valor.trim().isEmpty()) {
+            return porDefecto;
+        }
         
-        logger.info("CursoPreviewService creado exitosamente - Directorio: " + this.cursosDir);
+        try {
+            int configurado = Integer.parseInt(valor.trim());
+            if (configurado >= 1) {
+                return configurado;
+            }
+            logger.warn("Valor de " + PARALELISMO_PROPERTY + " debe ser positivo: " + valor + 
+                       ". Usando " + porDefecto);
+        } catch (NumberFormatException e) {
+            logger.warn("Valor de " + PARALELISMO_PROPERTY + " no es un número: " + valor + 
+                       ". Usando " + porDefecto);
+        }
+        return porDefecto;
+    }
+
+    /**
+     * Lee el umbral de parsing en streaming de la propiedad de sistema
+     * {@value #STREAMING_UMBRAL_PROPERTY}.
+     * 
+     * @return Umbral configurado en bytes, o {@value #STREAMING_UMBRAL_POR_DEFECTO}
+     *         si no está definido o no es válido
+     */
+    private static long leerUmbralStreamingConfigurado() {
+        String valor = System.getProperty(STREAMING_UMBRAL_PROPERTY);
+        if (valor == null || valor.trim().isEmpty()) {
+            return STREAMING_UMBRAL_POR_DEFECTO;
+        }
+        
+        try {
+            long configurado = Long.parseLong(valor.trim());
+            if (configurado >= 0) {
+                return configurado;
+            }
+        } catch (NumberFormatException e) {
+            // Se registra abajo y se usa el valor por defecto
+        }
+        logger.warn("Valor inválido para " + STREAMING_UMBRAL_PROPERTY + ": " + valor + 
+                   ". Usando " + STREAMING_UMBRAL_POR_DEFECTO);
+        return STREAMING_UMBRAL_POR_DEFECTO;
+    }
+    
+    /**
+     * Abre el catálogo empaquetado si existe.
+     * 
+     * @param cursosDir Directorio de cursos
+     * @param pool Pool de cadenas del servicio
+     * @return El catálogo, o null si no existe o no se puede abrir
+     */
+    private static CatalogoPack abrirCatalogoPack(String cursosDir, PoolCadenas pool) {
+        String configurado = System.getProperty(PACK_PROPERTY);
+        File archivo = configurado != null && !configurado.trim().isEmpty()
+            ? new File(configurado.trim())
+            : new File(cursosDir, PACK_ARCHIVO);
+        if (!archivo.isFile()) {
+            return null;
+        }
+        
+        try {
+            return new CatalogoPack(archivo, pool);
+        } catch (IOException e) {
+            logger.warn("No se pudo abrir el catálogo empaquetado " + archivo + ", se usarán los archivos YAML: " + 
+                       e.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -167,12 +359,38 @@ public class CursoPreviewService {
      *   <li>Múltiples extensiones de archivo (.yaml, .yml)</li>
      * </ul>
      * 
+     * <p>Solo se lee la cabecera de cada archivo: la lectura se detiene en cuanto
+     * se conocen el título y la descripción, sin procesar las preguntas.</p>
+     * 
      * @return Lista de vistas previas de cursos disponibles. Si ocurre un error,
      *         retorna una lista vacía en lugar de lanzar una excepción
+     * @see #cargarPreviews(boolean)
      */
     public List<CursoPreviewDTO> cargarPreviews() {
+        return cargarPreviews(false);
+    }
+    
+    /**
+     * Carga las vistas previas de todos los cursos disponibles, con recuento
+     * opcional de bloques y preguntas.
+     * 
+     * <p>Sin recuento, cada archivo se lee solo hasta su cabecera. Con recuento,
+     * el archivo se recorre completo pero los bloques y preguntas se saltan a
+     * nivel de token, sin construir el modelo del curso.</p>
+     * 
+     * @param contar true para incluir en cada vista previa el número de bloques
+     *               y preguntas del curso
+     * @return Lista de vistas previas de cursos disponibles. Si ocurre un error,
+     *         retorna una lista vacía en lugar de lanzar una excepción
+     */
+    public List<CursoPreviewDTO> cargarPreviews(boolean contar) {
         logger.info("Iniciando carga de vistas previas de cursos - Directorio: " + cursosDir);
         
+        if (catalogoPack != null) {
+            // El catálogo empaquetado ya incluye el recuento
+            return catalogoPack.cargarPreviews();
+        }
+        
         List<CursoPreviewDTO> previews = new ArrayList<>();
         try {
             File dir = new File(cursosDir);
@@ -191,20 +409,15 @@ public class CursoPreviewService {
             logger.debug("Encontrados " + cursoDirs.length + " elementos en el directorio de cursos");
             
             for (File cursoDir : cursoDirs) {
-                if (cursoDir.isDirectory()) {
+                if (esDirectorioDeCurso(cursoDir)) {
                     String cursoId = cursoDir.getName();
                     logger.debug("Procesando directorio de curso: " + cursoId);
                     
                     File yamlFile = findYamlFile(cursoDir, cursoId);
                     
                     if (yamlFile != null) {
-                        try {
-                            Map<String, Object> cursoData = yamlMapper.readValue(yamlFile, Map.class);
-                            CursoPreviewDTO preview = new CursoPreviewDTO(
-                                cursoId,
-                                (String) cursoData.get("titulo"),   
-                                (String) cursoData.get("descripcion")
-                            );
+                        try (PerfiladorArranque.Medicion m = PerfiladorArranque.getInstance().medir("catalogo", cursoId)) {
+                            CursoPreviewDTO preview = headerReader.leer(cursoId, yamlFile, contar);
                             previews.add(preview);
                             logger.info("Cargado preview del curso: " + cursoId + " desde " + yamlFile.getName());
                         } catch (IOException e) {
@@ -224,6 +437,47 @@ public class CursoPreviewService {
         logger.info("Carga de vistas previas completada - Cursos cargados: " + previews.size());
         return previews;
     }
+    
+    /**
+     * Carga la vista previa de un único curso.
+     * 
+     * <p>Permite refrescar un curso concreto sin recorrer todo el directorio,
+     * por ejemplo cuando se detecta un cambio en sus archivos.</p>
+     * 
+     * @param cursoId Identificador del curso (nombre de su directorio)
+     * @return La vista previa del curso, o null si el directorio o su archivo
+     *         YAML no existen o no se pueden leer
+     */
+    public CursoPreviewDTO cargarPreview(String cursoId) {
+        if (cursoId == null || cursoId.trim().isEmpty()) {
+            return null;
+        }
+        
+        if (catalogoPack != null) {
+            return catalogoPack.cargarPreview(cursoId);
+        }
+        
+        File cursoDir = new File(cursosDir, cursoId);
+        if (!esDirectorioDeCurso(cursoDir)) {
+            logger.debug("El directorio del curso no existe: " + cursoId);
+            return null;
+        }
+        
+        File yamlFile = findYamlFile(cursoDir, cursoId);
+        if (yamlFile == null) {
+            logger.warn("No se encontró archivo YAML para el curso: " + cursoId);
+            return null;
+        }
+        
+        try {
+            CursoPreviewDTO preview = headerReader.leer(cursoId, yamlFile, false);
+            logger.debug("Cargado preview del curso: " + cursoId + " desde " + yamlFile.getName());
+            return preview;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Error al leer el curso " + cursoId + ": " + e.getMessage());
+            return null;
+        }
+    }
 
     /**
      * Carga un curso completo por su identificador.
@@ -245,6 +499,9 @@ public class CursoPreviewService {
      * <p>El método maneja automáticamente errores de carga y registra
      * información detallada en el logger para debugging.</p>
      * 
+     * <p>Si el archivo alcanza el umbral de streaming, el curso se construye
+     * con {@link CursoYamlStreamParser} sin materializar el documento completo.</p>
+     * 
      * @param id Identificador único del curso a cargar
      * @return El curso completo cargado, o null si el curso no existe
      *         o ocurre un error durante la carga
@@ -257,6 +514,10 @@ public class CursoPreviewService {
             return null;
         }
         
+        if (catalogoPack != null) {
+            return catalogoPack.cargarCurso(id);
+        }
+        
         File cursoDir = new File(cursosDir, id);
         File yamlFile = findYamlFile(cursoDir, id);
         
@@ -264,10 +525,29 @@ public class CursoPreviewService {
             logger.error("No se encontró el archivo YAML para el curso: " + id);
             return null;
         }
+        
+        File bloquesDir = new File(cursoDir, BLOQUES_DIR);
+        if (bloquesDir.isDirectory()) {
+            try {
+                return cargarCursoFragmentado(id, yamlFile, bloquesDir);
+            } catch (Exception e) {
+                logger.error("Error al cargar curso fragmentado " + id + ": " + e.getMessage());
+                return null;
+            }
+        }
+        
+        if (yamlFile.length() >= umbralStreaming) {
+            logger.debug("Archivo de " + yamlFile.length() + " bytes, parseando en streaming: " + yamlFile.getName());
+            try {
+                return streamParser.parsear(id, yamlFile);
+            } catch (Exception e) {
+                logger.error("Error al cargar curso completo " + id + ": " + e.getMessage());
+                return null;
+            }
+        }
 
         try {
-            logger.debug("Leyendo archivo YAML: " + yamlFile.getAbsolutePath());
-            Map<String, Object> cursoData = yamlMapper.readValue(yamlFile, Map.class);
+            Map<String, Object> cursoData = leerDatosCurso(id, yamlFile);
             
             Curso curso = new Curso(
                 id,
@@ -292,9 +572,9 @@ public class CursoPreviewService {
                     
                     Bloque bloque = new Bloque(
                         curso.getId() + "-" + bloqueId,
-                        bloqueTitulo,
-                        bloqueDescripcion,
-                        bloqueTipo
+                        poolCadenas.cadena(bloqueTitulo),
+                        poolCadenas.cadena(bloqueDescripcion),
+                        poolCadenas.cadena(bloqueTipo)
                     );
                     
                     // Cargar preguntas del bloque
@@ -312,7 +592,7 @@ public class CursoPreviewService {
                             logger.debug("Procesando pregunta de tipo: " + tipo);
                             try {
                                 // Usar PreguntaFactory para crear la pregunta
-                                Pregunta pregunta = PreguntaFactory.crearPregunta(preguntaData);
+                                Pregunta pregunta = PreguntaFactory.crearPregunta(preguntaData, poolCadenas);
                                 if (pregunta != null) {
                                     bloque.addPregunta(pregunta);
                                     logger.debug("Pregunta creada exitosamente - Tipo: " + tipo + 
@@ -351,6 +631,187 @@ public class CursoPreviewService {
         }
     }
     
+    /**
+     * Carga un curso fragmentado: un manifiesto con el título y la descripción
+     * del curso y un archivo YAML por bloque en {@value #BLOQUES_DIR}.
+     * 
+     * <p>De cada bloque solo se leen sus metadatos y el número de preguntas. Las
+     * preguntas se cargan la primera vez que se accede a ellas
+     * ({@link BloqueBajoDemanda}), o todas a la vez con
+     * {@link #precargarBloques(Curso)}. Los cursos fragmentados no usan la
+     * caché binaria.</p>
+     * 
+     * @param id Identificador del curso
+     * @param manifiesto Archivo YAML del curso
+     * @param bloquesDir Directorio con los archivos de bloque
+     * @return El curso con sus bloques pendientes de cargar
+     * @throws IOException si el manifiesto o algún bloque no se pueden leer
+     */
+    private Curso cargarCursoFragmentado(String id, File manifiesto, File bloquesDir) throws IOException {
+        logger.debug("Cargando curso fragmentado - ID: " + id + ", Bloques en: " + bloquesDir.getPath());
+        
+        CursoPreviewDTO cabecera = headerReader.leer(id, manifiesto, false);
+        Curso curso = new Curso(id, cabecera.getTitulo(), cabecera.getDescripcion());
+        
+        File[] archivos = bloquesDir.listFiles(f -> f.isFile() && !f.getName().startsWith(".") &&
+            YAML_EXTENSIONS.stream().anyMatch(ext -> f.getName().toLowerCase().endsWith(ext)));
+        if (archivos == null || archivos.length == 0) {
+            logger.warn("Curso sin bloques: " + id);
+            return curso;
+        }
+        Arrays.sort(archivos, Comparator.comparing(File::getName));
+        
+        List<Bloque> bloques = new ArrayList<>();
+        for (File archivo : archivos) {
+            Map<String, Object> datos = headerReader.leerCabeceraBloque(archivo);
+            String nombre = archivo.getName().substring(0, archivo.getName().lastIndexOf('.'));
+            String bloqueId = datos.get("id") != null ? (String) datos.get("id") : nombre;
+            String titulo = datos.get("titulo") != null ? (String) datos.get("titulo") : bloqueId;
+            
+            bloques.add(new BloqueBajoDemanda(
+                id + "-" + bloqueId,
+                poolCadenas.cadena(titulo),
+                poolCadenas.cadena((String) datos.get("descripcion")),
+                poolCadenas.cadena((String) datos.get("tipo")),
+                (Integer) datos.get("numeroPreguntas"),
+                () -> streamParser.parsearBloque(id, archivo).getPreguntas()
+            ));
+        }
+        curso.setBloques(bloques);
+        
+        logger.info("Curso fragmentado cargado desde: " + manifiesto.getName() + 
+                   " - Bloques: " + bloques.size() + ", Preguntas totales: " + curso.getNumeroPreguntas());
+        return curso;
+    }
+    
+    /**
+     * Carga en paralelo las preguntas de todos los bloques de un curso que aún
+     * no las tengan en memoria.
+     * 
+     * <p>Solo afecta a los bloques de cursos fragmentados ({@link BloqueBajoDemanda});
+     * el resto ya tiene sus preguntas cargadas. Se usan como máximo
+     * {@link #getParalelismo()} hilos. Los bloques que fallan se registran y
+     * quedan pendientes de cargar.</p>
+     * 
+     * @param curso Curso cuyos bloques se desean cargar
+     */
+    public void precargarBloques(Curso curso) {
+        List<BloqueBajoDemanda> pendientes = new ArrayList<>();
+        for (Bloque bloque : curso.getBloques()) {
+            if (bloque instanceof BloqueBajoDemanda && !((BloqueBajoDemanda) bloque).isCargado()) {
+                pendientes.add((BloqueBajoDemanda) bloque);
+            }
+        }
+        if (pendientes.isEmpty()) {
+            return;
+        }
+        
+        int hilos = Math.min(paralelismo, pendientes.size());
+        logger.debug("Cargando " + pendientes.size() + " bloques del curso " + curso.getId() + 
+                    " con " + hilos + " hilos");
+        
+        if (hilos == 1) {
+            for (BloqueBajoDemanda bloque : pendientes) {
+                cargarBloqueAislado(bloque);
+            }
+            return;
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(hilos, new CargaCursosThreadFactory());
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (BloqueBajoDemanda bloque : pendientes) {
+                futuros.add(executor.submit(() -> cargarBloqueAislado(bloque)));
+            }
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Carga paralela de bloques interrumpida");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Error inesperado al cargar bloques: " + e.getCause().getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Carga las preguntas de un bloque aislando cualquier error.
+     * 
+     * @param bloque Bloque a cargar
+     */
+    private void cargarBloqueAislado(BloqueBajoDemanda bloque) {
+        try {
+            bloque.cargar();
+        } catch (Exception e) {
+            logger.error("❌ Error al cargar el bloque " + bloque.getId() + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Lee los datos de un curso, usando la caché binaria cuando es posible.
+     * 
+     * <p>Si existe una entrada de caché válida para el archivo YAML se devuelve
+     * directamente; en caso contrario se parsea el YAML y el resultado se guarda
+     * en la caché para el siguiente arranque.</p>
+     * 
+     * @param id Identificador del curso
+     * @param yamlFile Archivo YAML del curso
+     * @return Mapa mutable con los datos del curso
+     * @throws IOException si no se puede leer o parsear el archivo YAML
+     */
+    private Map<String, Object> leerDatosCurso(String id, File yamlFile) throws IOException {
+        if (cursoCache != null) {
+            Map<String, Object> cacheados = cursoCache.leer(id, yamlFile);
+            if (cacheados != null) {
+                logger.debug("Datos del curso obtenidos de caché: " + id);
+                return cacheados;
+            }
+        }
+        
+        logger.debug("Leyendo archivo YAML: " + yamlFile.getAbsolutePath());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> cursoData = yamlMapper.readValue(yamlFile, Map.class);
+        
+        if (cursoCache != null && cursoData != null) {
+            cursoCache.escribir(id, yamlFile, cursoData);
+        }
+        return cursoData;
+    }
+    
+    /**
+     * Indica si un elemento del directorio de cursos debe tratarse como curso.
+     * 
+     * <p>Solo se consideran directorios no ocultos, lo que excluye entre otros
+     * el directorio de caché {@value CursoCache#CACHE_DIR}.</p>
+     * 
+     * @param cursoDir Elemento del directorio de cursos
+     * @return true si es un directorio de curso
+     */
+    private boolean esDirectorioDeCurso(File cursoDir) {
+        return cursoDir.isDirectory() && !cursoDir.getName().startsWith(".");
+    }
+    
+    /**
+     * Obtiene el pool de cadenas del servicio, con las estadísticas de
+     * deduplicación (cadenas únicas, aciertos y bytes ahorrados).
+     * 
+     * @return Pool de cadenas compartido por los cursos cargados
+     */
+    public PoolCadenas getPoolCadenas() {
+        return poolCadenas;
+    }
+    
+    /**
+     * Obtiene el catálogo empaquetado en uso.
+     * 
+     * @return El catálogo empaquetado, o null si los cursos se leen de los archivos YAML
+     */
+    public CatalogoPack getCatalogoPack() {
+        return catalogoPack;
+    }
+    
     /**
      * Obtiene el directorio de cursos configurado.
      * 
@@ -361,6 +822,15 @@ public class CursoPreviewService {
         return cursosDir;
     }
     
+    /**
+     * Obtiene el número máximo de cursos que se cargan simultáneamente.
+     * 
+     * @return Grado de paralelismo configurado (1 indica carga secuencial)
+     */
+    public int getParalelismo() {
+        return paralelismo;
+    }
+    
     /**
      * Verifica si el directorio de cursos existe y es accesible.
      * 
@@ -380,21 +850,37 @@ public class CursoPreviewService {
      * completa de cada curso, incluyendo bloques, preguntas y configuración
      * detallada. Es útil para cargar todos los cursos en memoria de una vez.</p>
      * 
+     * <p>Los cursos se procesan en paralelo con
+     * {@link #cargarCursosCompletos(List)}. El resultado se devuelve siempre
+     * ordenado por el nombre del directorio del curso (o en el orden del
+     * catálogo empaquetado), independientemente del orden en que terminen las
+     * cargas individuales.</p>
+     * 
      * <p>El método maneja automáticamente:</p>
      * <ul>
      *   <li>Directorios que no existen</li>
      *   <li>Archivos YAML corruptos o malformados</li>
      *   <li>Errores de lectura de archivos</li>
-     *   <li>Cursos individuales que fallan al cargar</li>
+     *   <li>Cursos individuales que fallan al cargar (no afectan al resto)</li>
      * </ul>
      * 
      * @return Lista de todos los cursos completos cargados exitosamente.
      *         Si ocurre un error, retorna una lista vacía en lugar de lanzar una excepción
      */
     public List<Curso> cargarTodosLosCursosCompletos() {
-        logger.info("🔄 Iniciando carga de todos los cursos completos - Directorio: " + cursosDir);
+        logger.info("🔄 Iniciando carga de todos los cursos completos - Directorio: " + cursosDir + 
+                   ", Paralelismo: " + paralelismo);
         
         List<Curso> cursosCompletos = new ArrayList<>();
+        if (catalogoPack != null) {
+            List<String> cursoIds = catalogoPack.cargarPreviews().stream()
+                .map(CursoPreviewDTO::getId)
+                .collect(Collectors.toList());
+            cursosCompletos.addAll(cargarCursosCompletos(cursoIds));
+            logger.info("✅ FIN - Cursos obtenidos del catálogo empaquetado: " + cursosCompletos.size());
+            return cursosCompletos;
+        }
+        
         try {
             File dir = new File(cursosDir);
             if (!dir.exists() || !dir.isDirectory()) {
@@ -411,34 +897,135 @@ public class CursoPreviewService {
             
             logger.debug("Encontrados " + cursoDirs.length + " elementos en el directorio de cursos");
             
-            for (File cursoDir : cursoDirs) {
-                logger.debug("Procesando elemento: " + cursoDir.getName() + " - Es directorio: " + cursoDir.isDirectory());
-                
-                if (cursoDir.isDirectory()) {
-                    String cursoId = cursoDir.getName();
-                    logger.debug("Procesando directorio de curso: " + cursoId);
-                    
-                    try {
-                        Curso cursoCompleto = cargarCursoCompleto(cursoId);
-                        if (cursoCompleto != null) {
-                            cursosCompletos.add(cursoCompleto);
-                            logger.info("✅ Curso completo cargado exitosamente: " + cursoId);
-                        } else {
-                            logger.warn("❌ No se pudo cargar el curso completo: " + cursoId);
-                        }
-                    } catch (Exception e) {
-                        logger.error("❌ Error al cargar curso completo " + cursoId + ": " + e.getMessage(), e);
-                        // Continuar con el siguiente curso en lugar de fallar completamente
+            // Ordenar por nombre para que el resultado sea determinista
+            List<String> cursoIds = Arrays.stream(cursoDirs)
+                .filter(cursoDir -> {
+                    if (!esDirectorioDeCurso(cursoDir)) {
+                        logger.debug("Ignorando archivo no-directorio: " + cursoDir.getName());
+                        return false;
                     }
-                } else {
-                    logger.debug("Ignorando archivo no-directorio: " + cursoDir.getName());
-                }
-            }
+                    return true;
+                })
+                .map(File::getName)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList());
+            
+            cursosCompletos.addAll(cargarCursosCompletos(cursoIds));
         } catch (Exception e) {
             logger.error("❌ Error general al cargar todos los cursos completos: " + e.getMessage(), e);
         }
         
         logger.info("✅ FIN - Carga de todos los cursos completos finalizada - Cursos cargados: " + cursosCompletos.size());
+        logger.info("Pool de cadenas - Únicas: " + poolCadenas.getCadenasUnicas() + 
+                   ", Listas: " + poolCadenas.getListasUnicas() + 
+                   ", Bytes ahorrados: " + poolCadenas.getBytesAhorrados());
         return cursosCompletos;
     }
-} 
+    
+    /**
+     * Carga varios cursos completos concurrentemente.
+     * 
+     * <p>Los cursos se procesan en un pool acotado de {@link #getParalelismo()}
+     * hilos y se devuelven en el orden de {@code cursoIds}. Cada curso se carga
+     * aislado: los que fallan o no existen se omiten sin afectar al resto.</p>
+     * 
+     * @param cursoIds Identificadores de los cursos a cargar
+     * @return Lista de cursos cargados exitosamente, en el orden de entrada
+     */
+    public List<Curso> cargarCursosCompletos(List<String> cursoIds) {
+        if (paralelismo == 1 || cursoIds.size() <= 1) {
+            List<Curso> cursos = new ArrayList<>();
+            for (String cursoId : cursoIds) {
+                Curso cursoCompleto = cargarCursoAislado(cursoId);
+                if (cursoCompleto != null) {
+                    cursos.add(cursoCompleto);
+                }
+            }
+            return cursos;
+        }
+        return cargarCursosEnParalelo(cursoIds);
+    }
+    
+    /**
+     * Carga un conjunto de cursos concurrentemente usando un pool de hilos acotado.
+     * 
+     * <p>Las tareas se envían en el orden recibido y sus resultados se recogen
+     * en ese mismo orden, de modo que la lista devuelta conserva el orden de
+     * {@code cursoIds}. Los cursos que fallan se omiten.</p>
+     * 
+     * @param cursoIds Identificadores de los cursos a cargar, ya ordenados
+     * @return Lista de cursos cargados exitosamente, en el orden de entrada
+     */
+    private List<Curso> cargarCursosEnParalelo(List<String> cursoIds) {
+        int hilos = Math.min(paralelismo, cursoIds.size());
+        logger.debug("Cargando " + cursoIds.size() + " cursos en paralelo con " + hilos + " hilos");
+        
+        List<Curso> cursos = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(hilos, new CargaCursosThreadFactory());
+        try {
+            List<Future<Curso>> futuros = new ArrayList<>();
+            for (String cursoId : cursoIds) {
+                futuros.add(executor.submit(() -> cargarCursoAislado(cursoId)));
+            }
+            
+            for (int i = 0; i < futuros.size(); i++) {
+                try {
+                    Curso curso = futuros.get(i).get();
+                    if (curso != null) {
+                        cursos.add(curso);
+                    }
+                } catch (ExecutionException e) {
+                    logger.error("❌ Error al cargar curso completo " + cursoIds.get(i) + ": " + 
+                               e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Carga paralela de cursos interrumpida");
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return cursos;
+    }
+    
+    /**
+     * Carga un curso completo aislando cualquier error para que no afecte
+     * a la carga del resto de cursos.
+     * 
+     * @param cursoId Identificador del curso a cargar
+     * @return El curso cargado, o null si no se pudo cargar
+     */
+    private Curso cargarCursoAislado(String cursoId) {
+        logger.debug("Procesando directorio de curso: " + cursoId);
+        
+        try {
+            Curso cursoCompleto = cargarCursoCompleto(cursoId);
+            if (cursoCompleto != null) {
+                logger.info("✅ Curso completo cargado exitosamente: " + cursoId);
+            } else {
+                logger.warn("❌ No se pudo cargar el curso completo: " + cursoId);
+            }
+            return cursoCompleto;
+        } catch (Exception e) {
+            logger.error("❌ Error al cargar curso completo " + cursoId + ": " + e.getMessage(), e);
+            // Continuar con el siguiente curso en lugar de fallar completamente
+            return null;
+        }
+    }
+    
+    /**
+     * Factoría de hilos daemon con nombre para la carga paralela de cursos.
+     */
+    private static class CargaCursosThreadFactory implements ThreadFactory {
+        
+        /** Contador para numerar los hilos creados */
+        private final AtomicInteger contador = new AtomicInteger(1);
+        
+        @Override
+        public Thread newThread(Runnable tarea) {
+            Thread hilo = new Thread(tarea, "kursor-carga-cursos-" + contador.getAndIncrement());
+            hilo.setDaemon(true);
+            return hilo;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.kursor.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.kursor.yaml.dto.CursoPreviewDTO;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lector de la cabecera de un archivo YAML de curso.
+ *
+ * <p>Para construir una vista previa solo se necesitan los campos {@code titulo}
+ * y {@code descripcion} del nivel superior. Este lector recorre el flujo de
+ * tokens y cierra el archivo en cuanto los ha encontrado, de modo que el coste
+ * de una vista previa no depende del tamaño del curso. Los campos intermedios
+ * se saltan sin materializarse.</p>
+ *
+ * <p>Opcionalmente puede realizar un recuento de bloques y preguntas. En ese
+ * caso el archivo se recorre hasta el final, pero cada bloque y cada pregunta se
+ * salta a nivel de token sin construir mapas ni objetos de dominio.</p>
+ *
+ * <p>También lee la cabecera de los archivos de bloque de los cursos
+ * fragmentados ({@link #leerCabeceraBloque(File)}).</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CursoPreviewService
+ * @see CursoPreviewDTO
+ */
+public class CursoYamlHeaderReader {
+
+    /** Logger para registrar eventos del lector */
+    private static final Logger logger = LoggerFactory.getLogger(CursoYamlHeaderReader.class);
+
+    /** Mapper YAML usado para crear el parser de tokens */
+    private final ObjectMapper yamlMapper;
+
+    /**
+     * Constructor que crea un lector con su propio mapper YAML.
+     */
+    public CursoYamlHeaderReader() {
+        this(new ObjectMapper(new YAMLFactory()));
+    }
+
+    /**
+     * Constructor que reutiliza un mapper YAML existente.
+     *
+     * @param yamlMapper Mapper configurado con una {@link YAMLFactory} (no debe ser null)
+     * @throws IllegalArgumentException si el mapper es null
+     */
+    public CursoYamlHeaderReader(ObjectMapper yamlMapper) {
+        if (yamlMapper == null) {
+            throw new IllegalArgumentException("El mapper YAML no puede ser null");
+        }
+        this.yamlMapper = yamlMapper;
+    }
+
+    /**
+     * Lee la cabecera de un curso y construye su vista previa.
+     *
+     * @param id Identificador del curso
+     * @param yamlFile Archivo YAML del curso
+     * @param contar true para recontar también bloques y preguntas
+     * @return La vista previa del curso
+     * @throws IOException si el archivo no se puede leer o no tiene la estructura esperada
+     * @throws IllegalArgumentException si el curso no tiene título
+     */
+    public CursoPreviewDTO leer(String id, File yamlFile, boolean contar) throws IOException {
+        logger.debug("Leyendo cabecera del curso - ID: " + id + ", Archivo: " + yamlFile.getName() +
+                    ", Recuento: " + contar);
+
+        try (JsonParser parser = yamlMapper.getFactory().createParser(yamlFile)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("El curso " + id + " no es un objeto YAML");
+            }
+
+            String titulo = null;
+            String descripcion = null;
+            boolean tieneTitulo = false;
+            boolean tieneDescripcion = false;
+            int numeroBloques = 0;
+            int numeroPreguntas = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String campo = parser.getCurrentName();
+                JsonToken valor = parser.nextToken();
+
+                switch (campo) {
+                    case "titulo":
+                        titulo = leerTexto(parser, valor);
+                        tieneTitulo = true;
+                        break;
+                    case "descripcion":
+                        descripcion = leerTexto(parser, valor);
+                        tieneDescripcion = true;
+                        break;
+                    case "bloques":
+                        if (contar && valor == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                numeroBloques++;
+                                numeroPreguntas += contarPreguntasDeBloque(parser);
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+
+                if (!contar && tieneTitulo && tieneDescripcion) {
+                    // El resto del archivo no es necesario para la vista previa
+                    break;
+                }
+            }
+
+            CursoPreviewDTO preview = new CursoPreviewDTO(id, titulo, descripcion);
+            if (contar) {
+                preview.setNumeroBloques(numeroBloques);
+                preview.setNumeroPreguntas(numeroPreguntas);
+            }
+            return preview;
+        }
+    }
+
+    /**
+     * Lee los metadatos de un archivo de bloque y cuenta sus preguntas sin
+     * materializarlas.
+     *
+     * <p>El mapa devuelto contiene las claves {@code id}, {@code titulo},
+     * {@code descripcion} y {@code tipo} (con valor null si no aparecen) y
+     * {@code numeroPreguntas} como {@link Integer}.</p>
+     *
+     * @param bloqueFile Archivo YAML del bloque
+     * @return Mapa con los metadatos del bloque
+     * @throws IOException si el archivo no se puede leer o no es un objeto YAML
+     */
+    public Map<String, Object> leerCabeceraBloque(File bloqueFile) throws IOException {
+        logger.debug("Leyendo cabecera del bloque: " + bloqueFile.getName());
+
+        try (JsonParser parser = yamlMapper.getFactory().createParser(bloqueFile)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("El bloque " + bloqueFile.getName() + " no es un objeto YAML");
+            }
+
+            Map<String, Object> cabecera = new LinkedHashMap<>();
+            cabecera.put("id", null);
+            cabecera.put("titulo", null);
+            cabecera.put("descripcion", null);
+            cabecera.put("tipo", null);
+            int numeroPreguntas = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String campo = parser.getCurrentName();
+                JsonToken valor = parser.nextToken();
+
+                if ("preguntas".equals(campo) && valor == JsonToken.START_ARRAY) {
+                    numeroPreguntas += contarElementos(parser);
+                } else if (cabecera.containsKey(campo)) {
+                    cabecera.put(campo, leerTexto(parser, valor));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            cabecera.put("numeroPreguntas", numeroPreguntas);
+            return cabecera;
+        }
+    }
+
+    /**
+     * Cuenta las preguntas de un bloque sin materializarlas. El parser debe estar
+     * posicionado en el {@code START_OBJECT} del bloque y queda posicionado en su
+     * {@code END_OBJECT}.
+     *
+     * @param parser Parser de tokens
+     * @return Número de preguntas del bloque
+     * @throws IOException si falla la lectura
+     */
+    private int contarPreguntasDeBloque(JsonParser parser) throws IOException {
+        int preguntas = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = parser.getCurrentName();
+            JsonToken valor = parser.nextToken();
+
+            if ("preguntas".equals(campo) && valor == JsonToken.START_ARRAY) {
+                preguntas += contarElementos(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return preguntas;
+    }
+
+    /**
+     * Cuenta los elementos de una lista saltándolos a nivel de token. El parser
+     * debe estar posicionado en su {@code START_ARRAY} y queda posicionado en su
+     * {@code END_ARRAY}.
+     *
+     * @param parser Parser de tokens
+     * @return Número de elementos de la lista
+     * @throws IOException si falla la lectura
+     */
+    private int contarElementos(JsonParser parser) throws IOException {
+        int elementos = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            elementos++;
+            parser.skipChildren();
+        }
+        return elementos;
+    }
+
+    /**
+     * Lee el valor escalar actual como texto, o null si es nulo. Los valores
+     * compuestos se saltan y se tratan como null.
+     *
+     * @param parser Parser posicionado en el valor
+     * @param valor Token del valor
+     * @return Texto del valor, o null
+     * @throws IOException si falla la lectura
+     */
+    private String leerTexto(JsonParser parser, JsonToken valor) throws IOException {
+        if (valor == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (valor.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+}
@@ -0,0 +1,403 @@
+package com.kursor.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.kursor.domain.Bloque;
+import com.kursor.domain.Curso;
+import com.kursor.domain.Pregunta;
+import com.kursor.factory.PreguntaFactory;
+import com.kursor.modules.CamposPregunta;
+import com.kursor.modules.PreguntaModule;
+import com.kursor.shared.util.PoolCadenas;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parser en streaming de archivos YAML de cursos.
+ *
+ * <p>A diferencia de la carga basada en {@code readValue(file, Map.class)}, este
+ * parser recorre el flujo de tokens de Jackson ({@code YAMLParser}) y construye
+ * los {@link Bloque} y las {@link Pregunta} a medida que llegan. En ningún
+ * momento se mantiene en memoria el árbol genérico completo del documento.</p>
+ *
+ * <p>Los campos de cada pregunta se leen directamente del flujo de tokens a una
+ * vista {@link CamposPregunta} que se reutiliza para todas las preguntas del
+ * bloque, y el módulo construye la pregunta a partir de ella
+ * ({@link PreguntaModule#parsePregunta(CamposPregunta)}). No se crea un mapa
+ * genérico por pregunta ni una segunda copia para compartir sus cadenas: los
+ * nombres de campo, el {@code tipo} y las listas de cadenas se comparten con el
+ * pool a medida que se leen; los textos propios de cada pregunta no. Así, la memoria y las
+ * reservas por pregunta quedan limitadas al propio modelo de dominio.</p>
+ *
+ * <p>El parser admite los campos en cualquier orden. Si un bloque declara su
+ * {@code tipo} después de sus preguntas, las preguntas sin tipo propio se
+ * retienen hasta conocerlo. Los campos desconocidos se saltan sin materializarse.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CursoPreviewService
+ * @see PreguntaFactory
+ */
+public class CursoYamlStreamParser {
+
+    /** Logger para registrar eventos del parser */
+    private static final Logger logger = LoggerFactory.getLogger(CursoYamlStreamParser.class);
+
+    /** Mapper YAML usado para crear el parser y leer cada pregunta individual */
+    private final ObjectMapper yamlMapper;
+
+    /** Pool de cadenas del cargador, o null para no compartir valores */
+    private final PoolCadenas pool;
+
+    /**
+     * Constructor que crea un parser con su propio mapper YAML.
+     */
+    public CursoYamlStreamParser() {
+        this(new ObjectMapper(new YAMLFactory()));
+    }
+
+    /**
+     * Constructor que reutiliza un mapper YAML existente.
+     *
+     * @param yamlMapper Mapper configurado con una {@link YAMLFactory} (no debe ser null)
+     * @throws IllegalArgumentException si el mapper es null
+     */
+    public CursoYamlStreamParser(ObjectMapper yamlMapper) {
+        this(yamlMapper, null);
+    }
+
+    /**
+     * Constructor que reutiliza un mapper YAML existente y comparte las cadenas
+     * de los cursos a través de un pool.
+     *
+     * @param yamlMapper Mapper configurado con una {@link YAMLFactory} (no debe ser null)
+     * @param pool Pool de cadenas del cargador (puede ser null)
+     * @throws IllegalArgumentException si el mapper es null
+     */
+    public CursoYamlStreamParser(ObjectMapper yamlMapper, PoolCadenas pool) {
+        if (yamlMapper == null) {
+            throw new IllegalArgumentException("El mapper YAML no puede ser null");
+        }
+        this.yamlMapper = yamlMapper;
+        this.pool = pool;
+    }
+
+    /**
+     * Parsea un curso completo desde un archivo YAML en streaming.
+     *
+     * @param id Identificador del curso
+     * @param yamlFile Archivo YAML del curso
+     * @return El curso con sus bloques y preguntas
+     * @throws IOException si el archivo no se puede leer o no tiene la estructura esperada
+     * @throws RuntimeException si alguna pregunta no se puede crear
+     */
+    public Curso parsear(String id, File yamlFile) throws IOException {
+        logger.debug("Parseando curso en streaming - ID: " + id + ", Archivo: " + yamlFile.getName());
+
+        try (JsonParser parser = yamlMapper.getFactory().createParser(yamlFile)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("El curso " + id + " no es un objeto YAML");
+            }
+
+            String titulo = null;
+            String descripcion = null;
+            List<Bloque> bloques = new ArrayList<>();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String campo = parser.getCurrentName();
+                JsonToken valor = parser.nextToken();
+
+                switch (campo) {
+                    case "titulo":
+                        titulo = leerTexto(parser, valor);
+                        break;
+                    case "descripcion":
+                        descripcion = leerTexto(parser, valor);
+                        break;
+                    case "bloques":
+                        if (valor == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                bloques.add(parsearBloque(parser, id, null));
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            Curso curso = new Curso(id, titulo, descripcion);
+            if (bloques.isEmpty()) {
+                logger.warn("Curso sin bloques: " + id);
+            }
+            curso.setBloques(bloques);
+
+            logger.info("Curso parseado en streaming - ID: " + id + ", Bloques: " + curso.getNumeroBloques() +
+                       ", Preguntas totales: " + curso.getNumeroPreguntas());
+            return curso;
+        }
+    }
+
+    /**
+     * Parsea un bloque completo desde su propio archivo YAML, tal como se
+     * almacena en los cursos fragmentados. Si el bloque no declara ID o título
+     * se usa el nombre del archivo sin extensión.
+     *
+     * @param cursoId Identificador del curso (prefijo del ID del bloque)
+     * @param bloqueFile Archivo YAML del bloque
+     * @return El bloque con sus preguntas
+     * @throws IOException si el archivo no se puede leer o no tiene la estructura esperada
+     * @throws RuntimeException si alguna pregunta no se puede crear
+     */
+    public Bloque parsearBloque(String cursoId, File bloqueFile) throws IOException {
+        logger.debug("Parseando bloque en streaming - Curso: " + cursoId + ", Archivo: " + bloqueFile.getName());
+
+        try (JsonParser parser = yamlMapper.getFactory().createParser(bloqueFile)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("El bloque " + bloqueFile.getName() + " no es un objeto YAML");
+            }
+            String nombre = bloqueFile.getName();
+            int punto = nombre.lastIndexOf('.');
+            return parsearBloque(parser, cursoId, punto > 0 ? nombre.substring(0, punto) : nombre);
+        }
+    }
+
+    /**
+     * Parsea un bloque. El parser debe estar posicionado en su {@code START_OBJECT}
+     * y queda posicionado en su {@code END_OBJECT}.
+     *
+     * @param parser Parser de tokens
+     * @param cursoId Identificador del curso (prefijo del ID del bloque)
+     * @param idPorDefecto ID y título a usar si el bloque no los declara (puede ser null)
+     * @return El bloque con sus preguntas
+     * @throws IOException si el bloque no tiene la estructura esperada
+     */
+    private Bloque parsearBloque(JsonParser parser, String cursoId, String idPorDefecto) throws IOException {
+        String bloqueId = null;
+        String titulo = null;
+        String descripcion = null;
+        String tipo = null;
+        List<Pregunta> preguntas = new ArrayList<>();
+        // Vista reutilizada para los campos de todas las preguntas del bloque
+        CamposPregunta campos = new CamposPregunta();
+        // Preguntas sin tipo propio vistas antes que el tipo del bloque
+        List<Map<String, Object>> pendientes = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = parser.getCurrentName();
+            JsonToken valor = parser.nextToken();
+
+            switch (campo) {
+                case "id":
+                    bloqueId = leerTexto(parser, valor);
+                    break;
+                case "titulo":
+                    titulo = leerTexto(parser, valor);
+                    break;
+                case "descripcion":
+                    descripcion = leerTexto(parser, valor);
+                    break;
+                case "tipo":
+                    tipo = leerTexto(parser, valor);
+                    break;
+                case "preguntas":
+                    if (valor != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        leerCampos(parser, campos);
+                        if (esVacio(campos.get("tipo")) && esVacio(tipo)) {
+                            pendientes.add(campos.aMapa());
+                        } else {
+                            preguntas.add(crearPregunta(campos, tipo));
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        for (Map<String, Object> preguntaData : pendientes) {
+            campos.limpiar();
+            preguntaData.forEach(campos::poner);
+            preguntas.add(crearPregunta(campos, tipo));
+        }
+
+        if (idPorDefecto != null) {
+            bloqueId = esVacio(bloqueId) ? idPorDefecto : bloqueId;
+            titulo = esVacio(titulo) ? bloqueId : titulo;
+        }
+
+        Bloque bloque = new Bloque(cursoId + "-" + bloqueId, compartir(titulo), compartir(descripcion),
+                                   compartir(tipo));
+        bloque.setPreguntas(preguntas);
+        logger.debug("Bloque parseado en streaming - ID: " + bloque.getId() + ", Preguntas: " + preguntas.size());
+        return bloque;
+    }
+
+    /**
+     * Lee los campos de una pregunta. El parser debe estar posicionado en su
+     * {@code START_OBJECT} y queda posicionado en su {@code END_OBJECT}.
+     *
+     * @param parser Parser de tokens
+     * @param campos Vista donde se dejan los campos; se vacía antes de leer
+     * @throws IOException si falla la lectura
+     */
+    private void leerCampos(JsonParser parser, CamposPregunta campos) throws IOException {
+        campos.limpiar();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = compartir(parser.getCurrentName());
+            campos.poner(campo, leerValor(parser, parser.nextToken(), PoolCadenas.esCampoCompartido(campo)));
+        }
+    }
+
+    /**
+     * Lee el valor actual con el mismo tipo que le daría el mapper YAML,
+     * compartiendo con el pool las listas de cadenas y, si el campo lo admite,
+     * su texto.
+     *
+     * <p>Los escalares y las listas se leen directamente de los tokens. Las
+     * listas de cadenas se devuelven inmutables (compartidas si hay pool). Los
+     * objetos anidados, poco habituales en las preguntas, se leen con el mapper.</p>
+     *
+     * @param parser Parser posicionado en el valor
+     * @param valor Token del valor
+     * @param compartirTexto true si el campo está en {@link PoolCadenas#CAMPOS_COMPARTIDOS}
+     * @return Valor leído (puede ser null)
+     * @throws IOException si falla la lectura
+     */
+    private Object leerValor(JsonParser parser, JsonToken valor, boolean compartirTexto) throws IOException {
+        switch (valor) {
+            case VALUE_STRING:
+                return compartirTexto ? compartir(parser.getText()) : parser.getText();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case START_ARRAY:
+                return leerLista(parser, compartirTexto);
+            default:
+                Object generico = yamlMapper.readValue(parser, Object.class);
+                if (pool != null && generico instanceof Map) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> datos = (Map<String, Object>) generico;
+                    return pool.datos(datos);
+                }
+                return generico;
+        }
+    }
+
+    /**
+     * Lee una lista. El parser debe estar posicionado en su {@code START_ARRAY}
+     * y queda posicionado en su {@code END_ARRAY}.
+     *
+     * @param parser Parser de tokens
+     * @param compartirTexto true si el campo está en {@link PoolCadenas#CAMPOS_COMPARTIDOS}
+     * @return Lista inmutable si solo contiene cadenas; en otro caso, lista mutable
+     * @throws IOException si falla la lectura
+     */
+    private List<Object> leerLista(JsonParser parser, boolean compartirTexto) throws IOException {
+        List<Object> elementos = new ArrayList<>();
+        boolean soloCadenas = true;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            Object elemento = leerValor(parser, token, compartirTexto);
+            soloCadenas &= elemento instanceof String;
+            elementos.add(elemento);
+        }
+        if (!soloCadenas) {
+            return elementos;
+        }
+        List<String> cadenas = pool != null ? pool.lista(elementos) : null;
+        return cadenas != null ? List.copyOf(cadenas) : List.copyOf(elementos);
+    }
+
+    /**
+     * Crea una pregunta a partir de sus campos, usando el tipo del bloque si la
+     * pregunta no declara el suyo.
+     *
+     * @param campos Campos de la pregunta
+     * @param bloqueTipo Tipo del bloque que contiene la pregunta
+     * @return La pregunta creada
+     * @throws RuntimeException si la pregunta no se puede crear
+     */
+    private Pregunta crearPregunta(CamposPregunta campos, String bloqueTipo) {
+        if (esVacio(campos.get("tipo"))) {
+            campos.poner("tipo", compartir(bloqueTipo));
+        }
+        Object tipo = campos.get("tipo");
+
+        try {
+            Pregunta pregunta = PreguntaFactory.crearPregunta(campos);
+            if (pregunta == null) {
+                String errorMsg = "La factory retornó null para la pregunta de tipo: " + tipo;
+                logger.error(errorMsg);
+                throw new RuntimeException(errorMsg);
+            }
+            return pregunta;
+        } catch (Exception e) {
+            String errorMsg = "Error al crear pregunta de tipo " + tipo + ": " + e.getMessage();
+            logger.error(errorMsg);
+            throw new RuntimeException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Obtiene la instancia compartida de una cadena si hay pool.
+     *
+     * @param valor Cadena (puede ser null)
+     * @return La instancia compartida, o el propio valor
+     */
+    private String compartir(String valor) {
+        return pool != null ? pool.cadena(valor) : valor;
+    }
+
+    /**
+     * Lee el valor escalar actual como texto, o null si es nulo. Los valores
+     * compuestos se saltan y se tratan como null.
+     *
+     * @param parser Parser posicionado en el valor
+     * @param valor Token del valor
+     * @return Texto del valor, o null
+     * @throws IOException si falla la lectura
+     */
+    private String leerTexto(JsonParser parser, JsonToken valor) throws IOException {
+        if (valor == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (valor.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Comprueba si un valor de tipo está ausente o vacío.
+     *
+     * @param valor Valor a comprobar
+     * @return true si es null o una cadena vacía
+     */
+    private static boolean esVacio(Object valor) {
+        return valor == null || valor.toString().isEmpty();
+    }
+}
@@ -0,0 +1,815 @@
+package com.kursor.shared.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cargador genérico de plugins de un tipo de servicio.
+ *
+ * <p>Reúne todo el ciclo de vida de los plugins que comparten
+ * {@link ModuleManager} (módulos de preguntas) y {@link StrategyManager}
+ * (estrategias de aprendizaje), que son fachadas sobre esta clase:</p>
+ * <ul>
+ *   <li>Descubrimiento de los JAR del directorio de plugins</li>
+ *   <li>Validación del JAR y de su archivo de servicios, con
+ *       {@link IndicePlugins} para no repetirla en los JAR sin cambios</li>
+ *   <li>Un {@link PluginClassLoader} por JAR e instanciación directa o
+ *       perezosa ({@link PluginPerezoso}) según su {@link DescriptorPlugin}</li>
+ *   <li>Registro de los plugins válidos en un {@link PluginRegistry} con
+ *       búsqueda por clave o alias en tiempo constante, contada en
+ *       {@link EstadisticasBusqueda}</li>
+ *   <li>Carga, sustitución y retirada en caliente con
+ *       {@link PluginsDirectoryWatcher}</li>
+ * </ul>
+ *
+ * <p><strong>Carga en paralelo:</strong> Los JAR se validan, se abren y se
+ * instancian en paralelo, cada uno con un tiempo máximo
+ * ({@value #PROPIEDAD_TIEMPO_MAXIMO}, por defecto
+ * {@value #TIEMPO_MAXIMO_POR_DEFECTO_MS} ms). Un JAR que falla o que supera su
+ * tiempo máximo se descarta sin afectar a los demás. El registro se realiza
+ * después, en el orden de los nombres de los JAR, para que el resultado no
+ * dependa de qué JAR termina antes.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Las modificaciones están sincronizadas y
+ * el registro se sustituye completo en cada cambio, de modo que las búsquedas no
+ * necesitan bloqueos.</p>
+ *
+ * @param <T> Tipo del servicio de los plugins
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PluginRegistry
+ */
+public class CargadorPlugins<T> {
+
+    /** Logger para registrar eventos del cargador */
+    private static final Logger logger = LoggerFactory.getLogger(CargadorPlugins.class);
+
+    /** Propiedad del sistema con el tiempo máximo de carga de cada JAR en milisegundos */
+    public static final String PROPIEDAD_TIEMPO_MAXIMO = "kursor.plugins.timeout.ms";
+
+    /** Tiempo máximo de carga de cada JAR por defecto */
+    public static final long TIEMPO_MAXIMO_POR_DEFECTO_MS = 10_000;
+
+    /** Formato de un nombre de clase en el archivo de servicios */
+    private static final String PATRON_CLASE = "[a-zA-Z_$][a-zA-Z\\d_$]*(?:\\.[a-zA-Z_$][a-zA-Z\\d_$]*)*";
+
+    /** Nombre de los plugins en logs, hilos y perfilador (por ejemplo, "modulos") */
+    private final String nombre;
+
+    /** Interfaz del servicio */
+    private final Class<T> servicio;
+
+    /** Directorio de los JAR */
+    private final File directorio;
+
+    /** Ruta del archivo de servicios dentro de los JAR */
+    private final String archivoServicios;
+
+    /** Función que obtiene la clave de un plugin */
+    private final Function<? super T, String> clave;
+
+    /** Función que obtiene los alias de un plugin */
+    private final Function<? super T, ? extends Collection<String>> alias;
+
+    /** Validación propia del tipo de plugin */
+    private final Predicate<? super T> validador;
+
+    /** Metadatos de un descriptor por método del servicio, o null si el descriptor no basta */
+    private final Function<DescriptorPlugin, Map<String, Object>> metadatos;
+
+    /** Índice de los JAR ya validados */
+    private final IndicePlugins indice;
+
+    /** ClassLoader de cada plugin activo, por ruta absoluta del JAR */
+    private final Map<String, PluginClassLoader> plugins = new ConcurrentHashMap<>();
+
+    /** Listeners notificados cuando cambia un plugin */
+    private final List<PluginCambioListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Búsquedas por clave y fallos */
+    private final EstadisticasBusqueda estadisticas = new EstadisticasBusqueda();
+
+    /** Registro actual de plugins */
+    private volatile PluginRegistry<T> registro;
+
+    /** Tiempo máximo de carga de cada JAR */
+    private volatile long tiempoMaximoMs;
+
+    /** Vigilante del directorio, o null si no está activo */
+    private PluginsDirectoryWatcher vigilante;
+
+    /**
+     * Crea un cargador de plugins.
+     *
+     * @param nombre Nombre de los plugins en logs, hilos y perfilador
+     * @param servicio Interfaz del servicio
+     * @param directorio Directorio de los JAR
+     * @param clave Función que obtiene la clave única de un plugin
+     * @param validador Validación propia del tipo de plugin
+     * @param metadatos Función que traduce un descriptor a los valores de los
+     *                  métodos de metadatos del servicio, o devuelve null si el
+     *                  descriptor no permite registrar el plugin sin instanciarlo
+     */
+    public CargadorPlugins(String nombre, Class<T> servicio, File directorio,
+                           Function<? super T, String> clave, Predicate<? super T> validador,
+                           Function<DescriptorPlugin, Map<String, Object>> metadatos) {
+        this(nombre, servicio, directorio, clave, plugin -> List.of(), validador, metadatos);
+    }
+
+    /**
+     * Crea un cargador de plugins cuyos plugins declaran alias de su clave.
+     *
+     * @param nombre Nombre de los plugins en logs, hilos y perfilador
+     * @param servicio Interfaz del servicio
+     * @param directorio Directorio de los JAR
+     * @param clave Función que obtiene la clave única de un plugin
+     * @param alias Función que obtiene los alias de un plugin
+     * @param validador Validación propia del tipo de plugin
+     * @param metadatos Función que traduce un descriptor a los valores de los
+     *                  métodos de metadatos del servicio, o devuelve null si el
+     *                  descriptor no permite registrar el plugin sin instanciarlo
+     */
+    public CargadorPlugins(String nombre, Class<T> servicio, File directorio,
+                           Function<? super T, String> clave,
+                           Function<? super T, ? extends Collection<String>> alias,
+                           Predicate<? super T> validador,
+                           Function<DescriptorPlugin, Map<String, Object>> metadatos) {
+        this.nombre = nombre;
+        this.servicio = servicio;
+        this.directorio = directorio;
+        this.archivoServicios = "META-INF/services/" + servicio.getName();
+        this.clave = clave;
+        this.alias = alias;
+        this.validador = validador;
+        this.metadatos = metadatos;
+        this.indice = new IndicePlugins(new File(directorio, IndicePlugins.ARCHIVO));
+        this.registro = PluginRegistry.vacio(clave, alias);
+        this.tiempoMaximoMs = Long.getLong(PROPIEDAD_TIEMPO_MAXIMO, TIEMPO_MAXIMO_POR_DEFECTO_MS);
+    }
+
+    /**
+     * Carga en paralelo todos los JAR del directorio de plugins.
+     *
+     * <p>Si el directorio no existe se crea y no se carga nada.</p>
+     *
+     * @return Número de plugins cargados
+     * @throws IllegalStateException si la ruta no es un directorio o no se puede leer
+     */
+    public synchronized int cargarTodos() {
+        logger.info("Iniciando carga de {} desde directorio: {}", nombre, directorio);
+
+        if (!directorio.exists()) {
+            logger.warn("El directorio de {} no existe: {}", nombre, directorio);
+            if (directorio.mkdirs()) {
+                logger.info("Directorio de {} creado: {}", nombre, directorio);
+            } else {
+                logger.error("No se pudo crear el directorio de {}: {}", nombre, directorio);
+            }
+            return 0;
+        }
+
+        if (!directorio.isDirectory()) {
+            logger.error("La ruta de {} no es un directorio: {}", nombre, directorio);
+            throw new IllegalStateException("La ruta de " + nombre + " no es un directorio: " + directorio);
+        }
+
+        if (!directorio.canRead()) {
+            logger.error("No se tienen permisos de lectura en el directorio: {}", directorio);
+            throw new IllegalStateException("Sin permisos de lectura en: " + directorio);
+        }
+
+        File[] jarFiles = directorio.listFiles((dir, name) -> name.toLowerCase().endsWith(".jar"));
+        if (jarFiles == null) {
+            logger.error("Error al listar archivos en el directorio: {}", directorio);
+            return 0;
+        }
+        if (jarFiles.length == 0) {
+            logger.warn("No se encontraron archivos JAR en el directorio: {}", directorio);
+            return 0;
+        }
+        Arrays.sort(jarFiles);
+
+        logger.info("Encontrados {} archivos JAR de {}", jarFiles.length, nombre);
+
+        int cargados = 0;
+        for (JarPreparado<T> preparado : prepararEnParalelo(Arrays.asList(jarFiles))) {
+            cargados += registrar(preparado);
+        }
+
+        indice.conservarSolo(Arrays.asList(jarFiles));
+        indice.guardar();
+
+        logger.info("Carga de {} completada: {} plugins desde {} archivos JAR", nombre, cargados, jarFiles.length);
+        return cargados;
+    }
+
+    /**
+     * Carga los plugins declarados en el classpath de la aplicación con
+     * {@link ServiceLoader}, como alternativa a los JAR del directorio.
+     *
+     * @return Número de plugins cargados
+     */
+    public synchronized int cargarDesdeClasspath() {
+        logger.info("Cargando {} desde classpath", nombre);
+
+        PluginRegistry<T> base = registro;
+        Set<String> claves = new HashSet<>();
+        List<T> nuevos = new ArrayList<>();
+        try {
+            for (T plugin : ServiceLoader.load(servicio)) {
+                if (aceptar(plugin, base, claves, "classpath")) {
+                    nuevos.add(plugin);
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.error("Error al cargar {} desde classpath: {}", nombre, e.getMessage(), e);
+        }
+
+        registro = base.con(List.of(), nuevos);
+        logger.info("Carga de {} desde classpath completada: {} plugins", nombre, nuevos.size());
+        return nuevos.size();
+    }
+
+    /**
+     * Aplica el estado actual de un JAR del directorio: lo carga si es nuevo,
+     * lo sustituye si ha cambiado y retira sus plugins si ha desaparecido.
+     *
+     * <p>Si la nueva versión no aporta ningún plugin válido se conserva la
+     * anterior. Los objetos creados con la versión anterior siguen funcionando.
+     * Los listeners registrados se notifican del cambio.</p>
+     *
+     * @param jarFile Archivo JAR del directorio
+     * @return El evento del cambio aplicado, o null si no hubo cambios
+     * @throws IllegalArgumentException si el archivo es null
+     */
+    public PluginCambioEvento recargar(File jarFile) {
+        if (jarFile == null) {
+            throw new IllegalArgumentException("El archivo JAR no puede ser null");
+        }
+
+        PluginCambioEvento evento;
+        synchronized (this) {
+            boolean estabaCargado = plugins.containsKey(jarFile.getAbsolutePath());
+            if (jarFile.isFile()) {
+                int cargados = 0;
+                for (JarPreparado<T> preparado : prepararEnParalelo(List.of(jarFile))) {
+                    cargados += registrar(preparado);
+                }
+                if (cargados == 0) {
+                    return null;
+                }
+                evento = new PluginCambioEvento(estabaCargado ? PluginCambioEvento.Tipo.REEMPLAZADO
+                                                              : PluginCambioEvento.Tipo.CARGADO,
+                                                jarFile, cargados);
+            } else if (estabaCargado) {
+                descargar(jarFile);
+                evento = new PluginCambioEvento(PluginCambioEvento.Tipo.DESCARGADO, jarFile, 0);
+            } else {
+                return null;
+            }
+            indice.guardar();
+        }
+
+        logger.info("🔌 Plugin de {} {}: {}", nombre, evento.getTipo(), jarFile.getName());
+        for (PluginCambioListener listener : listeners) {
+            try {
+                listener.pluginCambiado(evento);
+            } catch (Exception e) {
+                logger.error("Error en listener de cambios de {}: {}", nombre, e.getMessage(), e);
+            }
+        }
+        return evento;
+    }
+
+    /**
+     * Retira los plugins cargados desde un JAR.
+     *
+     * @param jarFile Archivo JAR
+     */
+    private synchronized void descargar(File jarFile) {
+        PluginClassLoader anterior = plugins.remove(jarFile.getAbsolutePath());
+        if (anterior == null) {
+            return;
+        }
+
+        registro = registro.con(anterior.getInstancias(), List.of());
+        anterior.retirar();
+        indice.conservarSolo(plugins.values().stream().map(PluginClassLoader::getJarFile).toList());
+    }
+
+    /**
+     * Valida, abre e instancia varios JAR en paralelo, cada uno con su tiempo
+     * máximo. Los JAR inválidos, fallidos o que superan su tiempo se descartan.
+     *
+     * @param jarFiles JAR a preparar
+     * @return JAR preparados, en el mismo orden
+     */
+    private List<JarPreparado<T>> prepararEnParalelo(List<File> jarFiles) {
+        int hilos = Math.min(jarFiles.size(), Math.max(2, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(hilos, tarea -> {
+            Thread hilo = new Thread(tarea, "kursor-" + nombre + "-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+
+        try {
+            List<CompletableFuture<JarPreparado<T>>> futuros = new ArrayList<>();
+            for (File jarFile : jarFiles) {
+                futuros.add(prepararConTiempoMaximo(jarFile, executor));
+            }
+
+            List<JarPreparado<T>> preparados = new ArrayList<>();
+            for (int i = 0; i < jarFiles.size(); i++) {
+                File jarFile = jarFiles.get(i);
+                try {
+                    JarPreparado<T> preparado = futuros.get(i).join();
+                    if (preparado != null) {
+                        preparados.add(preparado);
+                    }
+                } catch (CompletionException e) {
+                    Throwable causa = e.getCause();
+                    if (causa instanceof TimeoutException) {
+                        logger.error("⏱️ {} superó el tiempo máximo de carga ({} ms) y se descarta",
+                                    jarFile.getName(), tiempoMaximoMs);
+                    } else {
+                        logger.error("Error al cargar el JAR {}: {}", jarFile.getName(), causa.toString(), causa);
+                    }
+                }
+            }
+            return preparados;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Prepara un JAR en el executor. El tiempo máximo empieza a contar cuando
+     * el JAR empieza a prepararse; al superarlo el futuro falla con
+     * {@link TimeoutException} y se interrumpe el hilo que lo preparaba. Si la
+     * preparación termina después, su ClassLoader se descarta.
+     *
+     * @param jarFile JAR a preparar
+     * @param executor Executor de la carga
+     * @return Futuro con el JAR preparado, o null si el JAR no es válido
+     */
+    private CompletableFuture<JarPreparado<T>> prepararConTiempoMaximo(File jarFile, ExecutorService executor) {
+        CompletableFuture<JarPreparado<T>> futuro = new CompletableFuture<>();
+        executor.execute(() -> {
+            Thread hilo = Thread.currentThread();
+            // orTimeout cancela su temporizador al completarse, sin retener el resultado
+            futuro.orTimeout(tiempoMaximoMs, TimeUnit.MILLISECONDS).whenComplete((preparado, error) -> {
+                if (error instanceof TimeoutException) {
+                    hilo.interrupt();
+                }
+            });
+
+            try {
+                JarPreparado<T> preparado = prepararJar(jarFile);
+                if (!futuro.complete(preparado) && preparado != null) {
+                    logger.debug("{} terminó de prepararse tras su tiempo máximo", jarFile.getName());
+                    preparado.descartar();
+                }
+            } catch (Throwable e) {
+                futuro.completeExceptionally(e);
+            }
+        });
+        return futuro;
+    }
+
+    /**
+     * Valida un JAR (o recupera su validación del índice), crea su ClassLoader
+     * e instancia sus clases de servicio.
+     *
+     * @param jarFile JAR a preparar
+     * @return JAR preparado, o null si no es un JAR de plugins válido
+     * @throws IOException si no se puede crear la copia privada del JAR
+     */
+    private JarPreparado<T> prepararJar(File jarFile) throws IOException {
+        try (PerfiladorArranque.Medicion m = PerfiladorArranque.getInstance().medir(nombre, jarFile.getName())) {
+            logger.debug("Procesando archivo JAR: {} (tamaño: {} bytes)", jarFile.getName(), jarFile.length());
+
+            List<String> servicios = indice.buscar(jarFile);
+            DescriptorPlugin descriptor;
+            if (servicios != null) {
+                logger.debug("JAR sin cambios desde la última validación: {}", jarFile.getName());
+                descriptor = indice.getDescriptor(jarFile);
+            } else {
+                servicios = validarJar(jarFile);
+                if (servicios == null) {
+                    logger.warn("Archivo JAR no válido, saltando: {}", jarFile.getName());
+                    return null;
+                }
+                descriptor = DescriptorPlugin.leer(jarFile);
+                indice.registrar(jarFile, servicios, descriptor);
+            }
+
+            // El ClassLoader no se cierra: las clases del plugin pueden cargarse más adelante
+            PluginClassLoader classLoader = PluginClassLoader.abrir(jarFile, servicio.getClassLoader());
+
+            // El descriptor solo describe el servicio de los JAR con una única clase
+            DescriptorPlugin aplicable = servicios.size() == 1 ? descriptor : DescriptorPlugin.vacio();
+            List<T> instancias = new ArrayList<>();
+            for (String clase : servicios) {
+                try {
+                    instancias.add(crearInstancia(classLoader, clase, aplicable));
+                } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                    logger.error("No se pudo instanciar {} de {}: {}", clase, jarFile.getName(), e.toString());
+                }
+            }
+            return new JarPreparado<>(jarFile, classLoader, instancias);
+        }
+    }
+
+    /**
+     * Crea el plugin de una clase de servicio. Si el descriptor describe la
+     * clase, el plugin se registra sin cargarla y se instancia en su primer uso.
+     *
+     * @param classLoader ClassLoader del JAR
+     * @param clase Clase declarada en el archivo de servicios
+     * @param descriptor Descriptor del JAR
+     * @return Plugin, perezoso o ya instanciado
+     * @throws ReflectiveOperationException si la clase no se puede instanciar
+     */
+    private T crearInstancia(PluginClassLoader classLoader, String clase, DescriptorPlugin descriptor)
+            throws ReflectiveOperationException {
+        Map<String, Object> valores = clase.equals(descriptor.getClase()) ? metadatos.apply(descriptor) : null;
+        if (valores == null) {
+            return classLoader.instanciar(clase, servicio);
+        }
+
+        logger.debug("{} registrado desde su descriptor, se instanciará en su primer uso", clase);
+        return PluginPerezoso.crear(servicio, classLoader, clase, valores);
+    }
+
+    /**
+     * Registra los plugins válidos de un JAR preparado, sustituyendo los de su
+     * versión anterior si la había.
+     *
+     * @param preparado JAR preparado
+     * @return Número de plugins registrados
+     */
+    private synchronized int registrar(JarPreparado<T> preparado) {
+        String ruta = preparado.jarFile.getAbsolutePath();
+        PluginClassLoader anterior = plugins.get(ruta);
+
+        // Los plugins de la versión anterior de este JAR no cuentan como duplicados
+        PluginRegistry<T> base = anterior != null ? registro.con(anterior.getInstancias(), List.of()) : registro;
+        Set<String> claves = new HashSet<>();
+        List<T> nuevos = new ArrayList<>();
+        for (T plugin : preparado.instancias) {
+            if (aceptar(plugin, base, claves, preparado.jarFile.getName())) {
+                nuevos.add(plugin);
+            }
+        }
+
+        if (nuevos.isEmpty()) {
+            logger.warn("No se cargaron {} válidos desde: {}", nombre, preparado.jarFile.getName());
+            if (anterior != null) {
+                logger.warn("Se conserva la versión anterior de: {}", preparado.jarFile.getName());
+            }
+            preparado.descartar();
+            return 0;
+        }
+
+        preparado.classLoader.setInstancias(nuevos);
+        plugins.put(ruta, preparado.classLoader);
+        registro = base.con(List.of(), nuevos);
+        if (anterior != null) {
+            anterior.retirar();
+        }
+        logger.info("Cargados {} {} desde: {}", nuevos.size(), nombre, preparado.jarFile.getName());
+        return nuevos.size();
+    }
+
+    /**
+     * Comprueba que un plugin tiene una clave válida y no duplicada y supera la
+     * validación propia de su tipo.
+     *
+     * @param plugin Plugin a comprobar
+     * @param base Registro con los plugins existentes
+     * @param claves Claves ya aceptadas en esta misma carga; se añade la del plugin si se acepta
+     * @param origen JAR o classpath, para los logs
+     * @return true si el plugin puede registrarse
+     */
+    private boolean aceptar(T plugin, PluginRegistry<T> base, Set<String> claves, String origen) {
+        try {
+            String valor = clave.apply(plugin);
+            if (valor == null || valor.trim().isEmpty()) {
+                logger.warn("Plugin de {} con clave inválida descartado ({}): {}", nombre, origen, valor);
+                return false;
+            }
+            if (base.contiene(valor) || claves.contains(PluginRegistry.normalizar(valor))) {
+                logger.warn("Ya existe un plugin de {} con la clave '{}', se descarta el de {}", nombre, valor, origen);
+                return false;
+            }
+            if (!validador.test(plugin)) {
+                logger.warn("Plugin de {} inválido descartado ({}): {}", nombre, origen, valor);
+                return false;
+            }
+            Collection<String> declarados = alias.apply(plugin);
+            if (declarados != null) {
+                for (String nombreAlias : declarados) {
+                    if (base.contiene(nombreAlias) || claves.contains(PluginRegistry.normalizar(nombreAlias))) {
+                        logger.warn("El alias '{}' del plugin de {} '{}' ya está en uso y se ignora", nombreAlias, nombre, valor);
+                    }
+                }
+            }
+            claves.add(PluginRegistry.normalizar(valor));
+            return true;
+        } catch (Exception e) {
+            logger.error("Error al validar plugin de {} ({}): {}", nombre, origen, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Valida que un archivo JAR contiene un archivo de servicios válido y
+     * clases de implementación.
+     *
+     * @param jarFile Archivo JAR a validar
+     * @return Clases declaradas en el archivo de servicios, o null si el JAR no es válido
+     */
+    private List<String> validarJar(File jarFile) {
+        if (!jarFile.canRead() || jarFile.length() == 0) {
+            logger.warn("Archivo JAR vacío o ilegible: {}", jarFile.getName());
+            return null;
+        }
+
+        try (JarFile jar = new JarFile(jarFile)) {
+            JarEntry serviceEntry = jar.getJarEntry(archivoServicios);
+            if (serviceEntry == null) {
+                logger.error("No se encontró el archivo de servicio {} en {}", archivoServicios, jarFile.getName());
+                return null;
+            }
+
+            List<String> servicios = validarArchivoServicios(jar, serviceEntry, jarFile.getName());
+            if (servicios == null) {
+                return null;
+            }
+
+            int classCount = 0;
+            for (JarEntry entry : Collections.list(jar.entries())) {
+                String entryName = entry.getName();
+                if (entryName.endsWith(".class") && !entryName.contains("$")) {
+                    classCount++;
+                }
+            }
+            if (classCount == 0) {
+                logger.error("El JAR {} no contiene clases de implementación", jarFile.getName());
+                return null;
+            }
+
+            logger.debug("JAR {} validado: {} clases, servicios {}", jarFile.getName(), classCount, servicios);
+            return servicios;
+
+        } catch (IOException e) {
+            logger.error("Error de E/S al validar el JAR {}: {}", jarFile.getName(), e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Lee las clases declaradas en el archivo de servicios de un JAR, ignorando
+     * comentarios y líneas vacías como {@link ServiceLoader}.
+     *
+     * @param jar Archivo JAR abierto
+     * @param serviceEntry Entrada del archivo de servicios
+     * @param jarName Nombre del JAR (para logging)
+     * @return Clases de servicio válidas, o null si no hay ninguna
+     */
+    private List<String> validarArchivoServicios(JarFile jar, JarEntry serviceEntry, String jarName) {
+        try (InputStream is = jar.getInputStream(serviceEntry);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+
+            List<String> servicios = new ArrayList<>();
+            String line;
+            int lineCount = 0;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                int comentario = line.indexOf('#');
+                line = (comentario >= 0 ? line.substring(0, comentario) : line).trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                if (line.matches(PATRON_CLASE)) {
+                    servicios.add(line);
+                } else {
+                    logger.warn("Entrada inválida en línea {} del archivo de servicios en {}: {}",
+                              lineCount, jarName, line);
+                }
+            }
+
+            if (servicios.isEmpty()) {
+                logger.warn("No se encontraron entradas válidas en el archivo de servicios de {}", jarName);
+                return null;
+            }
+            return servicios;
+
+        } catch (IOException e) {
+            logger.error("Error al leer archivo de servicios en {}: {}", jarName, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Obtiene el registro actual de plugins.
+     *
+     * <p>Los plugins registrados desde su descriptor responden a los métodos de
+     * metadatos sin instanciarse.</p>
+     *
+     * @return Registro inmutable
+     */
+    public PluginRegistry<T> getRegistro() {
+        return registro;
+    }
+
+    /**
+     * Obtiene un plugin por su clave o uno de sus alias, instanciándolo si aún
+     * no se ha usado. Cada llamada se cuenta en {@link #getEstadisticas()}.
+     *
+     * @param clavePlugin Clave o alias del plugin, sin distinguir mayúsculas
+     * @return La instancia del plugin, o null si no existe o no se puede instanciar
+     */
+    public T obtener(String clavePlugin) {
+        // La clave se normaliza una sola vez para el registro y los contadores
+        String clave = clavePlugin != null ? PluginRegistry.normalizar(clavePlugin) : "";
+        T plugin = registro.buscarNormalizada(clave);
+        T instancia = plugin != null ? instanciar(plugin) : null;
+        estadisticas.registrarNormalizada(clave, instancia != null);
+        return instancia;
+    }
+
+    /**
+     * Obtiene los contadores de búsquedas por clave de {@link #obtener(String)}.
+     *
+     * @return Estadísticas de búsqueda de este cargador
+     */
+    public EstadisticasBusqueda getEstadisticas() {
+        return estadisticas;
+    }
+
+    /**
+     * Obtiene el plugin que creó un objeto, aunque su JAR se haya sustituido o
+     * retirado después.
+     *
+     * @param objeto Objeto creado por un plugin (por ejemplo, una pregunta)
+     * @param coincide Condición que debe cumplir el plugin
+     * @return La instancia del plugin, o null si el objeto no procede de un plugin
+     */
+    public T obtenerPara(Object objeto, Predicate<? super T> coincide) {
+        ClassLoader classLoader = objeto.getClass().getClassLoader();
+        if (classLoader instanceof PluginClassLoader) {
+            for (Object instancia : ((PluginClassLoader) classLoader).getInstancias()) {
+                if (servicio.isInstance(instancia) && coincide.test(servicio.cast(instancia))) {
+                    return instanciar(servicio.cast(instancia));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene la instancia real de un plugin.
+     *
+     * @param plugin Plugin, perezoso o no
+     * @return La instancia, o null si no se puede instanciar
+     */
+    private T instanciar(T plugin) {
+        try {
+            return PluginPerezoso.obtenerInstancia(plugin);
+        } catch (IllegalStateException e) {
+            logger.error("No se pudo instanciar el plugin de {} '{}': {}", nombre, registro.claveDe(plugin), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Comienza a vigilar el directorio para cargar, sustituir y retirar plugins
+     * sin reiniciar la aplicación.
+     *
+     * @return true si la vigilancia está activa
+     */
+    public synchronized boolean iniciarVigilancia() {
+        if (vigilante != null) {
+            return true;
+        }
+
+        PluginsDirectoryWatcher nuevo = new PluginsDirectoryWatcher(directorio.toPath(), this::recargar);
+        try {
+            nuevo.iniciar();
+            vigilante = nuevo;
+            return true;
+        } catch (IOException e) {
+            logger.warn("No se pudo vigilar el directorio de {} {}: {}", nombre, directorio, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Deja de vigilar el directorio.
+     */
+    public synchronized void detenerVigilancia() {
+        if (vigilante != null) {
+            vigilante.detener();
+            vigilante = null;
+        }
+    }
+
+    /**
+     * Registra un listener que se notifica cuando se carga, sustituye o retira
+     * un plugin en caliente.
+     *
+     * @param listener Listener a registrar
+     */
+    public void addPluginCambioListener(PluginCambioListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Elimina un listener de cambios de plugins.
+     *
+     * @param listener Listener a eliminar
+     */
+    public void removePluginCambioListener(PluginCambioListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Establece el tiempo máximo de carga de cada JAR.
+     *
+     * @param tiempoMaximoMs Tiempo máximo en milisegundos
+     */
+    public void setTiempoMaximo(long tiempoMaximoMs) {
+        this.tiempoMaximoMs = tiempoMaximoMs;
+    }
+
+    /**
+     * Obtiene el directorio de los JAR.
+     *
+     * @return Directorio de plugins
+     */
+    public File getDirectorio() {
+        return directorio;
+    }
+
+    /**
+     * JAR validado, abierto e instanciado, pendiente de registrar.
+     */
+    private static final class JarPreparado<T> {
+
+        private final File jarFile;
+        private final PluginClassLoader classLoader;
+        private final List<T> instancias;
+
+        JarPreparado(File jarFile, PluginClassLoader classLoader, List<T> instancias) {
+            this.jarFile = jarFile;
+            this.classLoader = classLoader;
+            this.instancias = instancias;
+        }
+
+        /**
+         * Cierra el ClassLoader de un JAR que no se registra y borra su copia.
+         */
+        void descartar() {
+            try {
+                classLoader.close();
+            } catch (IOException e) {
+                logger.warn("No se pudo cerrar el ClassLoader de {}: {}", jarFile.getName(), e.getMessage());
+            }
+        }
+    }
+}
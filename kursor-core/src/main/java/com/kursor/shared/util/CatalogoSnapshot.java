@@ -0,0 +1,136 @@
+package com.kursor.shared.util;
+
+import com.kursor.yaml.dto.CursoDTO;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versión inmutable del catálogo de cursos.
+ *
+ * <p>{@link CursoManager} publica el catálogo como una sucesión de instancias de
+ * esta clase. Una instancia no cambia nunca después de crearse: cualquier
+ * modificación ({@link #conCurso(CursoDTO)}, {@link #sinCurso(String)}) produce
+ * una nueva instancia con el número de versión siguiente. Así, un lector que
+ * obtiene una instancia ve siempre un catálogo coherente sin necesidad de
+ * bloqueos, aunque otro hilo esté publicando la siguiente versión.</p>
+ *
+ * <p>La inmutabilidad se refiere a la composición del catálogo (qué cursos lo
+ * forman y en qué orden). Las cabeceras {@link CursoDTO} no deben modificarse
+ * una vez publicadas.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CursoManager#getCatalogo()
+ */
+public final class CatalogoSnapshot {
+
+    /** Número de versión del catálogo, creciente con cada cambio */
+    private final long version;
+
+    /** Cabeceras de los cursos indexadas por ID, en orden de catálogo */
+    private final Map<String, CursoDTO> cursosPorId;
+
+    /** Cabeceras de los cursos en orden de catálogo */
+    private final List<CursoDTO> cursos;
+
+    /**
+     * Constructor que crea una versión del catálogo a partir de sus cursos.
+     *
+     * @param version Número de versión
+     * @param cursos Cabeceras de los cursos en orden de catálogo
+     */
+    public CatalogoSnapshot(long version, Collection<CursoDTO> cursos) {
+        Map<String, CursoDTO> porId = new LinkedHashMap<>();
+        for (CursoDTO curso : cursos) {
+            porId.put(curso.getId(), curso);
+        }
+        this.version = version;
+        this.cursosPorId = Collections.unmodifiableMap(porId);
+        this.cursos = Collections.unmodifiableList(new ArrayList<>(porId.values()));
+    }
+
+    /**
+     * Obtiene el número de versión del catálogo.
+     *
+     * @return Versión del catálogo
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Obtiene las cabeceras de los cursos en orden de catálogo.
+     *
+     * @return Lista inmutable de cabeceras
+     */
+    public List<CursoDTO> getCursos() {
+        return cursos;
+    }
+
+    /**
+     * Obtiene la cabecera de un curso.
+     *
+     * @param id Identificador del curso
+     * @return La cabecera del curso, o null si no está en esta versión del catálogo
+     */
+    public CursoDTO obtener(String id) {
+        return cursosPorId.get(id);
+    }
+
+    /**
+     * Verifica si el catálogo contiene un curso.
+     *
+     * @param id Identificador del curso
+     * @return true si el curso está en esta versión del catálogo
+     */
+    public boolean contiene(String id) {
+        return cursosPorId.containsKey(id);
+    }
+
+    /**
+     * Obtiene el número de cursos del catálogo.
+     *
+     * @return Número de cursos
+     */
+    public int size() {
+        return cursos.size();
+    }
+
+    /**
+     * Crea la siguiente versión del catálogo con un curso añadido o sustituido.
+     * Un curso nuevo se añade al final; uno existente conserva su posición.
+     *
+     * @param curso Cabecera del curso
+     * @return Nueva versión del catálogo
+     */
+    public CatalogoSnapshot conCurso(CursoDTO curso) {
+        Map<String, CursoDTO> siguiente = new LinkedHashMap<>(cursosPorId);
+        siguiente.put(curso.getId(), curso);
+        return new CatalogoSnapshot(version + 1, siguiente.values());
+    }
+
+    /**
+     * Crea la siguiente versión del catálogo sin un curso.
+     *
+     * @param id Identificador del curso a eliminar
+     * @return Nueva versión del catálogo, o esta misma si no contiene el curso
+     */
+    public CatalogoSnapshot sinCurso(String id) {
+        if (!contiene(id)) {
+            return this;
+        }
+        Map<String, CursoDTO> siguiente = new LinkedHashMap<>(cursosPorId);
+        siguiente.remove(id);
+        return new CatalogoSnapshot(version + 1, siguiente.values());
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogoSnapshot{version=" + version + ", cursos=" + cursos.size() + "}";
+    }
+}
@@ -0,0 +1,83 @@
+package com.kursor.shared.util;
+
+import com.kursor.yaml.dto.CursoDTO;
+
+/**
+ * Evento que notifica un cambio en un curso del catálogo.
+ *
+ * <p>Lo publica {@link CursoManager} cuando un curso se añade, se modifica o se
+ * elimina del directorio de cursos mientras la aplicación está en ejecución.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CursoCambioListener
+ */
+public class CursoCambioEvento {
+
+    /**
+     * Tipos de cambio de un curso.
+     */
+    public enum Tipo {
+        /** El curso no estaba en el catálogo */
+        AÑADIDO,
+        /** El curso ya estaba en el catálogo y sus archivos han cambiado */
+        MODIFICADO,
+        /** El curso ha desaparecido del directorio de cursos */
+        ELIMINADO
+    }
+
+    /** Tipo de cambio */
+    private final Tipo tipo;
+
+    /** Identificador del curso afectado */
+    private final String cursoId;
+
+    /** Nueva cabecera del curso, o null si se ha eliminado */
+    private final CursoDTO cabecera;
+
+    /**
+     * Constructor del evento.
+     *
+     * @param tipo Tipo de cambio
+     * @param cursoId Identificador del curso afectado
+     * @param cabecera Nueva cabecera del curso, o null si se ha eliminado
+     */
+    public CursoCambioEvento(Tipo tipo, String cursoId, CursoDTO cabecera) {
+        this.tipo = tipo;
+        this.cursoId = cursoId;
+        this.cabecera = cabecera;
+    }
+
+    /**
+     * Obtiene el tipo de cambio.
+     *
+     * @return Tipo de cambio
+     */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Obtiene el identificador del curso afectado.
+     *
+     * @return ID del curso
+     */
+    public String getCursoId() {
+        return cursoId;
+    }
+
+    /**
+     * Obtiene la nueva cabecera del curso.
+     *
+     * @return Cabecera del curso, o null si se ha eliminado
+     */
+    public CursoDTO getCabecera() {
+        return cabecera;
+    }
+
+    @Override
+    public String toString() {
+        return "CursoCambioEvento{tipo=" + tipo + ", cursoId='" + cursoId + "'}";
+    }
+}
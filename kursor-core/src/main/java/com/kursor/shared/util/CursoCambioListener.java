@@ -0,0 +1,24 @@
+package com.kursor.shared.util;
+
+/**
+ * Listener de cambios en el catálogo de cursos.
+ *
+ * <p>Los listeners se invocan desde el hilo de vigilancia del directorio de
+ * cursos, no desde el hilo de la interfaz gráfica. Las implementaciones que
+ * actualicen la interfaz deben delegar en {@code Platform.runLater}.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CursoManager#addCursoCambioListener(CursoCambioListener)
+ */
+@FunctionalInterface
+public interface CursoCambioListener {
+
+    /**
+     * Se invoca cuando un curso del catálogo ha cambiado.
+     *
+     * @param evento Evento con el curso afectado y el tipo de cambio
+     */
+    void cursoCambiado(CursoCambioEvento evento);
+}
@@ -0,0 +1,155 @@
+package com.kursor.shared.util;
+
+import com.kursor.yaml.dto.CursoDTO;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caché LRU de cursos completos acotada por número de preguntas.
+ *
+ * <p>Mantiene en memoria los cursos hidratados más recientemente usados. Cada
+ * curso ocupa tantas unidades como preguntas contiene (mínimo una), y cuando la
+ * suma supera el límite configurado se desalojan los cursos menos usados
+ * recientemente. El curso más reciente nunca se desaloja, aunque por sí solo
+ * supere el límite.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Todas las operaciones están sincronizadas.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CursoManager
+ */
+public class CursoLruCache {
+
+    /** Logger para registrar eventos de la caché */
+    private static final Logger logger = LoggerFactory.getLogger(CursoLruCache.class);
+
+    /** Cursos en memoria ordenados por acceso (el más antiguo primero) */
+    private final LinkedHashMap<String, CursoDTO> cursos = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Número máximo de preguntas que se mantienen en memoria */
+    private final int maxPreguntas;
+
+    /** Número de preguntas actualmente en memoria */
+    private int preguntasEnMemoria;
+
+    /**
+     * Constructor para crear la caché con un límite de preguntas.
+     *
+     * @param maxPreguntas Número máximo de preguntas a mantener en memoria (mínimo 1)
+     * @throws IllegalArgumentException si el límite es menor que 1
+     */
+    public CursoLruCache(int maxPreguntas) {
+        if (maxPreguntas < 1) {
+            throw new IllegalArgumentException("El límite de preguntas debe ser al menos 1");
+        }
+        this.maxPreguntas = maxPreguntas;
+    }
+
+    /**
+     * Obtiene un curso de la caché y lo marca como usado recientemente.
+     *
+     * @param id Identificador del curso
+     * @return El curso en memoria, o null si no está en la caché
+     */
+    public synchronized CursoDTO obtener(String id) {
+        return cursos.get(id);
+    }
+
+    /**
+     * Guarda un curso en la caché, desalojando los menos usados si es necesario.
+     *
+     * @param curso Curso completo a guardar (no debe ser null)
+     * @throws IllegalArgumentException si el curso es null
+     */
+    public synchronized void guardar(CursoDTO curso) {
+        if (curso == null) {
+            throw new IllegalArgumentException("Curso no puede ser null");
+        }
+
+        CursoDTO anterior = cursos.put(curso.getId(), curso);
+        if (anterior != null) {
+            preguntasEnMemoria -= peso(anterior);
+        }
+        preguntasEnMemoria += peso(curso);
+
+        desalojar();
+    }
+
+    /**
+     * Elimina un curso de la caché.
+     *
+     * @param id Identificador del curso
+     */
+    public synchronized void invalidar(String id) {
+        CursoDTO anterior = cursos.remove(id);
+        if (anterior != null) {
+            preguntasEnMemoria -= peso(anterior);
+            logger.debug("Curso eliminado de memoria: {}", id);
+        }
+    }
+
+    /**
+     * Elimina todos los cursos de la caché.
+     */
+    public synchronized void limpiar() {
+        cursos.clear();
+        preguntasEnMemoria = 0;
+    }
+
+    /**
+     * Obtiene el número de cursos actualmente en memoria.
+     *
+     * @return Número de cursos en la caché
+     */
+    public synchronized int getNumeroCursos() {
+        return cursos.size();
+    }
+
+    /**
+     * Obtiene el número de preguntas actualmente en memoria.
+     *
+     * @return Suma de las preguntas de los cursos en la caché
+     */
+    public synchronized int getPreguntasEnMemoria() {
+        return preguntasEnMemoria;
+    }
+
+    /**
+     * Obtiene el número máximo de preguntas que se mantienen en memoria.
+     *
+     * @return Límite de preguntas de la caché
+     */
+    public int getMaxPreguntas() {
+        return maxPreguntas;
+    }
+
+    /**
+     * Desaloja los cursos menos usados hasta respetar el límite de preguntas,
+     * conservando siempre el más reciente.
+     */
+    private void desalojar() {
+        Iterator<Map.Entry<String, CursoDTO>> it = cursos.entrySet().iterator();
+        while (preguntasEnMemoria > maxPreguntas && cursos.size() > 1 && it.hasNext()) {
+            Map.Entry<String, CursoDTO> eldest = it.next();
+            preguntasEnMemoria -= peso(eldest.getValue());
+            it.remove();
+            logger.debug("Curso desalojado de memoria: {} ({} preguntas en memoria)",
+                        eldest.getKey(), preguntasEnMemoria);
+        }
+    }
+
+    /**
+     * Calcula el peso de un curso en la caché.
+     *
+     * @param curso Curso a pesar
+     * @return Número de preguntas del curso, con un mínimo de 1
+     */
+    private static int peso(CursoDTO curso) {
+        return Math.max(1, curso.getTotalPreguntas());
+    }
+}
@@ -1,16 +1,21 @@
 package com.kursor.shared.util;
 
+import com.kursor.domain.BloqueBajoDemanda;
 import com.kursor.domain.Curso;
-import com.kursor.yaml.dto.CursoDTO;
 import com.kursor.yaml.dto.BloqueDTO;
-import com.kursor.yaml.dto.PreguntaDTO;
+import com.kursor.yaml.dto.CursoDTO;
+import com.kursor.yaml.dto.CursoPreviewDTO;
 import com.kursor.service.CursoPreviewService;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Map;
 import java.util.HashMap;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,13 +23,37 @@ import org.slf4j.LoggerFactory;
  * Gestor de cursos para la aplicación Kursor.
  * 
  * <p>Esta clase implementa el patrón Singleton y se encarga de gestionar
- * la carga y acceso a los cursos de la aplicación. Carga todos los cursos
- * completos en memoria al inicializarse para un acceso rápido y eficiente.</p>
+ * la carga y acceso a los cursos de la aplicación. Mantiene un catálogo en
+ * dos niveles:</p>
+ * <ol>
+ *   <li><strong>Cabeceras:</strong> ID, título y descripción de todos los cursos,
+ *       obtenidos de {@link CursoPreviewService#cargarPreviews()}. Siempre residentes.</li>
+ *   <li><strong>Cursos completos:</strong> bloques y preguntas, que solo se cargan
+ *       cuando se solicitan y se mantienen en una caché LRU acotada por número de
+ *       preguntas ({@link CursoLruCache}).</li>
+ * </ol>
+ * 
+ * <p>El límite de preguntas en memoria se configura con la propiedad de sistema
+ * {@value #MAX_PREGUNTAS_PROPERTY} (por defecto {@value #MAX_PREGUNTAS_POR_DEFECTO}).
+ * Así, el uso de memoria depende de los cursos en uso y no del tamaño total
+ * del directorio de cursos.</p>
+ * 
+ * <p>Con {@link #iniciarVigilancia()} el gestor detecta los cambios en el
+ * directorio de cursos y recarga solo el curso afectado
+ * ({@link #recargarCurso(String)}), notificándolo a los
+ * {@link CursoCambioListener} registrados.</p>
+ * 
+ * <p><strong>Thread Safety:</strong> El catálogo se publica como una sucesión
+ * de versiones inmutables ({@link CatalogoSnapshot}) a través de una única
+ * referencia atómica. Las lecturas no toman ningún bloqueo y siempre ven una
+ * versión completa; las escrituras (carga inicial y recarga de cursos) se
+ * serializan entre sí, construyen la siguiente versión aparte y la publican
+ * de una sola vez.</p>
  * 
  * <p>El gestor de cursos proporciona:</p>
  * <ul>
- *   <li>Carga completa de todos los cursos en memoria</li>
- *   <li>Acceso rápido a información detallada de cursos</li>
+ *   <li>Catálogo ligero de cursos para listados</li>
+ *   <li>Carga bajo demanda de cursos completos</li>
  *   <li>Cálculos automáticos de estadísticas</li>
  *   <li>Manejo de errores y logging de operaciones</li>
  *   <li>Acceso centralizado a la funcionalidad de cursos</li>
@@ -34,13 +63,13 @@ import org.slf4j.LoggerFactory;
  * <pre>{@code
  * CursoManager manager = CursoManager.getInstance();
  * 
- * // Cargar lista de cursos completos en memoria
- * List<CursoDTO> cursos = manager.cargarCursosCompletos();
- * for (CursoDTO curso : cursos) {
- *     System.out.println("Curso: " + curso.getTitulo() + " - " + curso.getTotalPreguntas() + " preguntas");
+ * // Cargar el catálogo (solo cabeceras)
+ * List<CursoDTO> catalogo = manager.cargarCatalogo();
+ * for (CursoDTO curso : catalogo) {
+ *     System.out.println("Curso: " + curso.getTitulo());
  * }
  * 
- * // Obtener un curso específico desde memoria
+ * // Obtener un curso completo (se carga bajo demanda)
  * CursoDTO curso = manager.obtenerCursoPorId("curso_ingles");
  * if (curso != null) {
  *     System.out.println("Curso en memoria: " + curso.getTitulo());
@@ -59,19 +88,31 @@ import org.slf4j.LoggerFactory;
  */
 public class CursoManager {
     /** Instancia única del gestor de cursos (patrón Singleton) */
-    private static CursoManager instance;
+    private static volatile CursoManager instance;
     
     /** Servicio para cargar información de cursos desde archivos YAML */
     private final CursoPreviewService cursoPreviewService;
     
-    /** Cache en memoria de todos los cursos completos */
-    private List<CursoDTO> cursosEnMemoria;
+    /** Propiedad de sistema con el número máximo de preguntas de cursos completos en memoria */
+    public static final String MAX_PREGUNTAS_PROPERTY = "kursor.cursos.memoria.preguntas";
+    
+    /** Número máximo de preguntas en memoria por defecto */
+    public static final int MAX_PREGUNTAS_POR_DEFECTO = 50000;
+    
+    /** Versión publicada del catálogo de cabeceras, o null si aún no se ha cargado */
+    private final AtomicReference<CatalogoSnapshot> catalogo = new AtomicReference<>();
     
-    /** Mapa de acceso rápido por ID */
-    private Map<String, CursoDTO> cursosPorId;
+    /** Bloqueo que serializa la publicación de nuevas versiones del catálogo */
+    private final Object escrituraCatalogo = new Object();
     
-    /** Flag que indica si los cursos ya han sido cargados */
-    private boolean cursosCargados = false;
+    /** Cursos completos hidratados bajo demanda */
+    private final CursoLruCache cursosCompletos;
+    
+    /** Listeners notificados cuando cambia un curso del catálogo */
+    private final List<CursoCambioListener> cambioListeners = new CopyOnWriteArrayList<>();
+    
+    /** Vigilante del directorio de cursos, o null si la vigilancia no está activa */
+    private CursosDirectoryWatcher watcher;
     
     /** Instancia del logger para registrar eventos */
     private static final Logger logger = LoggerFactory.getLogger(CursoManager.class);
@@ -100,35 +141,270 @@ public class CursoManager {
         this.cursoPreviewService = new CursoPreviewService(cursosPath);
         
         // Inicializar estructuras de datos
-        this.cursosEnMemoria = new ArrayList<>();
-        this.cursosPorId = new HashMap<>();
+        this.cursosCompletos = new CursoLruCache(leerMaxPreguntasConfigurado());
+    }
+    
+    /**
+     * Lee el número máximo de preguntas en memoria de la propiedad de sistema
+     * {@value #MAX_PREGUNTAS_PROPERTY}.
+     * 
+     * @return Límite configurado, o {@value #MAX_PREGUNTAS_POR_DEFECTO} si no es válido
+     */
+    private static int leerMaxPreguntasConfigurado() {
+        String valor = System.getProperty(MAX_PREGUNTAS_PROPERTY);
+        if (valor == null || valor.trim().isEmpty()) {
+            return MAX_PREGUNTAS_POR_DEFECTO;
+        }
+        
+        try {
+            int configurado = Integer.parseInt(valor.trim());
+            if (configurado >= 1) {
+                return configurado;
+            }
+        } catch (NumberFormatException e) {
+            // Se registra abajo y se usa el valor por defecto
+        }
+        logger.warn("Valor inválido para {}: {}. Usando {}", 
+                   MAX_PREGUNTAS_PROPERTY, valor, MAX_PREGUNTAS_POR_DEFECTO);
+        return MAX_PREGUNTAS_POR_DEFECTO;
     }
 
     /**
      * Obtiene la instancia única del gestor de cursos.
      * 
      * <p>Implementa el patrón Singleton para asegurar que solo existe
-     * una instancia del gestor de cursos en toda la aplicación.</p>
+     * una instancia del gestor de cursos en toda la aplicación. Solo la
+     * creación de la instancia está sincronizada.</p>
      * 
      * @return La instancia única del CursoManager
      */
     public static CursoManager getInstance() {
-        if (instance == null) {
-            instance = new CursoManager();
+        CursoManager actual = instance;
+        if (actual == null) {
+            synchronized (CursoManager.class) {
+                actual = instance;
+                if (actual == null) {
+                    actual = new CursoManager();
+                    instance = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    /**
+     * Carga el catálogo de cursos (solo cabeceras).
+     * 
+     * <p>Las cabeceras contienen el ID, título y descripción de cada curso, sin
+     * bloques ni preguntas, y se obtienen sin construir ninguna pregunta. Se
+     * cargan una única vez y permanecen en memoria. Para obtener un curso con
+     * sus bloques y preguntas use {@link #obtenerCursoPorId(String)}.</p>
+     * 
+     * @return Lista de cabeceras de cursos en orden de catálogo. Si ocurre un error,
+     *         retorna una lista vacía
+     */
+    public List<CursoDTO> cargarCatalogo() {
+        return new ArrayList<>(getCatalogo().getCursos());
+    }
+
+    /**
+     * Obtiene la versión actual del catálogo, cargándolo si es necesario.
+     * 
+     * <p>Una vez cargado el catálogo, este método no toma ningún bloqueo. La
+     * versión devuelta no cambia aunque el catálogo se recargue después; para
+     * ver los cambios hay que volver a llamar a este método.</p>
+     * 
+     * @return Versión actual del catálogo. Si la carga falla, un catálogo vacío
+     *         que no se publica, de modo que la siguiente llamada lo reintenta
+     */
+    public CatalogoSnapshot getCatalogo() {
+        CatalogoSnapshot actual = catalogo.get();
+        if (actual != null) {
+            return actual;
+        }
+        
+        synchronized (escrituraCatalogo) {
+            actual = catalogo.get();
+            if (actual != null) {
+                return actual;
+            }
+            
+            try {
+                logger.info("🔄 Iniciando carga del catálogo de cursos...");
+                
+                cursosCompletos.limpiar();
+                
+                List<CursoDTO> cabeceras = new ArrayList<>();
+                List<CursoPreviewDTO> previews = cursoPreviewService.cargarPreviews();
+                for (CursoPreviewDTO preview : previews) {
+                    cabeceras.add(crearCabecera(preview));
+                }
+                
+                actual = new CatalogoSnapshot(1, cabeceras);
+                catalogo.set(actual);
+                logger.info("✅ Catálogo cargado: {} cursos", actual.size());
+                return actual;
+                
+            } catch (Exception e) {
+                logger.error("❌ Error al cargar el catálogo de cursos: {}", e.getMessage());
+                return new CatalogoSnapshot(0, new ArrayList<>());
+            }
+        }
+    }
+
+    /**
+     * Crea la cabecera de catálogo de un curso a partir de su vista previa.
+     * 
+     * @param preview Vista previa del curso
+     * @return Cabecera del curso, sin bloques ni preguntas
+     */
+    private CursoDTO crearCabecera(CursoPreviewDTO preview) {
+        return new CursoDTO(
+            preview.getId(),
+            preview.getTitulo(),
+            preview.getDescripcion(),
+            preview.getId() + ".yaml"
+        );
+    }
+
+    /**
+     * Recarga un único curso del catálogo tras un cambio en sus archivos.
+     * 
+     * <p>Solo se vuelve a leer la cabecera del curso indicado. La nueva cabecera
+     * sustituye a la anterior en la siguiente versión del catálogo, que se publica
+     * de forma atómica, y la versión completa que hubiera en memoria se descarta para que
+     * se vuelva a cargar la próxima vez que se solicite. Si el curso ya no existe
+     * en disco se elimina del catálogo.</p>
+     * 
+     * <p>Si el catálogo aún no se ha cargado no se hace nada, ya que la primera
+     * carga leerá el estado actual del directorio.</p>
+     * 
+     * @param id Identificador del curso que ha cambiado
+     * @return El evento publicado, o null si el catálogo no ha cambiado
+     */
+    public CursoCambioEvento recargarCurso(String id) {
+        if (id == null) {
+            return null;
+        }
+        
+        CursoCambioEvento evento;
+        CatalogoSnapshot siguiente;
+        synchronized (escrituraCatalogo) {
+            CatalogoSnapshot actual = catalogo.get();
+            if (actual == null) {
+                return null;
+            }
+            
+            CursoPreviewDTO preview = cursoPreviewService.cargarPreview(id);
+            boolean existia = actual.contiene(id);
+            
+            if (preview == null) {
+                if (!existia) {
+                    return null;
+                }
+                siguiente = actual.sinCurso(id);
+                evento = new CursoCambioEvento(CursoCambioEvento.Tipo.ELIMINADO, id, null);
+            } else {
+                CursoDTO cabecera = crearCabecera(preview);
+                siguiente = actual.conCurso(cabecera);
+                evento = new CursoCambioEvento(
+                    existia ? CursoCambioEvento.Tipo.MODIFICADO : CursoCambioEvento.Tipo.AÑADIDO,
+                    id, cabecera);
+            }
+            
+            catalogo.set(siguiente);
+            cursosCompletos.invalidar(id);
+        }
+        
+        logger.info("🔄 Curso recargado: {} ({}) - versión del catálogo {}", 
+                   id, evento.getTipo(), siguiente.getVersion());
+        for (CursoCambioListener listener : cambioListeners) {
+            try {
+                listener.cursoCambiado(evento);
+            } catch (Exception e) {
+                logger.error("Error en listener de cambios de curso: {}", e.getMessage());
+            }
+        }
+        return evento;
+    }
+
+    /**
+     * Descarta todos los cursos completos guardados en memoria.
+     * 
+     * <p>Las cabeceras del catálogo se conservan. Se usa cuando cambian los
+     * módulos de preguntas, ya que las preguntas de los cursos completos se
+     * construyeron con los módulos anteriores.</p>
+     */
+    public void invalidarCursosCompletos() {
+        cursosCompletos.limpiar();
+        logger.debug("Cursos completos descartados de memoria");
+    }
+
+    /**
+     * Registra un listener de cambios en el catálogo.
+     * 
+     * @param listener Listener a registrar
+     */
+    public void addCursoCambioListener(CursoCambioListener listener) {
+        if (listener != null) {
+            cambioListeners.add(listener);
         }
-        return instance;
     }
 
     /**
-     * Carga todos los cursos completos en memoria.
+     * Elimina un listener de cambios en el catálogo.
      * 
-     * <p>Este método carga toda la información de todos los cursos disponibles,
-     * incluyendo bloques, preguntas y estadísticas calculadas. Los datos se
-     * mantienen en memoria para acceso rápido posterior.</p>
+     * @param listener Listener a eliminar
+     */
+    public void removeCursoCambioListener(CursoCambioListener listener) {
+        cambioListeners.remove(listener);
+    }
+
+    /**
+     * Comienza a vigilar el directorio de cursos para recargar automáticamente
+     * los cursos que cambien.
+     * 
+     * @return true si la vigilancia está activa tras la llamada
+     */
+    public synchronized boolean iniciarVigilancia() {
+        if (watcher != null) {
+            return true;
+        }
+        
+        CursosDirectoryWatcher nuevo = new CursosDirectoryWatcher(
+            Paths.get(cursoPreviewService.getCursosDir()), this::recargarCurso);
+        try {
+            nuevo.iniciar();
+            watcher = nuevo;
+            return true;
+        } catch (IOException e) {
+            logger.warn("⚠️ No se pudo vigilar el directorio de cursos: {}", e.getMessage());
+            nuevo.detener();
+            return false;
+        }
+    }
+
+    /**
+     * Deja de vigilar el directorio de cursos.
+     */
+    public synchronized void detenerVigilancia() {
+        if (watcher != null) {
+            watcher.detener();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Carga todos los cursos completos.
      * 
-     * <p>El método maneja automáticamente los errores de carga y registra
-     * el resultado en el logger. Si ocurre un error durante la carga,
-     * retorna una lista vacía en lugar de lanzar una excepción.</p>
+     * <p>Este método hidrata cada curso del catálogo con sus bloques y preguntas.
+     * Los cursos que ya están en la caché de cursos completos se reutilizan; el
+     * resto se carga en paralelo con
+     * {@link CursoPreviewService#cargarCursosCompletos(List)} y no se guarda en
+     * la caché, para que una carga de todo el catálogo no desaloje los cursos en
+     * uso. La lista devuelta conserva el orden del catálogo y mantiene
+     * referencias a todos los cursos; para listados use {@link #cargarCatalogo()}
+     * y para un único curso {@link #obtenerCursoPorId(String)}.</p>
      * 
      * <p>Información registrada en el logger:</p>
      * <ul>
@@ -137,45 +413,53 @@ public class CursoManager {
      *   <li>Errores durante el proceso de carga</li>
      * </ul>
      * 
-     * @return Lista de cursos completos cargados en memoria. Si ocurre un error,
-     *         retorna una lista vacía
+     * @return Lista de cursos completos. Si ocurre un error, retorna una lista vacía
      * @see CursoDTO
      */
     public List<CursoDTO> cargarCursosCompletos() {
-        if (cursosCargados) {
-            logger.debug("Cursos ya cargados en memoria, retornando cache");
-            return new ArrayList<>(cursosEnMemoria);
-        }
-        
         try {
-            logger.info("🔄 Iniciando carga completa de cursos en memoria...");
-            
-            // Limpiar estructuras de datos
-            cursosEnMemoria.clear();
-            cursosPorId.clear();
-            
-            // Cargar todos los cursos completos
-            List<Curso> cursosCompletos = cursoPreviewService.cargarTodosLosCursosCompletos();
+            List<CursoDTO> catalogo = cargarCatalogo();
+            CursoDTO[] enMemoria = new CursoDTO[catalogo.size()];
+            List<String> pendientes = new ArrayList<>();
+            for (int i = 0; i < catalogo.size(); i++) {
+                enMemoria[i] = cursosCompletos.obtener(catalogo.get(i).getId());
+                if (enMemoria[i] == null) {
+                    pendientes.add(catalogo.get(i).getId());
+                }
+            }
             
-            for (Curso curso : cursosCompletos) {
-                CursoDTO cursoDTO = convertirCursoADTO(curso);
-                cursosEnMemoria.add(cursoDTO);
-                cursosPorId.put(cursoDTO.getId(), cursoDTO);
+            Map<String, Curso> cargados = new HashMap<>();
+            if (!pendientes.isEmpty()) {
+                for (Curso curso : cursoPreviewService.cargarCursosCompletos(pendientes)) {
+                    cargados.put(curso.getId(), curso);
+                }
             }
             
-            cursosCargados = true;
+            List<CursoDTO> cursos = new ArrayList<>(catalogo.size());
+            for (int i = 0; i < catalogo.size(); i++) {
+                if (enMemoria[i] != null) {
+                    cursos.add(enMemoria[i]);
+                } else {
+                    Curso curso = cargados.get(catalogo.get(i).getId());
+                    if (curso != null) {
+                        // El DTO es una vista sobre el curso del dominio: no se copian bloques ni preguntas
+                        cursos.add(new CursoDTO(curso));
+                    }
+                }
+            }
+            logger.debug("Cursos completos: {} en memoria, {} cargados", 
+                        catalogo.size() - pendientes.size(), cargados.size());
             
             // Calcular estadísticas totales
-            int totalCursos = cursosEnMemoria.size();
-            int totalBloques = cursosEnMemoria.stream().mapToInt(CursoDTO::getTotalBloques).sum();
-            int totalPreguntas = cursosEnMemoria.stream().mapToInt(CursoDTO::getTotalPreguntas).sum();
+            int totalBloques = cursos.stream().mapToInt(CursoDTO::getTotalBloques).sum();
+            int totalPreguntas = cursos.stream().mapToInt(CursoDTO::getTotalPreguntas).sum();
             
-            logger.info("✅ Cursos cargados exitosamente en memoria:");
-            logger.info("   📚 Total de cursos: {}", totalCursos);
+            logger.info("✅ Cursos completos cargados:");
+            logger.info("   📚 Total de cursos: {}", cursos.size());
             logger.info("   📦 Total de bloques: {}", totalBloques);
             logger.info("   ❓ Total de preguntas: {}", totalPreguntas);
             
-            return new ArrayList<>(cursosEnMemoria);
+            return cursos;
             
         } catch (Exception e) {
             logger.error("❌ Error al cargar cursos completos: {}", e.getMessage());
@@ -184,80 +468,92 @@ public class CursoManager {
     }
 
     /**
-     * Obtiene un curso específico por su ID desde la memoria.
+     * Obtiene un curso completo por su ID.
      * 
-     * <p>Este método accede directamente a la memoria para obtener
-     * un curso específico. Si los cursos no han sido cargados aún,
-     * los carga automáticamente.</p>
+     * <p>Si el curso está en la caché de cursos completos se devuelve directamente;
+     * en caso contrario se carga desde disco y se guarda en la caché, lo que puede
+     * desalojar los cursos usados menos recientemente. Si el catálogo no ha sido
+     * cargado aún, se carga automáticamente.</p>
      * 
      * @param id Identificador único del curso
-     * @return El curso completo desde memoria, o <code>null</code> si no existe
+     * @return El curso completo, o <code>null</code> si no existe o no se pudo cargar
      */
     public CursoDTO obtenerCursoPorId(String id) {
-        if (!cursosCargados) {
-            cargarCursosCompletos();
+        if (id == null) {
+            return null;
         }
-        return cursosPorId.get(id);
-    }
-
-    /**
-     * Convierte un objeto Curso del dominio a CursoDTO.
-     * 
-     * @param curso Curso del dominio a convertir
-     * @return CursoDTO con toda la información del curso
-     */
-    private CursoDTO convertirCursoADTO(Curso curso) {
-        CursoDTO cursoDTO = new CursoDTO(
-            curso.getId(),
-            curso.getTitulo(),
-            curso.getDescripcion(),
-            curso.getId() + ".yaml"
-        );
         
-        // Convertir bloques
-        List<BloqueDTO> bloquesDTO = curso.getBloques().stream()
-            .map(this::convertirBloqueADTO)
-            .collect(Collectors.toList());
+        CursoDTO curso = cursosCompletos.obtener(id);
+        if (curso != null) {
+            return curso;
+        }
         
-        cursoDTO.setBloques(bloquesDTO);
+        CursoDTO cabecera = getCatalogo().obtener(id);
+        if (cabecera == null) {
+            logger.debug("Curso no encontrado en el catálogo: {}", id);
+            return null;
+        }
+        
+        logger.debug("Hidratando curso completo: {}", id);
+        Curso cursoCompleto;
+        try (PerfiladorArranque.Medicion m = PerfiladorArranque.getInstance().medir("cursos", id)) {
+            cursoCompleto = cursoPreviewService.cargarCursoCompleto(id);
+        }
+        if (cursoCompleto == null) {
+            logger.warn("No se pudo cargar el curso completo: {}", id);
+            return null;
+        }
         
-        return cursoDTO;
+        // El DTO es una vista sobre el curso del dominio: no se copian bloques ni preguntas
+        curso = new CursoDTO(cursoCompleto);
+        cursosCompletos.guardar(curso);
+        if (getCatalogo().obtener(id) != cabecera) {
+            // El curso se recargó mientras se hidrataba: esta versión puede estar obsoleta
+            cursosCompletos.invalidar(id);
+        }
+        logger.debug("Curso hidratado: {} - {} preguntas ({} preguntas en memoria)", 
+                    id, curso.getTotalPreguntas(), cursosCompletos.getPreguntasEnMemoria());
+        return curso;
     }
 
     /**
-     * Convierte un objeto Bloque del dominio a BloqueDTO.
+     * Carga en paralelo las preguntas pendientes de todos los bloques de un curso.
      * 
-     * @param bloque Bloque del dominio a convertir
-     * @return BloqueDTO con la información del bloque
+     * <p>Solo tiene efecto en cursos fragmentados, cuyos bloques se cargan bajo
+     * demanda. Es útil antes de recorrer todas las preguntas del curso.</p>
+     * 
+     * @param curso Modelo del curso completo (ver {@link CursoDTO#getCurso()})
      */
-    private BloqueDTO convertirBloqueADTO(com.kursor.domain.Bloque bloque) {
-        BloqueDTO bloqueDTO = new BloqueDTO(
-            bloque.getTitulo(),
-            bloque.getTipo()
-        );
-        
-        // Convertir preguntas
-        List<PreguntaDTO> preguntasDTO = bloque.getPreguntas().stream()
-            .map(this::convertirPreguntaADTO)
-            .collect(Collectors.toList());
-        
-        bloqueDTO.setPreguntas(preguntasDTO);
-        
-        return bloqueDTO;
+    public void precargarBloques(Curso curso) {
+        if (curso != null) {
+            cursoPreviewService.precargarBloques(curso);
+        }
     }
 
     /**
-     * Convierte un objeto Pregunta del dominio a PreguntaDTO.
+     * Inicia en segundo plano la carga de las preguntas de un bloque.
+     * 
+     * <p>Permite adelantar la carga de un bloque de un curso fragmentado en cuanto
+     * el usuario lo selecciona, antes de que se necesiten sus preguntas.</p>
      * 
-     * @param pregunta Pregunta del dominio a convertir
-     * @return PreguntaDTO con la información básica de la pregunta
+     * @param bloque Bloque seleccionado
+     * @return Futuro que se completa cuando el bloque está cargado
      */
-    private PreguntaDTO convertirPreguntaADTO(com.kursor.domain.Pregunta pregunta) {
-        return new PreguntaDTO(
-            pregunta.getId(),
-            pregunta.getTipo(),
-            pregunta.getEnunciado()
-        );
+    public CompletableFuture<Void> cargarBloque(BloqueDTO bloque) {
+        if (bloque == null || !(bloque.getBloque() instanceof BloqueBajoDemanda)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        BloqueBajoDemanda bloqueBajoDemanda = (BloqueBajoDemanda) bloque.getBloque();
+        if (bloqueBajoDemanda.isCargado()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(bloqueBajoDemanda::cargar)
+            .whenComplete((resultado, error) -> {
+                if (error != null) {
+                    logger.error("❌ Error al cargar el bloque {}: {}", bloqueBajoDemanda.getId(), error.getMessage());
+                }
+            });
     }
 
     /**
@@ -272,25 +568,18 @@ public class CursoManager {
     }
 
     /**
-     * Método de compatibilidad: carga un curso completo por su identificador.
+     * Método de compatibilidad: obtiene un curso completo del dominio por su identificador.
      * 
-     * @deprecated Usar {@link #obtenerCursoPorId(String)} en su lugar
+     * <p>Devuelve el mismo curso del dominio que respalda a
+     * {@link #obtenerCursoPorId(String)}, sin volver a leer el archivo YAML.</p>
+     * 
+     * @deprecated Usar {@link #obtenerCursoPorId(String)} y {@link CursoDTO#getCurso()} en su lugar
      * @param id Identificador único del curso a cargar
      * @return El curso completo cargado, o <code>null</code> si no existe
      */
     @Deprecated
     public Curso obtenerCursoCompleto(String id) {
-        CursoDTO cursoDTO = obtenerCursoPorId(id);
-        if (cursoDTO == null) {
-            return null;
-        }
-        
-        // Convertir de vuelta a Curso del dominio si es necesario
-        try {
-            return cursoPreviewService.cargarCursoCompleto(id);
-        } catch (Exception e) {
-            logger.error("Error al cargar curso completo: " + e.getMessage());
-            return null;
-        }
+        CursoDTO curso = obtenerCursoPorId(id);
+        return curso != null ? curso.getCurso() : null;
     }
 } 
@@ -0,0 +1,267 @@
+package com.kursor.shared.util;
+
+import com.kursor.service.CursoPreviewService;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Vigilante del directorio de cursos basado en {@link WatchService}.
+ *
+ * <p>Vigila el directorio raíz de cursos (altas y bajas de cursos) y el
+ * directorio de cada curso (cambios en sus archivos). Cada cambio se traduce al
+ * identificador del curso afectado, de modo que solo se vuelve a leer ese curso
+ * y no todo el catálogo.</p>
+ *
+ * <p>Los editores suelen generar varios eventos por guardado (archivo temporal,
+ * renombrado, modificación). Los eventos que llegan con menos de
+ * {@value #ESPERA_AGRUPACION_MS} ms de separación se agrupan y cada curso se
+ * notifica una sola vez. Los directorios ocultos, como la caché de cursos, se
+ * ignoran.</p>
+ *
+ * <p>La notificación se realiza en un hilo daemon propio.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CursoManager#iniciarVigilancia()
+ */
+public class CursosDirectoryWatcher {
+
+    /** Logger para registrar eventos del vigilante */
+    private static final Logger logger = LoggerFactory.getLogger(CursosDirectoryWatcher.class);
+
+    /** Tiempo en milisegundos durante el que se agrupan eventos consecutivos */
+    public static final long ESPERA_AGRUPACION_MS = 200;
+
+    /** Subdirectorio de bloques de los cursos fragmentados */
+    private static final String BLOQUES_DIR = CursoPreviewService.BLOQUES_DIR;
+
+    /** Directorio raíz de cursos */
+    private final Path cursosDir;
+
+    /** Acción a ejecutar con el ID de cada curso que cambia */
+    private final Consumer<String> alCambiar;
+
+    /** Directorios de curso registrados, por clave de vigilancia */
+    private final Map<WatchKey, String> cursosPorClave = new ConcurrentHashMap<>();
+
+    /** Servicio de vigilancia, o null si no está activo */
+    private WatchService watchService;
+
+    /** Hilo que procesa los eventos */
+    private Thread hilo;
+
+    /**
+     * Constructor del vigilante.
+     *
+     * @param cursosDir Directorio raíz de cursos (no debe ser null)
+     * @param alCambiar Acción a ejecutar con el ID de cada curso que cambia (no debe ser null)
+     * @throws IllegalArgumentException si algún parámetro es null
+     */
+    public CursosDirectoryWatcher(Path cursosDir, Consumer<String> alCambiar) {
+        if (cursosDir == null || alCambiar == null) {
+            throw new IllegalArgumentException("El directorio y la acción no pueden ser null");
+        }
+        this.cursosDir = cursosDir.toAbsolutePath();
+        this.alCambiar = alCambiar;
+    }
+
+    /**
+     * Comienza a vigilar el directorio de cursos.
+     *
+     * @throws IOException si no se puede registrar el directorio
+     */
+    public synchronized void iniciar() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+
+        watchService = cursosDir.getFileSystem().newWatchService();
+        cursosDir.register(watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_DELETE);
+
+        try (DirectoryStream<Path> hijos = Files.newDirectoryStream(cursosDir)) {
+            for (Path hijo : hijos) {
+                registrarCurso(watchService, hijo);
+            }
+        }
+
+        hilo = new Thread(this::procesarEventos, "kursor-vigilancia-cursos");
+        hilo.setDaemon(true);
+        hilo.start();
+
+        logger.info("👀 Vigilando cambios en {} ({} cursos)", cursosDir, cursosPorClave.size());
+    }
+
+    /**
+     * Deja de vigilar el directorio de cursos.
+     */
+    public synchronized void detener() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Error al cerrar el servicio de vigilancia: {}", e.getMessage());
+        }
+        watchService = null;
+        cursosPorClave.clear();
+        logger.info("Vigilancia del directorio de cursos detenida");
+    }
+
+    /**
+     * Indica si el vigilante está activo.
+     *
+     * @return true si se están vigilando cambios
+     */
+    public synchronized boolean isActivo() {
+        return watchService != null;
+    }
+
+    /**
+     * Bucle del hilo de vigilancia. Agrupa los eventos recibidos y notifica
+     * cada curso afectado.
+     */
+    private void procesarEventos() {
+        WatchService servicio;
+        synchronized (this) {
+            servicio = watchService;
+        }
+
+        try {
+            while (true) {
+                Set<String> cambiados = new LinkedHashSet<>();
+                WatchKey clave = servicio.take();
+                while (clave != null) {
+                    procesarClave(servicio, clave, cambiados);
+                    clave = servicio.poll(ESPERA_AGRUPACION_MS, TimeUnit.MILLISECONDS);
+                }
+
+                for (String cursoId : cambiados) {
+                    try {
+                        alCambiar.accept(cursoId);
+                    } catch (Exception e) {
+                        logger.error("Error al procesar el cambio del curso {}: {}", cursoId, e.getMessage());
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.debug("Hilo de vigilancia de cursos finalizado");
+        }
+    }
+
+    /**
+     * Traduce los eventos de una clave a IDs de curso.
+     *
+     * @param servicio Servicio de vigilancia activo
+     * @param clave Clave con eventos pendientes
+     * @param cambiados Conjunto donde se añaden los IDs de los cursos afectados
+     */
+    private void procesarClave(WatchService servicio, WatchKey clave, Set<String> cambiados) {
+        String cursoDeClave = cursosPorClave.get(clave);
+
+        for (WatchEvent<?> evento : clave.pollEvents()) {
+            if (evento.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Se han perdido eventos: se notifica el curso completo o todos los registrados
+                if (cursoDeClave != null) {
+                    cambiados.add(cursoDeClave);
+                } else {
+                    cambiados.addAll(cursosPorClave.values());
+                }
+                continue;
+            }
+
+            Path nombre = (Path) evento.context();
+            if (cursoDeClave != null) {
+                Path cursoDir = cursosDir.resolve(cursoDeClave);
+                if (evento.kind() == StandardWatchEventKinds.ENTRY_CREATE &&
+                    cursoDir.equals(clave.watchable()) && BLOQUES_DIR.equals(nombre.toString())) {
+                    // El curso ha pasado a estar fragmentado
+                    registrarDirectorio(servicio, cursoDir.resolve(BLOQUES_DIR), cursoDeClave);
+                }
+                cambiados.add(cursoDeClave);
+            } else if (!esOculto(nombre)) {
+                // Alta o baja de un directorio de curso
+                if (evento.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    registrarCurso(servicio, cursosDir.resolve(nombre));
+                }
+                cambiados.add(nombre.toString());
+            }
+        }
+
+        if (!clave.reset() && cursoDeClave != null) {
+            // El directorio del curso ya no existe
+            cursosPorClave.remove(clave);
+        }
+    }
+
+    /**
+     * Registra el directorio de un curso para vigilar sus archivos, junto con
+     * su subdirectorio de bloques si el curso está fragmentado.
+     *
+     * @param servicio Servicio de vigilancia en el que registrarlo
+     * @param cursoDir Directorio del curso
+     */
+    private void registrarCurso(WatchService servicio, Path cursoDir) {
+        if (!Files.isDirectory(cursoDir) || esOculto(cursoDir.getFileName())) {
+            return;
+        }
+
+        String cursoId = cursoDir.getFileName().toString();
+        registrarDirectorio(servicio, cursoDir, cursoId);
+
+        // En los cursos fragmentados, los bloques residen en un subdirectorio propio
+        Path bloquesDir = cursoDir.resolve(BLOQUES_DIR);
+        if (Files.isDirectory(bloquesDir)) {
+            registrarDirectorio(servicio, bloquesDir, cursoId);
+        }
+    }
+
+    /**
+     * Registra un directorio cuyos cambios se atribuyen a un curso.
+     *
+     * @param servicio Servicio de vigilancia
+     * @param directorio Directorio a vigilar
+     * @param cursoId Identificador del curso al que pertenece
+     */
+    private void registrarDirectorio(WatchService servicio, Path directorio, String cursoId) {
+        try {
+            WatchKey clave = directorio.register(servicio,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+            cursosPorClave.put(clave, cursoId);
+            logger.debug("Vigilando directorio {} del curso {}", directorio.getFileName(), cursoId);
+        } catch (IOException | ClosedWatchServiceException e) {
+            logger.warn("No se pudo vigilar el directorio {}: {}", directorio, e.getMessage());
+        }
+    }
+
+    /**
+     * Indica si un nombre corresponde a un elemento oculto.
+     *
+     * @param nombre Nombre del elemento
+     * @return true si empieza por punto
+     */
+    private static boolean esOculto(Path nombre) {
+        return nombre == null || nombre.toString().startsWith(".");
+    }
+}
@@ -300,7 +300,8 @@ public class DataLoader {
     }
     
     /**
-     * Crea estadísticas de usuario para cada curso.
+     * Crea estadísticas de usuario para cada curso. Si ya existen (las
+     * estadísticas son únicas por usuario y curso) se sobrescriben.
      * 
      * @param estadisticasRepository Repositorio de estadísticas
      */
@@ -309,7 +310,9 @@ public class DataLoader {
         LocalDateTime ahora = LocalDateTime.now();
         
         for (String cursoId : cursos) {
-            EstadisticasUsuario estadisticas = new EstadisticasUsuario();
+            EstadisticasUsuario estadisticas = estadisticasRepository
+                .buscarPorUsuarioYCurso("usuario_default", cursoId)
+                .orElseGet(EstadisticasUsuario::new);
             estadisticas.setUsuarioId("usuario_default");
             estadisticas.setCursoId(cursoId);
             estadisticas.setTiempoTotal(random.nextInt(7200) + 1800); // Entre 30 min y 2 horas
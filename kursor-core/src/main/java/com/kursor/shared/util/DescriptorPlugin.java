@@ -0,0 +1,242 @@
+package com.kursor.shared.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Descriptor de un plugin (módulo de preguntas o estrategia).
+ *
+ * <p>El descriptor es un archivo de propiedades opcional dentro del JAR
+ * ({@value #ARCHIVO}, codificado en UTF-8) con los metadatos del servicio que
+ * declara el JAR. Permite registrar el plugin sin cargar ni instanciar su clase:
+ * la clase solo se carga la primera vez que se usa el plugin
+ * ({@link PluginPerezoso}).</p>
+ *
+ * <p><strong>Ejemplo:</strong></p>
+ * <pre>
+ * clase=com.kursor.flashcard.FlashcardModule
+ * tipo=flashcard
+ * alias=flashcards
+ * nombre=Flashcard
+ * descripcion=Módulo para tarjetas de memoria
+ * icono=🗂️
+ * version=1.0.0
+ * </pre>
+ *
+ * <p>Los JAR sin descriptor, o con un descriptor incompleto, se siguen cargando
+ * instanciando sus clases al arrancar.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see IndicePlugins
+ * @see PluginPerezoso
+ */
+public final class DescriptorPlugin {
+
+    /** Logger para registrar eventos del descriptor */
+    private static final Logger logger = LoggerFactory.getLogger(DescriptorPlugin.class);
+
+    /** Ruta del descriptor dentro del JAR */
+    public static final String ARCHIVO = "META-INF/kursor-plugin.properties";
+
+    /** Clave con el nombre de la clase del servicio descrito */
+    public static final String CLASE = "clase";
+
+    /** Clave con el tipo de pregunta (módulos) */
+    public static final String TIPO = "tipo";
+
+    /** Clave con los alias del tipo de pregunta, separados por comas (módulos) */
+    public static final String ALIAS = "alias";
+
+    /** Clave con el nombre del plugin */
+    public static final String NOMBRE = "nombre";
+
+    /** Clave con la descripción del plugin */
+    public static final String DESCRIPCION = "descripcion";
+
+    /** Clave con el icono del plugin */
+    public static final String ICONO = "icono";
+
+    /** Clave con la versión del plugin */
+    public static final String VERSION = "version";
+
+    /** Descriptor vacío, para los JAR que no tienen */
+    private static final DescriptorPlugin VACIO = new DescriptorPlugin(Collections.emptyMap());
+
+    /** Propiedades del descriptor */
+    private final Map<String, String> propiedades;
+
+    private DescriptorPlugin(Map<String, String> propiedades) {
+        this.propiedades = propiedades;
+    }
+
+    /**
+     * Crea un descriptor a partir de sus propiedades.
+     *
+     * @param propiedades Propiedades del descriptor
+     * @return Descriptor inmutable
+     */
+    public static DescriptorPlugin de(Map<String, String> propiedades) {
+        if (propiedades == null || propiedades.isEmpty()) {
+            return VACIO;
+        }
+        return new DescriptorPlugin(Collections.unmodifiableMap(new LinkedHashMap<>(propiedades)));
+    }
+
+    /**
+     * Obtiene el descriptor vacío.
+     *
+     * @return Descriptor sin propiedades
+     */
+    public static DescriptorPlugin vacio() {
+        return VACIO;
+    }
+
+    /**
+     * Lee el descriptor de un JAR de plugin.
+     *
+     * @param jarFile Archivo JAR
+     * @return Descriptor del JAR, vacío si no tiene o no se puede leer
+     */
+    public static DescriptorPlugin leer(File jarFile) {
+        try (JarFile jar = new JarFile(jarFile)) {
+            return leer(jar);
+        } catch (IOException e) {
+            logger.debug("No se pudo abrir {} para leer su descriptor: {}", jarFile.getName(), e.getMessage());
+            return VACIO;
+        }
+    }
+
+    /**
+     * Lee el descriptor de un JAR de plugin ya abierto.
+     *
+     * @param jar JAR abierto
+     * @return Descriptor del JAR, vacío si no tiene o no se puede leer
+     */
+    public static DescriptorPlugin leer(JarFile jar) {
+        JarEntry entrada = jar.getJarEntry(ARCHIVO);
+        if (entrada == null) {
+            return VACIO;
+        }
+
+        Properties propiedades = new Properties();
+        try (Reader reader = new InputStreamReader(jar.getInputStream(entrada), StandardCharsets.UTF_8)) {
+            propiedades.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Descriptor de plugin ilegible en {}: {}", jar.getName(), e.getMessage());
+            return VACIO;
+        }
+
+        Map<String, String> valores = new LinkedHashMap<>();
+        for (String clave : propiedades.stringPropertyNames()) {
+            String valor = propiedades.getProperty(clave).trim();
+            if (!valor.isEmpty()) {
+                valores.put(clave.trim(), valor);
+            }
+        }
+        return de(valores);
+    }
+
+    /**
+     * Obtiene el valor de una propiedad.
+     *
+     * @param clave Clave de la propiedad
+     * @return Valor de la propiedad, o null si no está definida
+     */
+    public String get(String clave) {
+        return propiedades.get(clave);
+    }
+
+    /**
+     * Obtiene el valor de una propiedad con una lista separada por comas.
+     *
+     * @param clave Clave de la propiedad
+     * @return Lista inmutable de valores sin espacios, vacía si no está definida
+     */
+    public List<String> getLista(String clave) {
+        String valor = propiedades.get(clave);
+        if (valor == null) {
+            return List.of();
+        }
+        List<String> valores = new ArrayList<>();
+        for (String elemento : valor.split(",")) {
+            if (!elemento.isBlank()) {
+                valores.add(elemento.trim());
+            }
+        }
+        return List.copyOf(valores);
+    }
+
+    /**
+     * Obtiene la clase del servicio descrito.
+     *
+     * @return Nombre de la clase, o null si no está definida
+     */
+    public String getClase() {
+        return propiedades.get(CLASE);
+    }
+
+    /**
+     * Indica si el descriptor describe una clase de servicio concreta y
+     * define todas las claves indicadas.
+     *
+     * @param clase Clase de servicio que debe describir
+     * @param claves Claves obligatorias
+     * @return true si el descriptor permite registrar el servicio sin instanciarlo
+     */
+    public boolean describe(String clase, String... claves) {
+        return clase != null && clase.equals(getClase()) && define(claves);
+    }
+
+    /**
+     * Indica si el descriptor define todas las claves indicadas.
+     *
+     * @param claves Claves obligatorias
+     * @return true si todas las claves tienen valor
+     */
+    public boolean define(String... claves) {
+        for (String clave : claves) {
+            if (!propiedades.containsKey(clave)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si el descriptor no tiene propiedades.
+     *
+     * @return true si el descriptor está vacío
+     */
+    public boolean isVacio() {
+        return propiedades.isEmpty();
+    }
+
+    /**
+     * Obtiene todas las propiedades del descriptor.
+     *
+     * @return Mapa inmutable de propiedades
+     */
+    public Map<String, String> getPropiedades() {
+        return propiedades;
+    }
+
+    @Override
+    public String toString() {
+        return "DescriptorPlugin" + propiedades;
+    }
+}
@@ -0,0 +1,136 @@
+package com.kursor.shared.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de búsquedas de plugins por clave (tipo de pregunta, nombre de
+ * estrategia...).
+ *
+ * <p>Cuenta las consultas y los fallos de cada clave normalizada con
+ * {@link LongAdder}, de modo que registrar una búsqueda no bloquea aunque se
+ * creen preguntas desde varios hilos. Las claves se normalizan igual que en
+ * {@link PluginRegistry}.</p>
+ *
+ * <p>Para que un archivo con muchos tipos distintos no haga crecer los
+ * contadores sin límite, a partir de {@value #MAX_CLAVES} claves las nuevas se
+ * acumulan en {@value #OTRAS}.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CargadorPlugins#getEstadisticas()
+ */
+public final class EstadisticasBusqueda {
+
+    /** Número máximo de claves con contadores propios */
+    public static final int MAX_CLAVES = 1024;
+
+    /** Clave que acumula las búsquedas que superan {@link #MAX_CLAVES} */
+    public static final String OTRAS = "*";
+
+    /** Contadores por clave normalizada */
+    private final Map<String, Contador> contadores = new ConcurrentHashMap<>();
+
+    /**
+     * Registra una búsqueda.
+     *
+     * @param clave Clave buscada
+     * @param encontrada true si se encontró un plugin para la clave
+     */
+    public void registrar(String clave, boolean encontrada) {
+        registrarNormalizada(normalizar(clave), encontrada);
+    }
+
+    /**
+     * Registra una búsqueda cuya clave ya se normalizó con
+     * {@link PluginRegistry#normalizar(String)}.
+     *
+     * @param normalizada Clave normalizada (no debe ser null)
+     * @param encontrada true si se encontró un plugin para la clave
+     */
+    void registrarNormalizada(String normalizada, boolean encontrada) {
+        Contador contador = contador(normalizada);
+        contador.consultas.increment();
+        if (!encontrada) {
+            contador.fallos.increment();
+        }
+    }
+
+    private Contador contador(String normalizada) {
+        Contador contador = contadores.get(normalizada);
+        if (contador != null) {
+            return contador;
+        }
+        if (contadores.size() >= MAX_CLAVES) {
+            normalizada = OTRAS;
+        }
+        return contadores.computeIfAbsent(normalizada, k -> new Contador());
+    }
+
+    /**
+     * Obtiene el número de búsquedas de una clave.
+     *
+     * @param clave Clave buscada
+     * @return Número de búsquedas, 0 si nunca se ha buscado
+     */
+    public long getConsultas(String clave) {
+        Contador contador = contadores.get(normalizar(clave));
+        return contador != null ? contador.consultas.sum() : 0;
+    }
+
+    /**
+     * Obtiene el número de búsquedas sin resultado de una clave.
+     *
+     * @param clave Clave buscada
+     * @return Número de fallos, 0 si nunca ha fallado
+     */
+    public long getFallos(String clave) {
+        Contador contador = contadores.get(normalizar(clave));
+        return contador != null ? contador.fallos.sum() : 0;
+    }
+
+    private static String normalizar(String clave) {
+        return clave != null ? PluginRegistry.normalizar(clave) : "";
+    }
+
+    /**
+     * Obtiene una instantánea de los contadores.
+     *
+     * @return Mapa ordenado de clave a {consultas, fallos}
+     */
+    public Map<String, long[]> getResumen() {
+        Map<String, long[]> resumen = new TreeMap<>();
+        contadores.forEach((clave, contador) ->
+            resumen.put(clave, new long[]{contador.consultas.sum(), contador.fallos.sum()}));
+        return resumen;
+    }
+
+    /**
+     * Reinicia todos los contadores.
+     */
+    public void reiniciar() {
+        contadores.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("EstadisticasBusqueda{");
+        getResumen().forEach((clave, valores) ->
+            sb.append(clave).append('=').append(valores[0]).append('/').append(valores[1]).append(", "));
+        if (sb.charAt(sb.length() - 1) == ' ') {
+            sb.setLength(sb.length() - 2);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Contadores de una clave.
+     */
+    private static final class Contador {
+        private final LongAdder consultas = new LongAdder();
+        private final LongAdder fallos = new LongAdder();
+    }
+}
@@ -0,0 +1,374 @@
+package com.kursor.shared.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Índice persistente de los JAR de plugins ya validados.
+ *
+ * <p>Validar un JAR de módulo o de estrategia implica abrirlo, recorrer sus
+ * entradas y comprobar su archivo de servicios. El índice guarda, para cada JAR
+ * validado, las clases declaradas en su archivo de servicios y su
+ * {@link DescriptorPlugin}, de modo que en los arranques siguientes los JAR sin
+ * cambios se registran sin volver a abrirlos.</p>
+ *
+ * <p>Cada entrada está asociada al JAR por su ruta, su tamaño, su fecha de
+ * modificación y el hash SHA-256 de su contenido, igual que las entradas de
+ * {@link com.kursor.service.CursoCache}:</p>
+ * <ul>
+ *   <li>Si tamaño y fecha coinciden, la entrada se usa sin leer el JAR</li>
+ *   <li>Si cambian pero el hash coincide, la entrada se reutiliza y se actualiza</li>
+ *   <li>En cualquier otro caso el JAR debe validarse de nuevo</li>
+ * </ul>
+ *
+ * <p>El índice se guarda en un único archivo binario, normalmente dentro del
+ * propio directorio de plugins ({@value #ARCHIVO}). Un índice ilegible se trata
+ * como vacío: nunca impide cargar los plugins.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Todos los métodos públicos están sincronizados.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see ModuleManager
+ * @see StrategyManager
+ */
+public class IndicePlugins {
+
+    /** Logger para registrar eventos del índice */
+    private static final Logger logger = LoggerFactory.getLogger(IndicePlugins.class);
+
+    /** Nombre del archivo de índice dentro de un directorio de plugins */
+    public static final String ARCHIVO = ".indice-plugins";
+
+    /** Número mágico del archivo de índice ("KIDX") */
+    private static final int MAGIC = 0x4B494458;
+
+    /** Versión del formato del archivo de índice */
+    private static final int FORMATO_VERSION = 2;
+
+    /** Longitud del hash SHA-256 */
+    private static final int HASH_LENGTH = 32;
+
+    /** Archivo donde se persiste el índice */
+    private final File archivo;
+
+    /** Entradas del índice por ruta absoluta del JAR */
+    private final Map<String, Entrada> entradas = new LinkedHashMap<>();
+
+    /** Indica si hay cambios pendientes de guardar */
+    private boolean modificado;
+
+    /**
+     * Crea el índice y carga su contenido desde disco, si existe.
+     *
+     * @param archivo Archivo del índice
+     * @throws IllegalArgumentException si el archivo es null
+     */
+    public IndicePlugins(File archivo) {
+        if (archivo == null) {
+            throw new IllegalArgumentException("El archivo de índice no puede ser null");
+        }
+        this.archivo = archivo;
+        cargar();
+    }
+
+    /**
+     * Lee las entradas del archivo de índice. Cualquier error deja el índice vacío.
+     */
+    private void cargar() {
+        if (!archivo.isFile()) {
+            logger.debug("Sin índice de plugins en: {}", archivo.getPath());
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(archivo.toPath())))) {
+
+            if (in.readInt() != MAGIC || in.readInt() != FORMATO_VERSION) {
+                logger.debug("Índice de plugins con formato no reconocido: {}", archivo.getPath());
+                return;
+            }
+
+            int total = in.readInt();
+            for (int i = 0; i < total; i++) {
+                String ruta = in.readUTF();
+                long tamano = in.readLong();
+                long modificadoJar = in.readLong();
+                byte[] hash = new byte[HASH_LENGTH];
+                in.readFully(hash);
+                int numeroServicios = in.readInt();
+                List<String> servicios = new ArrayList<>(numeroServicios);
+                for (int j = 0; j < numeroServicios; j++) {
+                    servicios.add(in.readUTF());
+                }
+                int numeroPropiedades = in.readInt();
+                Map<String, String> propiedades = new LinkedHashMap<>();
+                for (int j = 0; j < numeroPropiedades; j++) {
+                    propiedades.put(in.readUTF(), in.readUTF());
+                }
+                entradas.put(ruta, new Entrada(tamano, modificadoJar, hash, Collections.unmodifiableList(servicios),
+                                               DescriptorPlugin.de(propiedades)));
+            }
+            logger.debug("Índice de plugins cargado: {} entradas desde {}", entradas.size(), archivo.getPath());
+
+        } catch (Exception e) {
+            logger.warn("No se pudo leer el índice de plugins {}: {}", archivo.getPath(), e.getMessage());
+            entradas.clear();
+        }
+    }
+
+    /**
+     * Obtiene las clases de servicio registradas para un JAR, si el JAR no ha
+     * cambiado desde que se validó.
+     *
+     * @param jarFile Archivo JAR
+     * @return Lista inmutable de clases de servicio, o null si el JAR no está
+     *         en el índice o ha cambiado
+     */
+    public synchronized List<String> buscar(File jarFile) {
+        String ruta = jarFile.getAbsolutePath();
+        Entrada entrada = entradas.get(ruta);
+        if (entrada == null) {
+            return null;
+        }
+
+        long tamano = jarFile.length();
+        long modificadoJar = jarFile.lastModified();
+        if (entrada.tamano == tamano && entrada.modificado == modificadoJar) {
+            return entrada.servicios;
+        }
+
+        try {
+            // Tamaño o fecha distintos: comprobar si el contenido realmente cambió
+            byte[] hash = calcularHash(jarFile);
+            if (entrada.tamano == tamano && Arrays.equals(entrada.hash, hash)) {
+                logger.debug("JAR sin cambios de contenido, actualizando índice: {}", jarFile.getName());
+                entradas.put(ruta, new Entrada(tamano, modificadoJar, hash, entrada.servicios, entrada.descriptor));
+                modificado = true;
+                return entrada.servicios;
+            }
+        } catch (IOException e) {
+            logger.debug("No se pudo calcular el hash de {}: {}", jarFile.getName(), e.getMessage());
+        }
+
+        logger.debug("JAR modificado desde la última validación: {}", jarFile.getName());
+        entradas.remove(ruta);
+        modificado = true;
+        return null;
+    }
+
+    /**
+     * Obtiene el descriptor registrado para un JAR. Debe usarse después de
+     * {@link #buscar(File)}, que comprueba que el JAR no ha cambiado.
+     *
+     * @param jarFile Archivo JAR
+     * @return Descriptor del JAR, vacío si no está en el índice
+     */
+    public synchronized DescriptorPlugin getDescriptor(File jarFile) {
+        Entrada entrada = entradas.get(jarFile.getAbsolutePath());
+        return entrada != null ? entrada.descriptor : DescriptorPlugin.vacio();
+    }
+
+    /**
+     * Registra un JAR validado junto con sus clases de servicio.
+     *
+     * @param jarFile Archivo JAR validado
+     * @param servicios Clases declaradas en su archivo de servicios
+     */
+    public void registrar(File jarFile, List<String> servicios) {
+        registrar(jarFile, servicios, DescriptorPlugin.vacio());
+    }
+
+    /**
+     * Registra un JAR validado junto con sus clases de servicio y su descriptor.
+     *
+     * @param jarFile Archivo JAR validado
+     * @param servicios Clases declaradas en su archivo de servicios
+     * @param descriptor Descriptor del JAR
+     */
+    public synchronized void registrar(File jarFile, List<String> servicios, DescriptorPlugin descriptor) {
+        try {
+            // Capturar tamaño y fecha antes de calcular el hash para no asociar
+            // un hash nuevo a metadatos antiguos si el archivo cambia entretanto
+            long tamano = jarFile.length();
+            long modificadoJar = jarFile.lastModified();
+            byte[] hash = calcularHash(jarFile);
+            entradas.put(jarFile.getAbsolutePath(),
+                         new Entrada(tamano, modificadoJar, hash, Collections.unmodifiableList(new ArrayList<>(servicios)),
+                                     descriptor));
+            modificado = true;
+        } catch (IOException e) {
+            logger.warn("No se pudo registrar {} en el índice de plugins: {}", jarFile.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Elimina las entradas de los JAR que ya no están presentes.
+     *
+     * @param jarFiles JAR que se conservan en el índice
+     */
+    public synchronized void conservarSolo(Collection<File> jarFiles) {
+        Set<String> rutas = new HashSet<>();
+        for (File jarFile : jarFiles) {
+            rutas.add(jarFile.getAbsolutePath());
+        }
+        if (entradas.keySet().retainAll(rutas)) {
+            modificado = true;
+        }
+    }
+
+    /**
+     * Guarda el índice en disco si tiene cambios.
+     *
+     * <p>El índice se escribe en un archivo temporal que después se mueve sobre
+     * el definitivo, de modo que un arranque concurrente nunca lee un índice a
+     * medio escribir.</p>
+     *
+     * @return true si el índice está guardado y al día
+     */
+    public synchronized boolean guardar() {
+        if (!modificado) {
+            return true;
+        }
+
+        Path temporal = null;
+        try {
+            File directorio = archivo.getAbsoluteFile().getParentFile();
+            Files.createDirectories(directorio.toPath());
+            temporal = Files.createTempFile(directorio.toPath(), archivo.getName(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporal)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMATO_VERSION);
+                out.writeInt(entradas.size());
+                for (Map.Entry<String, Entrada> e : entradas.entrySet()) {
+                    Entrada entrada = e.getValue();
+                    out.writeUTF(e.getKey());
+                    out.writeLong(entrada.tamano);
+                    out.writeLong(entrada.modificado);
+                    out.write(entrada.hash);
+                    out.writeInt(entrada.servicios.size());
+                    for (String servicio : entrada.servicios) {
+                        out.writeUTF(servicio);
+                    }
+                    Map<String, String> propiedades = entrada.descriptor.getPropiedades();
+                    out.writeInt(propiedades.size());
+                    for (Map.Entry<String, String> propiedad : propiedades.entrySet()) {
+                        out.writeUTF(propiedad.getKey());
+                        out.writeUTF(propiedad.getValue());
+                    }
+                }
+            }
+
+            try {
+                Files.move(temporal, archivo.toPath(),
+                          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal, archivo.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporal = null;
+            modificado = false;
+            logger.debug("Índice de plugins guardado: {} entradas en {}", entradas.size(), archivo.getPath());
+            return true;
+
+        } catch (IOException e) {
+            logger.warn("No se pudo guardar el índice de plugins {}: {}", archivo.getPath(), e.getMessage());
+            return false;
+        } finally {
+            if (temporal != null) {
+                try {
+                    Files.deleteIfExists(temporal);
+                } catch (IOException e) {
+                    logger.debug("No se pudo eliminar el temporal del índice: {}", temporal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtiene el número de JAR registrados en el índice.
+     *
+     * @return Número de entradas
+     */
+    public synchronized int size() {
+        return entradas.size();
+    }
+
+    /**
+     * Obtiene el archivo donde se persiste el índice.
+     *
+     * @return Archivo del índice
+     */
+    public File getArchivo() {
+        return archivo;
+    }
+
+    /**
+     * Calcula el hash SHA-256 del contenido de un archivo.
+     *
+     * @param file Archivo a procesar
+     * @return Hash SHA-256 del contenido
+     * @throws IOException si el archivo no se puede leer
+     */
+    private static byte[] calcularHash(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            byte[] buffer = new byte[8192];
+            int leidos;
+            while ((leidos = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, leidos);
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Entrada del índice para un JAR.
+     */
+    private static final class Entrada {
+
+        private final long tamano;
+        private final long modificado;
+        private final byte[] hash;
+        private final List<String> servicios;
+        private final DescriptorPlugin descriptor;
+
+        Entrada(long tamano, long modificado, byte[] hash, List<String> servicios, DescriptorPlugin descriptor) {
+            this.tamano = tamano;
+            this.modificado = modificado;
+            this.hash = hash;
+            this.servicios = servicios;
+            this.descriptor = descriptor;
+        }
+    }
+}
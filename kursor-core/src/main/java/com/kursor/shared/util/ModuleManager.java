@@ -1,20 +1,12 @@
 package com.kursor.shared.util;
 
+import com.kursor.domain.Pregunta;
 import com.kursor.modules.PreguntaModule;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.jar.JarFile;
-import java.util.jar.JarEntry;
-import java.net.URLClassLoader;
-import java.net.URL;
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,8 +14,10 @@ import org.slf4j.LoggerFactory;
  * Gestor de módulos de preguntas para la aplicación Kursor.
  * 
  * <p>Esta clase se encarga de cargar dinámicamente todos los módulos de preguntas
- * desde archivos JAR ubicados en el directorio "modules". Utiliza el patrón
- * ServiceLoader para descubrir e instanciar implementaciones de {@link PreguntaModule}.</p>
+ * desde archivos JAR ubicados en el directorio "modules". Es una fachada sobre
+ * {@link CargadorPlugins}, que descubre, valida e instancia en paralelo las
+ * implementaciones de {@link PreguntaModule} declaradas en los archivos de
+ * servicios de los JAR y las registra por tipo de pregunta.</p>
  * 
  * <p>Características principales:</p>
  * <ul>
@@ -31,10 +25,25 @@ import org.slf4j.LoggerFactory;
  *   <li>Validación exhaustiva de JARs antes de cargarlos</li>
  *   <li>Manejo robusto de errores de carga de módulos</li>
  *   <li>Lista inmutable de módulos cargados</li>
- *   <li>Búsqueda eficiente de módulos por tipo de pregunta</li>
+ *   <li>Búsqueda de módulos por tipo de pregunta o alias en tiempo constante,
+ *       con contadores de búsquedas y fallos por tipo</li>
+ *   <li>Carga, sustitución y retirada de módulos en caliente, sin reiniciar</li>
  *   <li>Logging comprehensivo para debugging y monitoreo</li>
  * </ul>
  * 
+ * <p><strong>Plugins en caliente:</strong> Cada JAR se carga con su propio
+ * {@link PluginClassLoader}, que permanece abierto mientras el módulo esté en uso.
+ * Con {@link #iniciarVigilancia()} los JAR que se copian, sustituyen o eliminan
+ * en el directorio modules/ se aplican sin reiniciar. Las preguntas ya creadas
+ * conservan su versión del módulo ({@link #findModuleForPregunta(Pregunta)}), de
+ * modo que las sesiones en curso no se ven afectadas.</p>
+ * 
+ * <p><strong>Carga perezosa:</strong> Los JAR que incluyen un {@link DescriptorPlugin}
+ * con la clase, el tipo, el nombre y la descripción del módulo se registran sin
+ * cargar su clase. El módulo se instancia la primera vez que se solicita con
+ * {@link #findModuleByQuestionType(String)}, de modo que los módulos que no usan
+ * los cursos no consumen carga de clases ni compilación JIT.</p>
+ * 
  * <p><strong>Tipos de pregunta soportados:</strong></p>
  * <ul>
  *   <li>{@code test} - Preguntas de opción múltiple</li>
@@ -59,8 +68,9 @@ import org.slf4j.LoggerFactory;
  * }</pre>
  * 
  * <p><strong>Thread Safety:</strong> Esta clase es thread-safe después de la inicialización.
- * El patrón Singleton garantiza que solo existe una instancia, y la lista de módulos
- * se inicializa una sola vez durante la construcción.</p>
+ * El patrón Singleton garantiza que solo existe una instancia. La lista de módulos
+ * se sustituye completa en cada cambio de plugins, de modo que los lectores
+ * siempre ven una versión consistente sin necesidad de bloqueos.</p>
  * 
  * <p><strong>Manejo de Errores:</strong> Los errores de carga de módulos individuales
  * no interrumpen la carga de otros módulos. Todos los errores se registran apropiadamente.</p>
@@ -73,20 +83,22 @@ import org.slf4j.LoggerFactory;
  */
 public class ModuleManager {
     
-    /** Instancia única del gestor de módulos (Singleton) */
-    private static ModuleManager instance;
+    /** Instancia única del gestor de módulos (Singleton); volatile para leerla sin bloqueo */
+    private static volatile ModuleManager instance;
     
     /** Logger para registrar eventos del gestor de módulos */
     private static final Logger logger = LoggerFactory.getLogger(ModuleManager.class);
     
-    /** Lista de módulos de preguntas cargados exitosamente */
-    private final List<PreguntaModule> modules;
+    /** Cargador de los módulos del directorio modules/ */
+    private final CargadorPlugins<PreguntaModule> cargador;
     
     /** Directorio donde se buscan los módulos JAR */
     private static final String MODULES_DIR;
     
-    /** Nombre del archivo de servicios esperado en los JARs */
-    private static final String SERVICE_FILE = "META-INF/services/com.kursor.modules.PreguntaModule";
+    /** Claves obligatorias del descriptor para registrar un módulo sin instanciarlo */
+    private static final String[] CLAVES_DESCRIPTOR = {
+        DescriptorPlugin.TIPO, DescriptorPlugin.NOMBRE, DescriptorPlugin.DESCRIPCION
+    };
     
     // Inicializar la ruta de módulos dinámicamente
     static {
@@ -115,12 +127,17 @@ public class ModuleManager {
      */
     private ModuleManager() {
         logger.debug("Creando nueva instancia de ModuleManager");
-        this.modules = new ArrayList<>();
-        logger.trace("Lista de módulos inicializada");
+        this.cargador = new CargadorPlugins<>("modulos", PreguntaModule.class, new File(MODULES_DIR),
+                                              PreguntaModule::getQuestionType,
+                                              PreguntaModule::getQuestionTypeAliases, this::validarModulo,
+                                              ModuleManager::metadatosDescriptor);
         
         try {
-            cargarModulos();
-            logger.info("ModuleManager inicializado exitosamente con {} módulos", modules.size());
+            cargador.cargarTodos();
+            if (!hasModules()) {
+                logger.warn("ATENCIÓN: No se cargó ningún módulo. La aplicación puede tener funcionalidad limitada");
+            }
+            logger.info("ModuleManager inicializado exitosamente con {} módulos", getModuleCount());
         } catch (Exception e) {
             logger.error("Error crítico durante la inicialización de ModuleManager", e);
             throw new RuntimeException("No se pudo inicializar ModuleManager", e);
@@ -131,212 +148,110 @@ public class ModuleManager {
      * Obtiene la instancia única del gestor de módulos.
      * 
      * <p>Si la instancia no existe, se crea automáticamente y se cargan
-     * todos los módulos disponibles. Este método es thread-safe.</p>
+     * todos los módulos disponibles. Este método es thread-safe: una vez
+     * creada la instancia, se devuelve sin tomar ningún bloqueo, ya que se
+     * llama por cada pregunta que se crea.</p>
      * 
      * @return Instancia única del ModuleManager, nunca {@code null}
      * @throws RuntimeException Si hay errores durante la inicialización
      */
-    public static synchronized ModuleManager getInstance() {
-        logger.trace("Solicitando instancia de ModuleManager");
-        
-        if (instance == null) {
-            logger.debug("Instancia de ModuleManager no existe, creando nueva");
-            instance = new ModuleManager();
-        } else {
-            logger.trace("Retornando instancia existente de ModuleManager");
+    public static ModuleManager getInstance() {
+        ModuleManager actual = instance;
+        if (actual != null) {
+            return actual;
         }
         
-        return instance;
+        synchronized (ModuleManager.class) {
+            if (instance == null) {
+                logger.debug("Instancia de ModuleManager no existe, creando nueva");
+                instance = new ModuleManager();
+            }
+            return instance;
+        }
     }
 
     /**
-     * Carga todos los módulos JAR disponibles en el directorio modules/.
+     * Traduce el descriptor de un JAR de módulo a los valores de los métodos de
+     * metadatos de {@link PreguntaModule}.
      * 
-     * <p>Este método realiza las siguientes operaciones:</p>
-     * <ol>
-     *   <li>Verifica que el directorio modules/ existe</li>
-     *   <li>Busca archivos JAR en el directorio</li>
-     *   <li>Valida que cada JAR contenga implementaciones de PreguntaModule</li>
-     *   <li>Carga dinámicamente los módulos usando ServiceLoader</li>
-     *   <li>Registra errores de carga sin interrumpir la aplicación</li>
-     * </ol>
-     * 
-     * <p><strong>Comportamiento ante errores:</strong> Si un módulo individual falla
-     * al cargar, se registra el error y se continúa con los demás módulos.</p>
-     * 
-     * <p>Los módulos se cargan en el orden en que se encuentran los archivos JAR.</p>
-     * 
-     * @throws IllegalStateException Si el directorio modules no es accesible
+     * @param descriptor Descriptor del JAR
+     * @return Valores por método, o null si el descriptor no define el tipo,
+     *         el nombre y la descripción del módulo
      */
-    private void cargarModulos() {
-        logger.info("Iniciando carga de módulos desde directorio: {}", MODULES_DIR);
-        
-        File modulesDir = new File(MODULES_DIR);
-        
-        // Verificar existencia del directorio
-        if (!modulesDir.exists()) {
-            logger.warn("El directorio de módulos no existe: {}", MODULES_DIR);
-            logger.debug("Intentando crear directorio de módulos");
-            
-            if (modulesDir.mkdirs()) {
-                logger.info("Directorio de módulos creado: {}", MODULES_DIR);
-            } else {
-                logger.error("No se pudo crear el directorio de módulos: {}", MODULES_DIR);
-            }
-            return;
-        }
-        
-        if (!modulesDir.isDirectory()) {
-            logger.error("La ruta de módulos no es un directorio: {}", MODULES_DIR);
-            throw new IllegalStateException("La ruta de módulos no es un directorio: " + MODULES_DIR);
+    private static Map<String, Object> metadatosDescriptor(DescriptorPlugin descriptor) {
+        if (!descriptor.define(CLAVES_DESCRIPTOR)) {
+            return null;
         }
         
-        if (!modulesDir.canRead()) {
-            logger.error("No se tienen permisos de lectura en el directorio: {}", MODULES_DIR);
-            throw new IllegalStateException("Sin permisos de lectura en: " + MODULES_DIR);
-        }
-
-        logger.debug("Buscando archivos JAR en directorio: {}", MODULES_DIR);
-        File[] jarFiles = modulesDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".jar"));
-        
-        if (jarFiles == null) {
-            logger.error("Error al listar archivos en el directorio: {}", MODULES_DIR);
-            return;
-        }
-        
-        if (jarFiles.length == 0) {
-            logger.warn("No se encontraron archivos JAR en el directorio: {}", MODULES_DIR);
-            return;
-        }
-
-        logger.info("Encontrados {} archivos JAR para procesar", jarFiles.length);
-        
-        int modulosExitosos = 0;
-        int modulosFallidos = 0;
-        
-        for (File jarFile : jarFiles) {
-            logger.debug("Procesando archivo JAR: {}", jarFile.getName());
-            
-            try {
-                int modulosAnteriores = modules.size();
-                cargarModulo(jarFile);
-                int modulosNuevos = modules.size() - modulosAnteriores;
-                
-                if (modulosNuevos > 0) {
-                    modulosExitosos += modulosNuevos;
-                    logger.info("Carga exitosa de {} módulos desde: {}", modulosNuevos, jarFile.getName());
-                } else {
-                    logger.warn("No se cargaron módulos desde: {}", jarFile.getName());
-                }
-                
-            } catch (Exception e) {
-                modulosFallidos++;
-                logger.error("Error al cargar el módulo {}: {}", jarFile.getName(), e.getMessage(), e);
-            }
-        }
-
-        logger.info("Proceso de carga completado. Total módulos cargados: {}, Exitosos: {}, Fallidos: {}", 
-                   modules.size(), modulosExitosos, modulosFallidos);
-        
-        if (modules.isEmpty()) {
-            logger.warn("ATENCIÓN: No se cargó ningún módulo. La aplicación puede tener funcionalidad limitada");
+        Map<String, Object> metadatos = new HashMap<>();
+        metadatos.put("getQuestionType", descriptor.get(DescriptorPlugin.TIPO));
+        metadatos.put("getQuestionTypeAliases", descriptor.getLista(DescriptorPlugin.ALIAS));
+        metadatos.put("getModuleName", descriptor.get(DescriptorPlugin.NOMBRE));
+        metadatos.put("getModuleDescription", descriptor.get(DescriptorPlugin.DESCRIPCION));
+        if (descriptor.get(DescriptorPlugin.ICONO) != null) {
+            metadatos.put("getIcon", descriptor.get(DescriptorPlugin.ICONO));
         }
+        return metadatos;
     }
 
     /**
-     * Carga un módulo específico desde un archivo JAR.
-     * 
-     * <p>Este método realiza una validación exhaustiva del JAR antes de intentar
-     * cargar los módulos. Utiliza un ClassLoader dedicado para aislar las clases
-     * del módulo y evitar conflictos.</p>
-     * 
-     * <p><strong>Proceso de carga:</strong></p>
-     * <ol>
-     *   <li>Valida que el JAR contenga implementaciones de PreguntaModule</li>
-     *   <li>Crea un URLClassLoader específico para el JAR</li>
-     *   <li>Utiliza ServiceLoader para descubrir implementaciones</li>
-     *   <li>Instancia y registra cada módulo encontrado</li>
-     * </ol>
-     * 
-     * @param jarFile Archivo JAR del módulo a cargar, no debe ser {@code null}
-     * @throws Exception Si hay errores durante la carga del módulo
-     * @throws IllegalArgumentException Si el archivo JAR es {@code null} o no existe
+     * Aplica el estado actual de un JAR del directorio de módulos: lo carga si
+     * es nuevo, lo sustituye si ha cambiado y retira sus módulos si ha
+     * desaparecido.
+     * 
+     * <p>Los módulos retirados o sustituidos siguen disponibles para las
+     * preguntas que ya habían creado, de modo que las sesiones en curso no se
+     * ven afectadas. Los listeners registrados se notifican del cambio.</p>
+     * 
+     * @param jarFile Archivo JAR del directorio de módulos
+     * @return El evento del cambio aplicado, o null si no hubo cambios
      */
-    private void cargarModulo(File jarFile) throws Exception {
-        if (jarFile == null) {
-            throw new IllegalArgumentException("El archivo JAR no puede ser null");
-        }
-        
-        if (!jarFile.exists()) {
-            throw new IllegalArgumentException("El archivo JAR no existe: " + jarFile.getAbsolutePath());
-        }
-        
-        logger.debug("Iniciando carga de módulo desde: {} (tamaño: {} bytes)", 
-                    jarFile.getName(), jarFile.length());
+    public PluginCambioEvento recargarPlugin(File jarFile) {
+        return cargador.recargar(jarFile);
+    }
 
-        // Verificar que el JAR contiene implementaciones de PreguntaModule
-        if (!validarJar(jarFile)) {
-            logger.warn("El JAR no contiene implementaciones válidas de PreguntaModule: {}", jarFile.getName());
-            return;
-        }
+    /**
+     * Comienza a vigilar el directorio de módulos para cargar, sustituir y
+     * retirar módulos sin reiniciar la aplicación.
+     * 
+     * @return true si la vigilancia está activa
+     */
+    public boolean iniciarVigilancia() {
+        return cargador.iniciarVigilancia();
+    }
 
-        logger.debug("JAR validado exitosamente, creando ClassLoader para: {}", jarFile.getName());
-        
-        // Crear class loader para el JAR
-        URLClassLoader classLoader = null;
-        try {
-            classLoader = new URLClassLoader(
-                new URL[]{jarFile.toURI().toURL()},
-                getClass().getClassLoader()
-            );
-            
-            logger.trace("ClassLoader creado para: {}", jarFile.getName());
+    /**
+     * Deja de vigilar el directorio de módulos.
+     */
+    public void detenerVigilancia() {
+        cargador.detenerVigilancia();
+    }
 
-            // Cargar módulos usando ServiceLoader
-            logger.debug("Iniciando ServiceLoader para: {}", jarFile.getName());
-            ServiceLoader<PreguntaModule> serviceLoader = ServiceLoader.load(PreguntaModule.class, classLoader);
-            
-            int modulosCargados = 0;
-            for (PreguntaModule module : serviceLoader) {
-                try {
-                    // Validar el módulo antes de agregarlo
-                    if (validarModulo(module)) {
-                        modules.add(module);
-                        modulosCargados++;
-                        logger.debug("Módulo cargado exitosamente: {} (tipo: {})", 
-                                   module.getModuleName(), module.getQuestionType());
-                    } else {
-                        logger.warn("Módulo inválido descartado: {}", module.getClass().getName());
-                    }
-                } catch (Exception e) {
-                    logger.error("Error al validar módulo {}: {}", module.getClass().getName(), e.getMessage(), e);
-                }
-            }
+    /**
+     * Registra un listener que se notifica cuando se carga, sustituye o retira
+     * un módulo en caliente.
+     * 
+     * @param listener Listener a registrar
+     */
+    public void addPluginCambioListener(PluginCambioListener listener) {
+        cargador.addPluginCambioListener(listener);
+    }
 
-            if (modulosCargados == 0) {
-                logger.warn("No se encontraron implementaciones válidas de PreguntaModule en: {}", jarFile.getName());
-            } else {
-                logger.info("Cargados {} módulos desde: {}", modulosCargados, jarFile.getName());
-            }
-            
-        } finally {
-            // Cerrar el ClassLoader para liberar recursos
-            if (classLoader != null) {
-                try {
-                    classLoader.close();
-                    logger.trace("ClassLoader cerrado para: {}", jarFile.getName());
-                } catch (IOException e) {
-                    logger.warn("Error al cerrar ClassLoader para {}: {}", jarFile.getName(), e.getMessage());
-                }
-            }
-        }
+    /**
+     * Elimina un listener de cambios de módulos.
+     * 
+     * @param listener Listener a eliminar
+     */
+    public void removePluginCambioListener(PluginCambioListener listener) {
+        cargador.removePluginCambioListener(listener);
     }
 
     /**
      * Valida que un módulo cargado es funcional y seguro.
      * 
      * <p>Realiza verificaciones básicas para asegurar que el módulo puede
-     * funcionar correctamente en la aplicación.</p>
+     * funcionar correctamente en la aplicación. El tipo de pregunta duplicado lo
+     * detecta {@link CargadorPlugins}, que lo usa como clave del registro.</p>
      * 
      * @param module Módulo a validar
      * @return {@code true} si el módulo es válido, {@code false} en caso contrario
@@ -361,15 +276,6 @@ public class ModuleManager {
                 return false;
             }
             
-            // Verificar si ya existe un módulo con el mismo tipo
-            for (PreguntaModule existingModule : modules) {
-                if (questionType.equals(existingModule.getQuestionType())) {
-                    logger.warn("Ya existe un módulo para el tipo '{}': {}. Módulo {} será descartado",
-                              questionType, existingModule.getModuleName(), moduleName);
-                    return false;
-                }
-            }
-            
             logger.trace("Módulo validado exitosamente: {} (tipo: {})", moduleName, questionType);
             return true;
             
@@ -379,139 +285,15 @@ public class ModuleManager {
         }
     }
 
-    /**
-     * Valida que un archivo JAR contenga implementaciones de PreguntaModule.
-     * 
-     * <p>Realiza las siguientes verificaciones:</p>
-     * <ul>
-     *   <li>Existe el archivo de servicios META-INF/services/com.kursor.modules.PreguntaModule</li>
-     *   <li>El archivo de servicios contiene referencias a clases válidas</li>
-     *   <li>El JAR contiene archivos .class (no está vacío)</li>
-     *   <li>El archivo de servicios está correctamente codificado</li>
-     * </ul>
-     * 
-     * @param jarFile Archivo JAR a validar, no debe ser {@code null}
-     * @return {@code true} si el JAR es válido, {@code false} en caso contrario
-     * @throws IllegalArgumentException Si jarFile es {@code null}
-     */
-    private boolean validarJar(File jarFile) {
-        if (jarFile == null) {
-            throw new IllegalArgumentException("El archivo JAR no puede ser null");
-        }
-        
-        logger.info("=== INICIO VALIDACIÓN JAR: {} ===", jarFile.getName());
-        logger.debug("Iniciando validación de JAR: {} (tamaño: {} bytes)", 
-                    jarFile.getName(), jarFile.length());
-        
-        try (JarFile jar = new JarFile(jarFile)) {
-            logger.info("JAR abierto exitosamente: {}", jarFile.getName());
-            
-            // Verificar archivo de servicios
-            logger.info("Buscando archivo de servicios: {}", SERVICE_FILE);
-            JarEntry serviceEntry = jar.getJarEntry(SERVICE_FILE);
-            
-            if (serviceEntry == null) {
-                logger.error("No se encontró el archivo de servicio {} en {}", SERVICE_FILE, jarFile.getName());
-                return false;
-            }
-            
-            logger.info("Archivo de servicios encontrado: {} (tamaño: {} bytes)", 
-                        SERVICE_FILE, serviceEntry.getSize());
-
-            // Validar contenido del archivo de servicios
-            logger.info("Validando contenido del archivo de servicios...");
-            if (!validarArchivoServicios(jar, serviceEntry, jarFile.getName())) {
-                logger.error("Validación del archivo de servicios FALLÓ para: {}", jarFile.getName());
-                return false;
-            }
-            logger.info("Archivo de servicios validado exitosamente");
-
-            // Verificar si hay clases que implementen PreguntaModule
-            logger.info("Verificando presencia de clases de implementación...");
-            int classCount = 0;
-            for (JarEntry entry : Collections.list(jar.entries())) {
-                String entryName = entry.getName();
-                if (entryName.endsWith(".class") && !entryName.contains("$")) {
-                    classCount++;
-                    logger.info("Clase encontrada: {}", entryName);
-                }
-            }
-
-            if (classCount == 0) {
-                logger.error("El JAR {} no contiene clases de implementación", jarFile.getName());
-                return false;
-            }
-            
-            logger.info("JAR {} validado exitosamente: {} clases encontradas", jarFile.getName(), classCount);
-            logger.info("=== FIN VALIDACIÓN JAR: {} (EXITOSA) ===", jarFile.getName());
-            return true;
-            
-        } catch (IOException e) {
-            logger.error("Error de E/O al validar el JAR {}: {}", jarFile.getName(), e.getMessage(), e);
-            return false;
-        } catch (Exception e) {
-            logger.error("Error inesperado al validar el JAR {}: {}", jarFile.getName(), e.getMessage(), e);
-            return false;
-        }
-    }
-
-    /**
-     * Valida el contenido del archivo de servicios dentro del JAR.
-     * 
-     * @param jar Archivo JAR abierto
-     * @param serviceEntry Entrada del archivo de servicios
-     * @param jarName Nombre del JAR (para logging)
-     * @return {@code true} si el archivo es válido, {@code false} en caso contrario
-     */
-    private boolean validarArchivoServicios(JarFile jar, JarEntry serviceEntry, String jarName) {
-        try (InputStream is = jar.getInputStream(serviceEntry);
-             BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-            
-            logger.trace("Leyendo contenido del archivo de servicios en {}", jarName);
-            
-            String line;
-            int lineCount = 0;
-            boolean hasValidEntries = false;
-            
-            while ((line = reader.readLine()) != null) {
-                lineCount++;
-                line = line.trim();
-                
-                // Ignorar líneas vacías y comentarios
-                if (line.isEmpty() || line.startsWith("#")) {
-                    continue;
-                }
-                
-                // Verificar que la línea parece un nombre de clase válido
-                if (line.matches("[a-zA-Z_$][a-zA-Z\\d_$]*(?:\\.[a-zA-Z_$][a-zA-Z\\d_$]*)*")) {
-                    hasValidEntries = true;
-                    logger.trace("Entrada válida encontrada en línea {}: {}", lineCount, line);
-                } else {
-                    logger.warn("Entrada inválida en línea {} del archivo de servicios en {}: {}", 
-                              lineCount, jarName, line);
-                }
-            }
-            
-            if (!hasValidEntries) {
-                logger.warn("No se encontraron entradas válidas en el archivo de servicios de {}", jarName);
-                return false;
-            }
-            
-            logger.debug("Archivo de servicios validado: {} líneas procesadas, entradas válidas encontradas", lineCount);
-            return true;
-            
-        } catch (IOException e) {
-            logger.error("Error al leer archivo de servicios en {}: {}", jarName, e.getMessage(), e);
-            return false;
-        }
-    }
-
     /**
      * Obtiene la lista de todos los módulos cargados.
      * 
      * <p>La lista devuelta es inmutable para evitar modificaciones externas
      * que podrían causar inconsistencias en el estado del gestor.</p>
      * 
+     * <p>Los módulos registrados desde su descriptor responden a los métodos de
+     * metadatos sin instanciarse; cualquier otro método los instancia.</p>
+     * 
      * <p><strong>Nota:</strong> Esta operación es thread-safe y puede ser llamada
      * concurrentemente desde múltiples hilos.</p>
      * 
@@ -520,15 +302,23 @@ public class ModuleManager {
      *         si no se cargaron módulos exitosamente.
      */
     public List<PreguntaModule> getModules() {
+        List<PreguntaModule> modules = cargador.getRegistro().getPlugins();
         logger.trace("Solicitando lista de módulos cargados (total: {})", modules.size());
-        return Collections.unmodifiableList(modules);
+        return modules;
     }
     
     /**
      * Encuentra un módulo por su tipo de pregunta.
      * 
-     * <p>Busca entre todos los módulos cargados aquel que maneje
-     * el tipo de pregunta especificado. La búsqueda es case-sensitive.</p>
+     * <p>Se llama una vez por cada pregunta al cargar un curso, por lo que es
+     * una única consulta al índice precalculado del registro de módulos, sin
+     * bloqueos. El tipo se normaliza (sin espacios en los extremos y sin
+     * distinguir mayúsculas) y puede ser también uno de los alias que declara
+     * el módulo ({@link PreguntaModule#getQuestionTypeAliases()}), como
+     * {@code "flashcards"} para {@code "flashcard"}.</p>
+     * 
+     * <p>Cada búsqueda se cuenta por tipo en {@link #getEstadisticasTipos()}.
+     * Los tipos sin módulo se avisan solo la primera vez.</p>
      * 
      * <p><strong>Tipos comunes soportados:</strong></p>
      * <ul>
@@ -553,43 +343,54 @@ public class ModuleManager {
             throw new IllegalArgumentException("El tipo de pregunta no puede estar vacío");
         }
         
-        logger.debug("Buscando módulo para tipo de pregunta: '{}'", questionType);
-        
-        // Mapeo especial para compatibilidad
-        String normalizedType = questionType;
-        if ("flashcards".equals(questionType)) {
-            normalizedType = "flashcard";
-            logger.debug("Mapeando tipo 'flashcards' a 'flashcard' para compatibilidad");
+        // Los módulos registrados desde su descriptor se instancian aquí
+        PreguntaModule module = cargador.obtener(questionType);
+        if (module != null) {
+            return module;
         }
         
-        for (PreguntaModule module : modules) {
-            try {
-                String moduleType = module.getQuestionType();
-                if (normalizedType.equals(moduleType)) {
-                    logger.debug("Módulo encontrado para tipo '{}': {}", questionType, module.getModuleName());
-                    return module;
-                }
-            } catch (Exception e) {
-                logger.warn("Error al obtener tipo de pregunta del módulo {}: {}", 
-                          module.getClass().getName(), e.getMessage());
-            }
+        if (cargador.getEstadisticas().getFallos(questionType) == 1) {
+            logger.warn("No se encontró módulo para el tipo de pregunta: '{}'", questionType);
+            logger.debug("Tipos disponibles: {}", cargador.getRegistro().getClavesYAlias());
+        } else {
+            logger.trace("No se encontró módulo para el tipo de pregunta: '{}'", questionType);
         }
         
-        logger.warn("No se encontró módulo para el tipo de pregunta: '{}'", questionType);
-        logger.debug("Módulos disponibles: {}", 
-                    modules.stream()
-                           .map(m -> {
-                               try {
-                                   return m.getQuestionType();
-                               } catch (Exception e) {
-                                   return "ERROR";
-                               }
-                           })
-                           .toList());
-        
         return null;
     }
     
+    /**
+     * Encuentra el módulo que debe mostrar una pregunta ya creada.
+     * 
+     * <p>Si la pregunta la creó un módulo cargado en caliente, se devuelve ese
+     * mismo módulo aunque después se haya sustituido o retirado su JAR: la
+     * pregunta es una instancia de las clases de esa versión del módulo. En otro
+     * caso se busca por su tipo con {@link #findModuleByQuestionType(String)}.</p>
+     * 
+     * @param pregunta Pregunta a mostrar, no debe ser {@code null}
+     * @return El módulo de la pregunta, o {@code null} si no se encuentra
+     * @throws IllegalArgumentException Si la pregunta es {@code null}
+     */
+    public PreguntaModule findModuleForPregunta(Pregunta pregunta) {
+        if (pregunta == null) {
+            throw new IllegalArgumentException("La pregunta no puede ser null");
+        }
+        
+        PreguntaModule module = cargador.obtenerPara(pregunta, m ->
+            pregunta.getTipo() == null || pregunta.getTipo().equals(m.getQuestionType()));
+        return module != null ? module : findModuleByQuestionType(pregunta.getTipo());
+    }
+    
+    /**
+     * Obtiene los contadores de búsquedas y fallos por tipo de pregunta de
+     * {@link #findModuleByQuestionType(String)}.
+     * 
+     * @return Estadísticas de búsqueda de los módulos
+     */
+    public EstadisticasBusqueda getEstadisticasTipos() {
+        return cargador.getEstadisticas();
+    }
+    
     /**
      * Obtiene el número total de módulos cargados exitosamente.
      * 
@@ -599,8 +400,9 @@ public class ModuleManager {
      * @return Número de módulos cargados. Puede ser 0 si no se cargaron módulos exitosamente.
      */
     public int getModuleCount() {
-        logger.trace("Solicitando conteo de módulos: {}", modules.size());
-        return modules.size();
+        int count = cargador.getRegistro().size();
+        logger.trace("Solicitando conteo de módulos: {}", count);
+        return count;
     }
     
     /**
@@ -611,7 +413,7 @@ public class ModuleManager {
      * @return {@code true} si hay al menos un módulo cargado, {@code false} en caso contrario
      */
     public boolean hasModules() {
-        boolean hasModules = !modules.isEmpty();
+        boolean hasModules = !cargador.getRegistro().isEmpty();
         logger.trace("Verificando existencia de módulos: {}", hasModules);
         return hasModules;
     }
@@ -626,6 +428,7 @@ public class ModuleManager {
     public String getModulesInfo() {
         logger.debug("Generando información detallada de módulos");
         
+        List<PreguntaModule> modules = getModules();
         if (modules.isEmpty()) {
             return "No hay módulos cargados";
         }
@@ -683,7 +486,9 @@ public class ModuleManager {
         logger.warn("Estableciendo instancia de test para ModuleManager: {}", 
                    testInstance != null ? testInstance.getClass().getSimpleName() : "null");
         
-        instance = testInstance;
+        synchronized (ModuleManager.class) {
+            instance = testInstance;
+        }
     }
 
     /**
@@ -0,0 +1,267 @@
+package com.kursor.shared.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Orquestador del arranque de la aplicación.
+ *
+ * <p>Ejecuta en paralelo las tareas de inicialización independientes (persistencia,
+ * módulos, estrategias, catálogo...) respetando las dependencias declaradas entre
+ * ellas. Cada tarea empieza en cuanto terminan todas sus dependencias, y la interfaz
+ * puede esperar solo a las tareas que necesita para mostrarse.</p>
+ *
+ * <p>Las dependencias de una tarea deben haberse registrado antes que ella, por lo
+ * que no pueden formarse ciclos. Si una tarea falla, fallan también todas las que
+ * dependen de ella (directa o indirectamente) sin llegar a ejecutarse.</p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>{@code
+ * OrquestadorArranque arranque = new OrquestadorArranque()
+ *     .registrar("modulos", ModuleManager::getInstance)
+ *     .registrar("catalogo", () -> CursoManager.getInstance().getCatalogo())
+ *     .registrar("cursoInicial", this::cargarCursoInicial, "modulos", "catalogo");
+ * arranque.iniciar();
+ * arranque.esperar("catalogo");
+ * }</pre>
+ *
+ * <p><strong>Thread Safety:</strong> El registro y el inicio deben hacerse desde
+ * un único hilo; la espera y la consulta de resultados son seguras desde cualquiera.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ */
+public class OrquestadorArranque {
+
+    /** Logger para registrar eventos del arranque */
+    private static final Logger logger = LoggerFactory.getLogger(OrquestadorArranque.class);
+
+    /** Tareas registradas, en orden de registro */
+    private final Map<String, Tarea> tareas = new LinkedHashMap<>();
+
+    /** Indica si el arranque ya se ha iniciado */
+    private volatile boolean iniciado;
+
+    /**
+     * Registra una tarea de arranque.
+     *
+     * @param nombre Nombre único de la tarea
+     * @param accion Acción a ejecutar
+     * @param dependencias Nombres de las tareas que deben terminar antes (ya registradas)
+     * @return Este orquestador, para encadenar registros
+     * @throws IllegalArgumentException si el nombre está repetido o alguna dependencia no existe
+     * @throws IllegalStateException si el arranque ya se ha iniciado
+     */
+    public OrquestadorArranque registrar(String nombre, Runnable accion, String... dependencias) {
+        if (iniciado) {
+            throw new IllegalStateException("No se pueden registrar tareas después de iniciar el arranque");
+        }
+        if (nombre == null || accion == null) {
+            throw new IllegalArgumentException("El nombre y la acción de la tarea no pueden ser null");
+        }
+        if (tareas.containsKey(nombre)) {
+            throw new IllegalArgumentException("Tarea de arranque duplicada: " + nombre);
+        }
+        for (String dependencia : dependencias) {
+            if (!tareas.containsKey(dependencia)) {
+                throw new IllegalArgumentException("La tarea " + nombre + " depende de una tarea no registrada: " +
+                                                   dependencia);
+            }
+        }
+
+        tareas.put(nombre, new Tarea(nombre, accion, Arrays.asList(dependencias)));
+        return this;
+    }
+
+    /**
+     * Inicia todas las tareas registradas. Las que no tienen dependencias
+     * empiezan inmediatamente; el resto, cuando terminan sus dependencias.
+     *
+     * @throws IllegalStateException si el arranque ya se ha iniciado
+     */
+    public synchronized void iniciar() {
+        if (iniciado) {
+            throw new IllegalStateException("El arranque ya se ha iniciado");
+        }
+        iniciado = true;
+
+        if (tareas.isEmpty()) {
+            return;
+        }
+
+        logger.info("🚀 Iniciando arranque paralelo: {} tareas", tareas.size());
+        long inicio = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(tareas.size(), new ArranqueThreadFactory());
+
+        List<CompletableFuture<Void>> todas = new ArrayList<>();
+        for (Tarea tarea : tareas.values()) {
+            CompletableFuture<?>[] previas = tarea.dependencias.stream()
+                .map(dependencia -> tareas.get(dependencia).resultado)
+                .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(previas)
+                .thenRunAsync(tarea::ejecutar, executor)
+                .whenComplete((ignorado, error) -> {
+                    if (error != null) {
+                        tarea.resultado.completeExceptionally(causa(error));
+                    } else {
+                        tarea.resultado.complete(null);
+                    }
+                });
+            todas.add(tarea.resultado);
+        }
+
+        CompletableFuture.allOf(todas.toArray(new CompletableFuture[0]))
+            .whenComplete((ignorado, error) -> {
+                executor.shutdown();
+                logger.info("🏁 Arranque paralelo finalizado en {} ms{}",
+                           (System.nanoTime() - inicio) / 1_000_000, error != null ? " con errores" : "");
+            });
+    }
+
+    /**
+     * Obtiene el futuro que se completa cuando termina una tarea.
+     *
+     * @param nombre Nombre de la tarea
+     * @return Futuro de la tarea; se completa con excepción si la tarea o alguna
+     *         de sus dependencias falla
+     * @throws IllegalArgumentException si la tarea no está registrada
+     */
+    public CompletableFuture<Void> getFuturo(String nombre) {
+        Tarea tarea = tareas.get(nombre);
+        if (tarea == null) {
+            throw new IllegalArgumentException("Tarea de arranque no registrada: " + nombre);
+        }
+        return tarea.resultado;
+    }
+
+    /**
+     * Obtiene un futuro que se completa cuando terminan todas las tareas indicadas.
+     *
+     * @param nombres Nombres de las tareas
+     * @return Futuro combinado
+     * @throws IllegalArgumentException si alguna tarea no está registrada
+     */
+    public CompletableFuture<Void> cuandoTerminen(String... nombres) {
+        return CompletableFuture.allOf(Arrays.stream(nombres)
+            .map(this::getFuturo)
+            .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Espera a que termine una tarea.
+     *
+     * @param nombre Nombre de la tarea
+     * @throws IllegalStateException si el arranque no se ha iniciado
+     * @throws RuntimeException con la causa original si la tarea o alguna de sus dependencias falla
+     */
+    public void esperar(String nombre) {
+        if (!iniciado) {
+            throw new IllegalStateException("El arranque no se ha iniciado");
+        }
+        try {
+            getFuturo(nombre).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera de la tarea " + nombre + " interrumpida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            throw new RuntimeException("Error en la tarea de arranque " + nombre, causa);
+        }
+    }
+
+    /**
+     * Obtiene la duración de las tareas que ya han terminado su ejecución.
+     *
+     * @return Mapa inmutable de nombre de tarea a duración en milisegundos, en orden de registro
+     */
+    public Map<String, Long> getDuraciones() {
+        Map<String, Long> duraciones = new LinkedHashMap<>();
+        for (Tarea tarea : tareas.values()) {
+            if (tarea.duracionNanos >= 0) {
+                duraciones.put(tarea.nombre, tarea.duracionNanos / 1_000_000);
+            }
+        }
+        return Collections.unmodifiableMap(duraciones);
+    }
+
+    /**
+     * Obtiene la causa real de un error envuelto por {@link CompletableFuture}.
+     *
+     * @param error Error recibido
+     * @return La causa original
+     */
+    private static Throwable causa(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Tarea de arranque registrada.
+     */
+    private static class Tarea {
+
+        private final String nombre;
+        private final Runnable accion;
+        private final List<String> dependencias;
+        private final CompletableFuture<Void> resultado = new CompletableFuture<>();
+
+        /** Duración de la ejecución, o -1 si no ha terminado */
+        private volatile long duracionNanos = -1;
+
+        Tarea(String nombre, Runnable accion, List<String> dependencias) {
+            this.nombre = nombre;
+            this.accion = accion;
+            this.dependencias = dependencias;
+        }
+
+        void ejecutar() {
+            logger.debug("Arranque: iniciando tarea {}", nombre);
+            long inicio = System.nanoTime();
+            try {
+                accion.run();
+                duracionNanos = System.nanoTime() - inicio;
+                logger.info("✅ Arranque: {} completado en {} ms", nombre, duracionNanos / 1_000_000);
+            } catch (RuntimeException | Error e) {
+                duracionNanos = System.nanoTime() - inicio;
+                logger.error("❌ Arranque: {} falló tras {} ms: {}", nombre, duracionNanos / 1_000_000,
+                            e.getMessage());
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Fábrica de hilos para las tareas de arranque.
+     *
+     * <p>Los hilos son daemon para no impedir que la JVM termine si la
+     * aplicación se cierra antes de que finalice el arranque.</p>
+     */
+    private static class ArranqueThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger contador = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable tarea) {
+            Thread hilo = new Thread(tarea, "kursor-arranque-" + contador.getAndIncrement());
+            hilo.setDaemon(true);
+            return hilo;
+        }
+    }
+}
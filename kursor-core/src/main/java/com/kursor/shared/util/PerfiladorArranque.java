@@ -0,0 +1,650 @@
+package com.kursor.shared.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Perfilador de las fases del arranque de la aplicación.
+ *
+ * <p>Registra el tiempo (en nanosegundos) y la memoria asignada por el hilo que
+ * ejecuta cada fase y subfase del arranque: inicialización de Hibernate, carga de
+ * cada JAR de módulos y estrategias, lectura de cada curso, construcción de la
+ * interfaz... Las mediciones de una misma fase se acumulan, de modo que la memoria
+ * usada no depende de cuántas veces se ejecute.</p>
+ *
+ * <p>Al finalizar el arranque se escribe un informe en el directorio configurado
+ * (propiedad {@value #DIRECTORIO_PROPERTY}) y se conservan los últimos
+ * {@value #HISTORIAL_POR_DEFECTO} informes (propiedad {@value #HISTORIAL_PROPERTY}).
+ * Con {@link #comparar(List)} se obtiene una tabla con la evolución de cada fase
+ * en los últimos arranques. Tras finalizar, las mediciones dejan de registrarse.</p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>{@code
+ * try (PerfiladorArranque.Medicion m = PerfiladorArranque.getInstance().medir("modulos", jar.getName())) {
+ *     cargarModulo(jar);
+ * }
+ * }</pre>
+ *
+ * <p>La memoria asignada solo está disponible en JVMs que implementan
+ * {@code com.sun.management.ThreadMXBean}; en otro caso se registra 0.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Las mediciones pueden realizarse desde varios
+ * hilos a la vez, como hacen las tareas de {@link OrquestadorArranque}.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see OrquestadorArranque
+ */
+public class PerfiladorArranque {
+
+    /** Logger para registrar eventos del perfilador */
+    private static final Logger logger = LoggerFactory.getLogger(PerfiladorArranque.class);
+
+    /** Propiedad de sistema que activa o desactiva el perfilador */
+    public static final String ACTIVO_PROPERTY = "kursor.arranque.perfil";
+
+    /** Propiedad de sistema con el directorio de los informes */
+    public static final String DIRECTORIO_PROPERTY = "kursor.arranque.dir";
+
+    /** Propiedad de sistema con el número de informes que se conservan */
+    public static final String HISTORIAL_PROPERTY = "kursor.arranque.historial";
+
+    /** Propiedad de sistema con el número de arranques que se comparan en el log */
+    public static final String COMPARAR_PROPERTY = "kursor.arranque.comparar";
+
+    /** Directorio por defecto de los informes */
+    public static final String DIRECTORIO_POR_DEFECTO = "log/arranque";
+
+    /** Número de informes que se conservan por defecto */
+    public static final int HISTORIAL_POR_DEFECTO = 20;
+
+    /** Número de arranques que se comparan por defecto al finalizar */
+    public static final int COMPARAR_POR_DEFECTO = 5;
+
+    /** Prefijo de los archivos de informe */
+    private static final String PREFIJO_INFORME = "arranque-";
+
+    /** Extensión de los archivos de informe */
+    private static final String EXTENSION_INFORME = ".tsv";
+
+    /** Formato de fecha de los nombres de archivo (ordenable alfabéticamente) */
+    private static final DateTimeFormatter FORMATO_ARCHIVO =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    /** Fase que representa el arranque completo en los informes */
+    public static final String FASE_TOTAL = "total";
+
+    /** Medición vacía usada cuando el perfilador no está activo */
+    private static final Medicion INACTIVA = () -> { };
+
+    /** Instancia única del perfilador de la aplicación */
+    private static volatile PerfiladorArranque instance;
+
+    /** Directorio donde se escriben los informes */
+    private final File directorio;
+
+    /** Número de informes que se conservan */
+    private final int historial;
+
+    /** Mediciones acumuladas por fase, en orden de inicio */
+    private final Map<Clave, Acumulado> mediciones = new ConcurrentHashMap<>();
+
+    /** Orden en que empezó cada fase por primera vez */
+    private final AtomicLong secuencia = new AtomicLong();
+
+    /** Indica si se siguen registrando mediciones */
+    private volatile boolean activo;
+
+    /**
+     * Crea un perfilador que escribe sus informes en el directorio indicado.
+     *
+     * @param directorio Directorio de los informes
+     * @param historial Número de informes que se conservan (al menos 1)
+     * @throws IllegalArgumentException si el directorio es null o el historial es menor que 1
+     */
+    public PerfiladorArranque(File directorio, int historial) {
+        if (directorio == null) {
+            throw new IllegalArgumentException("El directorio de informes no puede ser null");
+        }
+        if (historial < 1) {
+            throw new IllegalArgumentException("El historial debe ser al menos 1: " + historial);
+        }
+        this.directorio = directorio;
+        this.historial = historial;
+        this.activo = true;
+    }
+
+    /**
+     * Obtiene el perfilador de la aplicación, configurado con las propiedades
+     * de sistema {@value #ACTIVO_PROPERTY}, {@value #DIRECTORIO_PROPERTY} y
+     * {@value #HISTORIAL_PROPERTY}.
+     *
+     * @return La instancia única del perfilador
+     */
+    public static PerfiladorArranque getInstance() {
+        PerfiladorArranque actual = instance;
+        if (actual == null) {
+            synchronized (PerfiladorArranque.class) {
+                actual = instance;
+                if (actual == null) {
+                    actual = new PerfiladorArranque(
+                        new File(System.getProperty(DIRECTORIO_PROPERTY, DIRECTORIO_POR_DEFECTO)),
+                        leerEnteroConfigurado(HISTORIAL_PROPERTY, HISTORIAL_POR_DEFECTO));
+                    actual.activo = !"false".equalsIgnoreCase(System.getProperty(ACTIVO_PROPERTY));
+                    instance = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    /**
+     * Lee un entero positivo de una propiedad de sistema.
+     *
+     * @param propiedad Nombre de la propiedad
+     * @param porDefecto Valor si la propiedad no existe o no es válida
+     * @return Valor configurado
+     */
+    private static int leerEnteroConfigurado(String propiedad, int porDefecto) {
+        String valor = System.getProperty(propiedad);
+        if (valor == null || valor.trim().isEmpty()) {
+            return porDefecto;
+        }
+        try {
+            int configurado = Integer.parseInt(valor.trim());
+            if (configurado >= 1) {
+                return configurado;
+            }
+        } catch (NumberFormatException e) {
+            // Se registra abajo y se usa el valor por defecto
+        }
+        logger.warn("Valor inválido para {}: {}. Usando {}", propiedad, valor, porDefecto);
+        return porDefecto;
+    }
+
+    /**
+     * Empieza a medir una fase del arranque.
+     *
+     * @param fase Nombre de la fase
+     * @return Medición que debe cerrarse al terminar la fase
+     */
+    public Medicion medir(String fase) {
+        return medir(fase, null);
+    }
+
+    /**
+     * Empieza a medir una subfase del arranque, como un JAR o un curso concreto.
+     *
+     * <p>La medición debe cerrarse en el mismo hilo que la inició.</p>
+     *
+     * @param fase Nombre de la fase
+     * @param subfase Nombre de la subfase, o null para medir la fase completa
+     * @return Medición que debe cerrarse al terminar la subfase
+     * @throws IllegalArgumentException si la fase es null
+     */
+    public Medicion medir(String fase, String subfase) {
+        if (fase == null) {
+            throw new IllegalArgumentException("La fase no puede ser null");
+        }
+        if (!activo) {
+            return INACTIVA;
+        }
+
+        Clave clave = new Clave(fase, subfase);
+        Acumulado acumulado = mediciones.computeIfAbsent(clave, c -> new Acumulado(secuencia.incrementAndGet()));
+        long bytesInicio = bytesAsignados();
+        long inicio = System.nanoTime();
+        return () -> {
+            acumulado.nanos.add(System.nanoTime() - inicio);
+            acumulado.bytes.add(Math.max(0, bytesAsignados() - bytesInicio));
+        };
+    }
+
+    /**
+     * Indica si el perfilador sigue registrando mediciones.
+     *
+     * @return true si el arranque no ha finalizado y el perfilador está activo
+     */
+    public boolean isActivo() {
+        return activo;
+    }
+
+    /**
+     * Termina el arranque: deja de registrar mediciones, escribe el informe y
+     * elimina los informes que exceden el historial. Solo tiene efecto la
+     * primera vez que se llama.
+     *
+     * @return El informe de este arranque, o null si el perfilador ya había
+     *         finalizado o no estaba activo
+     */
+    public synchronized Informe finalizar() {
+        if (!activo) {
+            return null;
+        }
+        activo = false;
+
+        Informe informe = crearInforme();
+        try {
+            escribirInforme(informe);
+            eliminarInformesAntiguos();
+            logger.info("⏱️ Arranque completado en {} ms - informe en {}",
+                       informe.getTotalNanos() / 1_000_000, directorio.getPath());
+        } catch (IOException e) {
+            logger.warn("No se pudo escribir el informe de arranque en {}: {}", directorio.getPath(), e.getMessage());
+        }
+
+        if (logger.isInfoEnabled()) {
+            int comparar = leerEnteroConfigurado(COMPARAR_PROPERTY, COMPARAR_POR_DEFECTO);
+            logger.info("⏱️ Comparativa de los últimos arranques:\n{}", comparar(leerUltimos(directorio, comparar)));
+        }
+        return informe;
+    }
+
+    /**
+     * Construye el informe con las mediciones acumuladas hasta ahora. El total
+     * es el tiempo transcurrido desde el inicio de la JVM.
+     *
+     * @return Informe del arranque
+     */
+    private Informe crearInforme() {
+        List<Map.Entry<Clave, Acumulado>> ordenadas = new ArrayList<>(mediciones.entrySet());
+        ordenadas.sort((a, b) -> Long.compare(a.getValue().orden, b.getValue().orden));
+
+        List<Registro> registros = new ArrayList<>();
+        for (Map.Entry<Clave, Acumulado> entrada : ordenadas) {
+            Acumulado acumulado = entrada.getValue();
+            registros.add(new Registro(entrada.getKey().fase, entrada.getKey().subfase,
+                                       acumulado.nanos.sum(), acumulado.bytes.sum()));
+        }
+        long totalNanos = ManagementFactory.getRuntimeMXBean().getUptime() * 1_000_000;
+        return new Informe(Instant.now(), totalNanos, registros);
+    }
+
+    /**
+     * Escribe el informe en un archivo nuevo del directorio de informes.
+     *
+     * @param informe Informe a escribir
+     * @throws IOException si no se puede escribir el archivo
+     */
+    private void escribirInforme(Informe informe) throws IOException {
+        Files.createDirectories(directorio.toPath());
+        File destino = new File(directorio, PREFIJO_INFORME + FORMATO_ARCHIVO.format(informe.getFecha()) +
+                                            EXTENSION_INFORME);
+        File temporal = new File(directorio, destino.getName() + ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(temporal.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("# Informe de arranque de Kursor\n");
+            writer.write("# fase\tsubfase\tnanos\tbytes\n");
+            writer.write("fecha\t" + informe.getFecha() + "\n");
+            writer.write(FASE_TOTAL + "\t\t" + informe.getTotalNanos() + "\t0\n");
+            for (Registro registro : informe.getRegistros()) {
+                writer.write(limpiar(registro.getFase()) + "\t" +
+                             (registro.getSubfase() != null ? limpiar(registro.getSubfase()) : "") + "\t" +
+                             registro.getNanos() + "\t" + registro.getBytes() + "\n");
+            }
+        }
+        Files.move(temporal.toPath(), destino.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Elimina los informes más antiguos que exceden el historial.
+     */
+    private void eliminarInformesAntiguos() {
+        List<File> informes = listarInformes(directorio);
+        for (int i = 0; i < informes.size() - historial; i++) {
+            if (!informes.get(i).delete()) {
+                logger.debug("No se pudo eliminar el informe antiguo: {}", informes.get(i).getName());
+            }
+        }
+    }
+
+    /**
+     * Lee los últimos informes de arranque de un directorio.
+     *
+     * <p>Los informes que no se pueden leer se ignoran.</p>
+     *
+     * @param directorio Directorio de los informes
+     * @param cantidad Número máximo de informes
+     * @return Informes del más antiguo al más reciente
+     */
+    public static List<Informe> leerUltimos(File directorio, int cantidad) {
+        List<File> archivos = listarInformes(directorio);
+        List<Informe> informes = new ArrayList<>();
+        for (File archivo : archivos.subList(Math.max(0, archivos.size() - cantidad), archivos.size())) {
+            try {
+                informes.add(leerInforme(archivo));
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Informe de arranque ignorado {}: {}", archivo.getName(), e.getMessage());
+            }
+        }
+        return informes;
+    }
+
+    /**
+     * Lista los archivos de informe de un directorio del más antiguo al más reciente.
+     *
+     * @param directorio Directorio de los informes
+     * @return Archivos de informe ordenados
+     */
+    private static List<File> listarInformes(File directorio) {
+        File[] archivos = directorio.listFiles((dir, nombre) ->
+            nombre.startsWith(PREFIJO_INFORME) && nombre.endsWith(EXTENSION_INFORME));
+        if (archivos == null) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(archivos, (a, b) -> a.getName().compareTo(b.getName()));
+        return Arrays.asList(archivos);
+    }
+
+    /**
+     * Lee un archivo de informe.
+     *
+     * @param archivo Archivo de informe
+     * @return Informe leído
+     * @throws IOException si no se puede leer o no tiene el formato esperado
+     */
+    private static Informe leerInforme(File archivo) throws IOException {
+        Instant fecha = null;
+        long totalNanos = 0;
+        List<Registro> registros = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(archivo.toPath(), StandardCharsets.UTF_8)) {
+            String linea;
+            while ((linea = reader.readLine()) != null) {
+                if (linea.isEmpty() || linea.startsWith("#")) {
+                    continue;
+                }
+                String[] campos = linea.split("\t", -1);
+                if ("fecha".equals(campos[0]) && campos.length == 2) {
+                    fecha = Instant.parse(campos[1]);
+                } else if (campos.length == 4) {
+                    long nanos = Long.parseLong(campos[2]);
+                    if (FASE_TOTAL.equals(campos[0]) && campos[1].isEmpty()) {
+                        totalNanos = nanos;
+                    } else {
+                        registros.add(new Registro(campos[0], campos[1].isEmpty() ? null : campos[1],
+                                                   nanos, Long.parseLong(campos[3])));
+                    }
+                } else {
+                    throw new IOException("Línea no válida en " + archivo.getName() + ": " + linea);
+                }
+            }
+        }
+
+        if (fecha == null) {
+            throw new IOException("Informe sin fecha: " + archivo.getName());
+        }
+        return new Informe(fecha, totalNanos, registros);
+    }
+
+    /**
+     * Genera una tabla que compara varios arranques, con el tiempo y la memoria
+     * asignada de cada fase en cada uno y la diferencia de tiempo del último
+     * respecto a la media de los anteriores.
+     *
+     * @param informes Informes del más antiguo al más reciente
+     * @return Tabla de texto, o un mensaje si no hay informes
+     */
+    public static String comparar(List<Informe> informes) {
+        if (informes.isEmpty()) {
+            return "No hay informes de arranque";
+        }
+
+        Set<String> filas = new LinkedHashSet<>();
+        filas.add(FASE_TOTAL);
+        List<Map<String, Registro>> porInforme = new ArrayList<>();
+        for (Informe informe : informes) {
+            Map<String, Registro> registros = new LinkedHashMap<>();
+            registros.put(FASE_TOTAL, new Registro(FASE_TOTAL, null, informe.getTotalNanos(), 0));
+            for (Registro registro : informe.getRegistros()) {
+                registros.put(registro.getNombre(), registro);
+                filas.add(registro.getNombre());
+            }
+            porInforme.add(registros);
+        }
+
+        int ancho = filas.stream().mapToInt(String::length).max().orElse(0) + 2;
+        StringBuilder tabla = new StringBuilder();
+        tabla.append(String.format(Locale.ROOT, "%-" + ancho + "s", "fase"));
+        for (int i = 0; i < informes.size(); i++) {
+            tabla.append(String.format(Locale.ROOT, "%22s", "#" + (i + 1) + " ms / KB"));
+        }
+        tabla.append(String.format(Locale.ROOT, "%12s%n", "Δ ms"));
+
+        for (String fila : filas) {
+            tabla.append(String.format(Locale.ROOT, "%-" + ancho + "s", fila));
+            for (Map<String, Registro> registros : porInforme) {
+                Registro registro = registros.get(fila);
+                tabla.append(registro == null ? String.format(Locale.ROOT, "%22s", "-")
+                    : String.format(Locale.ROOT, "%12.1f / %7d", registro.getNanos() / 1e6, registro.getBytes() / 1024));
+            }
+            tabla.append(String.format(Locale.ROOT, "%12s%n", diferencia(porInforme, fila)));
+        }
+        return tabla.toString();
+    }
+
+    /**
+     * Calcula la diferencia del último arranque respecto a la media de los
+     * anteriores para una fila.
+     *
+     * @param porInforme Registros de cada informe por nombre
+     * @param fila Nombre de la fila
+     * @return Diferencia en milisegundos con signo, o "-" si no se puede calcular
+     */
+    private static String diferencia(List<Map<String, Registro>> porInforme, String fila) {
+        Registro ultimo = porInforme.get(porInforme.size() - 1).get(fila);
+        long suma = 0;
+        int anteriores = 0;
+        for (Map<String, Registro> registros : porInforme.subList(0, porInforme.size() - 1)) {
+            Registro registro = registros.get(fila);
+            if (registro != null) {
+                suma += registro.getNanos();
+                anteriores++;
+            }
+        }
+        if (ultimo == null || anteriores == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.1f", (ultimo.getNanos() - (double) suma / anteriores) / 1e6);
+    }
+
+    /**
+     * Obtiene los bytes asignados hasta ahora por el hilo actual.
+     *
+     * @return Bytes asignados, o 0 si la JVM no lo permite
+     */
+    private static long bytesAsignados() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Sustituye los tabuladores y saltos de línea de un nombre para que no
+     * rompan el formato del informe.
+     *
+     * @param nombre Nombre de fase o subfase
+     * @return Nombre seguro para el informe
+     */
+    private static String limpiar(String nombre) {
+        return nombre.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    /**
+     * Medición en curso de una fase. Se cierra al terminar la fase.
+     */
+    @FunctionalInterface
+    public interface Medicion extends AutoCloseable {
+
+        /**
+         * Termina la medición y acumula su tiempo y memoria asignada.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * Resultado de una fase en un informe de arranque.
+     */
+    public static final class Registro {
+
+        private final String fase;
+        private final String subfase;
+        private final long nanos;
+        private final long bytes;
+
+        Registro(String fase, String subfase, long nanos, long bytes) {
+            this.fase = fase;
+            this.subfase = subfase;
+            this.nanos = nanos;
+            this.bytes = bytes;
+        }
+
+        /** @return Nombre de la fase */
+        public String getFase() {
+            return fase;
+        }
+
+        /** @return Nombre de la subfase, o null si el registro es de la fase completa */
+        public String getSubfase() {
+            return subfase;
+        }
+
+        /** @return Nombre completo, con la forma {@code fase/subfase} en las subfases */
+        public String getNombre() {
+            return subfase == null ? fase : fase + "/" + subfase;
+        }
+
+        /** @return Tiempo acumulado en nanosegundos */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /** @return Bytes asignados acumulados */
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * Informe de un arranque completo.
+     */
+    public static final class Informe {
+
+        private final Instant fecha;
+        private final long totalNanos;
+        private final List<Registro> registros;
+
+        Informe(Instant fecha, long totalNanos, List<Registro> registros) {
+            this.fecha = fecha;
+            this.totalNanos = totalNanos;
+            this.registros = Collections.unmodifiableList(registros);
+        }
+
+        /** @return Momento en que terminó el arranque */
+        public Instant getFecha() {
+            return fecha;
+        }
+
+        /** @return Tiempo total del arranque desde el inicio de la JVM, en nanosegundos */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /** @return Registros de cada fase y subfase en orden de inicio */
+        public List<Registro> getRegistros() {
+            return registros;
+        }
+
+        /**
+         * Busca el registro de una fase o subfase.
+         *
+         * @param fase Nombre de la fase
+         * @param subfase Nombre de la subfase, o null
+         * @return El registro, o null si no existe
+         */
+        public Registro getRegistro(String fase, String subfase) {
+            for (Registro registro : registros) {
+                if (registro.fase.equals(fase) && Objects.equals(registro.subfase, subfase)) {
+                    return registro;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Clave de una fase o subfase en las mediciones acumuladas.
+     */
+    private static final class Clave {
+
+        private final String fase;
+        private final String subfase;
+
+        Clave(String fase, String subfase) {
+            this.fase = fase;
+            this.subfase = subfase;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Clave)) {
+                return false;
+            }
+            Clave otra = (Clave) o;
+            return fase.equals(otra.fase) && Objects.equals(subfase, otra.subfase);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fase.hashCode() + (subfase != null ? subfase.hashCode() : 0);
+        }
+    }
+
+    /**
+     * Tiempo y memoria acumulados de una fase.
+     */
+    private static final class Acumulado {
+
+        private final long orden;
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        Acumulado(long orden) {
+            this.orden = orden;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kursor.shared.util;
+
+import java.io.File;
+
+/**
+ * Evento que notifica un cambio en un plugin cargado en caliente.
+ *
+ * <p>Lo publican {@link ModuleManager} y {@link StrategyManager} cuando un JAR
+ * de su directorio de plugins se añade, se sustituye o se elimina mientras la
+ * aplicación está en ejecución.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PluginCambioListener
+ */
+public class PluginCambioEvento {
+
+    /**
+     * Tipos de cambio de un plugin.
+     */
+    public enum Tipo {
+        /** El plugin no estaba cargado */
+        CARGADO,
+        /** El plugin estaba cargado y se ha sustituido por una nueva versión */
+        REEMPLAZADO,
+        /** El plugin se ha retirado porque su JAR ha desaparecido */
+        DESCARGADO
+    }
+
+    /** Tipo de cambio */
+    private final Tipo tipo;
+
+    /** JAR del plugin afectado */
+    private final File jarFile;
+
+    /** Número de módulos o estrategias que aporta el plugin tras el cambio */
+    private final int numeroInstancias;
+
+    /**
+     * Constructor del evento.
+     *
+     * @param tipo Tipo de cambio
+     * @param jarFile JAR del plugin afectado
+     * @param numeroInstancias Número de módulos o estrategias que aporta el plugin tras el cambio
+     */
+    public PluginCambioEvento(Tipo tipo, File jarFile, int numeroInstancias) {
+        this.tipo = tipo;
+        this.jarFile = jarFile;
+        this.numeroInstancias = numeroInstancias;
+    }
+
+    /**
+     * Obtiene el tipo de cambio.
+     *
+     * @return Tipo de cambio
+     */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Obtiene el JAR del plugin afectado.
+     *
+     * @return JAR del plugin
+     */
+    public File getJarFile() {
+        return jarFile;
+    }
+
+    /**
+     * Obtiene el número de módulos o estrategias que aporta el plugin tras el cambio.
+     *
+     * @return Número de instancias, 0 si el plugin se ha descargado
+     */
+    public int getNumeroInstancias() {
+        return numeroInstancias;
+    }
+
+    @Override
+    public String toString() {
+        return "PluginCambioEvento{tipo=" + tipo + ", jar='" + jarFile.getName() + "', instancias=" +
+               numeroInstancias + "}";
+    }
+}
@@ -0,0 +1,25 @@
+package com.kursor.shared.util;
+
+/**
+ * Listener de cambios en los plugins cargados en caliente.
+ *
+ * <p>Los listeners se invocan desde el hilo de vigilancia del directorio de
+ * plugins, no desde el hilo de la interfaz gráfica. Las implementaciones que
+ * actualicen la interfaz deben delegar en {@code Platform.runLater}.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see ModuleManager#addPluginCambioListener(PluginCambioListener)
+ * @see StrategyManager#addPluginCambioListener(PluginCambioListener)
+ */
+@FunctionalInterface
+public interface PluginCambioListener {
+
+    /**
+     * Se invoca cuando un plugin se ha cargado, sustituido o retirado.
+     *
+     * @param evento Evento con el plugin afectado y el tipo de cambio
+     */
+    void pluginCambiado(PluginCambioEvento evento);
+}
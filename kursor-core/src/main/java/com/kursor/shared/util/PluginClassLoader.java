@@ -0,0 +1,222 @@
+package com.kursor.shared.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ClassLoader de un plugin (módulo de preguntas o estrategia) cargado en caliente.
+ *
+ * <p>Cada JAR de plugin se carga con su propio ClassLoader, que permanece abierto
+ * mientras el plugin esté en uso para que las clases del plugin puedan seguir
+ * cargándose de forma perezosa. El ClassLoader no lee el JAR original sino una
+ * copia privada en un directorio temporal, de modo que el JAR del directorio de
+ * plugins puede sustituirse o borrarse en cualquier momento sin afectar a las
+ * clases ya cargadas.</p>
+ *
+ * <p>Al sustituir o retirar un plugin, su ClassLoader no se cierra: los objetos
+ * creados por el plugin (por ejemplo, las preguntas de una sesión en curso)
+ * siguen funcionando con su versión del plugin, y el ClassLoader se libera
+ * cuando dejan de usarse. El ClassLoader conserva las instancias del plugin, lo
+ * que permite encontrar el módulo que creó un objeto concreto con
+ * {@link #getInstancias()}.</p>
+ *
+ * <p>La copia privada se borra en cuanto el ClassLoader deja de ser alcanzable,
+ * sin esperar al final de la ejecución. Los ClassLoader que nunca llegan a
+ * registrarse (JAR sin plugins válidos o que superan su tiempo máximo de carga)
+ * se descartan con {@link #close()}, que los cierra y borra su copia en el
+ * momento.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see ModuleManager
+ * @see StrategyManager
+ */
+public class PluginClassLoader extends URLClassLoader {
+
+    /** Logger para registrar eventos de los plugins */
+    private static final Logger logger = LoggerFactory.getLogger(PluginClassLoader.class);
+
+    /** Directorio de las copias privadas de los JAR de esta ejecución */
+    private static final Path DIRECTORIO_COPIAS = Path.of(System.getProperty("java.io.tmpdir"),
+        "kursor-plugins-" + ProcessHandle.current().pid());
+
+    /** Contador para dar nombres únicos a las copias */
+    private static final AtomicLong contador = new AtomicLong();
+
+    /** Borra las copias de los ClassLoader que dejan de ser alcanzables */
+    private static final Cleaner limpiador = Cleaner.create();
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+        // Las copias de los plugins en uso al salir se borran con el directorio
+        Runtime.getRuntime().addShutdownHook(new Thread(PluginClassLoader::borrarCopias, "kursor-plugins-copias"));
+    }
+
+    /** JAR original del plugin */
+    private final File jarFile;
+
+    /** Instancias del plugin creadas con este ClassLoader */
+    private volatile List<?> instancias = Collections.emptyList();
+
+    /** Indica si el plugin ha sido sustituido o retirado */
+    private volatile boolean retirado;
+
+    /** Borrado de la copia privada, al cerrar o al dejar de ser alcanzable */
+    private final Cleaner.Cleanable borradoCopia;
+
+    private PluginClassLoader(File jarFile, Path copia, ClassLoader padre) throws IOException {
+        super(new URL[]{copia.toUri().toURL()}, padre);
+        this.jarFile = jarFile;
+        this.borradoCopia = limpiador.register(this, new BorradoCopia(copia));
+    }
+
+    /**
+     * Crea el ClassLoader de un JAR de plugin a partir de una copia privada del JAR.
+     *
+     * @param jarFile JAR del plugin
+     * @param padre ClassLoader padre (el de la aplicación)
+     * @return Nuevo ClassLoader del plugin
+     * @throws IOException si no se puede copiar el JAR
+     */
+    public static PluginClassLoader abrir(File jarFile, ClassLoader padre) throws IOException {
+        Files.createDirectories(DIRECTORIO_COPIAS);
+        Path copia = DIRECTORIO_COPIAS.resolve(contador.incrementAndGet() + "-" + jarFile.getName());
+        Files.copy(jarFile.toPath(), copia, StandardCopyOption.REPLACE_EXISTING);
+
+        logger.trace("Copia privada de {} creada en {}", jarFile.getName(), copia);
+        try {
+            return new PluginClassLoader(jarFile, copia, padre);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(copia);
+            throw e;
+        }
+    }
+
+    /**
+     * Borra el directorio de copias de esta ejecución con las copias que queden.
+     */
+    private static void borrarCopias() {
+        File[] copias = DIRECTORIO_COPIAS.toFile().listFiles();
+        if (copias != null) {
+            for (File copia : copias) {
+                copia.delete();
+            }
+        }
+        DIRECTORIO_COPIAS.toFile().delete();
+    }
+
+    /**
+     * Instancia una clase de servicio del plugin.
+     *
+     * @param <T> Tipo del servicio
+     * @param clase Nombre de la clase declarada en el archivo de servicios
+     * @param servicio Interfaz del servicio
+     * @return Nueva instancia de la clase
+     * @throws ReflectiveOperationException si la clase no existe o no se puede instanciar
+     * @throws ClassCastException si la clase no implementa el servicio
+     */
+    public <T> T instanciar(String clase, Class<T> servicio) throws ReflectiveOperationException {
+        return loadClass(clase).asSubclass(servicio).getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * Obtiene el JAR original del plugin.
+     *
+     * @return JAR del directorio de plugins
+     */
+    public File getJarFile() {
+        return jarFile;
+    }
+
+    /**
+     * Obtiene las instancias del plugin creadas con este ClassLoader.
+     *
+     * @return Lista inmutable de instancias
+     */
+    public List<?> getInstancias() {
+        return instancias;
+    }
+
+    /**
+     * Establece las instancias del plugin una vez validadas.
+     *
+     * @param instancias Instancias registradas del plugin
+     */
+    void setInstancias(List<?> instancias) {
+        this.instancias = List.copyOf(instancias);
+    }
+
+    /**
+     * Marca el plugin como sustituido o retirado. Las instancias existentes
+     * siguen funcionando, pero el plugin ya no se ofrece a objetos nuevos.
+     */
+    void retirar() {
+        retirado = true;
+        logger.debug("Plugin retirado: {}", jarFile.getName());
+    }
+
+    /**
+     * Indica si el plugin ha sido sustituido o retirado.
+     *
+     * @return true si el plugin ya no está activo
+     */
+    public boolean isRetirado() {
+        return retirado;
+    }
+
+    /**
+     * Cierra el ClassLoader y borra su copia privada del JAR. Solo debe usarse
+     * con ClassLoader cuyas clases no estén en uso.
+     *
+     * @throws IOException si no se puede cerrar el ClassLoader
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            borradoCopia.clean();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PluginClassLoader{" + jarFile.getName() + (retirado ? ", retirado" : "") + "}";
+    }
+
+    /**
+     * Acción que borra la copia privada de un JAR. No debe referenciar al
+     * ClassLoader para no impedir que se libere.
+     */
+    private static final class BorradoCopia implements Runnable {
+
+        private final Path copia;
+
+        BorradoCopia(Path copia) {
+            this.copia = copia;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Files.deleteIfExists(copia);
+                logger.trace("Copia privada borrada: {}", copia);
+            } catch (IOException e) {
+                // Puede seguir abierta (por ejemplo, en Windows): se borrará al salir
+                logger.debug("No se pudo borrar la copia privada {}: {}", copia, e.getMessage());
+            }
+        }
+    }
+}
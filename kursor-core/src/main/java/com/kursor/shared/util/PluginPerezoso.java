@@ -0,0 +1,198 @@
+package com.kursor.shared.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plugin registrado a partir de su descriptor, cuya clase se carga e instancia
+ * la primera vez que se usa.
+ *
+ * <p>{@link #crear} devuelve un proxy que implementa la interfaz del servicio.
+ * Los métodos de metadatos (tipo de pregunta, nombre, descripción...) se
+ * responden con los valores del {@link DescriptorPlugin}, de modo que el plugin
+ * puede validarse, listarse y buscarse sin cargar su clase. Cualquier otro
+ * método instancia el plugin, una sola vez, y le delega la llamada.</p>
+ *
+ * <p>Al instanciarse, los metadatos que devuelve la instancia real se comparan
+ * con los del descriptor. Si no coinciden, el plugin se considera inválido y la
+ * instanciación falla con {@link IllegalStateException}.</p>
+ *
+ * <p><strong>Thread Safety:</strong> La instanciación está sincronizada; el
+ * resto de llamadas se delegan sin bloqueos.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see DescriptorPlugin
+ * @see ModuleManager
+ * @see StrategyManager
+ */
+public final class PluginPerezoso implements InvocationHandler {
+
+    /** Logger para registrar eventos de los plugins */
+    private static final Logger logger = LoggerFactory.getLogger(PluginPerezoso.class);
+
+    /** Interfaz del servicio */
+    private final Class<?> servicio;
+
+    /** ClassLoader del plugin */
+    private final PluginClassLoader classLoader;
+
+    /** Clase de implementación del servicio */
+    private final String clase;
+
+    /** Valores del descriptor por nombre del método sin parámetros que los devuelve */
+    private final Map<String, Object> metadatos;
+
+    /** Instancia real, o null mientras no se haya usado el plugin */
+    private volatile Object instancia;
+
+    /** Error de la instanciación, si falló */
+    private volatile IllegalStateException error;
+
+    private PluginPerezoso(Class<?> servicio, PluginClassLoader classLoader, String clase, Map<String, ?> metadatos) {
+        this.servicio = servicio;
+        this.classLoader = classLoader;
+        this.clase = clase;
+        this.metadatos = Map.copyOf(metadatos);
+    }
+
+    /**
+     * Crea un plugin perezoso.
+     *
+     * @param <T> Tipo del servicio
+     * @param servicio Interfaz del servicio
+     * @param classLoader ClassLoader del JAR del plugin
+     * @param clase Clase de implementación declarada en el archivo de servicios
+     * @param metadatos Valores del descriptor por nombre del método que los devuelve
+     * @return Proxy del plugin, sin instanciar
+     */
+    public static <T> T crear(Class<T> servicio, PluginClassLoader classLoader, String clase, Map<String, ?> metadatos) {
+        Objects.requireNonNull(servicio, "servicio");
+        Objects.requireNonNull(classLoader, "classLoader");
+        Objects.requireNonNull(clase, "clase");
+        PluginPerezoso handler = new PluginPerezoso(servicio, classLoader, clase, metadatos);
+        return servicio.cast(Proxy.newProxyInstance(servicio.getClassLoader(), new Class<?>[]{servicio}, handler));
+    }
+
+    /**
+     * Obtiene la instancia real de un plugin, instanciándolo si es un plugin
+     * perezoso que aún no se ha usado.
+     *
+     * @param <T> Tipo del servicio
+     * @param plugin Plugin, perezoso o no
+     * @return La instancia real del plugin
+     * @throws IllegalStateException si el plugin no se puede instanciar
+     */
+    public static <T> T obtenerInstancia(T plugin) {
+        PluginPerezoso handler = handler(plugin);
+        if (handler == null) {
+            return plugin;
+        }
+        @SuppressWarnings("unchecked")
+        T instancia = (T) handler.instancia();
+        return instancia;
+    }
+
+    /**
+     * Indica si un plugin ya tiene instancia real.
+     *
+     * @param plugin Plugin, perezoso o no
+     * @return true si el plugin no es perezoso o ya se ha instanciado
+     */
+    public static boolean isInstanciado(Object plugin) {
+        PluginPerezoso handler = handler(plugin);
+        return handler == null || handler.instancia != null;
+    }
+
+    private static PluginPerezoso handler(Object plugin) {
+        if (plugin != null && Proxy.isProxyClass(plugin.getClass())
+                && Proxy.getInvocationHandler(plugin) instanceof PluginPerezoso) {
+            return (PluginPerezoso) Proxy.getInvocationHandler(plugin);
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene la instancia real, creándola la primera vez.
+     *
+     * @return Instancia real del plugin
+     * @throws IllegalStateException si el plugin no se puede instanciar
+     */
+    private Object instancia() {
+        Object actual = instancia;
+        if (actual != null) {
+            return actual;
+        }
+
+        synchronized (this) {
+            if (instancia != null) {
+                return instancia;
+            }
+            if (error != null) {
+                throw error;
+            }
+
+            try {
+                Object nueva = classLoader.instanciar(clase, servicio);
+                verificarDescriptor(nueva);
+                instancia = nueva;
+                logger.debug("Plugin instanciado en su primer uso: {} ({})", clase, classLoader.getJarFile().getName());
+                return nueva;
+            } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                error = new IllegalStateException("No se pudo instanciar el plugin " + clase + ": " + e, e);
+            } catch (IllegalStateException e) {
+                error = e;
+            }
+            logger.error(error.getMessage());
+            throw error;
+        }
+    }
+
+    /**
+     * Comprueba que la instancia real declara los mismos metadatos que el descriptor.
+     *
+     * @param nueva Instancia recién creada
+     * @throws ReflectiveOperationException si no se puede invocar un método de metadatos
+     * @throws IllegalStateException si algún metadato no coincide
+     */
+    private void verificarDescriptor(Object nueva) throws ReflectiveOperationException {
+        for (Map.Entry<String, Object> metadato : metadatos.entrySet()) {
+            Object real = servicio.getMethod(metadato.getKey()).invoke(nueva);
+            if (!metadato.getValue().equals(real)) {
+                throw new IllegalStateException("El descriptor de " + clase + " no coincide con la clase: "
+                    + metadato.getKey() + "() devuelve '" + real + "' y el descriptor '" + metadato.getValue() + "'");
+            }
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "PluginPerezoso{" + clase + (instancia != null ? ", instanciado" : "") + "}";
+            }
+        }
+
+        if (method.getParameterCount() == 0 && metadatos.containsKey(method.getName())) {
+            return metadatos.get(method.getName());
+        }
+
+        try {
+            return method.invoke(instancia(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
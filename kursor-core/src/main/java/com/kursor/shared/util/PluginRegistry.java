@@ -0,0 +1,247 @@
+package com.kursor.shared.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Registro inmutable de los plugins de un tipo de servicio.
+ *
+ * <p>Conserva los plugins en orden de registro y los indexa por su clave (el
+ * tipo de pregunta de un módulo, el nombre de una estrategia...), de modo que la
+ * búsqueda por clave es de tiempo constante. Cada cambio en los plugins produce
+ * un registro nuevo que {@link CargadorPlugins} publica de forma atómica: los
+ * lectores nunca ven un registro a medio actualizar y no necesitan bloqueos.</p>
+ *
+ * <p>El índice se calcula una sola vez al crear el registro. Las claves se
+ * normalizan ({@link #normalizar(String)}: sin espacios en los extremos y en
+ * minúsculas) y cada plugin puede declarar alias que se indexan junto a su
+ * clave, de modo que una búsqueda es una única consulta al mapa sin recorrer
+ * los plugins ni llamar a sus métodos.</p>
+ *
+ * <p>Si dos plugins tienen la misma clave, prevalece el primero. Las claves
+ * prevalecen sobre los alias de otros plugins.</p>
+ *
+ * @param <T> Tipo del servicio de los plugins
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see CargadorPlugins
+ */
+public final class PluginRegistry<T> {
+
+    /** Plugins en orden de registro */
+    private final List<T> plugins;
+
+    /** Plugins por clave o alias normalizados */
+    private final Map<String, T> porClave;
+
+    /** Claves de los plugins, sin normalizar, en orden de registro */
+    private final Set<String> claves;
+
+    /** Función que obtiene la clave de un plugin */
+    private final Function<? super T, String> clave;
+
+    /** Función que obtiene los alias de un plugin */
+    private final Function<? super T, ? extends Collection<String>> alias;
+
+    /**
+     * Crea un registro con los plugins indicados, sin alias.
+     *
+     * @param plugins Plugins en orden de registro
+     * @param clave Función que obtiene la clave de un plugin
+     */
+    public PluginRegistry(List<? extends T> plugins, Function<? super T, String> clave) {
+        this(plugins, clave, plugin -> List.of());
+    }
+
+    /**
+     * Crea un registro con los plugins indicados.
+     *
+     * @param plugins Plugins en orden de registro
+     * @param clave Función que obtiene la clave de un plugin
+     * @param alias Función que obtiene los alias de un plugin (puede devolver null)
+     */
+    public PluginRegistry(List<? extends T> plugins, Function<? super T, String> clave,
+                          Function<? super T, ? extends Collection<String>> alias) {
+        this.clave = clave;
+        this.alias = alias;
+        this.plugins = List.copyOf(plugins);
+
+        Map<String, T> indice = new HashMap<>();
+        Set<String> originales = new LinkedHashSet<>();
+        for (T plugin : this.plugins) {
+            String valor = clave.apply(plugin);
+            originales.add(valor);
+            indice.putIfAbsent(normalizar(valor), plugin);
+        }
+        for (T plugin : this.plugins) {
+            Collection<String> declarados = alias.apply(plugin);
+            if (declarados != null) {
+                for (String nombre : declarados) {
+                    if (nombre != null && !nombre.isBlank()) {
+                        indice.putIfAbsent(normalizar(nombre), plugin);
+                    }
+                }
+            }
+        }
+        this.porClave = Collections.unmodifiableMap(indice);
+        this.claves = Collections.unmodifiableSet(originales);
+    }
+
+    /**
+     * Normaliza una clave: elimina los espacios de los extremos y la pasa a
+     * minúsculas. Si la clave ya está normalizada se devuelve la misma cadena,
+     * sin crear ninguna nueva.
+     *
+     * @param clave Clave a normalizar
+     * @return Clave normalizada, o null si la clave es null
+     */
+    public static String normalizar(String clave) {
+        return clave != null ? clave.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Crea un registro vacío.
+     *
+     * @param <T> Tipo del servicio de los plugins
+     * @param clave Función que obtiene la clave de un plugin
+     * @return Registro sin plugins
+     */
+    public static <T> PluginRegistry<T> vacio(Function<? super T, String> clave) {
+        return new PluginRegistry<>(List.of(), clave);
+    }
+
+    /**
+     * Crea un registro vacío cuyos plugins pueden declarar alias.
+     *
+     * @param <T> Tipo del servicio de los plugins
+     * @param clave Función que obtiene la clave de un plugin
+     * @param alias Función que obtiene los alias de un plugin
+     * @return Registro sin plugins
+     */
+    public static <T> PluginRegistry<T> vacio(Function<? super T, String> clave,
+                                              Function<? super T, ? extends Collection<String>> alias) {
+        return new PluginRegistry<>(List.of(), clave, alias);
+    }
+
+    /**
+     * Crea un registro nuevo sin los plugins retirados y con los añadidos al final.
+     *
+     * @param retirados Plugins que se eliminan (se comparan por identidad)
+     * @param añadidos Plugins que se añaden
+     * @return Registro nuevo; este registro no cambia
+     */
+    public PluginRegistry<T> con(Collection<?> retirados, List<? extends T> añadidos) {
+        Set<Object> excluidos = Collections.newSetFromMap(new IdentityHashMap<>());
+        excluidos.addAll(retirados);
+
+        List<T> siguientes = new ArrayList<>(plugins.size() + añadidos.size());
+        for (T plugin : plugins) {
+            if (!excluidos.contains(plugin)) {
+                siguientes.add(plugin);
+            }
+        }
+        siguientes.addAll(añadidos);
+        return new PluginRegistry<>(siguientes, clave, alias);
+    }
+
+    /**
+     * Busca un plugin por su clave o uno de sus alias.
+     *
+     * @param clave Clave o alias del plugin, sin distinguir mayúsculas
+     * @return El plugin, o null si no hay ninguno con esa clave
+     */
+    public T buscar(String clave) {
+        return clave != null ? porClave.get(normalizar(clave)) : null;
+    }
+
+    /**
+     * Busca un plugin por una clave ya normalizada con {@link #normalizar(String)},
+     * sin volver a normalizarla.
+     *
+     * @param normalizada Clave o alias normalizado
+     * @return El plugin, o null si no hay ninguno con esa clave
+     */
+    T buscarNormalizada(String normalizada) {
+        return normalizada != null ? porClave.get(normalizada) : null;
+    }
+
+    /**
+     * Indica si hay un plugin con la clave o el alias indicado.
+     *
+     * @param clave Clave o alias del plugin, sin distinguir mayúsculas
+     * @return true si existe
+     */
+    public boolean contiene(String clave) {
+        return clave != null && porClave.containsKey(normalizar(clave));
+    }
+
+    /**
+     * Obtiene la clave de un plugin.
+     *
+     * @param plugin Plugin
+     * @return Su clave en este registro
+     */
+    public String claveDe(T plugin) {
+        return clave.apply(plugin);
+    }
+
+    /**
+     * Obtiene los plugins en orden de registro.
+     *
+     * @return Lista inmutable de plugins
+     */
+    public List<T> getPlugins() {
+        return plugins;
+    }
+
+    /**
+     * Obtiene las claves de los plugins registrados, sin alias.
+     *
+     * @return Conjunto inmutable de claves en orden de registro
+     */
+    public Set<String> getClaves() {
+        return claves;
+    }
+
+    /**
+     * Obtiene las claves y alias normalizados por los que se puede buscar.
+     *
+     * @return Conjunto inmutable de claves y alias
+     */
+    public Set<String> getClavesYAlias() {
+        return porClave.keySet();
+    }
+
+    /**
+     * Obtiene el número de plugins registrados.
+     *
+     * @return Número de plugins
+     */
+    public int size() {
+        return plugins.size();
+    }
+
+    /**
+     * Indica si el registro no tiene plugins.
+     *
+     * @return true si está vacío
+     */
+    public boolean isEmpty() {
+        return plugins.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "PluginRegistry" + claves;
+    }
+}
@@ -0,0 +1,190 @@
+package com.kursor.shared.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Vigilante de un directorio de plugins basado en {@link WatchService}.
+ *
+ * <p>Notifica cada archivo JAR del directorio que se crea, se modifica o se
+ * elimina, para que el gestor correspondiente lo cargue, lo sustituya o lo
+ * retire sin reiniciar la aplicación.</p>
+ *
+ * <p>Copiar un JAR genera varios eventos de modificación mientras se escribe.
+ * Los eventos que llegan con menos de {@value #ESPERA_AGRUPACION_MS} ms de
+ * separación se agrupan y cada JAR se notifica una sola vez, cuando la copia ha
+ * terminado. Los archivos ocultos, como el índice de plugins, se ignoran.</p>
+ *
+ * <p>La notificación se realiza en un hilo daemon propio.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see ModuleManager#iniciarVigilancia()
+ * @see StrategyManager#iniciarVigilancia()
+ */
+public class PluginsDirectoryWatcher {
+
+    /** Logger para registrar eventos del vigilante */
+    private static final Logger logger = LoggerFactory.getLogger(PluginsDirectoryWatcher.class);
+
+    /** Tiempo en milisegundos durante el que se agrupan eventos consecutivos */
+    public static final long ESPERA_AGRUPACION_MS = 500;
+
+    /** Directorio de plugins */
+    private final Path pluginsDir;
+
+    /** Acción a ejecutar con cada JAR que cambia */
+    private final Consumer<File> alCambiar;
+
+    /** Servicio de vigilancia, o null si no está activo */
+    private WatchService watchService;
+
+    /** Hilo que procesa los eventos */
+    private Thread hilo;
+
+    /**
+     * Constructor del vigilante.
+     *
+     * @param pluginsDir Directorio de plugins (no debe ser null)
+     * @param alCambiar Acción a ejecutar con cada JAR que cambia (no debe ser null)
+     * @throws IllegalArgumentException si algún parámetro es null
+     */
+    public PluginsDirectoryWatcher(Path pluginsDir, Consumer<File> alCambiar) {
+        if (pluginsDir == null || alCambiar == null) {
+            throw new IllegalArgumentException("El directorio y la acción no pueden ser null");
+        }
+        this.pluginsDir = pluginsDir.toAbsolutePath();
+        this.alCambiar = alCambiar;
+    }
+
+    /**
+     * Comienza a vigilar el directorio de plugins.
+     *
+     * @throws IOException si no se puede registrar el directorio
+     */
+    public synchronized void iniciar() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+
+        watchService = pluginsDir.getFileSystem().newWatchService();
+        pluginsDir.register(watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE);
+
+        hilo = new Thread(this::procesarEventos, "kursor-vigilancia-" + pluginsDir.getFileName());
+        hilo.setDaemon(true);
+        hilo.start();
+
+        logger.info("👀 Vigilando plugins en {}", pluginsDir);
+    }
+
+    /**
+     * Deja de vigilar el directorio de plugins.
+     */
+    public synchronized void detener() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Error al cerrar el servicio de vigilancia: {}", e.getMessage());
+        }
+        watchService = null;
+        logger.info("Vigilancia del directorio de plugins detenida: {}", pluginsDir);
+    }
+
+    /**
+     * Indica si el vigilante está activo.
+     *
+     * @return true si se están vigilando cambios
+     */
+    public synchronized boolean isActivo() {
+        return watchService != null;
+    }
+
+    /**
+     * Bucle del hilo de vigilancia. Agrupa los eventos recibidos y notifica
+     * cada JAR afectado.
+     */
+    private void procesarEventos() {
+        WatchService servicio;
+        synchronized (this) {
+            servicio = watchService;
+        }
+
+        try {
+            while (true) {
+                Set<File> cambiados = new LinkedHashSet<>();
+                WatchKey clave = servicio.take();
+                while (clave != null) {
+                    procesarClave(clave, cambiados);
+                    clave = servicio.poll(ESPERA_AGRUPACION_MS, TimeUnit.MILLISECONDS);
+                }
+
+                for (File jarFile : cambiados) {
+                    try {
+                        alCambiar.accept(jarFile);
+                    } catch (Exception e) {
+                        logger.error("Error al procesar el cambio del plugin {}: {}", jarFile.getName(), e.getMessage());
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.debug("Hilo de vigilancia de plugins finalizado: {}", pluginsDir);
+        }
+    }
+
+    /**
+     * Traduce los eventos de una clave a archivos JAR.
+     *
+     * @param clave Clave con eventos pendientes
+     * @param cambiados Conjunto donde se añaden los JAR afectados
+     */
+    private void procesarClave(WatchKey clave, Set<File> cambiados) {
+        for (WatchEvent<?> evento : clave.pollEvents()) {
+            if (evento.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Se han perdido eventos: se revisan todos los JAR del directorio
+                File[] jars = pluginsDir.toFile().listFiles((dir, nombre) -> esJar(nombre));
+                if (jars != null) {
+                    for (File jar : jars) {
+                        cambiados.add(jar);
+                    }
+                }
+                continue;
+            }
+
+            String nombre = evento.context().toString();
+            if (esJar(nombre)) {
+                cambiados.add(pluginsDir.resolve(nombre).toFile());
+            }
+        }
+        clave.reset();
+    }
+
+    /**
+     * Indica si un nombre de archivo corresponde a un JAR de plugin visible.
+     *
+     * @param nombre Nombre del archivo
+     * @return true si es un JAR y no está oculto
+     */
+    private static boolean esJar(String nombre) {
+        return !nombre.startsWith(".") && nombre.toLowerCase().endsWith(".jar");
+    }
+}
@@ -0,0 +1,270 @@
+package com.kursor.shared.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool de cadenas y listas de cadenas compartidas durante la carga de cursos.
+ *
+ * <p>El contenido de los cursos es muy repetitivo: los tipos de pregunta, los
+ * títulos de bloque, las etiquetas de verdadero/falso o las listas de opciones se
+ * repiten en miles de preguntas, y el parser YAML crea una instancia distinta
+ * para cada aparición. El pool devuelve siempre la misma instancia para valores
+ * iguales, de modo que las copias que produce el parser pueden liberarse.</p>
+ *
+ * <p>Las listas se devuelven como listas inmutables ({@link List#copyOf}) con sus
+ * elementos ya compartidos. Un dominio que guarde la lista con
+ * {@link List#copyOf} reutiliza la misma instancia sin copiarla.</p>
+ *
+ * <p>Solo se comparten valores con pocas variantes: las claves de los campos,
+ * los campos de {@link #CAMPOS_COMPARTIDOS}, los títulos y tipos de bloque que
+ * pide el cargador y las listas de cadenas, como las opciones. Los textos
+ * propios de cada pregunta (enunciados, respuestas libres) no pasan por el
+ * pool.</p>
+ *
+ * <p>El pool no retiene lo que comparte: las instancias canónicas se guardan
+ * con referencias débiles, de modo que cuando la caché de cursos desaloja un
+ * curso sus cadenas se liberan en cuanto ningún otro curso las usa. Así el
+ * pool puede vivir lo mismo que el cargador (por ejemplo, un
+ * {@code CursoPreviewService}) sin anular el límite de memoria de esa caché.
+ * El ahorro de memoria se estima a partir del tamaño típico de una cadena y
+ * de una lista en una JVM de 64 bits con referencias comprimidas.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Puede usarse desde varios hilos de carga a
+ * la vez; cada tabla se protege con su propio monitor.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see com.kursor.factory.PreguntaFactory
+ */
+public class PoolCadenas {
+
+    /** Tamaño estimado de un objeto String y la cabecera de su array de bytes */
+    private static final int TAMANO_BASE_CADENA = 40;
+
+    /** Tamaño estimado de una lista inmutable sin contar sus elementos */
+    private static final int TAMANO_BASE_LISTA = 32;
+
+    /** Tamaño estimado de cada referencia de una lista */
+    private static final int TAMANO_REFERENCIA = 4;
+
+    /** Campos de pregunta cuyos valores de texto se comparten */
+    public static final Set<String> CAMPOS_COMPARTIDOS = Set.of("tipo");
+
+    /** Instancias canónicas de cadenas; la clave es la propia instancia canónica */
+    private final Map<String, WeakReference<String>> cadenas = new WeakHashMap<>();
+
+    /** Instancias canónicas de listas de cadenas; la clave es la propia instancia canónica */
+    private final Map<List<String>, WeakReference<List<String>>> listas = new WeakHashMap<>();
+
+    /** Número de valores sustituidos por una instancia existente */
+    private final LongAdder aciertos = new LongAdder();
+
+    /** Bytes estimados que ocupaban las instancias sustituidas */
+    private final LongAdder bytesAhorrados = new LongAdder();
+
+    /**
+     * Obtiene la instancia compartida de una cadena.
+     *
+     * @param valor Cadena (puede ser null)
+     * @return La instancia compartida igual a {@code valor}, o null
+     */
+    public String cadena(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        String canonica = canonica(cadenas, valor);
+        if (canonica != valor) {
+            aciertos.increment();
+            bytesAhorrados.add(tamanoCadena(valor));
+        }
+        return canonica;
+    }
+
+    /**
+     * Obtiene la instancia compartida de una lista de cadenas.
+     *
+     * <p>Si la lista contiene null o elementos que no son cadenas no se
+     * comparte: se devuelve una copia mutable con las cadenas compartidas.</p>
+     *
+     * @param valores Lista de cadenas (puede ser null)
+     * @return Lista inmutable compartida igual a {@code valores}, o null si
+     *         {@code valores} es null o contiene elementos que no son cadenas
+     */
+    public List<String> lista(List<?> valores) {
+        if (valores == null) {
+            return null;
+        }
+
+        List<String> elementos = new ArrayList<>(valores.size());
+        boolean compartible = true;
+        for (Object valor : valores) {
+            if (valor != null && !(valor instanceof String)) {
+                return null;
+            }
+            compartible &= valor != null;
+            elementos.add(cadena((String) valor));
+        }
+        if (!compartible) {
+            return elementos;
+        }
+
+        List<String> inmutable = List.copyOf(elementos);
+        List<String> canonica = canonica(listas, inmutable);
+        if (canonica == inmutable) {
+            return inmutable;
+        }
+        aciertos.increment();
+        bytesAhorrados.add(TAMANO_BASE_LISTA + (long) TAMANO_REFERENCIA * valores.size());
+        return canonica;
+    }
+
+    /**
+     * Indica si los valores de texto de un campo se comparten.
+     *
+     * @param campo Nombre del campo
+     * @return true si el campo está en {@link #CAMPOS_COMPARTIDOS}
+     */
+    public static boolean esCampoCompartido(String campo) {
+        return campo != null && CAMPOS_COMPARTIDOS.contains(campo);
+    }
+
+    /**
+     * Crea una copia de los datos de una pregunta con sus claves, los textos de
+     * {@link #CAMPOS_COMPARTIDOS} y las listas de cadenas compartidos. Los mapas
+     * y las listas de otros valores se recorren recursivamente.
+     *
+     * @param datos Datos leídos del YAML (no se modifican)
+     * @return Nuevo mapa mutable con los valores compartidos
+     */
+    public Map<String, Object> datos(Map<String, Object> datos) {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entrada : datos.entrySet()) {
+            resultado.put(cadena(entrada.getKey()), valor(entrada.getValue(), esCampoCompartido(entrada.getKey())));
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene la versión compartida de un valor arbitrario de los datos.
+     *
+     * @param valor Valor leído del YAML
+     * @param compartirTexto true si el valor es de un campo cuyos textos se comparten
+     * @return El valor compartido, o el propio valor si no es de un tipo compartible
+     */
+    @SuppressWarnings("unchecked")
+    private Object valor(Object valor, boolean compartirTexto) {
+        if (valor instanceof String) {
+            return compartirTexto ? cadena((String) valor) : valor;
+        }
+        if (valor instanceof List) {
+            List<String> compartida = lista((List<?>) valor);
+            if (compartida != null) {
+                return compartida;
+            }
+            List<Object> copia = new ArrayList<>();
+            for (Object elemento : (List<?>) valor) {
+                copia.add(valor(elemento, compartirTexto));
+            }
+            return copia;
+        }
+        if (valor instanceof Map) {
+            return datos((Map<String, Object>) valor);
+        }
+        return valor;
+    }
+
+    /**
+     * Busca la instancia canónica de un valor en una tabla débil, o registra el
+     * propio valor como canónico si no hay ninguna viva.
+     *
+     * @param tabla Tabla de instancias canónicas
+     * @param valor Valor a compartir
+     * @return La instancia canónica igual a {@code valor}
+     */
+    private static <T> T canonica(Map<T, WeakReference<T>> tabla, T valor) {
+        synchronized (tabla) {
+            WeakReference<T> referencia = tabla.get(valor);
+            T canonica = referencia != null ? referencia.get() : null;
+            if (canonica == null) {
+                tabla.put(valor, new WeakReference<>(valor));
+                return valor;
+            }
+            return canonica;
+        }
+    }
+
+    /**
+     * Obtiene el número de valores sustituidos por una instancia ya existente.
+     *
+     * @return Número de aciertos del pool
+     */
+    public long getAciertos() {
+        return aciertos.sum();
+    }
+
+    /**
+     * Obtiene el número estimado de bytes ahorrados al compartir instancias.
+     *
+     * @return Bytes ahorrados
+     */
+    public long getBytesAhorrados() {
+        return bytesAhorrados.sum();
+    }
+
+    /**
+     * Obtiene el número de cadenas distintas del pool que siguen en uso.
+     *
+     * <p>Las que ya no se usan desaparecen después de una recolección de
+     * basura.</p>
+     *
+     * @return Número de cadenas únicas
+     */
+    public int getCadenasUnicas() {
+        synchronized (cadenas) {
+            return cadenas.size();
+        }
+    }
+
+    /**
+     * Obtiene el número de listas distintas del pool que siguen en uso.
+     *
+     * @return Número de listas únicas
+     */
+    public int getListasUnicas() {
+        synchronized (listas) {
+            return listas.size();
+        }
+    }
+
+    /**
+     * Estima la memoria que ocupa una cadena, teniendo en cuenta que la JVM
+     * almacena con un byte por carácter las cadenas que solo usan Latin-1.
+     *
+     * @param valor Cadena
+     * @return Tamaño estimado en bytes
+     */
+    private static long tamanoCadena(String valor) {
+        int bytesPorCaracter = 1;
+        for (int i = 0; i < valor.length(); i++) {
+            if (valor.charAt(i) > 0xFF) {
+                bytesPorCaracter = 2;
+                break;
+            }
+        }
+        return TAMANO_BASE_CADENA + (long) bytesPorCaracter * valor.length();
+    }
+
+    @Override
+    public String toString() {
+        return "PoolCadenas{cadenas=" + getCadenasUnicas() + ", listas=" + getListasUnicas() +
+               ", aciertos=" + getAciertos() + ", bytesAhorrados=" + getBytesAhorrados() + "}";
+    }
+}
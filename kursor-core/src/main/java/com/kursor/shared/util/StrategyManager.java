@@ -6,27 +6,21 @@ import com.kursor.strategy.EstrategiaModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.jar.JarFile;
-import java.util.jar.JarEntry;
-import java.net.URLClassLoader;
-import java.net.URL;
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Gestor de estrategias de aprendizaje para la aplicación Kursor.
  * 
  * <p>Esta clase se encarga de cargar dinámicamente todas las estrategias de aprendizaje
- * desde archivos JAR ubicados en el directorio "strategies". Utiliza el patrón
- * ServiceLoader para descubrir e instanciar implementaciones de {@link EstrategiaModule}.</p>
+ * desde archivos JAR ubicados en el directorio "strategies". Es una fachada sobre
+ * {@link CargadorPlugins}, que descubre, valida e instancia en paralelo las
+ * implementaciones de {@link EstrategiaModule} y las registra por nombre. Si no
+ * se carga ninguna desde los JAR, se buscan en el classpath con
+ * {@link ServiceLoader}.</p>
  * 
  * <p>Características principales:</p>
  * <ul>
@@ -34,10 +28,23 @@ import java.nio.charset.StandardCharsets;
  *   <li>Validación exhaustiva de JARs antes de cargarlos</li>
  *   <li>Manejo robusto de errores de carga de estrategias</li>
  *   <li>Lista inmutable de estrategias cargadas</li>
- *   <li>Búsqueda eficiente de estrategias por nombre</li>
+ *   <li>Búsqueda de estrategias por nombre en tiempo constante</li>
+ *   <li>Carga, sustitución y retirada de estrategias en caliente, sin reiniciar</li>
  *   <li>Logging comprehensivo para debugging y monitoreo</li>
  * </ul>
  * 
+ * <p><strong>Plugins en caliente:</strong> Cada JAR se carga con su propio
+ * {@link PluginClassLoader}. Con {@link #iniciarVigilancia()} los JAR que se
+ * copian, sustituyen o eliminan en el directorio strategies/ se aplican sin
+ * reiniciar. Las sesiones en curso conservan la instancia de
+ * {@link EstrategiaAprendizaje} que ya crearon.</p>
+ * 
+ * <p><strong>Carga perezosa:</strong> Los JAR que incluyen un {@link DescriptorPlugin}
+ * con la clase, el nombre, la descripción y la versión de la estrategia se
+ * registran sin cargar su clase. La estrategia se instancia la primera vez que
+ * se solicita con {@link #findStrategyByName(String)} o se usa alguno de sus
+ * métodos que no son metadatos.</p>
+ * 
  * <p><strong>Estrategias soportadas:</strong></p>
  * <ul>
  *   <li><strong>Secuencial:</strong> Preguntas en orden secuencial</li>
@@ -63,8 +70,9 @@ import java.nio.charset.StandardCharsets;
  * }</pre>
  * 
  * <p><strong>Thread Safety:</strong> Esta clase es thread-safe después de la inicialización.
- * El patrón Singleton garantiza que solo existe una instancia, y la lista de estrategias
- * se inicializa una sola vez durante la construcción.</p>
+ * El patrón Singleton garantiza que solo existe una instancia. La lista de estrategias
+ * se sustituye completa en cada cambio de plugins, de modo que los lectores
+ * siempre ven una versión consistente sin necesidad de bloqueos.</p>
  * 
  * <p><strong>Manejo de Errores:</strong> Los errores de carga de estrategias individuales
  * no interrumpen la carga de otras estrategias. Todos los errores se registran apropiadamente.</p>
@@ -84,14 +92,16 @@ public class StrategyManager {
     /** Logger para registrar eventos del gestor de estrategias */
     private static final Logger logger = LoggerFactory.getLogger(StrategyManager.class);
     
-    /** Lista de estrategias cargadas exitosamente */
-    private final List<EstrategiaModule> strategies;
+    /** Cargador de las estrategias del directorio strategies/ */
+    private final CargadorPlugins<EstrategiaModule> cargador;
     
     /** Directorio donde se buscan las estrategias JAR */
     private static final String STRATEGIES_DIR;
     
-    /** Nombre del archivo de servicios esperado en los JARs */
-    private static final String SERVICE_FILE = "META-INF/services/com.kursor.strategy.EstrategiaModule";
+    /** Claves obligatorias del descriptor para registrar una estrategia sin instanciarla */
+    private static final String[] CLAVES_DESCRIPTOR = {
+        DescriptorPlugin.NOMBRE, DescriptorPlugin.DESCRIPCION, DescriptorPlugin.VERSION
+    };
     
     // Inicializar la ruta de estrategias dinámicamente
     static {
@@ -120,12 +130,17 @@ public class StrategyManager {
      */
     private StrategyManager() {
         logger.debug("Creando nueva instancia de StrategyManager");
-        this.strategies = new ArrayList<>();
-        logger.trace("Lista de estrategias inicializada");
+        this.cargador = new CargadorPlugins<>("estrategias", EstrategiaModule.class, new File(STRATEGIES_DIR),
+                                              EstrategiaModule::getNombre, this::validarEstrategia,
+                                              StrategyManager::metadatosDescriptor);
         
         try {
-            cargarEstrategias();
-            logger.info("StrategyManager inicializado exitosamente con {} estrategias", strategies.size());
+            // Si no se cargan estrategias desde JARs, intentar desde classpath
+            if (cargador.cargarTodos() == 0) {
+                logger.info("No se cargaron estrategias desde JARs, intentando desde classpath");
+                cargador.cargarDesdeClasspath();
+            }
+            logger.info("StrategyManager inicializado exitosamente con {} estrategias", getStrategyCount());
         } catch (Exception e) {
             logger.error("Error crítico durante la inicialización de StrategyManager", e);
             throw new RuntimeException("No se pudo inicializar StrategyManager", e);
@@ -155,196 +170,85 @@ public class StrategyManager {
     }
 
     /**
-     * Carga todas las estrategias JAR disponibles en el directorio strategies/.
-     * 
-     * <p>Este método realiza las siguientes operaciones:</p>
-     * <ol>
-     *   <li>Verifica que el directorio strategies/ existe</li>
-     *   <li>Busca archivos JAR en el directorio</li>
-     *   <li>Valida que cada JAR contenga implementaciones de EstrategiaModule</li>
-     *   <li>Carga dinámicamente las estrategias usando ServiceLoader</li>
-     *   <li>Registra errores de carga sin interrumpir la aplicación</li>
-     * </ol>
-     * 
-     * <p><strong>Comportamiento ante errores:</strong> Si una estrategia individual falla
-     * al cargar, se registra el error y se continúa con las demás estrategias.</p>
+     * Traduce el descriptor de un JAR de estrategia a los valores de los
+     * métodos de metadatos de {@link EstrategiaModule}.
      * 
-     * <p>Las estrategias se cargan en el orden en que se encuentran los archivos JAR.</p>
-     * 
-     * @throws IllegalStateException Si el directorio strategies no es accesible
+     * @param descriptor Descriptor del JAR
+     * @return Valores por método, o null si el descriptor no define el nombre,
+     *         la descripción y la versión de la estrategia
      */
-    private void cargarEstrategias() {
-        logger.info("Iniciando carga de estrategias desde directorio: {}", STRATEGIES_DIR);
-        
-        File strategiesDir = new File(STRATEGIES_DIR);
-        
-        // Verificar existencia del directorio
-        if (!strategiesDir.exists()) {
-            logger.warn("El directorio de estrategias no existe: {}", STRATEGIES_DIR);
-            logger.debug("Intentando crear directorio de estrategias");
-            
-            if (strategiesDir.mkdirs()) {
-                logger.info("Directorio de estrategias creado: {}", STRATEGIES_DIR);
-            } else {
-                logger.error("No se pudo crear el directorio de estrategias: {}", STRATEGIES_DIR);
-            }
-            return;
-        }
-        
-        if (!strategiesDir.isDirectory()) {
-            logger.error("La ruta de estrategias no es un directorio: {}", STRATEGIES_DIR);
-            throw new IllegalStateException("La ruta de estrategias no es un directorio: " + STRATEGIES_DIR);
-        }
-        
-        if (!strategiesDir.canRead()) {
-            logger.error("No se tienen permisos de lectura en el directorio: {}", STRATEGIES_DIR);
-            throw new IllegalStateException("Sin permisos de lectura en: " + STRATEGIES_DIR);
+    private static Map<String, Object> metadatosDescriptor(DescriptorPlugin descriptor) {
+        if (!descriptor.define(CLAVES_DESCRIPTOR)) {
+            return null;
         }
-
-        logger.debug("Buscando archivos JAR en directorio: {}", STRATEGIES_DIR);
-        File[] jarFiles = strategiesDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".jar"));
         
-        if (jarFiles == null || jarFiles.length == 0) {
-            logger.warn("No se encontraron archivos JAR en el directorio: {}", STRATEGIES_DIR);
-            logger.info("Intentando carga desde classpath como fallback");
-            cargarEstrategiasDesdeClasspath();
-            return;
+        Map<String, Object> metadatos = new HashMap<>();
+        metadatos.put("getNombre", descriptor.get(DescriptorPlugin.NOMBRE));
+        metadatos.put("getDescripcion", descriptor.get(DescriptorPlugin.DESCRIPCION));
+        metadatos.put("getVersion", descriptor.get(DescriptorPlugin.VERSION));
+        if (descriptor.get(DescriptorPlugin.ICONO) != null) {
+            metadatos.put("getIcon", descriptor.get(DescriptorPlugin.ICONO));
         }
+        return metadatos;
+    }
 
-        logger.info("Encontrados {} archivos JAR en el directorio de estrategias", jarFiles.length);
-        
-        int estrategiasCargadas = 0;
-        for (File jarFile : jarFiles) {
-            try {
-                logger.debug("Procesando archivo JAR: {}", jarFile.getName());
-                
-                if (validarJar(jarFile)) {
-                    cargarEstrategia(jarFile);
-                    estrategiasCargadas++;
-                } else {
-                    logger.warn("Archivo JAR no válido, saltando: {}", jarFile.getName());
-                }
-            } catch (Exception e) {
-                logger.error("Error al procesar archivo JAR: {}", jarFile.getName(), e);
-            }
-        }
-        
-        logger.info("Carga de estrategias completada. {} estrategias cargadas exitosamente", estrategiasCargadas);
-        
-        // Si no se cargaron estrategias desde JARs, intentar desde classpath
-        if (estrategiasCargadas == 0) {
-            logger.info("No se cargaron estrategias desde JARs, intentando desde classpath");
-            cargarEstrategiasDesdeClasspath();
-        }
+    /**
+     * Aplica el estado actual de un JAR del directorio de estrategias: lo carga
+     * si es nuevo, lo sustituye si ha cambiado y retira sus estrategias si ha
+     * desaparecido.
+     * 
+     * <p>Las sesiones en curso conservan la estrategia que ya crearon. Los
+     * listeners registrados se notifican del cambio.</p>
+     * 
+     * @param jarFile Archivo JAR del directorio de estrategias
+     * @return El evento del cambio aplicado, o null si no hubo cambios
+     */
+    public PluginCambioEvento recargarPlugin(File jarFile) {
+        return cargador.recargar(jarFile);
     }
 
     /**
-     * Carga una estrategia específica desde un archivo JAR.
+     * Comienza a vigilar el directorio de estrategias para cargar, sustituir y
+     * retirar estrategias sin reiniciar la aplicación.
      * 
-     * <p>Este método:</p>
-     * <ol>
-     *   <li>Valida que el JAR contenga el archivo de servicios correcto</li>
-     *   <li>Crea un ClassLoader específico para el JAR</li>
-     *   <li>Usa ServiceLoader para cargar las implementaciones</li>
-     *   <li>Valida cada estrategia cargada</li>
-     *   <li>Agrega las estrategias válidas a la lista</li>
-     * </ol>
+     * @return true si la vigilancia está activa
+     */
+    public boolean iniciarVigilancia() {
+        return cargador.iniciarVigilancia();
+    }
+
+    /**
+     * Deja de vigilar el directorio de estrategias.
+     */
+    public void detenerVigilancia() {
+        cargador.detenerVigilancia();
+    }
+
+    /**
+     * Registra un listener que se notifica cuando se carga, sustituye o retira
+     * una estrategia en caliente.
      * 
-     * @param jarFile Archivo JAR que contiene la estrategia
-     * @throws Exception Si ocurre un error durante la carga
+     * @param listener Listener a registrar
      */
-    private void cargarEstrategia(File jarFile) throws Exception {
-        String jarName = jarFile.getName();
-        logger.debug("Cargando estrategia desde JAR: {}", jarName);
-        
-        try (JarFile jar = new JarFile(jarFile)) {
-            // Verificar que el JAR contenga el archivo de servicios
-            JarEntry serviceEntry = jar.getJarEntry(SERVICE_FILE);
-            if (serviceEntry == null) {
-                logger.warn("JAR no contiene archivo de servicios: {}", jarName);
-                return;
-            }
-            
-            if (!validarArchivoServicios(jar, serviceEntry, jarName)) {
-                logger.warn("Archivo de servicios no válido en JAR: {}", jarName);
-                return;
-            }
-            
-            // Crear ClassLoader para el JAR
-            URL jarUrl = jarFile.toURI().toURL();
-            URLClassLoader classLoader = new URLClassLoader(new URL[]{jarUrl}, getClass().getClassLoader());
-            
-            // Cargar estrategias usando ServiceLoader
-            ServiceLoader<EstrategiaModule> serviceLoader = ServiceLoader.load(EstrategiaModule.class, classLoader);
-            
-            int estrategiasEnJar = 0;
-            for (EstrategiaModule estrategia : serviceLoader) {
-                try {
-                    if (validarEstrategia(estrategia)) {
-                        strategies.add(estrategia);
-                        estrategiasEnJar++;
-                        logger.info("Estrategia cargada desde JAR {}: {} (v{})", 
-                                   jarName, estrategia.getNombre(), estrategia.getVersion());
-                    } else {
-                        logger.warn("Estrategia no válida en JAR {}, saltando: {}", jarName, estrategia.getNombre());
-                    }
-                } catch (Exception e) {
-                    logger.error("Error al validar estrategia en JAR {}: {}", jarName, estrategia.getNombre(), e);
-                }
-            }
-            
-            if (estrategiasEnJar == 0) {
-                logger.warn("No se cargaron estrategias válidas desde JAR: {}", jarName);
-            } else {
-                logger.debug("Cargadas {} estrategias desde JAR: {}", estrategiasEnJar, jarName);
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error al cargar estrategia desde JAR: {}", jarName, e);
-            throw e;
-        }
+    public void addPluginCambioListener(PluginCambioListener listener) {
+        cargador.addPluginCambioListener(listener);
     }
 
     /**
-     * Carga estrategias desde el classpath como fallback.
+     * Elimina un listener de cambios de estrategias.
      * 
-     * <p>Este método se usa cuando no se pueden cargar estrategias desde JARs
-     * o como método de respaldo para desarrollo.</p>
+     * @param listener Listener a eliminar
      */
-    private void cargarEstrategiasDesdeClasspath() {
-        logger.info("Cargando estrategias desde classpath");
-        
-        try {
-            ServiceLoader<EstrategiaModule> serviceLoader = ServiceLoader.load(EstrategiaModule.class);
-            
-            int estrategiasCargadas = 0;
-            for (EstrategiaModule estrategia : serviceLoader) {
-                try {
-                    if (validarEstrategia(estrategia)) {
-                        strategies.add(estrategia);
-                        estrategiasCargadas++;
-                        logger.info("Estrategia cargada desde classpath: {} (v{})", 
-                                   estrategia.getNombre(), estrategia.getVersion());
-                    } else {
-                        logger.warn("Estrategia no válida desde classpath, saltando: {}", estrategia.getNombre());
-                    }
-                } catch (Exception e) {
-                    logger.error("Error al validar estrategia desde classpath: {}", estrategia.getNombre(), e);
-                }
-            }
-            
-            logger.info("Carga desde classpath completada. {} estrategias cargadas", estrategiasCargadas);
-            
-        } catch (Exception e) {
-            logger.error("Error crítico durante la carga de estrategias desde classpath", e);
-        }
+    public void removePluginCambioListener(PluginCambioListener listener) {
+        cargador.removePluginCambioListener(listener);
     }
 
     /**
      * Valida que una estrategia sea correcta y funcional.
      * 
      * <p>Realiza validaciones básicas para asegurar que la estrategia
-     * puede ser utilizada de forma segura.</p>
+     * puede ser utilizada de forma segura. Los nombres duplicados los detecta
+     * {@link CargadorPlugins}, que usa el nombre como clave del registro.</p>
      * 
      * @param estrategia La estrategia a validar
      * @return true si la estrategia es válida, false en caso contrario
@@ -377,14 +281,6 @@ public class StrategyManager {
                 return false;
             }
             
-            // Verificar que no haya duplicados
-            for (EstrategiaModule existing : strategies) {
-                if (existing.getNombre().equals(nombre)) {
-                    logger.warn("Estrategia duplicada encontrada: {}", nombre);
-                    return false;
-                }
-            }
-            
             logger.debug("Estrategia válida: {} (v{})", nombre, version);
             return true;
             
@@ -394,85 +290,13 @@ public class StrategyManager {
         }
     }
 
-    /**
-     * Valida que un archivo JAR sea válido y contenga estrategias.
-     * 
-     * @param jarFile Archivo JAR a validar
-     * @return true si el JAR es válido, false en caso contrario
-     */
-    private boolean validarJar(File jarFile) {
-        if (!jarFile.exists()) {
-            logger.warn("Archivo JAR no existe: {}", jarFile.getName());
-            return false;
-        }
-        
-        if (!jarFile.canRead()) {
-            logger.warn("No se pueden leer archivos JAR: {}", jarFile.getName());
-            return false;
-        }
-        
-        if (jarFile.length() == 0) {
-            logger.warn("Archivo JAR vacío: {}", jarFile.getName());
-            return false;
-        }
-        
-        try (JarFile jar = new JarFile(jarFile)) {
-            // Verificar que contenga el archivo de servicios
-            JarEntry serviceEntry = jar.getJarEntry(SERVICE_FILE);
-            if (serviceEntry == null) {
-                logger.debug("JAR no contiene archivo de servicios: {}", jarFile.getName());
-                return false;
-            }
-            
-            return validarArchivoServicios(jar, serviceEntry, jarFile.getName());
-            
-        } catch (IOException e) {
-            logger.warn("Error al abrir archivo JAR: {}", jarFile.getName(), e);
-            return false;
-        }
-    }
-
-    /**
-     * Valida el contenido del archivo de servicios en un JAR.
-     * 
-     * @param jar Archivo JAR
-     * @param serviceEntry Entrada del archivo de servicios
-     * @param jarName Nombre del archivo JAR para logging
-     * @return true si el archivo de servicios es válido, false en caso contrario
-     */
-    private boolean validarArchivoServicios(JarFile jar, JarEntry serviceEntry, String jarName) {
-        try (InputStream inputStream = jar.getInputStream(serviceEntry);
-             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            
-            String line = reader.readLine();
-            if (line == null || line.trim().isEmpty()) {
-                logger.warn("Archivo de servicios vacío en JAR: {}", jarName);
-                return false;
-            }
-            
-            // Verificar que la línea contenga una clase válida
-            line = line.trim();
-            if (!line.contains(".")) {
-                logger.warn("Clase inválida en archivo de servicios de JAR {}: {}", jarName, line);
-                return false;
-            }
-            
-            logger.debug("Archivo de servicios válido en JAR {}: {}", jarName, line);
-            return true;
-            
-        } catch (IOException e) {
-            logger.warn("Error al leer archivo de servicios en JAR: {}", jarName, e);
-            return false;
-        }
-    }
-
     /**
      * Obtiene una lista inmutable de todas las estrategias cargadas.
      * 
      * @return Lista inmutable de estrategias, nunca {@code null}
      */
     public List<EstrategiaModule> getStrategies() {
-        return Collections.unmodifiableList(strategies);
+        return cargador.getRegistro().getPlugins();
     }
 
     /**
@@ -487,11 +311,11 @@ public class StrategyManager {
             return null;
         }
         
-        for (EstrategiaModule estrategia : strategies) {
-            if (estrategia.getNombre().equals(nombre)) {
-                logger.debug("Estrategia encontrada: {}", nombre);
-                return estrategia;
-            }
+        // Las estrategias registradas desde su descriptor se instancian aquí
+        EstrategiaModule estrategia = cargador.obtener(nombre);
+        if (estrategia != null) {
+            logger.debug("Estrategia encontrada: {}", nombre);
+            return estrategia;
         }
         
         logger.debug("Estrategia no encontrada: {}", nombre);
@@ -528,7 +352,7 @@ public class StrategyManager {
      * @return Número de estrategias cargadas
      */
     public int getStrategyCount() {
-        return strategies.size();
+        return cargador.getRegistro().size();
     }
 
     /**
@@ -537,7 +361,7 @@ public class StrategyManager {
      * @return true si hay al menos una estrategia cargada, false en caso contrario
      */
     public boolean hasStrategies() {
-        return !strategies.isEmpty();
+        return !cargador.getRegistro().isEmpty();
     }
 
     /**
@@ -546,6 +370,7 @@ public class StrategyManager {
      * @return String con información de todas las estrategias
      */
     public String getStrategiesInfo() {
+        List<EstrategiaModule> strategies = getStrategies();
         if (strategies.isEmpty()) {
             return "No hay estrategias cargadas";
         }
@@ -1,5 +1,7 @@
 package com.kursor.yaml.dto;
 
+import com.kursor.domain.Bloque;
+import java.util.AbstractList;
 import java.util.List;
 
 /**
@@ -8,6 +10,12 @@ import java.util.List;
  * <p>Un bloque representa una sección temática dentro de un curso que contiene
  * un conjunto de preguntas del mismo tipo.</p>
  * 
+ * <p>Creado con {@link #BloqueDTO(Bloque)}, el DTO es una vista de solo lectura
+ * sobre el bloque del dominio. Sus preguntas no se copian: la lista devuelta por
+ * {@link #getPreguntas()} envuelve cada pregunta del dominio al acceder a ella,
+ * de modo que crear la vista no provoca la carga de un
+ * {@link com.kursor.domain.BloqueBajoDemanda}.</p>
+ * 
  * @author Juan José Ruiz Pérez <jjrp1@um.es>
  * @version 2.0.0
  * @since 2.0.0
@@ -32,10 +40,14 @@ public class BloqueDTO {
     /** Total de preguntas en el bloque (calculado automáticamente) */
     private int totalPreguntas;
     
+    /** Bloque del dominio del que este DTO es una vista, o null si es independiente */
+    private final Bloque bloque;
+    
     /**
      * Constructor por defecto.
      */
     public BloqueDTO() {
+        this.bloque = null;
     }
     
     /**
@@ -45,10 +57,46 @@ public class BloqueDTO {
      * @param tipo Tipo de preguntas
      */
     public BloqueDTO(String titulo, String tipo) {
+        this.bloque = null;
         this.titulo = titulo;
         this.tipo = tipo;
     }
     
+    /**
+     * Constructor que crea una vista de solo lectura sobre un bloque del dominio.
+     * 
+     * @param bloque Bloque del dominio (no debe ser null)
+     */
+    public BloqueDTO(Bloque bloque) {
+        this.bloque = bloque;
+        this.id = bloque.getId();
+        this.titulo = bloque.getTitulo();
+        this.descripcion = bloque.getDescripcion();
+        this.tipo = bloque.getTipo();
+        this.preguntas = new VistaPreguntas(bloque);
+        calcularTotalPreguntas();
+    }
+    
+    /**
+     * Obtiene el bloque del dominio del que este DTO es una vista.
+     * 
+     * @return El bloque del dominio, o null si el DTO es independiente
+     */
+    public Bloque getBloque() {
+        return bloque;
+    }
+    
+    /**
+     * Verifica que el DTO se puede modificar.
+     * 
+     * @throws UnsupportedOperationException si el DTO es una vista del dominio
+     */
+    private void comprobarModificable() {
+        if (bloque != null) {
+            throw new UnsupportedOperationException("BloqueDTO es una vista de solo lectura");
+        }
+    }
+    
     /**
      * Calcula automáticamente el total de preguntas en el bloque.
      * 
@@ -75,6 +123,7 @@ public class BloqueDTO {
     }
     
     public void setTitulo(String titulo) {
+        comprobarModificable();
         this.titulo = titulo;
     }
     
@@ -83,6 +132,7 @@ public class BloqueDTO {
     }
     
     public void setTipo(String tipo) {
+        comprobarModificable();
         this.tipo = tipo;
     }
     
@@ -91,6 +141,7 @@ public class BloqueDTO {
     }
     
     public void setPreguntas(List<PreguntaDTO> preguntas) {
+        comprobarModificable();
         this.preguntas = preguntas;
         // Recalcular total automáticamente cuando se establecen las preguntas
         calcularTotalPreguntas();
@@ -101,6 +152,7 @@ public class BloqueDTO {
     }
     
     public void setId(String id) {
+        comprobarModificable();
         this.id = id;
     }
     
@@ -109,9 +161,34 @@ public class BloqueDTO {
     }
     
     public void setDescripcion(String descripcion) {
+        comprobarModificable();
         this.descripcion = descripcion;
     }
     
+    /**
+     * Lista de solo lectura que presenta las preguntas del dominio como
+     * {@link PreguntaDTO} sin copiarlas.
+     */
+    private static final class VistaPreguntas extends AbstractList<PreguntaDTO> {
+        
+        /** Bloque del dominio que contiene las preguntas */
+        private final Bloque bloque;
+        
+        VistaPreguntas(Bloque bloque) {
+            this.bloque = bloque;
+        }
+        
+        @Override
+        public PreguntaDTO get(int index) {
+            return new PreguntaDTO(bloque.getPreguntas().get(index));
+        }
+        
+        @Override
+        public int size() {
+            return bloque.getNumeroPreguntas();
+        }
+    }
+    
     @Override
     public String toString() {
         return String.format("BloqueDTO{titulo='%s', tipo='%s', totalPreguntas=%d}", 
@@ -1,5 +1,9 @@
 package com.kursor.yaml.dto;
 
+import com.kursor.domain.Bloque;
+import com.kursor.domain.Curso;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +17,12 @@ import java.util.stream.Collectors;
  * necesaria para mostrar los detalles completos de un curso, incluyendo bloques,
  * preguntas y estadísticas calculadas.</p>
  * 
+ * <p>Creado con {@link #CursoDTO(Curso)}, el DTO es una vista de solo lectura
+ * sobre el curso del dominio, que es el único modelo del curso en memoria. El
+ * curso se parsea una sola vez y tanto la interfaz como las estrategias trabajan
+ * sobre los mismos objetos {@link Curso}, {@link Bloque} y preguntas, que pueden
+ * recuperarse con {@link #getCurso()} sin volver a leer el archivo YAML.</p>
+ * 
  * @author Juan José Ruiz Pérez <jjrp1@um.es>
  * @version 2.0.0
  * @since 2.0.0
@@ -43,12 +53,41 @@ public class CursoDTO {
     /** Estadísticas por tipo de pregunta */
     private Map<String, Integer> estadisticasPorTipo;
     
+    /** Curso del dominio del que este DTO es una vista, o null si es independiente */
+    private final Curso curso;
+    
     /**
      * Constructor por defecto.
      */
     public CursoDTO() {
+        this.curso = null;
+        this.fechaCarga = new Date();
+        this.estadisticasPorTipo = new HashMap<>();
+    }
+    
+    /**
+     * Constructor que crea una vista de solo lectura sobre un curso del dominio.
+     * 
+     * <p>Los bloques se presentan como vistas {@link BloqueDTO} y las preguntas
+     * no se copian.</p>
+     * 
+     * @param curso Curso del dominio (no debe ser null)
+     */
+    public CursoDTO(Curso curso) {
+        this.curso = curso;
         this.fechaCarga = new Date();
         this.estadisticasPorTipo = new HashMap<>();
+        this.id = curso.getId();
+        this.titulo = curso.getTitulo();
+        this.descripcion = curso.getDescripcion();
+        this.nombreArchivo = curso.getId() + ".yaml";
+        
+        List<BloqueDTO> vistas = new ArrayList<>();
+        for (Bloque bloque : curso.getBloques()) {
+            vistas.add(new BloqueDTO(bloque));
+        }
+        this.bloques = Collections.unmodifiableList(vistas);
+        calcularTotales();
     }
     
     /**
@@ -132,6 +171,27 @@ public class CursoDTO {
         return estadisticasPorTipo.getOrDefault(tipo, 0);
     }
     
+    /**
+     * Obtiene el curso del dominio del que este DTO es una vista.
+     * 
+     * @return El curso del dominio, o null si el DTO es independiente (por
+     *         ejemplo, una cabecera del catálogo)
+     */
+    public Curso getCurso() {
+        return curso;
+    }
+    
+    /**
+     * Verifica que el DTO se puede modificar.
+     * 
+     * @throws UnsupportedOperationException si el DTO es una vista del dominio
+     */
+    private void comprobarModificable() {
+        if (curso != null) {
+            throw new UnsupportedOperationException("CursoDTO es una vista de solo lectura");
+        }
+    }
+    
     // Getters y Setters
     
     public String getId() {
@@ -139,6 +199,7 @@ public class CursoDTO {
     }
     
     public void setId(String id) {
+        comprobarModificable();
         this.id = id;
     }
     
@@ -147,6 +208,7 @@ public class CursoDTO {
     }
     
     public void setTitulo(String titulo) {
+        comprobarModificable();
         this.titulo = titulo;
     }
     
@@ -155,6 +217,7 @@ public class CursoDTO {
     }
     
     public void setDescripcion(String descripcion) {
+        comprobarModificable();
         this.descripcion = descripcion;
     }
     
@@ -163,6 +226,7 @@ public class CursoDTO {
     }
     
     public void setBloques(List<BloqueDTO> bloques) {
+        comprobarModificable();
         this.bloques = bloques;
         // Recalcular totales automáticamente cuando se establecen los bloques
         calcularTotales();
@@ -173,6 +237,7 @@ public class CursoDTO {
     }
     
     public void setNombreArchivo(String nombreArchivo) {
+        comprobarModificable();
         this.nombreArchivo = nombreArchivo;
     }
     
@@ -59,6 +59,12 @@ public class CursoPreviewDTO {
     /** Descripción del contenido del curso */
     private String descripcion;
     
+    /** Número de bloques del curso, o null si no se ha contado */
+    private Integer numeroBloques;
+    
+    /** Número total de preguntas del curso, o null si no se ha contado */
+    private Integer numeroPreguntas;
+    
     /**
      * Constructor por defecto para crear un DTO vacío.
      * 
@@ -182,6 +188,51 @@ public class CursoPreviewDTO {
         logger.info("Descripción de CursoPreviewDTO actualizada - ID: " + id);
     }
     
+    /**
+     * Obtiene el número de bloques del curso.
+     * 
+     * @return El número de bloques, o null si no se solicitó el recuento
+     */
+    public Integer getNumeroBloques() {
+        return numeroBloques;
+    }
+    
+    /**
+     * Establece el número de bloques del curso.
+     * 
+     * @param numeroBloques El número de bloques, o null si no se conoce
+     */
+    public void setNumeroBloques(Integer numeroBloques) {
+        this.numeroBloques = numeroBloques;
+    }
+    
+    /**
+     * Obtiene el número total de preguntas del curso.
+     * 
+     * @return El número de preguntas, o null si no se solicitó el recuento
+     */
+    public Integer getNumeroPreguntas() {
+        return numeroPreguntas;
+    }
+    
+    /**
+     * Establece el número total de preguntas del curso.
+     * 
+     * @param numeroPreguntas El número de preguntas, o null si no se conoce
+     */
+    public void setNumeroPreguntas(Integer numeroPreguntas) {
+        this.numeroPreguntas = numeroPreguntas;
+    }
+    
+    /**
+     * Verifica si la vista previa incluye el recuento de bloques y preguntas.
+     * 
+     * @return true si se han contado bloques y preguntas
+     */
+    public boolean tieneRecuento() {
+        return numeroBloques != null && numeroPreguntas != null;
+    }
+    
     /**
      * Verifica si el DTO tiene una descripción.
      * 
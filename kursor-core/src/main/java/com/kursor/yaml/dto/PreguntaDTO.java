@@ -1,11 +1,17 @@
 package com.kursor.yaml.dto;
 
+import com.kursor.domain.Pregunta;
+
 /**
  * DTO que contiene la información básica de una pregunta.
  * 
  * <p>Esta clase representa la información mínima necesaria para mostrar
  * una pregunta en las listas y estadísticas.</p>
  * 
+ * <p>Creado con {@link #PreguntaDTO(Pregunta)}, el DTO es una vista de solo
+ * lectura sobre la pregunta del dominio: no copia su contenido y permite
+ * recuperarla con {@link #getPregunta()}.</p>
+ * 
  * @author Juan José Ruiz Pérez <jjrp1@um.es>
  * @version 2.0.0
  * @since 2.0.0
@@ -21,10 +27,14 @@ public class PreguntaDTO {
     /** Enunciado de la pregunta */
     private String enunciado;
     
+    /** Pregunta del dominio de la que este DTO es una vista, o null si es independiente */
+    private final Pregunta pregunta;
+    
     /**
      * Constructor por defecto.
      */
     public PreguntaDTO() {
+        this.pregunta = null;
     }
     
     /**
@@ -35,11 +45,44 @@ public class PreguntaDTO {
      * @param enunciado Enunciado de la pregunta
      */
     public PreguntaDTO(String id, String tipo, String enunciado) {
+        this.pregunta = null;
         this.id = id;
         this.tipo = tipo;
         this.enunciado = enunciado;
     }
     
+    /**
+     * Constructor que crea una vista de solo lectura sobre una pregunta del dominio.
+     * 
+     * @param pregunta Pregunta del dominio (no debe ser null)
+     */
+    public PreguntaDTO(Pregunta pregunta) {
+        this.pregunta = pregunta;
+        this.id = pregunta.getId();
+        this.tipo = pregunta.getTipo();
+        this.enunciado = pregunta.getEnunciado();
+    }
+    
+    /**
+     * Obtiene la pregunta del dominio de la que este DTO es una vista.
+     * 
+     * @return La pregunta del dominio, o null si el DTO es independiente
+     */
+    public Pregunta getPregunta() {
+        return pregunta;
+    }
+    
+    /**
+     * Verifica que el DTO se puede modificar.
+     * 
+     * @throws UnsupportedOperationException si el DTO es una vista del dominio
+     */
+    private void comprobarModificable() {
+        if (pregunta != null) {
+            throw new UnsupportedOperationException("PreguntaDTO es una vista de solo lectura");
+        }
+    }
+    
     // Getters y Setters
     
     public String getId() {
@@ -47,6 +90,7 @@ public class PreguntaDTO {
     }
     
     public void setId(String id) {
+        comprobarModificable();
         this.id = id;
     }
     
@@ -55,6 +99,7 @@ public class PreguntaDTO {
     }
     
     public void setTipo(String tipo) {
+        comprobarModificable();
         this.tipo = tipo;
     }
     
@@ -63,6 +108,7 @@ public class PreguntaDTO {
     }
     
     public void setEnunciado(String enunciado) {
+        comprobarModificable();
         this.enunciado = enunciado;
     }
     
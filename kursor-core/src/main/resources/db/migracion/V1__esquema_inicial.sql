@@ -0,0 +1,62 @@
+-- Esquema inicial de Kursor.
+--
+-- Reproduce las tablas que generaba hibernate.hbm2ddl.auto=update, de modo que
+-- en las bases de datos anteriores a las migraciones esta versión no cambia nada.
+
+CREATE TABLE IF NOT EXISTS sesiones (
+    id integer,
+    aciertos integer,
+    bloque_id varchar(255) not null,
+    created_at timestamp,
+    curso_id varchar(255) not null,
+    estado varchar(255) check (estado in ('EN_CURSO','GUARDADA','COMPLETADA')),
+    estrategia_tipo varchar(255) not null,
+    fecha_inicio timestamp not null,
+    fecha_ultima_revision timestamp,
+    mejor_racha_aciertos integer,
+    porcentaje_completitud float,
+    pregunta_actual_id varchar(255),
+    preguntas_respondidas integer,
+    tasa_aciertos float,
+    tiempo_total integer,
+    updated_at timestamp,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS estados_estrategias (
+    id integer,
+    datos_estado TEXT not null,
+    fecha_creacion timestamp,
+    fecha_ultima_modificacion timestamp,
+    progreso float,
+    tipo_estrategia varchar(255) not null,
+    sesion_id bigint not null unique,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS preguntas_sesion (
+    id integer,
+    created_at timestamp,
+    pregunta_id varchar(255) not null,
+    respuesta TEXT,
+    resultado varchar(255) not null,
+    tiempo_dedicado integer,
+    updated_at timestamp,
+    sesion_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS estadisticas_usuario (
+    id integer,
+    created_at timestamp,
+    curso_id varchar(255) not null,
+    fecha_primera_sesion timestamp,
+    fecha_ultima_sesion timestamp,
+    mejor_racha_dias integer,
+    racha_actual_dias integer,
+    sesiones_completadas integer,
+    tiempo_total integer,
+    updated_at timestamp,
+    usuario_id varchar(255) not null,
+    primary key (id)
+);
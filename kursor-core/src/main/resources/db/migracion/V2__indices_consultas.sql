@@ -0,0 +1,30 @@
+-- Índices de las consultas frecuentes y unicidad de las estadísticas por
+-- usuario y curso.
+
+-- Las bases de datos anteriores pueden tener varias filas de estadísticas para
+-- el mismo usuario y curso. Se fusionan en la más reciente antes de crear el
+-- índice único.
+UPDATE estadisticas_usuario
+SET tiempo_total = (SELECT SUM(COALESCE(o.tiempo_total, 0)) FROM estadisticas_usuario o
+                    WHERE o.usuario_id = estadisticas_usuario.usuario_id AND o.curso_id = estadisticas_usuario.curso_id),
+    sesiones_completadas = (SELECT SUM(COALESCE(o.sesiones_completadas, 0)) FROM estadisticas_usuario o
+                            WHERE o.usuario_id = estadisticas_usuario.usuario_id AND o.curso_id = estadisticas_usuario.curso_id),
+    mejor_racha_dias = (SELECT MAX(COALESCE(o.mejor_racha_dias, 0)) FROM estadisticas_usuario o
+                        WHERE o.usuario_id = estadisticas_usuario.usuario_id AND o.curso_id = estadisticas_usuario.curso_id),
+    fecha_primera_sesion = (SELECT MIN(o.fecha_primera_sesion) FROM estadisticas_usuario o
+                            WHERE o.usuario_id = estadisticas_usuario.usuario_id AND o.curso_id = estadisticas_usuario.curso_id),
+    fecha_ultima_sesion = (SELECT MAX(o.fecha_ultima_sesion) FROM estadisticas_usuario o
+                           WHERE o.usuario_id = estadisticas_usuario.usuario_id AND o.curso_id = estadisticas_usuario.curso_id)
+WHERE id IN (SELECT MAX(id) FROM estadisticas_usuario GROUP BY usuario_id, curso_id HAVING COUNT(*) > 1);
+
+DELETE FROM estadisticas_usuario
+WHERE id NOT IN (SELECT MAX(id) FROM estadisticas_usuario GROUP BY usuario_id, curso_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_estadisticas_usuario_usuario_curso
+    ON estadisticas_usuario (usuario_id, curso_id);
+
+CREATE INDEX IF NOT EXISTS ix_preguntas_sesion_sesion_pregunta
+    ON preguntas_sesion (sesion_id, pregunta_id);
+
+CREATE INDEX IF NOT EXISTS ix_sesiones_curso_bloque_inicio
+    ON sesiones (curso_id, bloque_id, fecha_inicio);
@@ -0,0 +1,72 @@
+package com.kursor.domain;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de BloqueBajoDemanda")
+class BloqueBajoDemandaTest {
+
+    private AtomicInteger cargas;
+    private BloqueBajoDemanda bloque;
+
+    @BeforeEach
+    void setUp() {
+        cargas = new AtomicInteger();
+        bloque = new BloqueBajoDemanda("curso-b1", "Bloque 1", null, "test", 2, () -> {
+            cargas.incrementAndGet();
+            return List.of(new PreguntaMock("p1"), new PreguntaMock("p2"));
+        });
+    }
+
+    @Test
+    @DisplayName("Debería usar el número de preguntas declarado sin cargar el bloque")
+    void deberiaUsarRecuentoDeclaradoSinCargar() {
+        assertEquals(2, bloque.getNumeroPreguntas());
+        assertTrue(bloque.tienePreguntas());
+        assertFalse(bloque.isCargado());
+        assertEquals(0, cargas.get());
+    }
+
+    @Test
+    @DisplayName("Debería cargar las preguntas una sola vez al acceder a ellas")
+    void deberiaCargarUnaSolaVez() {
+        assertEquals("p1", bloque.getPreguntas().get(0).getId());
+        bloque.cargar();
+        bloque.getPreguntasPorTipo("test");
+
+        assertTrue(bloque.isCargado());
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    @DisplayName("Debería propagar los errores del cargador y permitir reintentar")
+    void deberiaPropagarErroresDelCargador() {
+        BloqueBajoDemanda fallido = new BloqueBajoDemanda("curso-b2", "Bloque 2", null, null, 1, () -> {
+            throw new java.io.IOException("archivo ilegible");
+        });
+
+        assertThrows(RuntimeException.class, fallido::getPreguntas);
+        assertFalse(fallido.isCargado());
+    }
+
+    private static class PreguntaMock extends Pregunta {
+
+        PreguntaMock(String id) {
+            super(id, "test");
+        }
+
+        @Override
+        public boolean esCorrecta(String respuesta) {
+            return false;
+        }
+
+        @Override
+        public String getEnunciado() {
+            return "Pregunta mock " + getId();
+        }
+    }
+}
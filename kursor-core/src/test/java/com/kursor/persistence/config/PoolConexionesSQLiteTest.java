@@ -0,0 +1,161 @@
+package com.kursor.persistence.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de PoolConexionesSQLite")
+class PoolConexionesSQLiteTest {
+
+    @TempDir
+    File tempDir;
+
+    private PoolConexionesSQLite pool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = crearPool(PerfilPersistencia.CONCURRENTE);
+        try (Connection conexion = pool.obtenerEscritura(); Statement statement = conexion.createStatement()) {
+            statement.execute("CREATE TABLE respuestas (id INTEGER PRIMARY KEY, valor TEXT)");
+            statement.execute("INSERT INTO respuestas (valor) VALUES ('confirmada')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    private PoolConexionesSQLite crearPool(PerfilPersistencia perfil) throws SQLException {
+        return new PoolConexionesSQLite(new File(tempDir, "kursor-" + perfil + ".db").getPath(),
+            perfil, Duration.ofMillis(200));
+    }
+
+    private static String consultar(Connection conexion, String sql) throws SQLException {
+        try (Statement statement = conexion.createStatement(); ResultSet resultado = statement.executeQuery(sql)) {
+            assertTrue(resultado.next());
+            return resultado.getString(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería abrir la base de datos en modo WAL con los pragmas del perfil")
+    void deberiaAplicarPragmas() throws Exception {
+        try (Connection conexion = pool.obtenerLectura()) {
+            assertEquals("wal", consultar(conexion, "PRAGMA journal_mode").toLowerCase());
+            assertEquals("1", consultar(conexion, "PRAGMA synchronous"));
+            assertEquals("-" + PoolConexionesSQLite.CACHE_KB, consultar(conexion, "PRAGMA cache_size"));
+            assertEquals("1", consultar(conexion, "PRAGMA foreign_keys"));
+            assertEquals("200", consultar(conexion, "PRAGMA busy_timeout"));
+        }
+    }
+
+    @Test
+    @DisplayName("Debería leer lo confirmado mientras hay una escritura en curso")
+    void deberiaLeerEnParaleloConEscritura() throws Exception {
+        try (Connection escritura = pool.obtenerEscritura()) {
+            escritura.setAutoCommit(false);
+            try (Statement statement = escritura.createStatement()) {
+                statement.execute("INSERT INTO respuestas (valor) VALUES ('pendiente')");
+            }
+
+            try (Connection lectura = pool.obtenerLectura()) {
+                assertEquals("1", consultar(lectura, "SELECT COUNT(*) FROM respuestas"));
+            }
+            escritura.commit();
+        }
+
+        try (Connection lectura = pool.obtenerLectura()) {
+            assertEquals("2", consultar(lectura, "SELECT COUNT(*) FROM respuestas"));
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar escrituras en las conexiones de lectura")
+    void deberiaRechazarEscriturasEnLectura() throws Exception {
+        try (Connection lectura = pool.obtenerLectura(); Statement statement = lectura.createStatement()) {
+            assertThrows(SQLException.class,
+                () -> statement.execute("INSERT INTO respuestas (valor) VALUES ('no')"));
+        }
+    }
+
+    @Test
+    @DisplayName("Debería prestar la conexión de escritura en exclusiva")
+    void deberiaPrestarEscrituraEnExclusiva() throws Exception {
+        Connection primera = pool.obtenerEscritura();
+        assertThrows(SQLTimeoutException.class, pool::obtenerEscritura);
+
+        primera.close();
+        assertTrue(primera.isClosed());
+        assertThrows(SQLException.class, primera::createStatement);
+        try (Connection segunda = pool.obtenerEscritura()) {
+            assertFalse(segunda.isClosed());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería reutilizar los lectores sin superar el máximo del perfil")
+    void deberiaLimitarLectores() throws Exception {
+        int maximo = PerfilPersistencia.CONCURRENTE.getLectores();
+        Connection[] lectores = new Connection[maximo];
+        for (int i = 0; i < maximo; i++) {
+            lectores[i] = pool.obtenerLectura();
+        }
+        assertThrows(SQLTimeoutException.class, pool::obtenerLectura);
+
+        lectores[0].close();
+        try (Connection reutilizada = pool.obtenerLectura()) {
+            assertEquals("1", consultar(reutilizada, "SELECT COUNT(*) FROM respuestas"));
+        }
+        assertEquals(maximo, pool.getLectoresAbiertos());
+        for (int i = 1; i < maximo; i++) {
+            lectores[i].close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería deshacer la transacción de una conexión devuelta sin confirmar")
+    void deberiaDeshacerAlDevolver() throws Exception {
+        try (Connection escritura = pool.obtenerEscritura(); Statement statement = escritura.createStatement()) {
+            escritura.setAutoCommit(false);
+            statement.execute("INSERT INTO respuestas (valor) VALUES ('abandonada')");
+        }
+
+        try (Connection escritura = pool.obtenerEscritura()) {
+            assertTrue(escritura.getAutoCommit());
+            assertEquals("1", consultar(escritura, "SELECT COUNT(*) FROM respuestas"));
+        }
+    }
+
+    @Test
+    @DisplayName("Debería usar el journal clásico y la conexión de escritura en el perfil compatible")
+    void deberiaUsarPerfilCompatible() throws Exception {
+        try (PoolConexionesSQLite compatible = crearPool(PerfilPersistencia.COMPATIBLE)) {
+            Connection lectura = compatible.obtenerLectura();
+            assertEquals("delete", consultar(lectura, "PRAGMA journal_mode").toLowerCase());
+            assertThrows(SQLTimeoutException.class, compatible::obtenerEscritura);
+            lectura.close();
+            assertEquals(0, compatible.getLectoresAbiertos());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar préstamos después de cerrarse")
+    void deberiaRechazarTrasCerrar() {
+        pool.close();
+        assertThrows(SQLException.class, pool::obtenerEscritura);
+        assertThrows(SQLException.class, pool::obtenerLectura);
+    }
+}
@@ -0,0 +1,158 @@
+package com.kursor.persistence.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de MigradorEsquema")
+class MigradorEsquemaTest {
+
+    @TempDir
+    File tempDir;
+
+    private Connection conexion;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        conexion = DriverManager.getConnection("jdbc:sqlite:" + new File(tempDir, "kursor.db").getPath());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        conexion.close();
+    }
+
+    private List<String> consultar(String sql) throws SQLException {
+        List<String> filas = new ArrayList<>();
+        try (Statement statement = conexion.createStatement(); ResultSet resultado = statement.executeQuery(sql)) {
+            while (resultado.next()) {
+                filas.add(resultado.getString(resultado.getMetaData().getColumnCount()));
+            }
+        }
+        return filas;
+    }
+
+    private void ejecutar(String sql) throws SQLException {
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería crear el esquema en una base de datos vacía y no repetir migraciones")
+    void deberiaMigrarBaseDeDatosVacia() throws Exception {
+        MigradorEsquema migrador = new MigradorEsquema();
+
+        assertEquals(2, migrador.migrar(conexion));
+        assertEquals(List.of("1", "2"), consultar("SELECT version FROM historial_esquema ORDER BY version"));
+        assertTrue(consultar("SELECT name FROM sqlite_master WHERE type = 'table'")
+            .containsAll(List.of("sesiones", "estados_estrategias", "preguntas_sesion", "estadisticas_usuario")));
+
+        assertEquals(0, migrador.migrar(conexion));
+        assertEquals(2, migrador.getVersionActual());
+        assertTrue(conexion.getAutoCommit());
+    }
+
+    @Test
+    @DisplayName("Debería usar los índices en las consultas frecuentes")
+    void deberiaUsarIndices() throws Exception {
+        new MigradorEsquema().migrar(conexion);
+
+        assertTrue(consultar("EXPLAIN QUERY PLAN SELECT * FROM preguntas_sesion WHERE sesion_id = 1 AND pregunta_id = 'p1'")
+            .get(0).contains("ix_preguntas_sesion_sesion_pregunta"));
+        assertTrue(consultar("EXPLAIN QUERY PLAN SELECT * FROM sesiones WHERE curso_id = 'c' AND bloque_id = 'b' "
+            + "ORDER BY fecha_inicio DESC").get(0).contains("ix_sesiones_curso_bloque_inicio"));
+        assertTrue(consultar("EXPLAIN QUERY PLAN SELECT * FROM estadisticas_usuario WHERE usuario_id = 'u' AND curso_id = 'c'")
+            .get(0).contains("ux_estadisticas_usuario_usuario_curso"));
+    }
+
+    @Test
+    @DisplayName("Debería adoptar una base de datos anterior fusionando las estadísticas duplicadas")
+    void deberiaMigrarBaseDeDatosAnterior() throws Exception {
+        ejecutar("CREATE TABLE estadisticas_usuario (id integer, created_at timestamp, curso_id varchar(255) not null, "
+            + "fecha_primera_sesion timestamp, fecha_ultima_sesion timestamp, mejor_racha_dias integer, "
+            + "racha_actual_dias integer, sesiones_completadas integer, tiempo_total integer, updated_at timestamp, "
+            + "usuario_id varchar(255) not null, primary key (id))");
+        ejecutar("INSERT INTO estadisticas_usuario (usuario_id, curso_id, tiempo_total, sesiones_completadas, mejor_racha_dias) "
+            + "VALUES ('u', 'c', 100, 1, 5), ('u', 'c', 50, 2, 3), ('u', 'otro', 10, 1, 1)");
+
+        assertEquals(2, new MigradorEsquema().migrar(conexion));
+
+        assertEquals(List.of("150"), consultar("SELECT tiempo_total FROM estadisticas_usuario WHERE curso_id = 'c'"));
+        assertEquals(List.of("3"), consultar("SELECT sesiones_completadas FROM estadisticas_usuario WHERE curso_id = 'c'"));
+        assertEquals(List.of("5"), consultar("SELECT mejor_racha_dias FROM estadisticas_usuario WHERE curso_id = 'c'"));
+        assertEquals(List.of("10"), consultar("SELECT tiempo_total FROM estadisticas_usuario WHERE curso_id = 'otro'"));
+        assertThrows(SQLException.class,
+            () -> ejecutar("INSERT INTO estadisticas_usuario (usuario_id, curso_id) VALUES ('u', 'c')"));
+    }
+
+    @Test
+    @DisplayName("Debería detectar una migración modificada después de aplicarse")
+    void deberiaDetectarChecksumDistinto() throws Exception {
+        new MigradorEsquema(List.of(Migracion.de("V1__tabla.sql", "CREATE TABLE t (id integer);"))).migrar(conexion);
+
+        MigradorEsquema modificado = new MigradorEsquema(
+            List.of(Migracion.de("V1__tabla.sql", "CREATE TABLE t (id integer, nombre text);")));
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> modificado.migrar(conexion));
+        assertTrue(error.getMessage().contains("V1__tabla.sql"));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una base de datos con migraciones desconocidas")
+    void deberiaRechazarMigracionDesconocida() throws Exception {
+        new MigradorEsquema(List.of(
+            Migracion.de("V1__tabla.sql", "CREATE TABLE t (id integer);"),
+            Migracion.de("V2__otra.sql", "CREATE TABLE o (id integer);"))).migrar(conexion);
+
+        MigradorEsquema anterior = new MigradorEsquema(
+            List.of(Migracion.de("V1__tabla.sql", "CREATE TABLE t (id integer);")));
+        assertThrows(IllegalStateException.class, () -> anterior.migrar(conexion));
+    }
+
+    @Test
+    @DisplayName("Debería deshacer una migración que falla sin registrarla")
+    void deberiaDeshacerMigracionFallida() throws Exception {
+        MigradorEsquema migrador = new MigradorEsquema(List.of(
+            Migracion.de("V1__tabla.sql", "CREATE TABLE t (id integer);"),
+            Migracion.de("V2__rota.sql", "CREATE TABLE parcial (id integer);\nINSERT INTO inexistente VALUES (1);")));
+
+        SQLException error = assertThrows(SQLException.class, () -> migrador.migrar(conexion));
+        assertTrue(error.getMessage().contains("V2__rota.sql"));
+        assertEquals(List.of("1"), consultar("SELECT version FROM historial_esquema"));
+        assertTrue(consultar("SELECT name FROM sqlite_master WHERE name = 'parcial'").isEmpty());
+        assertTrue(conexion.getAutoCommit());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar versiones duplicadas y nombres no válidos")
+    void deberiaValidarMigraciones() {
+        assertThrows(IllegalArgumentException.class, () -> new MigradorEsquema(List.of(
+            Migracion.de("V1__a.sql", "SELECT 1;"), Migracion.de("V1__b.sql", "SELECT 2;"))));
+        assertThrows(IllegalArgumentException.class, () -> Migracion.de("1_sin_version.sql", "SELECT 1;"));
+    }
+
+    @Test
+    @DisplayName("Debería separar sentencias sin comentarios y normalizar los saltos de línea")
+    void deberiaSepararSentencias() {
+        Migracion unix = Migracion.de("V3__indices_varios.sql", "-- comentario; ignorado\nCREATE INDEX a ON t (x);\n\nCREATE INDEX b ON t (y);\n");
+        Migracion windows = Migracion.de("V3__indices_varios.sql", "-- comentario; ignorado\r\nCREATE INDEX a ON t (x);\r\n\r\nCREATE INDEX b ON t (y);\r\n");
+
+        assertEquals(List.of("CREATE INDEX a ON t (x)", "CREATE INDEX b ON t (y)"), unix.getSentencias());
+        assertEquals(unix.getChecksum(), windows.getChecksum());
+        assertEquals(3, unix.getVersion());
+        assertEquals("indices varios", unix.getDescripcion());
+    }
+}
@@ -40,6 +40,9 @@ public class PersistenceTest {
     private static Long preguntaSesionId;
     private static Long estadisticasUsuarioId;
     
+    /** Usuario de las estadísticas de prueba (único por usuario y curso) */
+    private static final String USUARIO_TEST = "usuario_test";
+    
     @BeforeAll
     static void setUp() {
         logger.info("Inicializando pruebas de persistencia...");
@@ -57,6 +60,9 @@ public class PersistenceTest {
             preguntaSesionRepository = new PreguntaSesionRepository(entityManager);
             estadisticasUsuarioRepository = new EstadisticasUsuarioRepository(entityManager);
             
+            // Restos de una ejecución anterior que no llegó a limpiar sus datos
+            eliminarEstadisticasDePrueba();
+            
             logger.info("Pruebas de persistencia inicializadas correctamente");
             
         } catch (Exception e) {
@@ -71,6 +77,7 @@ public class PersistenceTest {
         
         try {
             if (entityManager != null && entityManager.isOpen()) {
+                eliminarEstadisticasDePrueba();
                 entityManager.close();
             }
             PersistenceConfig.shutdown();
@@ -80,6 +87,23 @@ public class PersistenceTest {
         }
     }
     
+    /**
+     * Elimina las estadísticas del usuario de prueba para que las pruebas se
+     * puedan repetir sobre la misma base de datos, aunque se ejecuten por
+     * separado o fallen antes de {@link #testLimpiarDatos()}.
+     */
+    private static void eliminarEstadisticasDePrueba() {
+        EntityTransaction transaction = entityManager.getTransaction();
+        transaction.begin();
+        try {
+            estadisticasUsuarioRepository.eliminarPorUsuario(USUARIO_TEST);
+            transaction.commit();
+        } catch (RuntimeException e) {
+            transaction.rollback();
+            throw e;
+        }
+    }
+    
     @Test
     @Order(1)
     @DisplayName("Crear y guardar una sesión")
@@ -240,7 +264,7 @@ public class PersistenceTest {
         try {
             // Crear estadísticas de usuario
             EstadisticasUsuario estadisticasUsuario = new EstadisticasUsuario();
-            estadisticasUsuario.setUsuarioId("usuario_test");
+            estadisticasUsuario.setUsuarioId(USUARIO_TEST);
             estadisticasUsuario.setCursoId("curso_test");
             estadisticasUsuario.setTiempoTotal(1800); // 30 minutos
             estadisticasUsuario.setSesionesCompletadas(1);
@@ -0,0 +1,150 @@
+package com.kursor.persistence.writer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de DiarioRespuestas")
+class DiarioRespuestasTest {
+
+    private static final LocalDateTime INSTANTE = LocalDateTime.of(2025, 3, 1, 10, 30, 15, 123_000_000);
+
+    @TempDir
+    Path tempDir;
+
+    private Path ruta;
+
+    @BeforeEach
+    void setUp() {
+        ruta = tempDir.resolve("kursor.db" + DiarioRespuestas.SUFIJO);
+    }
+
+    private static RespuestaPendiente respuesta(String preguntaId, int respondidas) {
+        return RespuestaPendiente.respuesta(7, preguntaId, respondidas % 2 == 0, respondidas, INSTANTE,
+            respondidas, respondidas / 2);
+    }
+
+    private static List<String> preguntas(List<RespuestaPendiente> respuestas) {
+        return respuestas.stream().map(r -> r.isSoloEstadisticas() ? "-" : r.getPreguntaId()).toList();
+    }
+
+    @Test
+    @DisplayName("Debería recuperar las escrituras no confirmadas con todos sus datos")
+    void deberiaRecuperarEscrituras() throws IOException {
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            assertTrue(diario.getRecuperadas().isEmpty());
+            diario.anotar(respuesta("p1", 1));
+            diario.anotar(RespuestaPendiente.estadisticas(7, INSTANTE, 1, 0));
+            diario.anotar(respuesta("pregunta-ñ", 2));
+            diario.sincronizar();
+            diario.confirmar(1);
+        }
+
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            List<RespuestaPendiente> recuperadas = diario.getRecuperadas();
+            assertEquals(List.of("-", "pregunta-ñ"), preguntas(recuperadas));
+            assertEquals(2, diario.getPendientes());
+
+            RespuestaPendiente ultima = recuperadas.get(1);
+            assertEquals(7, ultima.getSesionId());
+            assertTrue(ultima.isCorrecta());
+            assertEquals(2, ultima.getTiempo());
+            assertEquals(INSTANTE, ultima.getInstante());
+            assertEquals(2, ultima.getPreguntasRespondidas());
+            assertEquals(1, ultima.getAciertos());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería truncar el diario al confirmar todas las escrituras y eliminarlo al cerrar")
+    void deberiaTruncarAlConfirmar() throws IOException {
+        DiarioRespuestas diario = DiarioRespuestas.abrir(ruta);
+        diario.anotar(respuesta("p1", 1));
+        diario.anotar(respuesta("p2", 2));
+        assertTrue(diario.getTamano() > 0);
+
+        diario.confirmar(2);
+        assertEquals(0, diario.getTamano());
+        assertEquals(0, Files.size(ruta));
+
+        diario.close();
+        assertFalse(Files.exists(ruta));
+    }
+
+    @Test
+    @DisplayName("Debería ignorar un registro final incompleto o dañado")
+    void deberiaIgnorarRegistroIncompleto() throws IOException {
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            diario.anotar(respuesta("p1", 1));
+            diario.anotar(respuesta("p2", 2));
+        }
+        byte[] completo = Files.readAllBytes(ruta);
+        Files.write(ruta, List.of("basura"), StandardOpenOption.APPEND);
+
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            assertEquals(List.of("p1", "p2"), preguntas(diario.getRecuperadas()));
+        }
+
+        // Un byte cambiado en el segundo registro invalida su CRC
+        completo[completo.length - 10] ^= 0x5A;
+        Files.write(ruta, completo);
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            assertEquals(List.of("p1"), preguntas(diario.getRecuperadas()));
+        }
+    }
+
+    @Test
+    @DisplayName("Debería conservar el diario completo tras descartar un lote")
+    void deberiaRetenerTrasDescartar() throws IOException {
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            diario.anotar(respuesta("p1", 1));
+            diario.anotar(respuesta("p2", 2));
+            diario.anotar(respuesta("p3", 3));
+
+            diario.retener();
+            diario.confirmar(2);
+            diario.confirmar(1);
+            assertEquals(0, diario.getPendientes());
+        }
+
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            assertEquals(List.of("p1", "p2", "p3"), preguntas(diario.getRecuperadas()));
+            diario.confirmar(3);
+        }
+        assertFalse(Files.exists(ruta));
+    }
+
+    @Test
+    @DisplayName("Debería compactar el diario cuando el prefijo confirmado es grande")
+    void deberiaCompactar() throws IOException {
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            int total = 0;
+            while (diario.getTamano() < DiarioRespuestas.UMBRAL_COMPACTACION) {
+                diario.anotar(respuesta("p" + total, total));
+                total++;
+            }
+            diario.anotar(respuesta("ultima", 1));
+
+            diario.confirmar(total);
+            assertEquals(1, diario.getPendientes());
+            assertTrue(diario.getTamano() < 100);
+            assertEquals(diario.getTamano(), Files.size(ruta));
+
+            diario.anotar(respuesta("nueva", 2));
+        }
+
+        try (DiarioRespuestas diario = DiarioRespuestas.abrir(ruta)) {
+            assertEquals(List.of("ultima", "nueva"), preguntas(diario.getRecuperadas()));
+        }
+    }
+}
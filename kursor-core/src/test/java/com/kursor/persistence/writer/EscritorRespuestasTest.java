@@ -0,0 +1,225 @@
+package com.kursor.persistence.writer;
+
+import com.kursor.persistence.config.PerfilPersistencia;
+import com.kursor.persistence.config.PoolConexionesSQLite;
+import com.kursor.persistence.config.ProveedorConexionesSQLite;
+import com.kursor.persistence.entity.PreguntaSesion;
+import com.kursor.persistence.entity.Sesion;
+import com.kursor.persistence.migration.MigradorEsquema;
+import com.kursor.persistence.repository.PreguntaSesionRepository;
+import com.kursor.persistence.repository.SesionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de EscritorRespuestas")
+class EscritorRespuestasTest {
+
+    private static final Duration ESPERA = Duration.ofSeconds(10);
+
+    @TempDir
+    File tempDir;
+
+    private PoolConexionesSQLite pool;
+    private EntityManagerFactory entityManagerFactory;
+    private EscritorRespuestas escritor;
+    private long sesionId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = new PoolConexionesSQLite(new File(tempDir, "kursor.db").getPath(), PerfilPersistencia.CONCURRENTE);
+        try (Connection conexion = pool.obtenerEscritura()) {
+            new MigradorEsquema().migrar(conexion);
+        }
+        entityManagerFactory = Persistence.createEntityManagerFactory("kursorPU", Map.of(
+            "hibernate.connection.provider_class", new ProveedorConexionesSQLite(pool, false),
+            "hibernate.hbm2ddl.auto", "none"));
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        sesionId = new SesionRepository(entityManager).guardar(new Sesion("curso", "bloque", "Secuencial")).getId();
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (escritor != null) {
+            escritor.close();
+        }
+        entityManagerFactory.close();
+        pool.close();
+    }
+
+    private EscritorRespuestas crearEscritor(int tamanoLote, Duration intervalo) {
+        escritor = new EscritorRespuestas(entityManagerFactory::createEntityManager, tamanoLote, intervalo);
+        return escritor;
+    }
+
+    private static RespuestaPendiente respuesta(long sesionId, String preguntaId, boolean correcta,
+                                                int respondidas, int aciertos) {
+        return RespuestaPendiente.respuesta(sesionId, preguntaId, correcta, 3, LocalDateTime.now(), respondidas, aciertos);
+    }
+
+    private List<PreguntaSesion> preguntasGuardadas() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return new PreguntaSesionRepository(entityManager).buscarPorSesion(sesionId);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private Sesion sesionGuardada() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return new SesionRepository(entityManager).buscarPorId(sesionId).orElseThrow();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería agrupar las respuestas en un lote y quedarse con la última de cada pregunta")
+    void deberiaAgruparRespuestas() throws Exception {
+        crearEscritor(100, Duration.ofSeconds(5));
+        escritor.encolar(respuesta(sesionId, "p1", false, 1, 0));
+        escritor.encolar(respuesta(sesionId, "p2", true, 2, 1));
+        escritor.encolar(respuesta(sesionId, "p1", true, 2, 2));
+
+        assertTrue(escritor.vaciar(ESPERA));
+        assertEquals(1, escritor.getLotes());
+        assertEquals(0, escritor.getPendientes());
+
+        List<PreguntaSesion> preguntas = preguntasGuardadas();
+        assertEquals(2, preguntas.size());
+        assertTrue(preguntas.stream().allMatch(PreguntaSesion::esCorrecta));
+        assertEquals(3, preguntas.get(0).getTiempoDedicado());
+
+        Sesion sesion = sesionGuardada();
+        assertEquals(2, sesion.getPreguntasRespondidas());
+        assertEquals(2, sesion.getAciertos());
+        assertEquals(100.0, sesion.getTasaAciertos());
+    }
+
+    @Test
+    @DisplayName("Debería escribir al cumplirse el intervalo sin necesidad de vaciar")
+    void deberiaEscribirTrasIntervalo() throws Exception {
+        crearEscritor(100, Duration.ofMillis(20));
+        escritor.encolar(respuesta(sesionId, "p1", true, 1, 1));
+
+        long limite = System.nanoTime() + ESPERA.toNanos();
+        while (escritor.getPendientes() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, escritor.getPendientes());
+        assertEquals(1, preguntasGuardadas().size());
+    }
+
+    @Test
+    @DisplayName("Debería dividir las escrituras en lotes del tamaño configurado")
+    void deberiaRespetarTamanoLote() throws Exception {
+        crearEscritor(2, Duration.ofSeconds(5));
+        for (int i = 1; i <= 5; i++) {
+            escritor.encolar(respuesta(sesionId, "p" + i, i % 2 == 0, i, i / 2));
+        }
+
+        assertTrue(escritor.vaciar(ESPERA));
+        assertEquals(3, escritor.getLotes());
+        assertEquals(5, preguntasGuardadas().size());
+        assertEquals(5, sesionGuardada().getPreguntasRespondidas());
+    }
+
+    @Test
+    @DisplayName("Debería encolar sin esperar aunque la base de datos esté ocupada")
+    void deberiaEncolarSinEsperar() throws Exception {
+        crearEscritor(100, Duration.ZERO);
+        try (Connection ocupada = pool.obtenerEscritura()) {
+            long inicio = System.nanoTime();
+            for (int i = 0; i < 50; i++) {
+                escritor.encolar(respuesta(sesionId, "p" + i, true, i + 1, i + 1));
+            }
+            assertTrue(Duration.ofNanos(System.nanoTime() - inicio).toMillis() < 1000);
+            assertFalse(escritor.vaciar(Duration.ofMillis(100)));
+        }
+
+        assertTrue(escritor.vaciar(ESPERA));
+        assertEquals(50, preguntasGuardadas().size());
+        assertEquals(0, escritor.getDescartadas());
+    }
+
+    @Test
+    @DisplayName("Debería actualizar solo las estadísticas y descartar las de sesiones inexistentes")
+    void deberiaActualizarEstadisticas() throws Exception {
+        crearEscritor(100, Duration.ofSeconds(5));
+        escritor.encolar(RespuestaPendiente.estadisticas(sesionId, LocalDateTime.now(), 4, 1));
+        escritor.encolar(respuesta(sesionId + 1000, "p1", true, 1, 1));
+
+        assertTrue(escritor.vaciar(ESPERA));
+        assertTrue(preguntasGuardadas().isEmpty());
+        assertEquals(4, sesionGuardada().getPreguntasRespondidas());
+        assertEquals(25.0, sesionGuardada().getTasaAciertos());
+    }
+
+    @Test
+    @DisplayName("Debería escribir lo pendiente al cerrarse y rechazar escrituras después")
+    void deberiaEscribirAlCerrar() {
+        crearEscritor(100, Duration.ofSeconds(30));
+        escritor.encolar(respuesta(sesionId, "p1", true, 1, 1));
+        escritor.close();
+
+        assertEquals(1, preguntasGuardadas().size());
+        assertThrows(IllegalStateException.class, () -> escritor.encolar(respuesta(sesionId, "p2", true, 2, 2)));
+    }
+
+    @Test
+    @DisplayName("Debería recuperar del diario las respuestas que no llegaron a escribirse")
+    void deberiaRecuperarDelDiario() throws Exception {
+        Path ruta = new File(tempDir, "kursor.db" + DiarioRespuestas.SUFIJO).toPath();
+
+        // Simula un cierre inesperado: el hilo escritor se queda detenido antes de escribir
+        CountDownLatch nuncaLiberado = new CountDownLatch(1);
+        EscritorRespuestas interrumpido = new EscritorRespuestas(() -> {
+            try {
+                nuncaLiberado.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Proceso terminado");
+        }, DiarioRespuestas.abrir(ruta), 100, Duration.ZERO);
+        interrumpido.encolar(respuesta(sesionId, "p1", false, 1, 0));
+        interrumpido.encolar(respuesta(sesionId, "p2", true, 2, 1));
+        assertFalse(interrumpido.vaciar(Duration.ofMillis(100)));
+        assertTrue(Files.size(ruta) > 0);
+        assertTrue(preguntasGuardadas().isEmpty());
+
+        DiarioRespuestas diario = DiarioRespuestas.abrir(ruta);
+        assertEquals(2, diario.getRecuperadas().size());
+        escritor = new EscritorRespuestas(entityManagerFactory::createEntityManager, diario, 100, Duration.ofSeconds(5));
+
+        assertEquals(0, escritor.getPendientes());
+        assertEquals(2, preguntasGuardadas().size());
+        assertEquals(2, sesionGuardada().getPreguntasRespondidas());
+        assertEquals(0, diario.getTamano());
+
+        escritor.close();
+        assertFalse(Files.exists(ruta));
+    }
+}
@@ -0,0 +1,81 @@
+package com.kursor.presentation.controllers;
+
+import com.kursor.persistence.entity.Sesion;
+import com.kursor.persistence.repository.EstadoEstrategiaRepository;
+import com.kursor.persistence.repository.PreguntaSesionRepository;
+import com.kursor.persistence.repository.SesionRepository;
+import com.kursor.persistence.writer.EscritorRespuestas;
+import com.kursor.persistence.writer.RespuestaPendiente;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests para CursoSessionManager con escritor de respuestas en segundo plano
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class CursoSessionManagerTest {
+
+    @Mock
+    private SesionRepository sesionRepository;
+
+    @Mock
+    private PreguntaSesionRepository preguntaSesionRepository;
+
+    @Mock
+    private EstadoEstrategiaRepository estadoEstrategiaRepository;
+
+    @Mock
+    private EscritorRespuestas escritorRespuestas;
+
+    private CursoSessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        when(sesionRepository.guardar(any(Sesion.class))).thenAnswer(invocacion -> {
+            Sesion sesion = invocacion.getArgument(0);
+            sesion.setId(42L);
+            return sesion;
+        });
+        when(preguntaSesionRepository.buscarPorSesion(42L)).thenReturn(List.of());
+
+        sessionManager = new CursoSessionManager("curso", "bloque", "Secuencial", sesionRepository,
+            preguntaSesionRepository, estadoEstrategiaRepository, escritorRespuestas);
+        sessionManager.inicializar();
+    }
+
+    @Test
+    void testGuardarRespuestaEncolaTiempoMedido() throws Exception {
+        Thread.sleep(1100);
+        sessionManager.guardarRespuesta("p1", true);
+        sessionManager.guardarRespuesta("p2", false);
+
+        ArgumentCaptor<RespuestaPendiente> captor = ArgumentCaptor.forClass(RespuestaPendiente.class);
+        verify(escritorRespuestas, times(2)).encolar(captor.capture());
+        verifyNoMoreInteractions(preguntaSesionRepository);
+
+        RespuestaPendiente primera = captor.getAllValues().get(0);
+        assertEquals(42L, primera.getSesionId());
+        assertEquals("p1", primera.getPreguntaId());
+        assertTrue(primera.getTiempo() >= 1);
+        assertEquals(1, primera.getAciertos());
+
+        RespuestaPendiente segunda = captor.getAllValues().get(1);
+        assertEquals(0, segunda.getTiempo());
+        assertEquals(2, segunda.getPreguntasRespondidas());
+        assertEquals(1, segunda.getAciertos());
+    }
+}
@@ -0,0 +1,213 @@
+package com.kursor.presentation.views;
+
+import com.kursor.domain.Pregunta;
+import com.kursor.modules.PreguntaModule;
+import com.kursor.modules.PreguntaModuleUI;
+import com.kursor.presentation.controllers.PreguntaEventListener;
+import com.kursor.shared.util.CargadorPlugins;
+import com.kursor.shared.util.PluginCambioEvento;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import javafx.scene.Node;
+import javafx.scene.layout.VBox;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests para VistasModulos y la separación entre el SPI de módulos y su interfaz
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ */
+class VistasModulosTest {
+
+    /** Módulo compilado durante la prueba para que solo exista dentro de su JAR */
+    private static final String MODULO_PLUGIN =
+        "package kursor.prueba;\n" +
+        "public class ModuloRecargable implements com.kursor.modules.PreguntaModule,\n" +
+        "        com.kursor.modules.PreguntaModuleUI {\n" +
+        "    public String getQuestionType() { return \"recargable\"; }\n" +
+        "    public String getModuleName() { return \"Recargable\"; }\n" +
+        "    public String getModuleDescription() { return \"Módulo de prueba\"; }\n" +
+        "    public String getIcon() { return \"?\"; }\n" +
+        "    public com.kursor.domain.Pregunta parsePregunta(java.util.Map<String, Object> datos) { return null; }\n" +
+        "    public boolean validarRespuesta(com.kursor.domain.Pregunta p, Object r) { return false; }\n" +
+        "    public javafx.scene.Node createQuestionView(com.kursor.domain.Pregunta p) { return null; }\n" +
+        "    public void configureCompleteUI(com.kursor.domain.Pregunta p, javafx.scene.layout.VBox h,\n" +
+        "            javafx.scene.layout.VBox c, javafx.scene.layout.VBox f,\n" +
+        "            com.kursor.presentation.controllers.PreguntaEventListener l) { }\n" +
+        "    public void mostrarResultado(com.kursor.domain.Pregunta p, boolean e, Object r,\n" +
+        "            javafx.scene.layout.VBox c) { }\n" +
+        "}\n";
+
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    void tearDown() {
+        VistasModulos.limpiar();
+    }
+
+    @Test
+    void testSpiDeModulosNoDependeDeJavaFX() {
+        for (Method metodo : PreguntaModule.class.getMethods()) {
+            assertFalse(metodo.getReturnType().getName().startsWith("javafx."), metodo.toString());
+            for (Parameter parametro : metodo.getParameters()) {
+                assertFalse(parametro.getType().getName().startsWith("javafx."), metodo.toString());
+            }
+        }
+    }
+
+    @Test
+    void testModuloQueImplementaSuInterfaz() {
+        ModuloConInterfaz modulo = new ModuloConInterfaz();
+
+        assertSame(modulo, VistasModulos.para(modulo));
+    }
+
+    @Test
+    void testModuloSinInterfaz() {
+        PreguntaModule modulo = mock(PreguntaModule.class);
+        when(modulo.getQuestionType()).thenReturn("sin-interfaz");
+
+        assertNull(VistasModulos.para(modulo));
+        assertNull(VistasModulos.para(modulo));
+
+        verify(modulo, times(1)).getQuestionType();
+    }
+
+    @Test
+    void testModuloNulo() {
+        assertThrows(IllegalArgumentException.class, () -> VistasModulos.para(null));
+    }
+
+    @Test
+    void testRecargaLiberaClassLoaderAnterior() throws Exception {
+        File plugins = new File(tempDir, "plugins");
+        File jar = crearJarModulo(plugins);
+        CargadorPlugins<PreguntaModule> cargador = new CargadorPlugins<>("módulos", PreguntaModule.class, plugins,
+            PreguntaModule::getQuestionType, modulo -> true, descriptor -> null);
+        cargador.setTiempoMaximo(1_000);
+        cargador.addPluginCambioListener(VistasModulos::pluginCambiado);
+        cargador.cargarTodos();
+
+        WeakReference<ClassLoader> anterior = resolverVista(cargador);
+
+        assertEquals(PluginCambioEvento.Tipo.REEMPLAZADO, cargador.recargar(jar).getTipo());
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (anterior.get() != null && System.nanoTime() < limite) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(anterior.get(), "La interfaz guardada retiene el ClassLoader del plugin sustituido");
+        assertNotNull(resolverVista(cargador).get());
+    }
+
+    /**
+     * Resuelve la interfaz del módulo cargado sin dejar referencias en la pila
+     * del test.
+     */
+    private static WeakReference<ClassLoader> resolverVista(CargadorPlugins<PreguntaModule> cargador) {
+        PreguntaModule modulo = cargador.obtener("recargable");
+        assertSame(modulo, VistasModulos.para(modulo));
+        assertNotSame(VistasModulosTest.class.getClassLoader(), modulo.getClass().getClassLoader());
+        return new WeakReference<>(modulo.getClass().getClassLoader());
+    }
+
+    /**
+     * Compila {@link #MODULO_PLUGIN} y lo empaqueta como plugin de módulos.
+     */
+    private File crearJarModulo(File plugins) throws Exception {
+        File fuentes = new File(tempDir, "fuentes/kursor/prueba");
+        File clases = new File(tempDir, "clases");
+        assertTrue(fuentes.mkdirs() && clases.mkdirs() && plugins.mkdirs());
+        File fuente = new File(fuentes, "ModuloRecargable.java");
+        Files.writeString(fuente.toPath(), MODULO_PLUGIN);
+
+        JavaCompiler compilador = ToolProvider.getSystemJavaCompiler();
+        String classpath = String.join(File.pathSeparator,
+            ubicacion(PreguntaModule.class), ubicacion(Node.class), ubicacion(javafx.event.EventTarget.class));
+        assertEquals(0, compilador.run(null, null, null, "-encoding", "UTF-8", "-classpath", classpath,
+                                       "-d", clases.getPath(), fuente.getPath()));
+
+        File jar = new File(plugins, "kursor-recargable-module.jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("META-INF/services/" + PreguntaModule.class.getName()));
+            out.write("kursor.prueba.ModuloRecargable\n".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+            out.putNextEntry(new JarEntry("kursor/prueba/ModuloRecargable.class"));
+            out.write(Files.readAllBytes(new File(clases, "kursor/prueba/ModuloRecargable.class").toPath()));
+            out.closeEntry();
+        }
+        return jar;
+    }
+
+    private static String ubicacion(Class<?> clase) throws Exception {
+        return new File(clase.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    }
+
+    /** Módulo de una sola clase que aporta también su interfaz */
+    private static final class ModuloConInterfaz implements PreguntaModule, PreguntaModuleUI {
+
+        @Override
+        public String getQuestionType() {
+            return "prueba";
+        }
+
+        @Override
+        public String getModuleName() {
+            return "Prueba";
+        }
+
+        @Override
+        public String getModuleDescription() {
+            return "Módulo de prueba";
+        }
+
+        @Override
+        public String getIcon() {
+            return "?";
+        }
+
+        @Override
+        public Pregunta parsePregunta(Map<String, Object> datos) {
+            return null;
+        }
+
+        @Override
+        public boolean validarRespuesta(Pregunta pregunta, Object respuesta) {
+            return false;
+        }
+
+        @Override
+        public Node createQuestionView(Pregunta pregunta) {
+            return null;
+        }
+
+        @Override
+        public void configureCompleteUI(Pregunta pregunta, VBox headerContainer, VBox contentContainer,
+                                        VBox footerContainer, PreguntaEventListener eventListener) {
+        }
+
+        @Override
+        public void mostrarResultado(Pregunta pregunta, boolean esCorrecta, Object respuesta, VBox contenedor) {
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.kursor.service;
+
+import com.kursor.domain.BloqueBajoDemanda;
+import com.kursor.domain.Curso;
+import com.kursor.yaml.dto.CursoPreviewDTO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de CatalogoPack")
+class CatalogoPackTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File pack;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        escribir("curso_b/curso_b.yaml",
+            "titulo: \"Curso B\"\n" +
+            "descripcion: \"Segundo\"\n" +
+            "bloques:\n" +
+            "  - id: b1\n" +
+            "    titulo: \"Bloque 1\"\n" +
+            "    tipo: test\n" +
+            "    preguntas:\n" +
+            "      - id: p1\n" +
+            "        enunciado: \"Uno\"\n" +
+            "      - id: p2\n" +
+            "        enunciado: \"Dos\"\n");
+        escribir("curso_a/curso_a.yaml", "titulo: \"Curso A\"\n");
+        escribir("curso_a/bloques/01-inicio.yaml",
+            "titulo: \"Inicio\"\n" +
+            "preguntas:\n" +
+            "  - id: p1\n" +
+            "    tipo: flashcard\n");
+
+        pack = tempDir.resolve("catalogo.kpak").toFile();
+        assertEquals(2, new CatalogoPackWriter().empaquetar(tempDir.toFile(), pack));
+    }
+
+    @Test
+    @DisplayName("Debería ofrecer las vistas previas ordenadas y con recuento")
+    void deberiaOfrecerVistasPrevias() throws IOException {
+        CatalogoPack catalogo = new CatalogoPack(pack);
+
+        List<CursoPreviewDTO> previews = catalogo.cargarPreviews();
+
+        assertEquals(2, previews.size());
+        assertEquals("curso_a", previews.get(0).getId());
+        assertEquals("Curso B", previews.get(1).getTitulo());
+        assertEquals("Segundo", previews.get(1).getDescripcion());
+        assertEquals(1, previews.get(1).getNumeroBloques());
+        assertEquals(2, previews.get(1).getNumeroPreguntas());
+        assertEquals(3, catalogo.getNumeroPreguntas());
+        assertNull(catalogo.cargarPreview("inexistente"));
+    }
+
+    @Test
+    @DisplayName("Debería cargar los cursos con bloques bajo demanda")
+    void deberiaCargarCursosBajoDemanda() throws IOException {
+        CatalogoPack catalogo = new CatalogoPack(pack);
+
+        Curso fragmentado = catalogo.cargarCurso("curso_a");
+        assertEquals("curso_a-01-inicio", fragmentado.getBloques().get(0).getId());
+        assertEquals("Inicio", fragmentado.getBloques().get(0).getTitulo());
+
+        Curso curso = catalogo.cargarCurso("curso_b");
+        assertEquals("Curso B", curso.getTitulo());
+        BloqueBajoDemanda bloque = (BloqueBajoDemanda) curso.getBloques().get(0);
+        assertEquals("curso_b-b1", bloque.getId());
+        assertEquals("test", bloque.getTipo());
+        assertEquals(2, bloque.getNumeroPreguntas());
+        assertFalse(bloque.isCargado());
+        assertNull(catalogo.cargarCurso("inexistente"));
+    }
+
+    @Test
+    @DisplayName("Debería construir las preguntas del bloque al acceder a él delegando en los módulos")
+    void deberiaConstruirPreguntasDelBloque() throws IOException {
+        CatalogoPack catalogo = new CatalogoPack(pack);
+        BloqueBajoDemanda bloque = (BloqueBajoDemanda) catalogo.cargarCurso("curso_b").getBloques().get(0);
+
+        // Sin módulos cargados la factory rechaza el tipo, heredado del bloque
+        RuntimeException error = assertThrows(RuntimeException.class, bloque::getPreguntas);
+        assertTrue(error.getMessage().contains("test"));
+        assertFalse(bloque.isCargado());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar archivos que no son catálogos")
+    void deberiaRechazarArchivosNoValidos() throws IOException {
+        File invalido = escribir("otro.kpak", "no es un catálogo, aunque ocupa más de cuarenta bytes");
+
+        assertThrows(IOException.class, () -> new CatalogoPack(invalido));
+    }
+
+    @Test
+    @DisplayName("Debería usar el catálogo empaquetado del directorio de cursos")
+    void deberiaUsarCatalogoEnCursoPreviewService() {
+        CursoPreviewService service = new CursoPreviewService(tempDir.toString());
+
+        assertNotNull(service.getCatalogoPack());
+        assertTrue(service.cargarPreviews().get(0).tieneRecuento());
+        assertEquals(2, service.cargarTodosLosCursosCompletos().size());
+    }
+
+    @Test
+    @DisplayName("Debería aislar los cursos dañados del catálogo al cargarlos todos")
+    void deberiaAislarCursosDanados() throws IOException {
+        // El identificador del bloque de curso_b apunta fuera de la tabla de cadenas
+        try (FileChannel canal = FileChannel.open(pack.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer cabecera = ByteBuffer.allocate(CatalogoPack.TAMANO_CABECERA);
+            canal.read(cabecera, 0);
+            int offsetBloques = cabecera.getInt(28);
+            canal.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE),
+                        offsetBloques + CatalogoPack.TAMANO_BLOQUE);
+        }
+        CursoPreviewService service = new CursoPreviewService(tempDir.toString(), 2);
+
+        List<Curso> cursos = service.cargarTodosLosCursosCompletos();
+
+        assertEquals(List.of("curso_a"), cursos.stream().map(Curso::getId).toList());
+        assertEquals(2, service.cargarCursosCompletos(List.of("curso_a", "inexistente", "curso_a")).size());
+    }
+
+    private File escribir(String ruta, String contenido) throws IOException {
+        Path archivo = tempDir.resolve(ruta);
+        Files.createDirectories(archivo.getParent());
+        Files.write(archivo, contenido.getBytes(StandardCharsets.UTF_8));
+        return archivo.toFile();
+    }
+}
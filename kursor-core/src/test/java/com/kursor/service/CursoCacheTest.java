@@ -0,0 +1,147 @@
+package com.kursor.service;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de CursoCache")
+class CursoCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File yamlFile;
+    private CursoCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        yamlFile = tempDir.resolve("curso_test.yaml").toFile();
+        Files.write(yamlFile.toPath(), "titulo: \"Curso\"\n".getBytes(StandardCharsets.UTF_8));
+        cache = new CursoCache(tempDir.resolve(CursoCache.CACHE_DIR).toFile());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción cuando el directorio es null")
+    void deberiaLanzarExcepcionCuandoDirectorioEsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new CursoCache(null));
+    }
+
+    @Test
+    @DisplayName("Debería retornar null cuando no hay entrada")
+    void deberiaRetornarNullSinEntrada() {
+        assertNull(cache.leer("curso_test", yamlFile));
+    }
+
+    @Test
+    @DisplayName("Debería recuperar los mismos datos que se guardaron")
+    void deberiaRecuperarDatosGuardados() {
+        Map<String, Object> datos = crearDatos();
+
+        cache.escribir("curso_test", yamlFile, datos);
+        Map<String, Object> leidos = cache.leer("curso_test", yamlFile);
+
+        assertEquals(datos, leidos);
+        // Los datos leídos deben poder modificarse como los del parser YAML
+        assertDoesNotThrow(() -> leidos.put("tipo", "test"));
+    }
+
+    @Test
+    @DisplayName("Debería invalidar la entrada cuando cambia el contenido del YAML")
+    void deberiaInvalidarEntradaCuandoCambiaContenido() throws IOException {
+        cache.escribir("curso_test", yamlFile, crearDatos());
+
+        Files.write(yamlFile.toPath(), "titulo: \"Curso modificado\"\n".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(cache.leer("curso_test", yamlFile));
+    }
+
+    @Test
+    @DisplayName("Debería reutilizar la entrada cuando solo cambia la fecha de modificación")
+    void deberiaReutilizarEntradaCuandoSoloCambiaFecha() throws IOException {
+        Map<String, Object> datos = crearDatos();
+        cache.escribir("curso_test", yamlFile, datos);
+
+        assertTrue(yamlFile.setLastModified(yamlFile.lastModified() - 60_000));
+
+        assertEquals(datos, cache.leer("curso_test", yamlFile));
+
+        // La cabecera se reescribe con la nueva fecha (magic, versión, tamaño, fecha)
+        byte[] entrada = Files.readAllBytes(cache.getCacheFile("curso_test").toPath());
+        assertEquals(yamlFile.lastModified(), ByteBuffer.wrap(entrada, 16, 8).getLong());
+        assertEquals(datos, cache.leer("curso_test", yamlFile));
+    }
+
+    @Test
+    @DisplayName("Debería tratar una entrada corrupta como fallo de caché")
+    void deberiaTratarEntradaCorruptaComoFallo() throws IOException {
+        cache.escribir("curso_test", yamlFile, crearDatos());
+        Files.write(cache.getCacheFile("curso_test").toPath(), new byte[] {1, 2, 3});
+
+        assertNull(cache.leer("curso_test", yamlFile));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar tamaños que no caben en la entrada sin reservar memoria")
+    void deberiaRechazarTamanosCorruptos() throws IOException {
+        Map<String, Object> datos = new LinkedHashMap<>();
+        datos.put("l", new ArrayList<>(List.of("a", "b")));
+        // Tras la cabecera de 56 bytes: marca y tamaño del mapa, longitud y
+        // bytes de la clave "l", marca y tamaño de la lista, y la primera cadena
+        int tamanoMapa = 57;
+        int tamanoLista = tamanoMapa + 4 + 4 + 1 + 1;
+        int longitudCadena = tamanoLista + 4 + 1;
+
+        for (int posicion : new int[] {tamanoMapa, tamanoLista, longitudCadena}) {
+            for (int tamano : new int[] {Integer.MAX_VALUE, -1}) {
+                cache.escribir("curso_test", yamlFile, datos);
+                Path cacheFile = cache.getCacheFile("curso_test").toPath();
+                byte[] bytes = Files.readAllBytes(cacheFile);
+                ByteBuffer.wrap(bytes).putInt(posicion, tamano);
+                Files.write(cacheFile, bytes);
+
+                assertNull(cache.leer("curso_test", yamlFile), "posición " + posicion + ", tamaño " + tamano);
+                IOException error = assertThrows(IOException.class, () -> CursoCache.leerValor(
+                    new DataInputStream(new ByteArrayInputStream(bytes, 56, bytes.length - 56)), bytes.length - 56));
+                assertTrue(error.getMessage().contains("inválido"), error.getMessage());
+            }
+        }
+
+        // La entrada se reconstruye al volver a escribirla
+        cache.escribir("curso_test", yamlFile, datos);
+        assertEquals(datos, cache.leer("curso_test", yamlFile));
+    }
+
+    private Map<String, Object> crearDatos() {
+        Map<String, Object> pregunta = new LinkedHashMap<>();
+        pregunta.put("id", "p1");
+        pregunta.put("enunciado", "¿Capital de Francia?");
+        pregunta.put("opciones", new ArrayList<>(List.of("París", "Roma")));
+        pregunta.put("puntos", 3);
+        pregunta.put("activa", true);
+        pregunta.put("peso", 0.5);
+        pregunta.put("pista", null);
+
+        Map<String, Object> bloque = new LinkedHashMap<>();
+        bloque.put("id", "bloque1");
+        bloque.put("preguntas", new ArrayList<>(List.of(pregunta)));
+
+        Map<String, Object> datos = new LinkedHashMap<>();
+        datos.put("titulo", "Curso");
+        datos.put("bloques", new ArrayList<>(List.of(bloque)));
+        return datos;
+    }
+}
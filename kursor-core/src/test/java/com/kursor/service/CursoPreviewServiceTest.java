@@ -4,11 +4,15 @@ import com.kursor.yaml.dto.CursoPreviewDTO;
 import com.kursor.factory.PreguntaFactory;
 import com.kursor.domain.Curso;
 import com.kursor.domain.Bloque;
+import com.kursor.domain.BloqueBajoDemanda;
 import com.kursor.domain.Pregunta;
 
 import org.junit.jupiter.api.*;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -103,6 +107,102 @@ class CursoPreviewServiceTest {
         assertEquals(TEST_CURSOS_DIR, service.getCursosDir());
     }
 
+    @Test
+    @DisplayName("Debería lanzar excepción cuando el paralelismo es menor que 1")
+    void deberiaLanzarExcepcionCuandoParalelismoEsInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CursoPreviewService(TEST_CURSOS_DIR, 0);
+        });
+    }
+
+    @Test
+    @DisplayName("Debería cargar cursos en paralelo en orden determinista")
+    void deberiaCargarCursosEnParaleloEnOrdenDeterminista() throws IOException {
+        crearCursoSinBloques("curso_c", "Curso C");
+        crearCursoSinBloques("curso_a", "Curso A");
+        crearCursoSinBloques("curso_d", "Curso D");
+        crearCursoSinBloques("curso_b", "Curso B");
+
+        CursoPreviewService paralelo = new CursoPreviewService(TEST_CURSOS_DIR, 3);
+        List<String> ids = paralelo.cargarTodosLosCursosCompletos().stream()
+            .map(Curso::getId)
+            .collect(Collectors.toList());
+
+        assertEquals(3, paralelo.getParalelismo());
+        assertEquals(List.of("curso_a", "curso_b", "curso_c", "curso_d"), ids);
+    }
+
+    @Test
+    @DisplayName("Debería aislar los errores de cursos individuales en la carga paralela")
+    void deberiaAislarErroresEnCargaParalela() throws IOException {
+        crearCursoSinBloques("curso_a", "Curso A");
+        crearArchivo("curso_roto", "curso_roto.yaml", "titulo: [sin cerrar\n");
+        crearCursoSinBloques("curso_z", "Curso Z");
+
+        CursoPreviewService paralelo = new CursoPreviewService(TEST_CURSOS_DIR, 4);
+        List<String> ids = paralelo.cargarTodosLosCursosCompletos().stream()
+            .map(Curso::getId)
+            .collect(Collectors.toList());
+
+        assertEquals(List.of("curso_a", "curso_z"), ids);
+    }
+
+    @Test
+    @DisplayName("Debería guardar los cursos en caché sin tratarla como un curso")
+    void deberiaGuardarCursosEnCacheSinTratarlaComoCurso() throws IOException {
+        crearCursoSinBloques("curso_a", "Curso A");
+
+        assertEquals(1, service.cargarTodosLosCursosCompletos().size());
+        assertTrue(new File(TEST_CURSOS_DIR, ".kursor-cache/curso_a.bin").isFile());
+
+        // Segunda carga desde caché: mismo resultado y sin cursos fantasma
+        List<Curso> cursos = service.cargarTodosLosCursosCompletos();
+        assertEquals(1, cursos.size());
+        assertEquals("Curso A", cursos.get(0).getTitulo());
+        assertEquals(1, service.cargarPreviews().size());
+    }
+
+    @Test
+    @DisplayName("Debería cargar un curso fragmentado con sus bloques bajo demanda")
+    void deberiaCargarCursoFragmentadoBajoDemanda() throws IOException {
+        crearCursoSinBloques("curso_f", "Curso F");
+        crearArchivo("curso_f/bloques", "02-verbos.yaml",
+            "titulo: \"Verbos\"\ntipo: test\npreguntas:\n  - id: p1\n  - id: p2\n");
+        crearArchivo("curso_f/bloques", "01-saludos.yaml",
+            "id: saludos\ntitulo: \"Saludos\"\npreguntas: []\n");
+
+        Curso curso = service.cargarCursoCompleto("curso_f");
+
+        assertNotNull(curso);
+        assertEquals("Curso F", curso.getTitulo());
+        assertEquals(2, curso.getBloques().size());
+        assertEquals("curso_f-saludos", curso.getBloques().get(0).getId());
+        assertEquals("curso_f-02-verbos", curso.getBloques().get(1).getId());
+        assertEquals("Verbos", curso.getBloques().get(1).getTitulo());
+        assertEquals(2, curso.getNumeroPreguntas());
+
+        BloqueBajoDemanda saludos = (BloqueBajoDemanda) curso.getBloques().get(0);
+        assertFalse(saludos.isCargado());
+
+        // Sin módulos las preguntas de "verbos" no se pueden crear: el error queda aislado
+        service.precargarBloques(curso);
+
+        assertTrue(saludos.isCargado());
+        assertFalse(((BloqueBajoDemanda) curso.getBloques().get(1)).isCargado());
+    }
+
+    private void crearCursoSinBloques(String id, String titulo) throws IOException {
+        crearArchivo(id, id + ".yaml", "id: " + id + "\ntitulo: \"" + titulo + "\"\ndescripcion: \"Prueba\"\n");
+    }
+
+    private void crearArchivo(String cursoId, String nombre, String contenido) throws IOException {
+        File cursoDir = new File(TEST_CURSOS_DIR, cursoId);
+        cursoDir.mkdirs();
+        try (FileWriter writer = new FileWriter(new File(cursoDir, nombre))) {
+            writer.write(contenido);
+        }
+    }
+
     private void cleanupTestFiles() {
         File testDir = new File(TEST_CURSOS_DIR);
         if (testDir.exists()) {
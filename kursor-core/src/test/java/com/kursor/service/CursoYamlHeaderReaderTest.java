@@ -0,0 +1,116 @@
+package com.kursor.service;
+
+import com.kursor.yaml.dto.CursoPreviewDTO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de CursoYamlHeaderReader")
+class CursoYamlHeaderReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final CursoYamlHeaderReader reader = new CursoYamlHeaderReader();
+
+    @Test
+    @DisplayName("Debería leer título y descripción sin recuento")
+    void deberiaLeerCabeceraSinRecuento() throws IOException {
+        File yaml = escribir(
+            "id: curso_ingles\n" +
+            "titulo: \"Inglés básico\"\n" +
+            "descripcion: \"Curso de iniciación\"\n" +
+            "bloques:\n" +
+            "  - id: b1\n" +
+            "    preguntas:\n" +
+            "      - id: p1\n");
+
+        CursoPreviewDTO preview = reader.leer("curso_ingles", yaml, false);
+
+        assertEquals("curso_ingles", preview.getId());
+        assertEquals("Inglés básico", preview.getTitulo());
+        assertEquals("Curso de iniciación", preview.getDescripcion());
+        assertFalse(preview.tieneRecuento());
+    }
+
+    @Test
+    @DisplayName("Debería dejar de leer tras la cabecera aunque el resto del archivo sea inválido")
+    void deberiaDetenerseTrasLaCabecera() throws IOException {
+        File yaml = escribir(
+            "titulo: \"Curso\"\n" +
+            "descripcion: \"Descripción\"\n" +
+            "bloques: [ {id: b1, preguntas: [\n");
+
+        CursoPreviewDTO preview = reader.leer("curso", yaml, false);
+
+        assertEquals("Curso", preview.getTitulo());
+    }
+
+    @Test
+    @DisplayName("Debería contar bloques y preguntas cuando se solicita")
+    void deberiaContarBloquesYPreguntas() throws IOException {
+        File yaml = escribir(
+            "titulo: \"Curso\"\n" +
+            "bloques:\n" +
+            "  - id: b1\n" +
+            "    preguntas:\n" +
+            "      - id: p1\n" +
+            "        opciones: [a, b]\n" +
+            "      - id: p2\n" +
+            "  - id: b2\n" +
+            "    extra: {x: [1, 2]}\n" +
+            "    preguntas:\n" +
+            "      - id: p3\n" +
+            "descripcion: \"Al final\"\n");
+
+        CursoPreviewDTO preview = reader.leer("curso", yaml, true);
+
+        assertEquals("Al final", preview.getDescripcion());
+        assertTrue(preview.tieneRecuento());
+        assertEquals(2, preview.getNumeroBloques());
+        assertEquals(3, preview.getNumeroPreguntas());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar IOException si la raíz no es un objeto")
+    void deberiaLanzarExcepcionSiRaizNoEsObjeto() throws IOException {
+        File yaml = escribir("- uno\n- dos\n");
+
+        assertThrows(IOException.class, () -> reader.leer("curso", yaml, false));
+    }
+
+    @Test
+    @DisplayName("Debería leer la cabecera de un bloque y contar sus preguntas")
+    void deberiaLeerCabeceraDeBloque() throws IOException {
+        File yaml = escribir(
+            "id: b1\n" +
+            "titulo: \"Saludos\"\n" +
+            "preguntas:\n" +
+            "  - id: p1\n" +
+            "    opciones: [a, b]\n" +
+            "  - id: p2\n" +
+            "tipo: test\n");
+
+        Map<String, Object> cabecera = reader.leerCabeceraBloque(yaml);
+
+        assertEquals("b1", cabecera.get("id"));
+        assertEquals("Saludos", cabecera.get("titulo"));
+        assertNull(cabecera.get("descripcion"));
+        assertEquals("test", cabecera.get("tipo"));
+        assertEquals(2, cabecera.get("numeroPreguntas"));
+    }
+
+    private File escribir(String contenido) throws IOException {
+        Path archivo = tempDir.resolve("curso.yaml");
+        Files.write(archivo, contenido.getBytes(StandardCharsets.UTF_8));
+        return archivo.toFile();
+    }
+}
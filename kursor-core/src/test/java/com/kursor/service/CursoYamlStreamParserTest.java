@@ -0,0 +1,283 @@
+package com.kursor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.kursor.domain.Bloque;
+import com.kursor.domain.Curso;
+import com.kursor.domain.Pregunta;
+import com.kursor.modules.CamposPregunta;
+import com.kursor.modules.PreguntaModule;
+import com.kursor.shared.util.CursoLruCache;
+import com.kursor.shared.util.ModuleManager;
+import com.kursor.shared.util.PoolCadenas;
+import com.kursor.yaml.dto.CursoDTO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Pruebas de CursoYamlStreamParser")
+class CursoYamlStreamParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final CursoYamlStreamParser parser = new CursoYamlStreamParser();
+
+    @Test
+    @DisplayName("Debería parsear cabecera y bloques en cualquier orden")
+    void deberiaParsearCabeceraYBloquesEnCualquierOrden() throws IOException {
+        File yaml = escribir(
+            "bloques:\n" +
+            "  - titulo: \"Vocabulario\"\n" +
+            "    id: bloque1\n" +
+            "    tipo: \"test\"\n" +
+            "  - id: bloque2\n" +
+            "    titulo: \"Frases\"\n" +
+            "titulo: \"Inglés básico\"\n" +
+            "descripcion: \"Curso de iniciación\"\n");
+
+        Curso curso = parser.parsear("curso_ingles", yaml);
+
+        assertEquals("curso_ingles", curso.getId());
+        assertEquals("Inglés básico", curso.getTitulo());
+        assertEquals("Curso de iniciación", curso.getDescripcion());
+        assertEquals(2, curso.getNumeroBloques());
+
+        Bloque primero = curso.getBloques().get(0);
+        assertEquals("curso_ingles-bloque1", primero.getId());
+        assertEquals("Vocabulario", primero.getTitulo());
+        assertEquals("test", primero.getTipo());
+        assertEquals(0, primero.getNumeroPreguntas());
+    }
+
+    @Test
+    @DisplayName("Debería saltar campos desconocidos sin afectar al resultado")
+    void deberiaSaltarCamposDesconocidos() throws IOException {
+        File yaml = escribir(
+            "id: curso\n" +
+            "metadatos:\n" +
+            "  autor: \"Alguien\"\n" +
+            "  etiquetas: [a, b, c]\n" +
+            "titulo: \"Curso\"\n" +
+            "bloques:\n" +
+            "  - id: b1\n" +
+            "    titulo: \"Bloque\"\n" +
+            "    extra: {x: 1, y: [1, 2]}\n");
+
+        Curso curso = parser.parsear("curso", yaml);
+
+        assertEquals("Curso", curso.getTitulo());
+        assertEquals(1, curso.getNumeroBloques());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar IOException si la raíz no es un objeto")
+    void deberiaLanzarExcepcionSiRaizNoEsObjeto() throws IOException {
+        File yaml = escribir("- uno\n- dos\n");
+
+        assertThrows(IOException.class, () -> parser.parsear("curso", yaml));
+    }
+
+    @Test
+    @DisplayName("Debería propagar el error cuando una pregunta no se puede crear")
+    void deberiaPropagarErrorDePregunta() throws IOException {
+        File yaml = escribir(
+            "titulo: \"Curso\"\n" +
+            "bloques:\n" +
+            "  - id: b1\n" +
+            "    titulo: \"Bloque\"\n" +
+            "    tipo: \"tipo_inexistente\"\n" +
+            "    preguntas:\n" +
+            "      - id: p1\n" +
+            "        enunciado: \"Pregunta\"\n");
+
+        assertThrows(RuntimeException.class, () -> parser.parsear("curso", yaml));
+    }
+
+    @Test
+    @DisplayName("Debería entregar los campos tipados al módulo sin construir un mapa por pregunta")
+    void deberiaEntregarCamposTipadosAlModulo() throws IOException {
+        PreguntaModule modulo = mock(PreguntaModule.class);
+        when(modulo.parsePregunta(any(CamposPregunta.class))).thenAnswer(invocacion -> {
+            CamposPregunta campos = invocacion.getArgument(0);
+            return new PreguntaOpciones(campos.getTexto("id"), campos.getTexto("tipo"),
+                                        campos.getListaTextos("opciones"), campos.getBooleano("respuesta", false),
+                                        campos.get("puntos"));
+        });
+        ModuleManager manager = mock(ModuleManager.class);
+        when(manager.findModuleByQuestionType("opciones")).thenReturn(modulo);
+        ModuleManager.setInstance(manager);
+
+        File yaml = escribir(
+            "titulo: \"Curso\"\n" +
+            "bloques:\n" +
+            "  - id: b1\n" +
+            "    titulo: \"Bloque\"\n" +
+            "    preguntas:\n" +
+            "      - id: p1\n" +
+            "        opciones: [\"Sí\", \"No\"]\n" +
+            "        respuesta: true\n" +
+            "        puntos: 3\n" +
+            "      - id: p2\n" +
+            "        opciones: [\"Sí\", \"No\"]\n" +
+            "        respuesta: \"false\"\n" +
+            "    tipo: \"opciones\"\n");
+
+        try {
+            CursoYamlStreamParser conPool = new CursoYamlStreamParser(new ObjectMapper(new YAMLFactory()), new PoolCadenas());
+            Curso curso = conPool.parsear("curso", yaml);
+
+            List<Pregunta> preguntas = curso.getBloques().get(0).getPreguntas();
+            assertEquals(2, preguntas.size());
+            PreguntaOpciones primera = (PreguntaOpciones) preguntas.get(0);
+            PreguntaOpciones segunda = (PreguntaOpciones) preguntas.get(1);
+
+            assertEquals("p1", primera.getId());
+            assertEquals("opciones", primera.getTipo());
+            assertEquals(List.of("Sí", "No"), primera.opciones);
+            assertTrue(primera.respuesta);
+            assertEquals(3, primera.puntos);
+            assertFalse(segunda.respuesta);
+            assertNull(segunda.puntos);
+            // Las listas iguales se comparten entre preguntas y son inmutables
+            assertSame(primera.opciones, segunda.opciones);
+            assertThrows(UnsupportedOperationException.class, () -> primera.opciones.add("Quizá"));
+            verify(modulo, never()).parsePregunta(anyMap());
+        } finally {
+            ModuleManager.setInstance(null);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería liberar del pool las cadenas de los cursos desalojados de la caché")
+    void deberiaLiberarPoolAlDesalojarCursos() throws Exception {
+        PreguntaModule modulo = mock(PreguntaModule.class, withSettings().stubOnly());
+        when(modulo.parsePregunta(any(CamposPregunta.class))).thenAnswer(invocacion -> {
+            CamposPregunta campos = invocacion.getArgument(0);
+            return new PreguntaOpciones(campos.getTexto("id"), campos.getTexto("tipo"),
+                                        campos.getListaTextos("opciones"), false, campos.get("enunciado"));
+        });
+        ModuleManager manager = mock(ModuleManager.class);
+        when(manager.findModuleByQuestionType("opciones")).thenReturn(modulo);
+        ModuleManager.setInstance(manager);
+
+        PoolCadenas pool = new PoolCadenas();
+        CursoYamlStreamParser conPool = new CursoYamlStreamParser(new ObjectMapper(new YAMLFactory()), pool);
+        // Cabe un solo curso de dos preguntas: cada carga desaloja la anterior
+        CursoLruCache cache = new CursoLruCache(2);
+        try {
+            for (int i = 0; i < 10; i++) {
+                File yaml = escribir(
+                    "titulo: \"Curso " + i + "\"\n" +
+                    "bloques:\n" +
+                    "  - id: b1\n" +
+                    "    titulo: \"Bloque del curso " + i + "\"\n" +
+                    "    tipo: \"opciones\"\n" +
+                    "    preguntas:\n" +
+                    "      - id: p1\n" +
+                    "        enunciado: \"Primera pregunta del curso " + i + "\"\n" +
+                    "        opciones: [\"Opción " + i + "\", \"Otra " + i + "\"]\n" +
+                    "      - id: p2\n" +
+                    "        enunciado: \"Segunda pregunta del curso " + i + "\"\n" +
+                    "        opciones: [\"Opción " + i + "\", \"Otra " + i + "\"]\n");
+                cache.guardar(new CursoDTO(conPool.parsear("curso" + i, yaml)));
+            }
+            assertEquals(1, cache.getNumeroCursos());
+
+            // Los enunciados no pasan por el pool; solo claves, tipo, títulos y opciones
+            String enunciado = (String) ((PreguntaOpciones) cache.obtener("curso9").getCurso()
+                .getBloques().get(0).getPreguntas().get(0)).puntos;
+            assertNotSame(enunciado, pool.cadena(new String(enunciado)));
+            int cadenasConUnCurso = esperarRecoleccion(pool, 1);
+            assertEquals(1, pool.getListasUnicas());
+
+            // El mock conserva su última invocación, y con ella los campos de la última pregunta
+            cache.limpiar();
+            reset(modulo);
+            esperarRecoleccion(pool, 0);
+            assertEquals(0, pool.getListasUnicas());
+            assertTrue(pool.getCadenasUnicas() < cadenasConUnCurso);
+        } finally {
+            ModuleManager.setInstance(null);
+        }
+    }
+
+    /**
+     * Fuerza recolecciones de basura hasta que el pool solo conserva el número
+     * de listas indicado o se agota el tiempo.
+     */
+    private static int esperarRecoleccion(PoolCadenas pool, int listas) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.getListasUnicas() > listas && System.nanoTime() < limite) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return pool.getCadenasUnicas();
+    }
+
+    @Test
+    @DisplayName("La vista de campos debería reutilizarse y copiarse a un mapa para la vía por defecto")
+    void vistaDeCamposDeberiaReutilizarse() {
+        CamposPregunta campos = CamposPregunta.de(Map.of("id", "p1", "respuesta", true));
+
+        assertEquals("p1", campos.getTexto("id"));
+        assertEquals("true", campos.getTexto("respuesta"));
+        assertEquals(Map.of("id", "p1", "respuesta", true), campos.aMapa());
+
+        campos.limpiar();
+        for (int i = 0; i < 20; i++) {
+            campos.poner("campo" + i, i);
+        }
+        campos.poner("campo0", "nuevo");
+
+        assertEquals(20, campos.size());
+        assertFalse(campos.contiene("id"));
+        assertEquals("nuevo", campos.get("campo0"));
+        assertEquals("19", campos.getTexto("campo19"));
+        assertNull(campos.getListaTextos("campo1"));
+    }
+
+    /** Pregunta de prueba que conserva los campos recibidos del módulo */
+    private static class PreguntaOpciones extends Pregunta {
+
+        private final List<String> opciones;
+        private final boolean respuesta;
+        private final Object puntos;
+
+        PreguntaOpciones(String id, String tipo, List<String> opciones, boolean respuesta, Object puntos) {
+            super(id, tipo);
+            this.opciones = opciones;
+            this.respuesta = respuesta;
+            this.puntos = puntos;
+        }
+
+        @Override
+        public boolean esCorrecta(String respuesta) {
+            return Boolean.parseBoolean(respuesta) == this.respuesta;
+        }
+
+        @Override
+        public String getEnunciado() {
+            return "Pregunta " + getId();
+        }
+    }
+
+    private File escribir(String contenido) throws IOException {
+        Path archivo = tempDir.resolve("curso.yaml");
+        Files.write(archivo, contenido.getBytes(StandardCharsets.UTF_8));
+        return archivo.toFile();
+    }
+}
@@ -0,0 +1,171 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.CargadorPlugins;
+import com.kursor.shared.util.PluginCambioEvento;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de CargadorPlugins")
+class CargadorPluginsTest {
+
+    /** Servicio de prueba */
+    public interface Saludo {
+        String getNombre();
+    }
+
+    public static class Hola implements Saludo {
+        @Override
+        public String getNombre() {
+            return "hola";
+        }
+    }
+
+    public static class Adios implements Saludo {
+        @Override
+        public String getNombre() {
+            return "adios";
+        }
+    }
+
+    public static class HolaRenovado implements Saludo {
+        @Override
+        public String getNombre() {
+            return "hola";
+        }
+    }
+
+    /** Plugin que tarda más que el tiempo máximo de carga */
+    public static class Lento implements Saludo {
+        public Lento() {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String getNombre() {
+            return "lento";
+        }
+    }
+
+    @TempDir
+    File tempDir;
+
+    private CargadorPlugins<Saludo> cargador;
+
+    @BeforeEach
+    void setUp() {
+        cargador = new CargadorPlugins<>("saludos", Saludo.class, tempDir, Saludo::getNombre,
+                                         saludo -> true, descriptor -> null);
+        cargador.setTiempoMaximo(500);
+    }
+
+    @Test
+    @DisplayName("Debería cargar en paralelo aislando los JAR inválidos y los que superan el tiempo máximo")
+    void deberiaAislarFallos() throws Exception {
+        crearJar("a-hola.jar", Hola.class);
+        crearJar("b-adios.jar", Adios.class);
+        crearJar("c-lento.jar", Lento.class);
+        crearJar("d-duplicado.jar", HolaRenovado.class);
+        Files.write(new File(tempDir, "e-roto.jar").toPath(), "no es un jar".getBytes(StandardCharsets.UTF_8));
+
+        long inicio = System.nanoTime();
+        int cargados = cargador.cargarTodos();
+        long milisegundos = (System.nanoTime() - inicio) / 1_000_000;
+
+        assertEquals(2, cargados);
+        assertTrue(milisegundos < 4_000, "La carga esperó al plugin lento: " + milisegundos + " ms");
+        assertEquals(List.of("hola", "adios"),
+                     cargador.getRegistro().getPlugins().stream().map(Saludo::getNombre).toList());
+        assertInstanceOf(Hola.class, cargador.obtener("hola"));
+        assertInstanceOf(Adios.class, cargador.getRegistro().buscar("adios"));
+        assertNull(cargador.obtener("lento"));
+        assertInstanceOf(Hola.class, cargador.obtener("  HOLA "));
+        assertEquals(2, cargador.getEstadisticas().getConsultas("hola"));
+        assertEquals(1, cargador.getEstadisticas().getFallos("Lento"));
+    }
+
+    @Test
+    @DisplayName("Debería sustituir y retirar un JAR en caliente notificando a los listeners")
+    void deberiaRecargarEnCaliente() throws Exception {
+        File jar = crearJar("hola.jar", Hola.class);
+        cargador.cargarTodos();
+        List<PluginCambioEvento> eventos = new CopyOnWriteArrayList<>();
+        cargador.addPluginCambioListener(eventos::add);
+        Saludo anterior = cargador.obtener("hola");
+
+        crearJar("hola.jar", HolaRenovado.class);
+        PluginCambioEvento reemplazo = cargador.recargar(jar);
+
+        assertEquals(PluginCambioEvento.Tipo.REEMPLAZADO, reemplazo.getTipo());
+        assertInstanceOf(HolaRenovado.class, cargador.obtener("hola"));
+        assertEquals(1, cargador.getRegistro().size());
+        assertNotSame(anterior, cargador.obtener("hola"));
+
+        Files.delete(jar.toPath());
+        PluginCambioEvento retirada = cargador.recargar(jar);
+
+        assertEquals(PluginCambioEvento.Tipo.DESCARGADO, retirada.getTipo());
+        assertTrue(cargador.getRegistro().isEmpty());
+        assertNull(cargador.recargar(jar));
+        assertEquals(List.of(reemplazo, retirada), eventos);
+    }
+
+    @Test
+    @DisplayName("Debería cerrar y borrar la copia de los JAR rechazados o que superan el tiempo máximo")
+    void deberiaDescartarCopiasNoRegistradas() throws Exception {
+        crearJar("a-registrado.jar", Hola.class);
+        crearJar("b-rechazado.jar", HolaRenovado.class);
+        crearJar("c-caducado.jar", Lento.class);
+
+        assertEquals(1, cargador.cargarTodos());
+
+        // El plugin lento termina al ser interrumpido, después de su tiempo máximo
+        long limite = System.nanoTime() + 5_000_000_000L;
+        while (!copias("-c-caducado.jar").isEmpty() && System.nanoTime() < limite) {
+            Thread.sleep(20);
+        }
+        assertTrue(copias("-b-rechazado.jar").isEmpty());
+        assertTrue(copias("-c-caducado.jar").isEmpty());
+        assertEquals(1, copias("-a-registrado.jar").size());
+    }
+
+    /**
+     * Busca las copias privadas de los JAR de esta ejecución con un sufijo dado.
+     */
+    private static List<Path> copias(String sufijo) throws Exception {
+        Path directorio = Path.of(System.getProperty("java.io.tmpdir"), "kursor-plugins-" + ProcessHandle.current().pid());
+        try (var rutas = Files.list(directorio)) {
+            return rutas.filter(ruta -> ruta.getFileName().toString().endsWith(sufijo)).toList();
+        }
+    }
+
+    private File crearJar(String nombre, Class<? extends Saludo> clase) throws Exception {
+        File jar = new File(tempDir, nombre);
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("META-INF/services/" + Saludo.class.getName()));
+            out.write((clase.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+            out.putNextEntry(new JarEntry("com/kursor/test/Marcador.class"));
+            out.write(new byte[] {(byte) 0xCA, (byte) 0xFE});
+            out.closeEntry();
+        }
+        return jar;
+    }
+}
@@ -0,0 +1,60 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.CatalogoSnapshot;
+import com.kursor.yaml.dto.CursoDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de CatalogoSnapshot")
+class CatalogoSnapshotTest {
+
+    @Test
+    @DisplayName("Debería mantener el orden de catálogo y no permitir modificaciones")
+    void deberiaMantenerOrdenYSerInmutable() {
+        CatalogoSnapshot snapshot = new CatalogoSnapshot(1, List.of(crearCurso("a"), crearCurso("b")));
+
+        assertEquals(1, snapshot.getVersion());
+        assertEquals("a", snapshot.getCursos().get(0).getId());
+        assertEquals("b", snapshot.getCursos().get(1).getId());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getCursos().add(crearCurso("c")));
+    }
+
+    @Test
+    @DisplayName("Debería crear una nueva versión al sustituir un curso sin alterar la anterior")
+    void deberiaCrearNuevaVersionAlSustituirCurso() {
+        CursoDTO original = crearCurso("a");
+        CatalogoSnapshot v1 = new CatalogoSnapshot(1, List.of(original, crearCurso("b")));
+
+        CursoDTO modificado = crearCurso("a");
+        CatalogoSnapshot v2 = v1.conCurso(modificado);
+
+        assertEquals(2, v2.getVersion());
+        assertSame(modificado, v2.obtener("a"));
+        assertEquals("a", v2.getCursos().get(0).getId());
+        assertSame(original, v1.obtener("a"));
+    }
+
+    @Test
+    @DisplayName("Debería añadir cursos nuevos al final y eliminar cursos existentes")
+    void deberiaAnadirYEliminarCursos() {
+        CatalogoSnapshot v1 = new CatalogoSnapshot(1, List.of(crearCurso("a")));
+
+        CatalogoSnapshot v2 = v1.conCurso(crearCurso("b"));
+        assertEquals("b", v2.getCursos().get(1).getId());
+
+        CatalogoSnapshot v3 = v2.sinCurso("a");
+        assertEquals(3, v3.getVersion());
+        assertFalse(v3.contiene("a"));
+        assertTrue(v2.contiene("a"));
+
+        assertSame(v3, v3.sinCurso("inexistente"));
+    }
+
+    private CursoDTO crearCurso(String id) {
+        return new CursoDTO(id, "Curso " + id, null, id + ".yaml");
+    }
+}
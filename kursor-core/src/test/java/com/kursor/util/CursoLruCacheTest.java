@@ -0,0 +1,79 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.CursoLruCache;
+import com.kursor.yaml.dto.BloqueDTO;
+import com.kursor.yaml.dto.CursoDTO;
+import com.kursor.yaml.dto.PreguntaDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de CursoLruCache")
+class CursoLruCacheTest {
+
+    @Test
+    @DisplayName("Debería lanzar excepción cuando el límite es menor que 1")
+    void deberiaLanzarExcepcionCuandoLimiteEsInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> new CursoLruCache(0));
+    }
+
+    @Test
+    @DisplayName("Debería desalojar el curso usado menos recientemente al superar el límite")
+    void deberiaDesalojarCursoMenosUsado() {
+        CursoLruCache cache = new CursoLruCache(10);
+        cache.guardar(crearCurso("a", 4));
+        cache.guardar(crearCurso("b", 4));
+
+        // Acceder a "a" lo convierte en el más reciente
+        assertNotNull(cache.obtener("a"));
+        cache.guardar(crearCurso("c", 4));
+
+        assertNotNull(cache.obtener("a"));
+        assertNull(cache.obtener("b"));
+        assertNotNull(cache.obtener("c"));
+        assertEquals(8, cache.getPreguntasEnMemoria());
+    }
+
+    @Test
+    @DisplayName("Debería conservar el curso más reciente aunque supere el límite")
+    void deberiaConservarCursoMasRecienteAunqueSupereLimite() {
+        CursoLruCache cache = new CursoLruCache(5);
+        cache.guardar(crearCurso("a", 2));
+        cache.guardar(crearCurso("grande", 20));
+
+        assertNull(cache.obtener("a"));
+        assertNotNull(cache.obtener("grande"));
+        assertEquals(1, cache.getNumeroCursos());
+        assertEquals(20, cache.getPreguntasEnMemoria());
+    }
+
+    @Test
+    @DisplayName("Debería actualizar el peso al reemplazar o invalidar un curso")
+    void deberiaActualizarPesoAlReemplazarOInvalidar() {
+        CursoLruCache cache = new CursoLruCache(100);
+        cache.guardar(crearCurso("a", 3));
+        cache.guardar(crearCurso("a", 7));
+        assertEquals(7, cache.getPreguntasEnMemoria());
+
+        cache.invalidar("a");
+        assertEquals(0, cache.getPreguntasEnMemoria());
+        assertEquals(0, cache.getNumeroCursos());
+    }
+
+    private CursoDTO crearCurso(String id, int preguntas) {
+        List<PreguntaDTO> lista = new ArrayList<>();
+        for (int i = 0; i < preguntas; i++) {
+            lista.add(new PreguntaDTO("p" + i, "test", "Pregunta " + i));
+        }
+        BloqueDTO bloque = new BloqueDTO("Bloque", "test");
+        bloque.setPreguntas(lista);
+
+        CursoDTO curso = new CursoDTO(id, "Curso " + id, null, id + ".yaml");
+        curso.setBloques(List.of(bloque));
+        return curso;
+    }
+}
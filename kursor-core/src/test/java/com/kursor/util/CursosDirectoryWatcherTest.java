@@ -0,0 +1,70 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.CursosDirectoryWatcher;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de CursosDirectoryWatcher")
+class CursosDirectoryWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final BlockingQueue<String> cambiados = new LinkedBlockingQueue<>();
+    private CursosDirectoryWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        escribir(tempDir.resolve("curso_a").resolve("curso_a.yaml"), "titulo: \"A\"\n");
+        escribir(tempDir.resolve("curso_b").resolve("curso_b.yaml"), "titulo: \"B\"\n");
+        watcher = new CursosDirectoryWatcher(tempDir, cambiados::add);
+        watcher.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.detener();
+    }
+
+    @Test
+    @DisplayName("Debería notificar solo el curso cuyo archivo se modifica")
+    void deberiaNotificarSoloCursoModificado() throws Exception {
+        escribir(tempDir.resolve("curso_b").resolve("curso_b.yaml"), "titulo: \"B modificado\"\n");
+
+        assertEquals("curso_b", cambiados.poll(10, TimeUnit.SECONDS));
+        assertNull(cambiados.poll(CursosDirectoryWatcher.ESPERA_AGRUPACION_MS * 2, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Debería notificar los cursos nuevos e ignorar los directorios ocultos")
+    void deberiaNotificarCursosNuevosEIgnorarOcultos() throws Exception {
+        Files.createDirectories(tempDir.resolve(".kursor-cache"));
+        escribir(tempDir.resolve("curso_c").resolve("curso_c.yaml"), "titulo: \"C\"\n");
+
+        assertEquals("curso_c", cambiados.poll(10, TimeUnit.SECONDS));
+        assertNull(cambiados.poll(CursosDirectoryWatcher.ESPERA_AGRUPACION_MS * 2, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Debería dejar de estar activo tras detenerse")
+    void deberiaDejarDeEstarActivoTrasDetenerse() {
+        assertTrue(watcher.isActivo());
+        watcher.detener();
+        assertFalse(watcher.isActivo());
+    }
+
+    private void escribir(Path archivo, String contenido) throws IOException {
+        Files.createDirectories(archivo.getParent());
+        Files.write(archivo, contenido.getBytes(StandardCharsets.UTF_8));
+    }
+}
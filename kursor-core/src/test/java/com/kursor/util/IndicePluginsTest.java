@@ -0,0 +1,109 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.DescriptorPlugin;
+import com.kursor.shared.util.IndicePlugins;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de IndicePlugins")
+class IndicePluginsTest {
+
+    private static final List<String> SERVICIOS = List.of("com.kursor.test.TestModule", "com.kursor.test.OtroModule");
+
+    @TempDir
+    File tempDir;
+
+    private File jar;
+    private File archivoIndice;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jar = new File(tempDir, "kursor-test-module.jar");
+        Files.write(jar.toPath(), "contenido del jar".getBytes(StandardCharsets.UTF_8));
+        archivoIndice = new File(tempDir, IndicePlugins.ARCHIVO);
+    }
+
+    @Test
+    @DisplayName("Debería recuperar los servicios de un JAR sin cambios tras reiniciar")
+    void deberiaPersistirServicios() {
+        IndicePlugins indice = new IndicePlugins(archivoIndice);
+        assertNull(indice.buscar(jar));
+
+        indice.registrar(jar, SERVICIOS);
+        assertTrue(indice.guardar());
+
+        IndicePlugins recargado = new IndicePlugins(archivoIndice);
+        assertEquals(1, recargado.size());
+        assertEquals(SERVICIOS, recargado.buscar(jar));
+    }
+
+    @Test
+    @DisplayName("Debería persistir el descriptor del JAR junto a sus servicios")
+    void deberiaPersistirDescriptor() {
+        DescriptorPlugin descriptor = DescriptorPlugin.de(Map.of(
+            DescriptorPlugin.CLASE, "com.kursor.test.TestModule",
+            DescriptorPlugin.TIPO, "test",
+            DescriptorPlugin.ICONO, "📝"));
+        IndicePlugins indice = new IndicePlugins(archivoIndice);
+        indice.registrar(jar, SERVICIOS, descriptor);
+        indice.guardar();
+
+        IndicePlugins recargado = new IndicePlugins(archivoIndice);
+        assertEquals(SERVICIOS, recargado.buscar(jar));
+        assertEquals(descriptor.getPropiedades(), recargado.getDescriptor(jar).getPropiedades());
+        assertTrue(recargado.getDescriptor(new File(tempDir, "otro.jar")).isVacio());
+    }
+
+    @Test
+    @DisplayName("Debería reutilizar la entrada si solo cambia la fecha y descartarla si cambia el contenido")
+    void deberiaDetectarCambiosDeContenido() throws Exception {
+        IndicePlugins indice = new IndicePlugins(archivoIndice);
+        indice.registrar(jar, SERVICIOS);
+
+        assertTrue(jar.setLastModified(jar.lastModified() - 60_000));
+        assertEquals(SERVICIOS, indice.buscar(jar));
+
+        Files.write(jar.toPath(), "contenido del jar modificado".getBytes(StandardCharsets.UTF_8));
+        assertNull(indice.buscar(jar));
+        assertEquals(0, indice.size());
+    }
+
+    @Test
+    @DisplayName("Debería olvidar los JAR eliminados")
+    void deberiaConservarSoloJarsPresentes() throws Exception {
+        File otro = new File(tempDir, "otro.jar");
+        Files.write(otro.toPath(), new byte[] {1, 2, 3});
+        IndicePlugins indice = new IndicePlugins(archivoIndice);
+        indice.registrar(jar, SERVICIOS);
+        indice.registrar(otro, List.of("com.kursor.test.Otro"));
+
+        indice.conservarSolo(List.of(jar));
+        indice.guardar();
+
+        IndicePlugins recargado = new IndicePlugins(archivoIndice);
+        assertEquals(1, recargado.size());
+        assertNull(recargado.buscar(otro));
+        assertEquals(SERVICIOS, recargado.buscar(jar));
+    }
+
+    @Test
+    @DisplayName("Debería tratar un índice corrupto como vacío")
+    void deberiaIgnorarIndiceCorrupto() throws Exception {
+        Files.write(archivoIndice.toPath(), "no es un índice".getBytes(StandardCharsets.UTF_8));
+
+        IndicePlugins indice = new IndicePlugins(archivoIndice);
+
+        assertEquals(0, indice.size());
+        assertNull(indice.buscar(jar));
+    }
+}
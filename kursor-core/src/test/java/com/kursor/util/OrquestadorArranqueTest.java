@@ -0,0 +1,111 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.OrquestadorArranque;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de OrquestadorArranque")
+class OrquestadorArranqueTest {
+
+    @Test
+    @DisplayName("Debería ejecutar cada tarea después de sus dependencias")
+    void deberiaRespetarDependencias() {
+        List<String> orden = new CopyOnWriteArrayList<>();
+        OrquestadorArranque arranque = new OrquestadorArranque()
+            .registrar("modulos", () -> {
+                dormir(50);
+                orden.add("modulos");
+            })
+            .registrar("catalogo", () -> orden.add("catalogo"))
+            .registrar("cursoInicial", () -> orden.add("cursoInicial"), "modulos", "catalogo");
+
+        arranque.iniciar();
+        arranque.esperar("cursoInicial");
+
+        assertEquals(3, orden.size());
+        assertEquals("cursoInicial", orden.get(2));
+        assertEquals(3, arranque.getDuraciones().size());
+    }
+
+    @Test
+    @DisplayName("Debería ejecutar en paralelo las tareas independientes")
+    void deberiaEjecutarTareasIndependientesEnParalelo() throws Exception {
+        CountDownLatch ambas = new CountDownLatch(2);
+        Runnable esperarALaOtra = () -> {
+            ambas.countDown();
+            try {
+                if (!ambas.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Las tareas no se ejecutaron en paralelo");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        OrquestadorArranque arranque = new OrquestadorArranque()
+            .registrar("persistencia", esperarALaOtra)
+            .registrar("modulos", esperarALaOtra);
+
+        arranque.iniciar();
+
+        arranque.cuandoTerminen("persistencia", "modulos").get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Debería propagar el fallo de una tarea a las que dependen de ella")
+    void deberiaPropagarFallos() {
+        AtomicBoolean dependienteEjecutada = new AtomicBoolean();
+        AtomicBoolean independienteEjecutada = new AtomicBoolean();
+        OrquestadorArranque arranque = new OrquestadorArranque()
+            .registrar("modulos", () -> {
+                throw new IllegalStateException("módulo corrupto");
+            })
+            .registrar("estrategias", () -> independienteEjecutada.set(true))
+            .registrar("cursoInicial", () -> dependienteEjecutada.set(true), "modulos");
+
+        arranque.iniciar();
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+            () -> arranque.esperar("cursoInicial"));
+        assertEquals("módulo corrupto", error.getMessage());
+        assertFalse(dependienteEjecutada.get());
+
+        arranque.esperar("estrategias");
+        assertTrue(independienteEjecutada.get());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar dependencias no registradas y registros tras iniciar")
+    void deberiaValidarRegistro() {
+        OrquestadorArranque arranque = new OrquestadorArranque()
+            .registrar("catalogo", () -> { });
+
+        assertThrows(IllegalArgumentException.class,
+            () -> arranque.registrar("cursoInicial", () -> { }, "modulos"));
+        assertThrows(IllegalArgumentException.class,
+            () -> arranque.registrar("catalogo", () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> arranque.getFuturo("modulos"));
+        assertThrows(IllegalStateException.class, () -> arranque.esperar("catalogo"));
+
+        arranque.iniciar();
+
+        assertThrows(IllegalStateException.class, () -> arranque.registrar("modulos", () -> { }));
+        assertThrows(IllegalStateException.class, arranque::iniciar);
+        arranque.esperar("catalogo");
+    }
+
+    private static void dormir(long milisegundos) {
+        try {
+            Thread.sleep(milisegundos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.PerfiladorArranque;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de PerfiladorArranque")
+class PerfiladorArranqueTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    @DisplayName("Debería acumular tiempo y memoria por fase y subfase")
+    void deberiaAcumularMediciones() {
+        PerfiladorArranque perfilador = new PerfiladorArranque(tempDir, 5);
+
+        try (PerfiladorArranque.Medicion m = perfilador.medir("modulos")) {
+            for (int i = 0; i < 2; i++) {
+                try (PerfiladorArranque.Medicion jar = perfilador.medir("modulos", "multiplechoice.jar")) {
+                    byte[] datos = new byte[64 * 1024];
+                    assertEquals(64 * 1024, datos.length);
+                }
+            }
+        }
+
+        PerfiladorArranque.Informe informe = perfilador.finalizar();
+
+        assertNotNull(informe);
+        assertEquals(2, informe.getRegistros().size());
+        PerfiladorArranque.Registro fase = informe.getRegistro("modulos", null);
+        PerfiladorArranque.Registro jar = informe.getRegistro("modulos", "multiplechoice.jar");
+        assertEquals("modulos/multiplechoice.jar", jar.getNombre());
+        assertTrue(jar.getNanos() > 0);
+        assertTrue(fase.getNanos() >= jar.getNanos());
+        assertTrue(informe.getTotalNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Debería escribir un informe por arranque y dejar de medir tras finalizar")
+    void deberiaEscribirInforme() {
+        PerfiladorArranque perfilador = new PerfiladorArranque(tempDir, 5);
+        try (PerfiladorArranque.Medicion m = perfilador.medir("persistencia", "hibernate")) {
+            assertTrue(perfilador.isActivo());
+        }
+
+        PerfiladorArranque.Informe escrito = perfilador.finalizar();
+        try (PerfiladorArranque.Medicion m = perfilador.medir("cursos", "curso_ingles")) {
+            assertFalse(perfilador.isActivo());
+        }
+
+        assertNull(perfilador.finalizar());
+        List<PerfiladorArranque.Informe> leidos = PerfiladorArranque.leerUltimos(tempDir, 10);
+        assertEquals(1, leidos.size());
+        PerfiladorArranque.Informe leido = leidos.get(0);
+        assertEquals(escrito.getFecha(), leido.getFecha());
+        assertEquals(escrito.getTotalNanos(), leido.getTotalNanos());
+        assertEquals(escrito.getRegistro("persistencia", "hibernate").getNanos(),
+                     leido.getRegistro("persistencia", "hibernate").getNanos());
+        assertNull(leido.getRegistro("cursos", "curso_ingles"));
+    }
+
+    @Test
+    @DisplayName("Debería conservar solo el historial configurado y comparar los últimos arranques")
+    void deberiaCompararUltimosArranques() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            PerfiladorArranque perfilador = new PerfiladorArranque(tempDir, 2);
+            try (PerfiladorArranque.Medicion m = perfilador.medir("catalogo", "curso_ingles")) {
+                Thread.sleep(2);
+            }
+            perfilador.finalizar();
+            Thread.sleep(5);
+        }
+
+        List<PerfiladorArranque.Informe> informes = PerfiladorArranque.leerUltimos(tempDir, 10);
+        assertEquals(2, informes.size());
+        assertTrue(informes.get(0).getFecha().isBefore(informes.get(1).getFecha()));
+
+        String tabla = PerfiladorArranque.comparar(informes);
+        assertTrue(tabla.contains("total"));
+        assertTrue(tabla.contains("catalogo/curso_ingles"));
+        assertTrue(tabla.contains("#2"));
+        assertEquals("No hay informes de arranque", PerfiladorArranque.comparar(List.of()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.PluginClassLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de PluginClassLoader")
+class PluginClassLoaderTest {
+
+    private static final String RECURSO = "META-INF/services/com.kursor.modules.PreguntaModule";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    @DisplayName("Debería seguir leyendo el JAR cargado aunque se sustituya o elimine el original")
+    void deberiaUsarCopiaPrivada() throws Exception {
+        File jar = new File(tempDir, "kursor-test-module.jar");
+        crearJar(jar, "com.kursor.test.VersionUno");
+
+        PluginClassLoader cargado = PluginClassLoader.abrir(jar, getClass().getClassLoader());
+        crearJar(jar, "com.kursor.test.VersionDos");
+        PluginClassLoader sustituto = PluginClassLoader.abrir(jar, getClass().getClassLoader());
+        Files.delete(jar.toPath());
+
+        assertEquals("com.kursor.test.VersionUno", leerRecurso(cargado));
+        assertEquals("com.kursor.test.VersionDos", leerRecurso(sustituto));
+        assertEquals(jar, cargado.getJarFile());
+        assertFalse(cargado.isRetirado());
+        assertTrue(cargado.getInstancias().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar clases que no implementan el servicio")
+    void deberiaRechazarClasesIncompatibles() throws Exception {
+        File jar = new File(tempDir, "kursor-test-module.jar");
+        crearJar(jar, "java.lang.StringBuilder");
+
+        PluginClassLoader cargado = PluginClassLoader.abrir(jar, getClass().getClassLoader());
+
+        assertThrows(ClassCastException.class, () -> cargado.instanciar("java.lang.StringBuilder", Runnable.class));
+        assertThrows(ClassNotFoundException.class, () -> cargado.instanciar("com.kursor.test.NoExiste", Runnable.class));
+        assertEquals(0, cargado.instanciar("java.lang.StringBuilder", CharSequence.class).length());
+    }
+
+    @Test
+    @DisplayName("Debería borrar su copia privada al cerrarse o al dejar de ser alcanzable")
+    void deberiaBorrarCopiaPrivada() throws Exception {
+        File jar = new File(tempDir, "kursor-test-module.jar");
+        crearJar(jar, "com.kursor.test.VersionUno");
+
+        PluginClassLoader cerrado = PluginClassLoader.abrir(jar, getClass().getClassLoader());
+        Path copiaCerrado = copia(cerrado);
+        assertTrue(Files.exists(copiaCerrado));
+        cerrado.close();
+        assertFalse(Files.exists(copiaCerrado));
+
+        Path copiaRetirado = abrirSinReferencia(jar);
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (Files.exists(copiaRetirado) && System.nanoTime() < limite) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertFalse(Files.exists(copiaRetirado));
+        assertTrue(jar.exists());
+    }
+
+    /**
+     * Abre un ClassLoader y lo usa sin conservar ninguna referencia a él.
+     */
+    private Path abrirSinReferencia(File jar) throws Exception {
+        PluginClassLoader classLoader = PluginClassLoader.abrir(jar, getClass().getClassLoader());
+        assertEquals("com.kursor.test.VersionUno", leerRecurso(classLoader));
+        return copia(classLoader);
+    }
+
+    private static Path copia(PluginClassLoader classLoader) throws Exception {
+        return Path.of(classLoader.getURLs()[0].toURI());
+    }
+
+    private static void crearJar(File jar, String servicio) throws Exception {
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry(RECURSO));
+            out.write(servicio.getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+    }
+
+    private static String leerRecurso(PluginClassLoader classLoader) throws Exception {
+        try (InputStream in = classLoader.findResource(RECURSO).openStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
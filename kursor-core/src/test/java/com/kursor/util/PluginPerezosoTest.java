@@ -0,0 +1,109 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.DescriptorPlugin;
+import com.kursor.shared.util.PluginClassLoader;
+import com.kursor.shared.util.PluginPerezoso;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de PluginPerezoso y DescriptorPlugin")
+class PluginPerezosoTest {
+
+    /** Servicio de prueba */
+    public interface Saludo {
+        String getNombre();
+        String saludar(String destinatario);
+    }
+
+    /** Implementación de prueba que cuenta sus instancias */
+    public static class SaludoPlugin implements Saludo {
+        static final AtomicInteger instancias = new AtomicInteger();
+
+        public SaludoPlugin() {
+            instancias.incrementAndGet();
+        }
+
+        @Override
+        public String getNombre() {
+            return "Saludo";
+        }
+
+        @Override
+        public String saludar(String destinatario) {
+            return "Hola, " + destinatario;
+        }
+    }
+
+    @TempDir
+    File tempDir;
+
+    private File jar;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SaludoPlugin.instancias.set(0);
+        jar = new File(tempDir, "kursor-saludo.jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry(DescriptorPlugin.ARCHIVO));
+            out.write(("clase=" + SaludoPlugin.class.getName() + "\nnombre=Saludo\ndescripcion=Módulo de saludo 👋\n")
+                .getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería leer el descriptor del JAR en UTF-8")
+    void deberiaLeerDescriptor() {
+        DescriptorPlugin descriptor = DescriptorPlugin.leer(jar);
+
+        assertEquals(SaludoPlugin.class.getName(), descriptor.getClase());
+        assertEquals("Módulo de saludo 👋", descriptor.get(DescriptorPlugin.DESCRIPCION));
+        assertTrue(descriptor.describe(SaludoPlugin.class.getName(), DescriptorPlugin.NOMBRE));
+        assertFalse(descriptor.describe(SaludoPlugin.class.getName(), DescriptorPlugin.VERSION));
+        assertFalse(descriptor.describe("com.kursor.test.Otra", DescriptorPlugin.NOMBRE));
+    }
+
+    @Test
+    @DisplayName("Debería responder los metadatos sin instanciar y crear una sola instancia al usarse")
+    void deberiaInstanciarEnPrimerUso() throws Exception {
+        PluginClassLoader classLoader = PluginClassLoader.abrir(jar, getClass().getClassLoader());
+        Saludo saludo = PluginPerezoso.crear(Saludo.class, classLoader, SaludoPlugin.class.getName(),
+                                             Map.of("getNombre", "Saludo"));
+
+        assertEquals("Saludo", saludo.getNombre());
+        assertFalse(PluginPerezoso.isInstanciado(saludo));
+        assertEquals(0, SaludoPlugin.instancias.get());
+
+        assertEquals("Hola, Kursor", saludo.saludar("Kursor"));
+        assertEquals("Hola, mundo", saludo.saludar("mundo"));
+        assertTrue(PluginPerezoso.isInstanciado(saludo));
+        assertInstanceOf(SaludoPlugin.class, PluginPerezoso.obtenerInstancia(saludo));
+        assertEquals(1, SaludoPlugin.instancias.get());
+        assertEquals(saludo, saludo);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar la instancia si no coincide con el descriptor")
+    void deberiaRechazarDescriptorIncoherente() throws Exception {
+        PluginClassLoader classLoader = PluginClassLoader.abrir(jar, getClass().getClassLoader());
+        Saludo saludo = PluginPerezoso.crear(Saludo.class, classLoader, SaludoPlugin.class.getName(),
+                                             Map.of("getNombre", "Despedida"));
+
+        assertThrows(IllegalStateException.class, () -> saludo.saludar("Kursor"));
+        assertThrows(IllegalStateException.class, () -> PluginPerezoso.obtenerInstancia(saludo));
+        assertFalse(PluginPerezoso.isInstanciado(saludo));
+        assertEquals(1, SaludoPlugin.instancias.get());
+    }
+}
@@ -0,0 +1,116 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.EstadisticasBusqueda;
+import com.kursor.shared.util.PluginRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de PluginRegistry")
+class PluginRegistryTest {
+
+    /** Tipo de pregunta de prueba con sus alias */
+    private record Tipo(String nombre, List<String> alias) {
+    }
+
+    private static final Tipo FLASHCARD = new Tipo("flashcard", List.of("flashcards", "Tarjeta"));
+    private static final Tipo TEST = new Tipo("test", List.of());
+
+    private static PluginRegistry<Tipo> registro(Tipo... tipos) {
+        return new PluginRegistry<>(List.of(tipos), Tipo::nombre, Tipo::alias);
+    }
+
+    @Test
+    @DisplayName("Debería encontrar los plugins por su clave o sus alias normalizados")
+    void deberiaBuscarPorClaveYAlias() {
+        PluginRegistry<Tipo> registro = registro(FLASHCARD, TEST);
+
+        assertSame(FLASHCARD, registro.buscar("flashcard"));
+        assertSame(FLASHCARD, registro.buscar("flashcards"));
+        assertSame(FLASHCARD, registro.buscar(" TARJETA "));
+        assertSame(TEST, registro.buscar("Test"));
+        assertNull(registro.buscar("truefalse"));
+        assertNull(registro.buscar(null));
+
+        assertEquals(Set.of("flashcard", "test"), registro.getClaves());
+        assertEquals(Set.of("flashcard", "flashcards", "tarjeta", "test"), registro.getClavesYAlias());
+    }
+
+    @Test
+    @DisplayName("Las claves deberían prevalecer sobre los alias de otros plugins")
+    void clavesDeberianPrevalecerSobreAlias() {
+        Tipo conflictivo = new Tipo("flashcards", List.of("test"));
+
+        PluginRegistry<Tipo> registro = registro(FLASHCARD, TEST, conflictivo);
+
+        assertSame(conflictivo, registro.buscar("flashcards"));
+        assertSame(TEST, registro.buscar("test"));
+    }
+
+    @Test
+    @DisplayName("Los registros derivados deberían conservar los alias")
+    void registrosDerivadosDeberianConservarAlias() {
+        PluginRegistry<Tipo> registro = PluginRegistry.<Tipo>vacio(Tipo::nombre, Tipo::alias)
+            .con(List.of(), List.of(FLASHCARD, TEST))
+            .con(List.of(TEST), List.of());
+
+        assertSame(FLASHCARD, registro.buscar("flashcards"));
+        assertFalse(registro.contiene("test"));
+        assertEquals(1, registro.size());
+    }
+
+    @Test
+    @DisplayName("No debería crear cadenas nuevas al normalizar claves ya normalizadas")
+    void noDeberiaCopiarClavesNormalizadas() {
+        String clave = "completar_huecos";
+
+        assertSame(clave, PluginRegistry.normalizar(clave));
+        assertEquals("completar_huecos", PluginRegistry.normalizar(" Completar_Huecos "));
+    }
+
+    @Test
+    @DisplayName("Debería contar las búsquedas y los fallos por clave desde varios hilos")
+    void deberiaContarBusquedasYFallos() throws InterruptedException {
+        EstadisticasBusqueda estadisticas = new EstadisticasBusqueda();
+        ExecutorService hilos = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            hilos.execute(() -> {
+                estadisticas.registrar("Test", true);
+                estadisticas.registrar("desconocido", false);
+            });
+        }
+        hilos.shutdown();
+        assertTrue(hilos.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1000, estadisticas.getConsultas("test"));
+        assertEquals(0, estadisticas.getFallos("test"));
+        assertEquals(1000, estadisticas.getFallos(" DESCONOCIDO"));
+        assertEquals(0, estadisticas.getConsultas("flashcard"));
+
+        Map<String, long[]> resumen = estadisticas.getResumen();
+        assertArrayEquals(new long[]{1000, 1000}, resumen.get("desconocido"));
+
+        estadisticas.reiniciar();
+        assertTrue(estadisticas.getResumen().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debería acumular en una sola clave las búsquedas que superan el límite de claves")
+    void deberiaLimitarElNumeroDeClaves() {
+        EstadisticasBusqueda estadisticas = new EstadisticasBusqueda();
+        for (int i = 0; i < EstadisticasBusqueda.MAX_CLAVES + 10; i++) {
+            estadisticas.registrar("tipo" + i, false);
+        }
+
+        assertEquals(EstadisticasBusqueda.MAX_CLAVES + 1, estadisticas.getResumen().size());
+        assertEquals(10, estadisticas.getFallos(EstadisticasBusqueda.OTRAS));
+    }
+}
@@ -0,0 +1,80 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.PluginsDirectoryWatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de PluginsDirectoryWatcher")
+class PluginsDirectoryWatcherTest {
+
+    private static final long ESPERA_MAXIMA_MS = 15_000;
+
+    @TempDir
+    File tempDir;
+
+    private PluginsDirectoryWatcher vigilante;
+
+    @AfterEach
+    void tearDown() {
+        if (vigilante != null) {
+            vigilante.detener();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería notificar una vez cada JAR creado y eliminado, ignorando otros archivos")
+    void deberiaNotificarCambiosDeJars() throws Exception {
+        List<File> notificados = new CopyOnWriteArrayList<>();
+        vigilante = new PluginsDirectoryWatcher(tempDir.toPath(), notificados::add);
+        vigilante.iniciar();
+        assertTrue(vigilante.isActivo());
+
+        File jar = new File(tempDir, "kursor-test-module.jar");
+        Files.write(jar.toPath(), new byte[] {1, 2, 3});
+        Files.write(jar.toPath(), new byte[] {1, 2, 3, 4});
+        Files.write(new File(tempDir, "notas.txt").toPath(), new byte[] {1});
+        Files.write(new File(tempDir, ".indice-plugins").toPath(), new byte[] {1});
+
+        esperarNotificaciones(notificados, 1);
+        assertEquals(jar.getAbsoluteFile(), notificados.get(0));
+
+        Files.delete(jar.toPath());
+        esperarNotificaciones(notificados, 2);
+        assertEquals(jar.getAbsoluteFile(), notificados.get(1));
+
+        Thread.sleep(PluginsDirectoryWatcher.ESPERA_AGRUPACION_MS * 2);
+        assertEquals(2, notificados.size());
+    }
+
+    @Test
+    @DisplayName("Debería dejar de notificar tras detenerse")
+    void deberiaDetenerse() throws Exception {
+        List<File> notificados = new CopyOnWriteArrayList<>();
+        vigilante = new PluginsDirectoryWatcher(tempDir.toPath(), notificados::add);
+        vigilante.iniciar();
+        vigilante.detener();
+        assertFalse(vigilante.isActivo());
+
+        Files.write(new File(tempDir, "kursor-test-module.jar").toPath(), new byte[] {1});
+        Thread.sleep(PluginsDirectoryWatcher.ESPERA_AGRUPACION_MS * 2);
+
+        assertTrue(notificados.isEmpty());
+    }
+
+    private static void esperarNotificaciones(List<File> notificados, int esperadas) throws InterruptedException {
+        long limite = System.currentTimeMillis() + ESPERA_MAXIMA_MS;
+        while (notificados.size() < esperadas && System.currentTimeMillis() < limite) {
+            Thread.sleep(50);
+        }
+        assertTrue(notificados.size() >= esperadas, "Notificaciones recibidas: " + notificados);
+    }
+}
@@ -0,0 +1,105 @@
+package com.kursor.util;
+
+import com.kursor.shared.util.PoolCadenas;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de PoolCadenas")
+class PoolCadenasTest {
+
+    private PoolCadenas pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new PoolCadenas();
+    }
+
+    @Test
+    @DisplayName("Debería devolver la misma instancia para cadenas iguales")
+    void deberiaCompartirCadenasIguales() {
+        String primera = new String("verdadero");
+        String segunda = new String("verdadero");
+
+        assertSame(primera, pool.cadena(primera));
+        assertSame(primera, pool.cadena(segunda));
+        assertNull(pool.cadena(null));
+
+        assertEquals(1, pool.getCadenasUnicas());
+        assertEquals(1, pool.getAciertos());
+        assertEquals(40 + "verdadero".length(), pool.getBytesAhorrados());
+    }
+
+    @Test
+    @DisplayName("Debería compartir listas de opciones iguales como listas inmutables")
+    void deberiaCompartirListasIguales() {
+        List<String> primera = pool.lista(new ArrayList<>(Arrays.asList("Madrid", "París")));
+        List<String> segunda = pool.lista(new ArrayList<>(Arrays.asList(new String("Madrid"), new String("París"))));
+
+        assertSame(primera, segunda);
+        assertSame(primera, List.copyOf(segunda));
+        assertThrows(UnsupportedOperationException.class, () -> primera.add("Roma"));
+        assertEquals(1, pool.getListasUnicas());
+        assertTrue(pool.getBytesAhorrados() > 0);
+    }
+
+    @Test
+    @DisplayName("No debería compartir listas con elementos null o que no son cadenas")
+    void noDeberiaCompartirListasNoCompartibles() {
+        List<String> conNull = pool.lista(Arrays.asList("a", null));
+
+        assertEquals(Arrays.asList("a", null), conNull);
+        assertNull(pool.lista(List.of(1, 2)));
+        assertEquals(0, pool.getListasUnicas());
+    }
+
+    @Test
+    @DisplayName("Debería copiar los datos de una pregunta compartiendo solo claves, tipo y listas")
+    void deberiaCompartirDatosDePregunta() {
+        String enunciado = new String("¿Capital de Francia?");
+        Map<String, Object> datos = new LinkedHashMap<>();
+        datos.put("tipo", new String("test"));
+        datos.put("enunciado", enunciado);
+        datos.put("opciones", new ArrayList<>(List.of("a", "b")));
+        datos.put("extra", new LinkedHashMap<>(Map.of("tipo", new String("test"))));
+        datos.put("puntos", 3);
+
+        Map<String, Object> compartidos = pool.datos(datos);
+
+        assertNotSame(datos, compartidos);
+        assertEquals(datos, compartidos);
+        assertSame(compartidos.get("tipo"), ((Map<?, ?>) compartidos.get("extra")).get("tipo"));
+        assertSame(compartidos.get("opciones"), pool.lista(List.of("a", "b")));
+        // Los textos propios de la pregunta se copian tal cual, sin entrar en el pool
+        assertSame(enunciado, compartidos.get("enunciado"));
+        assertNotSame(enunciado, pool.cadena(new String("¿Capital de Francia?")));
+    }
+
+    @Test
+    @DisplayName("No debería retener las cadenas y listas que ya no se usan")
+    void noDeberiaRetenerValoresSinUso() throws InterruptedException {
+        List<String> opciones = pool.lista(List.of(new String("x"), new String("y")));
+        pool.cadena(new String("temporal"));
+        assertEquals(3, pool.getCadenasUnicas());
+        assertEquals(1, pool.getListasUnicas());
+
+        // Solo "temporal" queda sin usar; los elementos de la lista siguen vivos
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.getCadenasUnicas() > 2 && System.nanoTime() < limite) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertEquals(2, pool.getCadenasUnicas());
+        assertEquals(1, pool.getListasUnicas());
+        assertSame(opciones, pool.lista(List.of("x", "y")));
+    }
+}
@@ -0,0 +1,88 @@
+package com.kursor.yaml.dto;
+
+import com.kursor.domain.Bloque;
+import com.kursor.domain.Curso;
+import com.kursor.domain.Pregunta;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de CursoDTO como vista del dominio")
+class CursoDTOTest {
+
+    private Curso curso;
+    private Bloque bloque;
+
+    @BeforeEach
+    void setUp() {
+        bloque = new Bloque("curso_test-b1", "Bloque 1", "Descripción", "test");
+        bloque.addPregunta(new PreguntaMock("p1", "test"));
+        bloque.addPregunta(new PreguntaMock("p2", "test"));
+
+        curso = new Curso("curso_test", "Curso de prueba", "Descripción del curso");
+        curso.setBloques(List.of(bloque));
+    }
+
+    @Test
+    @DisplayName("Debería exponer los datos del curso sin copiar el modelo")
+    void deberiaExponerDatosSinCopiar() {
+        CursoDTO dto = new CursoDTO(curso);
+
+        assertSame(curso, dto.getCurso());
+        assertEquals("curso_test", dto.getId());
+        assertEquals("Curso de prueba", dto.getTitulo());
+        assertEquals(1, dto.getTotalBloques());
+        assertEquals(2, dto.getTotalPreguntas());
+        assertEquals(2, dto.getPreguntasPorTipo("test"));
+
+        BloqueDTO bloqueDTO = dto.getBloques().get(0);
+        assertSame(bloque, bloqueDTO.getBloque());
+        assertEquals("curso_test-b1", bloqueDTO.getId());
+        assertSame(bloque.getPreguntas().get(1), bloqueDTO.getPreguntas().get(1).getPregunta());
+        assertEquals("Pregunta mock p2", bloqueDTO.getPreguntas().get(1).getEnunciado());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar modificaciones sobre una vista")
+    void deberiaRechazarModificacionesSobreVista() {
+        CursoDTO dto = new CursoDTO(curso);
+        BloqueDTO bloqueDTO = dto.getBloques().get(0);
+
+        assertThrows(UnsupportedOperationException.class, () -> dto.setTitulo("Otro"));
+        assertThrows(UnsupportedOperationException.class, () -> dto.getBloques().clear());
+        assertThrows(UnsupportedOperationException.class, () -> bloqueDTO.setTipo("otro"));
+        assertThrows(UnsupportedOperationException.class, () -> bloqueDTO.getPreguntas().remove(0));
+        assertThrows(UnsupportedOperationException.class,
+            () -> bloqueDTO.getPreguntas().get(0).setEnunciado("Otro"));
+    }
+
+    @Test
+    @DisplayName("Debería permitir modificar un DTO independiente")
+    void deberiaPermitirModificarDtoIndependiente() {
+        CursoDTO dto = new CursoDTO("curso", "Curso", null, "curso.yaml");
+
+        dto.setTitulo("Nuevo título");
+
+        assertNull(dto.getCurso());
+        assertEquals("Nuevo título", dto.getTitulo());
+    }
+
+    private static class PreguntaMock extends Pregunta {
+
+        PreguntaMock(String id, String tipo) {
+            super(id, tipo);
+        }
+
+        @Override
+        public boolean esCorrecta(String respuesta) {
+            return "correcta".equals(respuesta);
+        }
+
+        @Override
+        public String getEnunciado() {
+            return "Pregunta mock " + getId();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Objects;
 
 /**
  * Representa una pregunta de tipo test con opciones múltiples en el sistema Kursor.
@@ -93,7 +95,7 @@ public class PreguntaTest extends Pregunta {
         }
         
         this.enunciado = enunciado.trim();
-        this.opciones = new ArrayList<>(opciones); // Crear copia defensiva
+        this.opciones = copiarOpciones(opciones);
         this.respuestaCorrecta = respuestaCorrecta.trim();
         
         logger.info("Pregunta 'test' creada exitosamente - ID: " + id + ", Opciones: " + opciones.size());
@@ -162,7 +164,7 @@ public class PreguntaTest extends Pregunta {
             throw new IllegalArgumentException("Respuesta correcta debe estar en las opciones");
         }
         
-        this.opciones = new ArrayList<>(opciones); // Crear copia defensiva
+        this.opciones = copiarOpciones(opciones);
         logger.info("Opciones de pregunta 'test' actualizadas - ID: " + getId() + ", Cantidad: " + opciones.size());
     }
 
@@ -256,4 +258,22 @@ public class PreguntaTest extends Pregunta {
         return String.format("PreguntaTest{id='%s', enunciado='%s', opciones=%s, respuestaCorrecta='%s'}", 
                            getId(), enunciado, opciones, respuestaCorrecta);
     }
+    
+    /**
+     * Crea la copia defensiva de las opciones como lista inmutable.
+     * 
+     * <p>Si las opciones ya son una lista inmutable (por ejemplo, la instancia
+     * compartida que entrega el pool de cadenas del cargador) se reutiliza sin
+     * copiarla, de modo que las preguntas con las mismas opciones comparten la lista.</p>
+     * 
+     * @param opciones Lista de opciones
+     * @return Lista inmutable de opciones
+     */
+    private static List<String> copiarOpciones(List<String> opciones) {
+        if (opciones.stream().anyMatch(Objects::isNull)) {
+            // List.copyOf no admite elementos null
+            return Collections.unmodifiableList(new ArrayList<>(opciones));
+        }
+        return List.copyOf(opciones);
+    }
 } 
\ No newline at end of file
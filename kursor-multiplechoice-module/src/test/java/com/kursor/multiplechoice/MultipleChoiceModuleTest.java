@@ -31,11 +31,13 @@ import static org.mockito.Mockito.*;
 class MultipleChoiceModuleTest {
 
     private MultipleChoiceModule module;
+    private MultipleChoiceModuleUI vista;
     @Mock private PreguntaEventListener eventListener;
 
     @BeforeEach
     void setUp() {
         module = new MultipleChoiceModule();
+        vista = new MultipleChoiceModuleUI();
     }
 
     @Nested
@@ -164,7 +166,7 @@ class MultipleChoiceModuleTest {
             pregunta.setRespuestaCorrecta("Madrid");
             
             // When
-            Node interfaz = module.createQuestionUI(pregunta, eventListener);
+            Node interfaz = vista.createQuestionUI(pregunta, eventListener);
             
             // Then
             assertNotNull(interfaz);
@@ -183,7 +185,7 @@ class MultipleChoiceModuleTest {
             pregunta.setRespuestaCorrecta("Opción A");
             
             // When
-            Node interfaz = module.createQuestionUI(pregunta, eventListener);
+            Node interfaz = vista.createQuestionUI(pregunta, eventListener);
             
             // Then
             VBox vbox = (VBox) interfaz;
@@ -205,7 +207,7 @@ class MultipleChoiceModuleTest {
             pregunta.setRespuestaCorrecta("Opción A");
             
             // When
-            Node interfaz = module.createQuestionUI(pregunta, eventListener);
+            Node interfaz = vista.createQuestionUI(pregunta, eventListener);
             
             // Then
             VBox vbox = (VBox) interfaz;
@@ -227,7 +229,7 @@ class MultipleChoiceModuleTest {
             
             // When & Then
             assertThrows(IllegalArgumentException.class, () -> {
-                module.createQuestionUI(pregunta, eventListener);
+                vista.createQuestionUI(pregunta, eventListener);
             });
         }
     }
@@ -309,7 +311,7 @@ class MultipleChoiceModuleTest {
             pregunta.setOpciones(Arrays.asList("Opción A", "Opción B"));
             pregunta.setRespuestaCorrecta("Opción A");
             
-            Node interfaz = module.createQuestionUI(pregunta, eventListener);
+            Node interfaz = vista.createQuestionUI(pregunta, eventListener);
             
             // When & Then
             // Simular selección de opción (esto dependerá de la implementación específica)
@@ -327,7 +329,7 @@ class MultipleChoiceModuleTest {
             pregunta.setOpciones(Arrays.asList("Opción A", "Opción B"));
             pregunta.setRespuestaCorrecta("Opción A");
             
-            Node interfaz = module.createQuestionUI(pregunta, eventListener);
+            Node interfaz = vista.createQuestionUI(pregunta, eventListener);
             
             // When & Then
             // Simular envío de respuesta
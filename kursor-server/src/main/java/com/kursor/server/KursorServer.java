@@ -0,0 +1,220 @@
+package com.kursor.server;
+
+import com.kursor.persistence.config.PersistenceConfig;
+import com.kursor.shared.util.CursoManager;
+import com.kursor.shared.util.ModuleManager;
+import com.kursor.shared.util.StrategyManager;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Servidor HTTP de Kursor.
+ *
+ * <p>Permite usar Kursor como un servicio compartido por un aula en lugar de
+ * una aplicación de escritorio por aprendiz. Expone el catálogo, el inicio de
+ * sesiones, la pregunta pendiente y el envío de respuestas con la API de
+ * {@link ManejadorApi}, sobre el {@link HttpServer} del JDK.</p>
+ *
+ * <p>Cada petición se atiende en su propio hilo. Si la máquina virtual dispone
+ * de hilos virtuales (Java 21 o posterior) y no se indica un número de hilos,
+ * se usa un hilo virtual por petición; en Java 17 se usa un grupo fijo de
+ * hilos de plataforma ({@value #HILOS_POR_DEFECTO} por defecto), suficiente
+ * para que las peticiones que esperan a la base de datos no bloqueen al resto.</p>
+ *
+ * <p><strong>Uso:</strong></p>
+ * <pre>
+ * java -cp ... com.kursor.server.KursorServer [--puerto=8080] [--hilos=N]
+ *      [--inactividad=minutos] [--sin-persistencia]
+ * </pre>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see ManejadorApi
+ * @see ServicioSesiones
+ * @see com.kursor.server.carga.PruebaCarga
+ */
+public class KursorServer {
+
+    /** Logger para registrar eventos del servidor */
+    private static final Logger logger = LoggerFactory.getLogger(KursorServer.class);
+
+    /** Puerto por defecto */
+    public static final int PUERTO_POR_DEFECTO = 8080;
+
+    /** Hilos de plataforma por defecto cuando no hay hilos virtuales */
+    public static final int HILOS_POR_DEFECTO = 256;
+
+    /** Minutos sin uso tras los que se cierra una sesión, por defecto */
+    public static final int INACTIVIDAD_POR_DEFECTO = 30;
+
+    /** Conexiones pendientes de aceptar que admite el sistema operativo */
+    private static final int COLA_CONEXIONES = 4096;
+
+    /** Servicio con la lógica del servidor */
+    private final ServicioSesiones servicio;
+
+    /** Servidor HTTP del JDK */
+    private final HttpServer servidor;
+
+    /** Hilos que atienden las peticiones */
+    private final ExecutorService ejecutor;
+
+    /** Tarea que cierra las sesiones inactivas */
+    private final ScheduledExecutorService limpieza;
+
+    /** Minutos sin uso tras los que se cierra una sesión */
+    private final long inactividadMinutos;
+
+    /**
+     * Crea el servidor, sin iniciarlo.
+     *
+     * @param puerto Puerto en el que escuchar (0 para uno libre)
+     * @param hilos Hilos de plataforma que atienden las peticiones, o 0 para
+     *              usar hilos virtuales si están disponibles
+     * @param inactividadMinutos Minutos sin uso tras los que se cierra una sesión
+     * @param servicio Servicio con la lógica del servidor
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public KursorServer(int puerto, int hilos, long inactividadMinutos, ServicioSesiones servicio) throws IOException {
+        this.servicio = servicio;
+        this.inactividadMinutos = inactividadMinutos;
+        this.servidor = HttpServer.create(new InetSocketAddress(puerto), COLA_CONEXIONES);
+        this.ejecutor = crearEjecutor(hilos);
+        this.limpieza = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "kursor-server-limpieza");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+
+        servidor.createContext(ManejadorApi.PREFIJO, new ManejadorApi(servicio, new SerializadorJson()));
+        servidor.setExecutor(ejecutor);
+    }
+
+    /**
+     * Inicia el servidor.
+     */
+    public void iniciar() {
+        servidor.start();
+        limpieza.scheduleWithFixedDelay(
+            () -> servicio.cerrarInactivas(TimeUnit.MINUTES.toMillis(inactividadMinutos)),
+            1, 1, TimeUnit.MINUTES);
+        logger.info("Servidor Kursor escuchando en el puerto {}", getPuerto());
+    }
+
+    /**
+     * Detiene el servidor y cierra todas las sesiones.
+     *
+     * @param esperaSegundos Segundos que se espera a que terminen las peticiones en curso
+     */
+    public void detener(int esperaSegundos) {
+        logger.info("Deteniendo servidor Kursor...");
+        servidor.stop(esperaSegundos);
+        limpieza.shutdownNow();
+        ejecutor.shutdown();
+        try {
+            if (!ejecutor.awaitTermination(esperaSegundos, TimeUnit.SECONDS)) {
+                ejecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ejecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        servicio.cerrarTodas();
+        logger.info("Servidor Kursor detenido");
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servidor.
+     *
+     * @return Puerto local
+     */
+    public int getPuerto() {
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * Crea los hilos que atienden las peticiones.
+     *
+     * <p>Los hilos virtuales se obtienen por reflexión para poder compilar con
+     * Java 17 y aprovecharlos al ejecutar con una versión posterior.</p>
+     *
+     * @param hilos Hilos de plataforma, o 0 para usar hilos virtuales si están disponibles
+     * @return Ejecutor de peticiones
+     */
+    static ExecutorService crearEjecutor(int hilos) {
+        if (hilos <= 0) {
+            try {
+                ExecutorService virtuales = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                logger.info("Peticiones atendidas con un hilo virtual por petición");
+                return virtuales;
+            } catch (ReflectiveOperationException e) {
+                hilos = HILOS_POR_DEFECTO;
+            }
+        }
+
+        AtomicInteger contador = new AtomicInteger();
+        logger.info("Peticiones atendidas con {} hilos de plataforma", hilos);
+        return Executors.newFixedThreadPool(hilos, tarea -> {
+            Thread hilo = new Thread(tarea, "kursor-server-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    /**
+     * Arranca el servidor con los módulos, estrategias y cursos del directorio
+     * de trabajo.
+     *
+     * @param args Opciones {@code --puerto=N}, {@code --hilos=N},
+     *             {@code --inactividad=minutos} y {@code --sin-persistencia}
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public static void main(String[] args) throws IOException {
+        int puerto = PUERTO_POR_DEFECTO;
+        int hilos = 0;
+        long inactividad = INACTIVIDAD_POR_DEFECTO;
+        boolean persistencia = true;
+        for (String arg : args) {
+            if (arg.startsWith("--puerto=")) {
+                puerto = Integer.parseInt(arg.substring("--puerto=".length()));
+            } else if (arg.startsWith("--hilos=")) {
+                hilos = Integer.parseInt(arg.substring("--hilos=".length()));
+            } else if (arg.startsWith("--inactividad=")) {
+                inactividad = Long.parseLong(arg.substring("--inactividad=".length()));
+            } else if ("--sin-persistencia".equals(arg)) {
+                persistencia = false;
+            } else {
+                System.err.println("Opción desconocida: " + arg);
+                System.err.println("Uso: KursorServer [--puerto=8080] [--hilos=N] [--inactividad=minutos] [--sin-persistencia]");
+                System.exit(2);
+            }
+        }
+
+        if (persistencia) {
+            PersistenceConfig.initialize();
+        }
+        ServicioSesiones servicio = new ServicioSesiones(CursoManager.getInstance(),
+            StrategyManager.getInstance(), ModuleManager.getInstance(), persistencia);
+        logger.info("Catálogo cargado: {} cursos", servicio.getCatalogo().size());
+
+        KursorServer servidor = new KursorServer(puerto, hilos, inactividad, servicio);
+        boolean conPersistencia = persistencia;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidor.detener(5);
+            if (conPersistencia) {
+                PersistenceConfig.shutdown();
+            }
+        }, "kursor-server-parada"));
+        servidor.iniciar();
+    }
+}
@@ -0,0 +1,292 @@
+package com.kursor.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Manejador HTTP de la API REST del servidor.
+ *
+ * <p>Rutas (todas bajo {@value #PREFIJO}, con cuerpos JSON en UTF-8):</p>
+ * <ul>
+ *   <li>{@code GET /cursos}: catálogo de cursos</li>
+ *   <li>{@code GET /estrategias}: estrategias de aprendizaje disponibles</li>
+ *   <li>{@code GET /estado}: número de sesiones abiertas</li>
+ *   <li>{@code POST /sesiones}: inicia una sesión; cuerpo
+ *       {@code {"cursoId", "bloqueId" (opcional), "estrategia" (opcional)}}</li>
+ *   <li>{@code GET /sesiones/{id}}: estado de la sesión y su pregunta pendiente</li>
+ *   <li>{@code GET /sesiones/{id}/pregunta}: pregunta pendiente
+ *       ({@code 204} si la sesión ha terminado)</li>
+ *   <li>{@code POST /sesiones/{id}/respuestas}: responde la pregunta pendiente;
+ *       cuerpo {@code {"preguntaId" (opcional), "respuesta"}}. Devuelve si es
+ *       correcta y el nuevo estado de la sesión, con la siguiente pregunta</li>
+ *   <li>{@code DELETE /sesiones/{id}}: cierra la sesión</li>
+ * </ul>
+ *
+ * <p>Los errores se devuelven como {@code {"error": mensaje}} con el código
+ * {@code 400} (petición incorrecta), {@code 404} (recurso inexistente),
+ * {@code 405} (método no admitido), {@code 409} (estado incompatible, como
+ * responder una sesión terminada) o {@code 500}.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see ServicioSesiones
+ */
+public class ManejadorApi implements HttpHandler {
+
+    /** Logger para registrar eventos de la API */
+    private static final Logger logger = LoggerFactory.getLogger(ManejadorApi.class);
+
+    /** Prefijo de las rutas de la API */
+    public static final String PREFIJO = "/api";
+
+    /** Estrategia de las sesiones que no indican ninguna */
+    public static final String ESTRATEGIA_POR_DEFECTO = "Secuencial";
+
+    /** Tipo de contenido de las respuestas */
+    private static final String TIPO_JSON = "application/json; charset=utf-8";
+
+    /** Servicio con la lógica del servidor */
+    private final ServicioSesiones servicio;
+
+    /** Serializador JSON */
+    private final SerializadorJson json;
+
+    /**
+     * Crea el manejador.
+     *
+     * @param servicio Servicio con la lógica del servidor
+     * @param json Serializador JSON
+     */
+    public ManejadorApi(ServicioSesiones servicio, SerializadorJson json) {
+        this.servicio = servicio;
+        this.json = json;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                atender(exchange);
+            } catch (IllegalArgumentException e) {
+                enviarError(exchange, 400, e.getMessage());
+            } catch (NoSuchElementException e) {
+                enviarError(exchange, 404, e.getMessage());
+            } catch (UnsupportedOperationException e) {
+                enviarError(exchange, 405, e.getMessage());
+            } catch (IllegalStateException e) {
+                enviarError(exchange, 409, e.getMessage());
+            } catch (IOException e) {
+                logger.debug("Conexión interrumpida en {} {}: {}",
+                    exchange.getRequestMethod(), exchange.getRequestURI(), e.getMessage());
+            } catch (RuntimeException e) {
+                logger.error("Error al atender {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                enviarError(exchange, 500, "Error interno del servidor");
+            }
+        }
+    }
+
+    /**
+     * Encamina una petición según su método y su ruta.
+     *
+     * @param exchange Petición HTTP
+     * @throws IOException si falla la comunicación con el cliente
+     */
+    private void atender(HttpExchange exchange) throws IOException {
+        String metodo = exchange.getRequestMethod();
+        String ruta = exchange.getRequestURI().getPath();
+        if (!ruta.startsWith(PREFIJO + "/")) {
+            throw new NoSuchElementException("Ruta no encontrada: " + ruta);
+        }
+        String[] partes = ruta.substring(PREFIJO.length() + 1).split("/");
+
+        switch (partes[0]) {
+            case "cursos":
+                exigir(metodo, "GET", partes.length == 1);
+                enviar(exchange, 200, json.catalogo(servicio.getCatalogo()));
+                return;
+            case "estrategias":
+                exigir(metodo, "GET", partes.length == 1);
+                enviar(exchange, 200, json.estrategias(servicio.getEstrategias()));
+                return;
+            case "estado":
+                exigir(metodo, "GET", partes.length == 1);
+                enviar(exchange, 200, json.objeto().put("sesiones", servicio.getNumeroSesiones()));
+                return;
+            case "sesiones":
+                atenderSesiones(exchange, metodo, partes);
+                return;
+            default:
+                throw new NoSuchElementException("Ruta no encontrada: " + ruta);
+        }
+    }
+
+    /**
+     * Atiende las rutas de sesiones.
+     *
+     * @param exchange Petición HTTP
+     * @param metodo Método HTTP
+     * @param partes Segmentos de la ruta tras el prefijo
+     * @throws IOException si falla la comunicación con el cliente
+     */
+    private void atenderSesiones(HttpExchange exchange, String metodo, String[] partes) throws IOException {
+        if (partes.length == 1) {
+            exigir(metodo, "POST", true);
+            ObjectNode cuerpo = leer(exchange);
+            SesionServidor sesion = servicio.iniciarSesion(
+                texto(cuerpo, "cursoId"),
+                texto(cuerpo, "bloqueId"),
+                cuerpo.path("estrategia").asText(ESTRATEGIA_POR_DEFECTO));
+            exchange.getResponseHeaders().set("Location", PREFIJO + "/sesiones/" + sesion.getId());
+            enviarSesion(exchange, 201, sesion, null);
+            return;
+        }
+
+        String sesionId = partes[1];
+        if (partes.length == 2) {
+            if ("DELETE".equals(metodo)) {
+                if (!servicio.cerrarSesion(sesionId)) {
+                    throw new NoSuchElementException("Sesión no encontrada: " + sesionId);
+                }
+                enviar(exchange, 204, (byte[]) null);
+                return;
+            }
+            exigir(metodo, "GET", true);
+            enviarSesion(exchange, 200, servicio.obtenerSesion(sesionId), null);
+            return;
+        }
+
+        if (partes.length == 3 && "pregunta".equals(partes[2])) {
+            exigir(metodo, "GET", true);
+            SesionServidor sesion = servicio.obtenerSesion(sesionId);
+            JsonNode pregunta;
+            synchronized (sesion) {
+                pregunta = sesion.getPreguntaActual() != null ? json.pregunta(sesion.getPreguntaActual()) : null;
+            }
+            if (pregunta != null) {
+                enviar(exchange, 200, pregunta);
+            } else {
+                enviar(exchange, 204, (byte[]) null);
+            }
+            return;
+        }
+
+        if (partes.length == 3 && "respuestas".equals(partes[2])) {
+            exigir(metodo, "POST", true);
+            ObjectNode cuerpo = leer(exchange);
+            JsonNode respuesta = cuerpo.get("respuesta");
+            boolean correcta = servicio.responder(sesionId, texto(cuerpo, "preguntaId"), valor(respuesta));
+            enviarSesion(exchange, 200, servicio.obtenerSesion(sesionId), correcta);
+            return;
+        }
+
+        throw new NoSuchElementException("Ruta no encontrada: " + exchange.getRequestURI().getPath());
+    }
+
+    /**
+     * Envía el estado de una sesión.
+     *
+     * @param exchange Petición HTTP
+     * @param estado Código de estado HTTP
+     * @param sesion Sesión
+     * @param correcta Resultado de la respuesta atendida, o null si no se respondió
+     * @throws IOException si falla la comunicación con el cliente
+     */
+    private void enviarSesion(HttpExchange exchange, int estado, SesionServidor sesion, Boolean correcta)
+            throws IOException {
+        ObjectNode nodo;
+        synchronized (sesion) {
+            nodo = json.sesion(sesion);
+        }
+        if (correcta != null) {
+            nodo.put("correcta", correcta);
+        }
+        enviar(exchange, estado, nodo);
+    }
+
+    private ObjectNode leer(HttpExchange exchange) throws IOException {
+        try (InputStream cuerpo = exchange.getRequestBody()) {
+            return json.leerObjeto(cuerpo);
+        }
+    }
+
+    private void enviar(HttpExchange exchange, int estado, JsonNode nodo) throws IOException {
+        enviar(exchange, estado, json.escribir(nodo));
+    }
+
+    private void enviar(HttpExchange exchange, int estado, byte[] cuerpo) throws IOException {
+        if (cuerpo == null) {
+            exchange.sendResponseHeaders(estado, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", TIPO_JSON);
+        exchange.sendResponseHeaders(estado, cuerpo.length);
+        try (OutputStream salida = exchange.getResponseBody()) {
+            salida.write(cuerpo);
+        }
+    }
+
+    private void enviarError(HttpExchange exchange, int estado, String mensaje) throws IOException {
+        if (estado >= 500) {
+            logger.warn("{} {} -> {}", exchange.getRequestMethod(), exchange.getRequestURI(), estado);
+        } else {
+            logger.debug("{} {} -> {}: {}", exchange.getRequestMethod(), exchange.getRequestURI(), estado, mensaje);
+        }
+        enviar(exchange, estado, json.objeto().put("error", mensaje));
+    }
+
+    /**
+     * Comprueba el método de una petición.
+     *
+     * @param metodo Método recibido
+     * @param esperado Método admitido
+     * @param rutaValida false si la ruta tiene segmentos de más
+     * @throws NoSuchElementException si la ruta no es válida
+     * @throws UnsupportedOperationException si el método no es el admitido
+     */
+    private static void exigir(String metodo, String esperado, boolean rutaValida) {
+        if (!rutaValida) {
+            throw new NoSuchElementException("Ruta no encontrada");
+        }
+        if (!esperado.equals(metodo)) {
+            throw new UnsupportedOperationException("Método no admitido: " + metodo);
+        }
+    }
+
+    private static String texto(ObjectNode cuerpo, String campo) {
+        JsonNode valor = cuerpo.get(campo);
+        return valor != null && !valor.isNull() ? valor.asText() : null;
+    }
+
+    /**
+     * Convierte la respuesta JSON al valor que esperan los módulos: texto,
+     * booleano, número o lista de textos.
+     *
+     * @param respuesta Respuesta JSON
+     * @return Valor de la respuesta, o null si falta
+     */
+    private static Object valor(JsonNode respuesta) {
+        if (respuesta == null || respuesta.isNull()) {
+            return null;
+        }
+        if (respuesta.isBoolean()) {
+            return respuesta.booleanValue();
+        }
+        if (respuesta.isArray()) {
+            List<String> valores = new ArrayList<>(respuesta.size());
+            respuesta.forEach(elemento -> valores.add(elemento.asText()));
+            return valores;
+        }
+        return respuesta.asText();
+    }
+}
@@ -0,0 +1,203 @@
+package com.kursor.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kursor.domain.Pregunta;
+import com.kursor.strategy.EstrategiaModule;
+import com.kursor.yaml.dto.CursoDTO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Representación JSON de los recursos de la API.
+ *
+ * <p>Las preguntas se serializan con sus propiedades públicas, de modo que
+ * cada tipo de pregunta de los módulos aparece con sus propios campos
+ * (opciones, anverso...), salvo las que desvelan la solución
+ * ({@link #CAMPOS_SOLUCION}). Los cursos se comparten entre sesiones, así que la
+ * representación de cada pregunta se calcula una sola vez. El catálogo se
+ * serializa una vez por versión.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Es thread-safe. Los nodos que devuelve
+ * {@link #pregunta(Pregunta)} se comparten y no deben modificarse.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see ManejadorApi
+ */
+public final class SerializadorJson {
+
+    /** Propiedades de las preguntas que no se envían al aprendiz */
+    static final Set<String> CAMPOS_SOLUCION = Set.of(
+        "respuesta", "respuestas", "respuestaCorrecta", "respuestasCorrectas");
+
+    /** Mapper compartido (thread-safe una vez configurado) */
+    private final ObjectMapper mapper = new ObjectMapper()
+        .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+    /** Representación de cada pregunta ya serializada */
+    private final Map<Pregunta, ObjectNode> preguntas = new WeakHashMap<>();
+
+    /** Lista de cursos de la última versión del catálogo serializada */
+    private List<CursoDTO> catalogoSerializado;
+
+    /** JSON de la última versión del catálogo */
+    private byte[] catalogoJson;
+
+    /**
+     * Obtiene el mapper, para leer los cuerpos de las peticiones.
+     *
+     * @return Mapper JSON
+     */
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * Lee el cuerpo JSON de una petición.
+     *
+     * @param cuerpo Cuerpo de la petición
+     * @return Objeto JSON, vacío si el cuerpo está vacío
+     * @throws IllegalArgumentException si el cuerpo no es un objeto JSON
+     */
+    public ObjectNode leerObjeto(InputStream cuerpo) {
+        try {
+            JsonNode nodo = mapper.readTree(cuerpo);
+            if (nodo == null || nodo.isMissingNode()) {
+                return mapper.createObjectNode();
+            }
+            if (!nodo.isObject()) {
+                throw new IllegalArgumentException("El cuerpo debe ser un objeto JSON");
+            }
+            return (ObjectNode) nodo;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON inválido: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Serializa un nodo JSON.
+     *
+     * @param nodo Nodo a serializar
+     * @return JSON en UTF-8
+     */
+    public byte[] escribir(JsonNode nodo) {
+        try {
+            return mapper.writeValueAsBytes(nodo);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
+    }
+
+    /**
+     * Crea un objeto JSON vacío.
+     *
+     * @return Objeto nuevo
+     */
+    public ObjectNode objeto() {
+        return mapper.createObjectNode();
+    }
+
+    /**
+     * Obtiene el JSON del catálogo, serializándolo solo si ha cambiado.
+     *
+     * @param cursos Cabeceras de los cursos de la versión actual del catálogo
+     * @return JSON del catálogo
+     */
+    public synchronized byte[] catalogo(List<CursoDTO> cursos) {
+        if (cursos != catalogoSerializado) {
+            ArrayNode lista = mapper.createArrayNode();
+            for (CursoDTO curso : cursos) {
+                lista.addObject()
+                    .put("id", curso.getId())
+                    .put("titulo", curso.getTitulo())
+                    .put("descripcion", curso.getDescripcion());
+            }
+            catalogoJson = escribir(lista);
+            catalogoSerializado = cursos;
+        }
+        return catalogoJson;
+    }
+
+    /**
+     * Crea el JSON de las estrategias disponibles.
+     *
+     * @param estrategias Estrategias cargadas
+     * @return Lista JSON de estrategias
+     */
+    public ArrayNode estrategias(List<EstrategiaModule> estrategias) {
+        ArrayNode lista = mapper.createArrayNode();
+        for (EstrategiaModule estrategia : estrategias) {
+            lista.addObject()
+                .put("nombre", estrategia.getNombre())
+                .put("descripcion", estrategia.getDescripcion());
+        }
+        return lista;
+    }
+
+    /**
+     * Obtiene la representación de una pregunta, sin su solución.
+     *
+     * @param pregunta Pregunta
+     * @return Objeto JSON compartido; no debe modificarse
+     */
+    public ObjectNode pregunta(Pregunta pregunta) {
+        synchronized (preguntas) {
+            ObjectNode nodo = preguntas.get(pregunta);
+            if (nodo != null) {
+                return nodo;
+            }
+        }
+
+        ObjectNode nodo = mapper.createObjectNode()
+            .put("id", pregunta.getId())
+            .put("tipo", pregunta.getTipo())
+            .put("enunciado", pregunta.getEnunciado());
+        JsonNode propiedades = mapper.valueToTree(pregunta);
+        for (Iterator<Map.Entry<String, JsonNode>> it = propiedades.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> propiedad = it.next();
+            if (!CAMPOS_SOLUCION.contains(propiedad.getKey()) && !nodo.has(propiedad.getKey())) {
+                nodo.set(propiedad.getKey(), propiedad.getValue());
+            }
+        }
+
+        synchronized (preguntas) {
+            preguntas.putIfAbsent(pregunta, nodo);
+            return preguntas.get(pregunta);
+        }
+    }
+
+    /**
+     * Crea el JSON del estado de una sesión, con su pregunta pendiente.
+     *
+     * @param sesion Sesión (el llamador debe tenerla sincronizada)
+     * @return Objeto JSON nuevo
+     */
+    public ObjectNode sesion(SesionServidor sesion) {
+        ObjectNode nodo = mapper.createObjectNode()
+            .put("id", sesion.getId())
+            .put("cursoId", sesion.getCursoId())
+            .put("bloqueId", sesion.getBloqueId())
+            .put("estrategia", sesion.getEstrategia())
+            .put("respondidas", sesion.getRespondidas())
+            .put("aciertos", sesion.getAciertos())
+            .put("progreso", sesion.getProgreso())
+            .put("terminada", sesion.isTerminada());
+        Pregunta pregunta = sesion.getPreguntaActual();
+        if (pregunta != null) {
+            nodo.set("pregunta", pregunta(pregunta));
+        } else {
+            nodo.putNull("pregunta");
+        }
+        return nodo;
+    }
+}
@@ -0,0 +1,323 @@
+package com.kursor.server;
+
+import com.kursor.domain.Bloque;
+import com.kursor.domain.Curso;
+import com.kursor.domain.EstrategiaAprendizaje;
+import com.kursor.domain.Pregunta;
+import com.kursor.modules.PreguntaModule;
+import com.kursor.persistence.config.PersistenceConfig;
+import com.kursor.persistence.repository.EstadoEstrategiaRepository;
+import com.kursor.persistence.repository.PreguntaSesionRepository;
+import com.kursor.persistence.repository.SesionRepository;
+import com.kursor.presentation.controllers.CursoSessionManager;
+import com.kursor.shared.util.CursoManager;
+import com.kursor.shared.util.ModuleManager;
+import com.kursor.shared.util.StrategyManager;
+import com.kursor.strategy.EstrategiaModule;
+import com.kursor.yaml.dto.CursoDTO;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lógica del servidor: catálogo, sesiones, preguntas y respuestas.
+ *
+ * <p>Reutiliza los mismos componentes que la aplicación de escritorio:
+ * {@link CursoManager} para el catálogo y los cursos, {@link StrategyManager}
+ * para crear la estrategia de cada sesión, {@link ModuleManager} para validar
+ * las respuestas con el módulo de cada tipo de pregunta y
+ * {@link CursoSessionManager} con los repositorios de persistencia para
+ * registrarlas. Al usar solo el SPI sin interfaz de los módulos, el servidor
+ * no carga ninguna clase de JavaFX.</p>
+ *
+ * <p>Los cursos se comparten entre todas las sesiones. Cada sesión tiene su
+ * propia estrategia y, con persistencia, su propio EntityManager, que se
+ * cierra al terminar o caducar la sesión.</p>
+ *
+ * <p>Los errores de las peticiones se comunican con excepciones:
+ * {@link IllegalArgumentException} para datos incorrectos y
+ * {@link NoSuchElementException} para cursos, bloques, estrategias o sesiones
+ * que no existen.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Es thread-safe. Las sesiones se guardan en
+ * un mapa concurrente y cada una se usa sincronizando sobre ella.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see KursorServer
+ * @see SesionServidor
+ */
+public class ServicioSesiones {
+
+    /** Logger para registrar eventos del servicio */
+    private static final Logger logger = LoggerFactory.getLogger(ServicioSesiones.class);
+
+    /** Gestor de cursos */
+    private final CursoManager cursoManager;
+
+    /** Gestor de estrategias */
+    private final StrategyManager strategyManager;
+
+    /** Gestor de módulos de preguntas */
+    private final ModuleManager moduleManager;
+
+    /** Indica si las respuestas se guardan en la base de datos */
+    private final boolean persistencia;
+
+    /** Sesiones abiertas por identificador */
+    private final Map<String, SesionServidor> sesiones = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el servicio con los gestores de la aplicación.
+     *
+     * @param cursoManager Gestor de cursos
+     * @param strategyManager Gestor de estrategias
+     * @param moduleManager Gestor de módulos de preguntas
+     * @param persistencia true para guardar las respuestas en la base de datos;
+     *                     requiere {@link PersistenceConfig} inicializado
+     */
+    public ServicioSesiones(CursoManager cursoManager, StrategyManager strategyManager,
+                            ModuleManager moduleManager, boolean persistencia) {
+        this.cursoManager = cursoManager;
+        this.strategyManager = strategyManager;
+        this.moduleManager = moduleManager;
+        this.persistencia = persistencia;
+    }
+
+    /**
+     * Obtiene las cabeceras del catálogo de cursos.
+     *
+     * @return Cursos del catálogo, sin bloques ni preguntas
+     */
+    public List<CursoDTO> getCatalogo() {
+        return cursoManager.getCatalogo().getCursos();
+    }
+
+    /**
+     * Obtiene las estrategias de aprendizaje disponibles.
+     *
+     * @return Estrategias cargadas
+     */
+    public List<EstrategiaModule> getEstrategias() {
+        return strategyManager.getStrategies();
+    }
+
+    /**
+     * Inicia una sesión.
+     *
+     * @param cursoId Identificador del curso
+     * @param bloqueId Identificador del bloque, o null para recorrer todo el curso
+     * @param nombreEstrategia Nombre de la estrategia de aprendizaje
+     * @return Sesión nueva, con su primera pregunta pendiente
+     * @throws IllegalArgumentException si falta el curso o la estrategia, o no hay preguntas
+     * @throws NoSuchElementException si el curso, el bloque o la estrategia no existen
+     */
+    public SesionServidor iniciarSesion(String cursoId, String bloqueId, String nombreEstrategia) {
+        requerir(cursoId, "cursoId");
+        requerir(nombreEstrategia, "estrategia");
+
+        CursoDTO cursoDTO = cursoManager.obtenerCursoPorId(cursoId);
+        Curso curso = cursoDTO != null ? cursoDTO.getCurso() : null;
+        if (curso == null) {
+            throw new NoSuchElementException("Curso no encontrado: " + cursoId);
+        }
+
+        List<Pregunta> preguntas = obtenerPreguntas(curso, bloqueId);
+        if (preguntas.isEmpty()) {
+            throw new IllegalArgumentException("El curso no tiene preguntas: " + cursoId);
+        }
+        if (strategyManager.findStrategyByName(nombreEstrategia) == null) {
+            throw new NoSuchElementException("Estrategia no encontrada: " + nombreEstrategia);
+        }
+        EstrategiaAprendizaje estrategia = strategyManager.crearEstrategia(nombreEstrategia, preguntas);
+        if (estrategia == null) {
+            throw new IllegalStateException("No se pudo crear la estrategia: " + nombreEstrategia);
+        }
+
+        String bloqueSesion = bloqueId != null ? bloqueId : "*";
+        EntityManager entityManager = persistencia ? PersistenceConfig.createEntityManager() : null;
+        CursoSessionManager sessionManager;
+        if (entityManager != null) {
+            sessionManager = new CursoSessionManager(cursoId, bloqueSesion, nombreEstrategia,
+                new SesionRepository(entityManager),
+                new PreguntaSesionRepository(entityManager),
+                new EstadoEstrategiaRepository(entityManager),
+                PersistenceConfig.getEscritorRespuestas());
+        } else {
+            sessionManager = new CursoSessionManager(cursoId, bloqueSesion, nombreEstrategia, null, null, null, null);
+        }
+        sessionManager.inicializar();
+
+        String id = UUID.randomUUID().toString();
+        SesionServidor sesion = new SesionServidor(id, cursoId, bloqueId, estrategia, sessionManager,
+            entityManager != null ? entityManager::close : null);
+        sesiones.put(id, sesion);
+
+        logger.debug("Sesión {} iniciada: curso {} bloque {} estrategia {}", id, cursoId, bloqueSesion, nombreEstrategia);
+        return sesion;
+    }
+
+    /**
+     * Obtiene una sesión abierta.
+     *
+     * @param sesionId Identificador de la sesión
+     * @return La sesión
+     * @throws NoSuchElementException si la sesión no existe o ha caducado
+     */
+    public SesionServidor obtenerSesion(String sesionId) {
+        SesionServidor sesion = sesionId != null ? sesiones.get(sesionId) : null;
+        if (sesion == null) {
+            throw new NoSuchElementException("Sesión no encontrada: " + sesionId);
+        }
+        sesion.tocar();
+        return sesion;
+    }
+
+    /**
+     * Responde la pregunta pendiente de una sesión y avanza a la siguiente.
+     *
+     * <p>La respuesta se valida con el módulo del tipo de la pregunta. Si se
+     * indica el identificador de la pregunta, debe ser el de la pendiente; así
+     * una petición repetida no responde dos veces.</p>
+     *
+     * @param sesionId Identificador de la sesión
+     * @param preguntaId Identificador de la pregunta respondida (opcional)
+     * @param respuesta Respuesta del aprendiz
+     * @return true si la respuesta es correcta
+     * @throws NoSuchElementException si la sesión no existe
+     * @throws IllegalArgumentException si falta la respuesta
+     * @throws IllegalStateException si la sesión ha terminado o la pregunta no es la pendiente
+     */
+    public boolean responder(String sesionId, String preguntaId, Object respuesta) {
+        if (respuesta == null) {
+            throw new IllegalArgumentException("Falta la respuesta");
+        }
+
+        SesionServidor sesion = obtenerSesion(sesionId);
+        synchronized (sesion) {
+            Pregunta pregunta = sesion.getPreguntaActual();
+            if (pregunta == null) {
+                throw new IllegalStateException("La sesión ha terminado");
+            }
+            if (preguntaId != null && !preguntaId.equals(pregunta.getId())) {
+                throw new IllegalStateException("La pregunta pendiente es " + pregunta.getId() + ", no " + preguntaId);
+            }
+
+            boolean correcta = validar(pregunta, respuesta);
+            sesion.registrarRespuesta(correcta, respuesta);
+            return correcta;
+        }
+    }
+
+    /**
+     * Cierra una sesión y libera sus recursos.
+     *
+     * @param sesionId Identificador de la sesión
+     * @return true si la sesión existía
+     */
+    public boolean cerrarSesion(String sesionId) {
+        SesionServidor sesion = sesionId != null ? sesiones.remove(sesionId) : null;
+        if (sesion == null) {
+            return false;
+        }
+        synchronized (sesion) {
+            sesion.cerrar();
+        }
+        logger.debug("Sesión {} cerrada tras {} respuestas", sesionId, sesion.getRespondidas());
+        return true;
+    }
+
+    /**
+     * Cierra las sesiones que llevan más tiempo del indicado sin usarse.
+     *
+     * @param inactividadMaximaMs Tiempo máximo sin usarse, en milisegundos
+     * @return Número de sesiones cerradas
+     */
+    public int cerrarInactivas(long inactividadMaximaMs) {
+        long limite = System.currentTimeMillis() - inactividadMaximaMs;
+        int cerradas = 0;
+        for (SesionServidor sesion : sesiones.values()) {
+            if (sesion.getUltimoAcceso() < limite && cerrarSesion(sesion.getId())) {
+                cerradas++;
+            }
+        }
+        if (cerradas > 0) {
+            logger.info("Cerradas {} sesiones inactivas; quedan {}", cerradas, sesiones.size());
+        }
+        return cerradas;
+    }
+
+    /**
+     * Cierra todas las sesiones.
+     */
+    public void cerrarTodas() {
+        for (String id : new ArrayList<>(sesiones.keySet())) {
+            cerrarSesion(id);
+        }
+    }
+
+    /**
+     * Obtiene el número de sesiones abiertas.
+     *
+     * @return Número de sesiones
+     */
+    public int getNumeroSesiones() {
+        return sesiones.size();
+    }
+
+    /**
+     * Valida una respuesta con el módulo del tipo de la pregunta, o con la
+     * propia pregunta si no hay módulo para su tipo.
+     *
+     * @param pregunta Pregunta respondida
+     * @param respuesta Respuesta del aprendiz
+     * @return true si la respuesta es correcta
+     */
+    private boolean validar(Pregunta pregunta, Object respuesta) {
+        PreguntaModule modulo = moduleManager.findModuleForPregunta(pregunta);
+        if (modulo != null) {
+            return modulo.validarRespuesta(pregunta, respuesta);
+        }
+        return pregunta.esCorrecta(respuesta.toString());
+    }
+
+    /**
+     * Obtiene las preguntas de un bloque o de todo el curso.
+     *
+     * @param curso Curso completo
+     * @param bloqueId Identificador del bloque, o null para todo el curso
+     * @return Preguntas en orden del curso
+     * @throws NoSuchElementException si el bloque no existe
+     */
+    private static List<Pregunta> obtenerPreguntas(Curso curso, String bloqueId) {
+        List<Pregunta> preguntas = new ArrayList<>();
+        boolean encontrado = false;
+        for (Bloque bloque : curso.getBloques()) {
+            if (bloqueId == null || bloqueId.equals(bloque.getId())) {
+                encontrado = true;
+                Collection<Pregunta> delBloque = bloque.getPreguntas();
+                if (delBloque != null) {
+                    preguntas.addAll(delBloque);
+                }
+            }
+        }
+        if (!encontrado && bloqueId != null) {
+            throw new NoSuchElementException("Bloque no encontrado: " + bloqueId);
+        }
+        return preguntas;
+    }
+
+    private static void requerir(String valor, String nombre) {
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("Falta el campo " + nombre);
+        }
+    }
+}
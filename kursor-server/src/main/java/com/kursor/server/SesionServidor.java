@@ -0,0 +1,200 @@
+package com.kursor.server;
+
+import com.kursor.domain.EstrategiaAprendizaje;
+import com.kursor.domain.Pregunta;
+import com.kursor.domain.Respuesta;
+import com.kursor.presentation.controllers.CursoSessionManager;
+
+/**
+ * Sesión de un aprendiz en el servidor.
+ *
+ * <p>Reúne la estrategia de aprendizaje que decide el orden de las preguntas,
+ * la pregunta pendiente de responder y el {@link CursoSessionManager} que
+ * registra las respuestas, igual que hace la aplicación de escritorio.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Las estrategias y el gestor de sesión no
+ * son thread-safe, por lo que {@link ServicioSesiones} accede a la sesión
+ * sincronizando sobre ella. Un aprendiz que envía varias peticiones a la vez
+ * las ve atendidas en orden.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see ServicioSesiones
+ */
+public final class SesionServidor {
+
+    /** Identificador de la sesión en el servidor */
+    private final String id;
+
+    /** Identificador del curso */
+    private final String cursoId;
+
+    /** Identificador del bloque, o null si la sesión recorre todo el curso */
+    private final String bloqueId;
+
+    /** Estrategia de aprendizaje de la sesión */
+    private final EstrategiaAprendizaje estrategia;
+
+    /** Gestor que registra las respuestas */
+    private final CursoSessionManager sessionManager;
+
+    /** Recurso que se libera al cerrar la sesión (puede ser null) */
+    private final AutoCloseable recursos;
+
+    /** Pregunta pendiente de responder, o null si la sesión ha terminado */
+    private Pregunta preguntaActual;
+
+    /** Número de respuestas recibidas */
+    private int respondidas;
+
+    /** Número de respuestas correctas */
+    private int aciertos;
+
+    /** Instante del último acceso, en milisegundos */
+    private volatile long ultimoAcceso;
+
+    SesionServidor(String id, String cursoId, String bloqueId, EstrategiaAprendizaje estrategia,
+                   CursoSessionManager sessionManager, AutoCloseable recursos) {
+        this.id = id;
+        this.cursoId = cursoId;
+        this.bloqueId = bloqueId;
+        this.estrategia = estrategia;
+        this.sessionManager = sessionManager;
+        this.recursos = recursos;
+        this.preguntaActual = estrategia.primeraPregunta();
+        tocar();
+    }
+
+    /**
+     * Registra la respuesta a la pregunta pendiente y avanza a la siguiente.
+     *
+     * @param correcta true si la respuesta es correcta
+     * @param respuesta Respuesta tal como la envió el aprendiz
+     */
+    void registrarRespuesta(boolean correcta, Object respuesta) {
+        estrategia.registrarRespuesta(new Respuesta(respuesta != null ? respuesta.toString() : null, correcta));
+        sessionManager.guardarRespuesta(preguntaActual.getId(), correcta);
+
+        respondidas++;
+        if (correcta) {
+            aciertos++;
+        }
+        preguntaActual = estrategia.hayMasPreguntas() ? estrategia.siguientePregunta() : null;
+    }
+
+    /**
+     * Marca la sesión como usada ahora.
+     */
+    void tocar() {
+        ultimoAcceso = System.currentTimeMillis();
+    }
+
+    /**
+     * Libera los recursos de la sesión.
+     */
+    void cerrar() {
+        if (recursos != null) {
+            try {
+                recursos.close();
+            } catch (Exception e) {
+                // El llamador registra la sesión cerrada; un fallo al liberar no la reabre
+            }
+        }
+    }
+
+    /**
+     * Obtiene el identificador de la sesión.
+     *
+     * @return Identificador de la sesión
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el identificador del curso.
+     *
+     * @return Identificador del curso
+     */
+    public String getCursoId() {
+        return cursoId;
+    }
+
+    /**
+     * Obtiene el identificador del bloque.
+     *
+     * @return Identificador del bloque, o null si la sesión recorre todo el curso
+     */
+    public String getBloqueId() {
+        return bloqueId;
+    }
+
+    /**
+     * Obtiene el nombre de la estrategia de la sesión.
+     *
+     * @return Nombre de la estrategia
+     */
+    public String getEstrategia() {
+        return estrategia.getNombre();
+    }
+
+    /**
+     * Obtiene la pregunta pendiente de responder.
+     *
+     * @return Pregunta actual, o null si la sesión ha terminado
+     */
+    public Pregunta getPreguntaActual() {
+        return preguntaActual;
+    }
+
+    /**
+     * Indica si la sesión ha terminado.
+     *
+     * @return true si no quedan preguntas
+     */
+    public boolean isTerminada() {
+        return preguntaActual == null;
+    }
+
+    /**
+     * Obtiene el progreso de la estrategia.
+     *
+     * @return Progreso entre 0 y 1
+     */
+    public double getProgreso() {
+        return isTerminada() ? 1.0 : estrategia.getProgreso();
+    }
+
+    /**
+     * Obtiene el número de respuestas recibidas.
+     *
+     * @return Número de respuestas
+     */
+    public int getRespondidas() {
+        return respondidas;
+    }
+
+    /**
+     * Obtiene el número de respuestas correctas.
+     *
+     * @return Número de aciertos
+     */
+    public int getAciertos() {
+        return aciertos;
+    }
+
+    /**
+     * Obtiene el instante del último acceso.
+     *
+     * @return Milisegundos desde la época
+     */
+    long getUltimoAcceso() {
+        return ultimoAcceso;
+    }
+
+    @Override
+    public String toString() {
+        return "SesionServidor{" + id + ", curso=" + cursoId + ", respondidas=" + respondidas + "}";
+    }
+}
@@ -0,0 +1,151 @@
+package com.kursor.server.carga;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias de tamaño fijo, para calcular percentiles sin
+ * guardar cada medida.
+ *
+ * <p>Las latencias se registran en microsegundos en intervalos logarítmicos:
+ * las menores de {@value #EXACTAS} µs se cuentan una a una y el resto en
+ * {@value #SUBINTERVALOS} intervalos por cada potencia de dos, de modo que el
+ * error relativo de un percentil es inferior al 3%. El histograma ocupa unos
+ * pocos kilobytes sea cual sea el número de medidas.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Es thread-safe y no toma bloqueos; lo
+ * comparten todos los aprendices simulados de {@link PruebaCarga}.</p>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see PruebaCarga
+ */
+public final class HistogramaLatencias {
+
+    /** Latencias (µs) que se cuentan sin agrupar */
+    static final int EXACTAS = 64;
+
+    /** Intervalos por cada potencia de dos a partir de {@link #EXACTAS} */
+    static final int SUBINTERVALOS = 32;
+
+    /** Potencias de dos cubiertas: hasta 2^40 µs, unos 12 días */
+    private static final int POTENCIAS = 35;
+
+    /** Número de medidas por intervalo */
+    private final AtomicLongArray cuentas = new AtomicLongArray(EXACTAS + POTENCIAS * SUBINTERVALOS);
+
+    /** Número total de medidas */
+    private final LongAdder total = new LongAdder();
+
+    /** Suma de las medidas, en microsegundos */
+    private final LongAdder suma = new LongAdder();
+
+    /** Medida máxima, en microsegundos */
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra una latencia.
+     *
+     * @param nanos Latencia en nanosegundos
+     */
+    public void registrar(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        cuentas.incrementAndGet(indice(micros));
+        total.increment();
+        suma.add(micros);
+        maximo.accumulate(micros);
+    }
+
+    /**
+     * Obtiene el número de medidas registradas.
+     *
+     * @return Número de medidas
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Obtiene la latencia media.
+     *
+     * @return Media en microsegundos, o 0 si no hay medidas
+     */
+    public double getMedia() {
+        long medidas = total.sum();
+        return medidas > 0 ? (double) suma.sum() / medidas : 0;
+    }
+
+    /**
+     * Obtiene la latencia máxima.
+     *
+     * @return Máximo en microsegundos
+     */
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    /**
+     * Obtiene un percentil de las latencias.
+     *
+     * @param percentil Percentil entre 0 y 100 (por ejemplo 99.9)
+     * @return Latencia en microsegundos por debajo de la cual está ese porcentaje
+     *         de medidas (el extremo superior de su intervalo), o 0 si no hay medidas
+     * @throws IllegalArgumentException si el percentil está fuera de rango
+     */
+    public long percentil(double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("Percentil fuera de rango: " + percentil);
+        }
+        long medidas = total.sum();
+        if (medidas == 0) {
+            return 0;
+        }
+
+        long objetivo = Math.max(1, (long) Math.ceil(medidas * percentil / 100));
+        long acumuladas = 0;
+        for (int i = 0; i < cuentas.length(); i++) {
+            acumuladas += cuentas.get(i);
+            if (acumuladas >= objetivo) {
+                // El último intervalo no tiene límite: agrupa todo lo que no cabe en los demás
+                return i < cuentas.length() - 1 ? Math.min(limiteSuperior(i), getMaximo()) : getMaximo();
+            }
+        }
+        return getMaximo();
+    }
+
+    /**
+     * Calcula el intervalo de una latencia.
+     *
+     * @param micros Latencia en microsegundos
+     * @return Índice del intervalo
+     */
+    static int indice(long micros) {
+        if (micros < EXACTAS) {
+            return (int) micros;
+        }
+        // Desplazamiento que deja la latencia entre SUBINTERVALOS y 2 * SUBINTERVALOS - 1
+        int desplazamiento = 63 - Long.numberOfLeadingZeros(micros) - 5;
+        if (desplazamiento > POTENCIAS) {
+            return EXACTAS + POTENCIAS * SUBINTERVALOS - 1;
+        }
+        return EXACTAS + (desplazamiento - 1) * SUBINTERVALOS + (int) (micros >> desplazamiento) - SUBINTERVALOS;
+    }
+
+    /**
+     * Calcula la mayor latencia de un intervalo.
+     *
+     * @param indice Índice del intervalo
+     * @return Latencia máxima del intervalo, en microsegundos
+     */
+    static long limiteSuperior(int indice) {
+        if (indice < EXACTAS) {
+            return indice;
+        }
+        int desplazamiento = (indice - EXACTAS) / SUBINTERVALOS + 1;
+        long inferior = (long) ((indice - EXACTAS) % SUBINTERVALOS + SUBINTERVALOS) << desplazamiento;
+        return inferior + (1L << desplazamiento) - 1;
+    }
+}
@@ -0,0 +1,344 @@
+package com.kursor.server.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cliente de prueba de carga del servidor de Kursor.
+ *
+ * <p>Simula un aula: cada aprendiz inicia una sesión, responde preguntas hasta
+ * terminarla o alcanzar el máximo de respuestas, y la cierra. Todos los
+ * aprendices trabajan a la vez, sin pausas entre peticiones. Las peticiones son
+ * asíncronas, de modo que mil aprendices concurrentes no necesitan mil hilos
+ * en el cliente.</p>
+ *
+ * <p>Al terminar informa del rendimiento (peticiones por segundo) y de los
+ * percentiles de latencia de cada operación.</p>
+ *
+ * <p><strong>Uso:</strong></p>
+ * <pre>
+ * java -cp ... com.kursor.server.carga.PruebaCarga [--url=http://localhost:8080]
+ *      [--aprendices=1000] [--respuestas=20] [--curso=id] [--bloque=id]
+ *      [--estrategia=Secuencial]
+ * </pre>
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ * @see com.kursor.server.KursorServer
+ * @see HistogramaLatencias
+ */
+public class PruebaCarga {
+
+    /** Aprendices concurrentes por defecto */
+    public static final int APRENDICES_POR_DEFECTO = 1000;
+
+    /** Respuestas máximas por aprendiz, por defecto */
+    public static final int RESPUESTAS_POR_DEFECTO = 20;
+
+    /** Tiempo máximo de una petición */
+    private static final Duration TIEMPO_MAXIMO = Duration.ofSeconds(60);
+
+    /** Mapper JSON */
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /** Cliente HTTP compartido por todos los aprendices */
+    private final HttpClient cliente;
+
+    /** Hilos del cliente HTTP */
+    private final ExecutorService hilos;
+
+    /** URL base de la API */
+    private final String api;
+
+    /** Latencias del inicio de sesión */
+    private final HistogramaLatencias inicios = new HistogramaLatencias();
+
+    /** Latencias de las respuestas */
+    private final HistogramaLatencias respuestas = new HistogramaLatencias();
+
+    /** Latencias del cierre de sesión */
+    private final HistogramaLatencias cierres = new HistogramaLatencias();
+
+    /** Peticiones fallidas */
+    private final AtomicLong errores = new AtomicLong();
+
+    /** Aprendices que no pudieron completar su recorrido */
+    private final AtomicLong aprendicesFallidos = new AtomicLong();
+
+    /**
+     * Crea el cliente de carga.
+     *
+     * @param url URL del servidor (sin el prefijo de la API)
+     */
+    public PruebaCarga(String url) {
+        this.api = url.replaceAll("/+$", "") + "/api";
+        this.hilos = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2), tarea -> {
+            Thread hilo = new Thread(tarea, "kursor-carga");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(hilos)
+            .build();
+    }
+
+    /**
+     * Ejecuta la prueba.
+     *
+     * @param aprendices Número de aprendices concurrentes
+     * @param maxRespuestas Respuestas máximas por aprendiz
+     * @param cursoId Curso de las sesiones, o null para el primero del catálogo
+     * @param bloqueId Bloque de las sesiones, o null para todo el curso
+     * @param estrategia Estrategia de las sesiones
+     * @return Resultado de la prueba
+     * @throws IOException si no se puede obtener el catálogo
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    public Resultado ejecutar(int aprendices, int maxRespuestas, String cursoId, String bloqueId, String estrategia)
+            throws IOException, InterruptedException {
+        if (cursoId == null) {
+            cursoId = primerCurso();
+        }
+        ObjectNode inicio = mapper.createObjectNode().put("cursoId", cursoId).put("estrategia", estrategia);
+        if (bloqueId != null) {
+            inicio.put("bloqueId", bloqueId);
+        }
+        byte[] cuerpoInicio = mapper.writeValueAsBytes(inicio);
+
+        long comienzo = System.nanoTime();
+        List<CompletableFuture<Void>> recorridos = new ArrayList<>(aprendices);
+        for (int i = 0; i < aprendices; i++) {
+            recorridos.add(recorrer(cuerpoInicio, maxRespuestas).exceptionally(e -> {
+                aprendicesFallidos.incrementAndGet();
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(recorridos.toArray(new CompletableFuture[0])).join();
+        long duracion = System.nanoTime() - comienzo;
+
+        hilos.shutdown();
+        return new Resultado(aprendices, duracion);
+    }
+
+    /**
+     * Recorrido de un aprendiz: inicia la sesión, responde y la cierra.
+     */
+    private CompletableFuture<Void> recorrer(byte[] cuerpoInicio, int maxRespuestas) {
+        return enviar(peticion("/sesiones").POST(HttpRequest.BodyPublishers.ofByteArray(cuerpoInicio)), 201, inicios)
+            .thenCompose(sesion -> responder(sesion, sesion.path("id").asText(), maxRespuestas))
+            .thenCompose(id -> enviar(peticion("/sesiones/" + id).DELETE(), 204, cierres))
+            .thenApply(ignorado -> null);
+    }
+
+    /**
+     * Responde preguntas hasta terminar la sesión o alcanzar el máximo.
+     *
+     * @return Identificador de la sesión, al terminar
+     */
+    private CompletableFuture<String> responder(JsonNode sesion, String id, int restantes) {
+        if (restantes <= 0 || sesion.path("terminada").asBoolean(true)) {
+            return CompletableFuture.completedFuture(id);
+        }
+        JsonNode pregunta = sesion.path("pregunta");
+        ObjectNode cuerpo = mapper.createObjectNode().put("preguntaId", pregunta.path("id").asText());
+        cuerpo.set("respuesta", mapper.valueToTree(respuestaPara(pregunta)));
+
+        byte[] json;
+        try {
+            json = mapper.writeValueAsBytes(cuerpo);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return enviar(peticion("/sesiones/" + id + "/respuestas").POST(HttpRequest.BodyPublishers.ofByteArray(json)),
+                200, respuestas)
+            .thenCompose(siguiente -> responder(siguiente, id, restantes - 1));
+    }
+
+    /**
+     * Elige una respuesta verosímil para una pregunta: la primera opción si
+     * tiene opciones, "true" en otro caso.
+     */
+    private static Object respuestaPara(JsonNode pregunta) {
+        JsonNode opciones = pregunta.path("opciones");
+        if (opciones.isArray() && opciones.size() > 0) {
+            return opciones.get(0).asText();
+        }
+        return "true";
+    }
+
+    /**
+     * Envía una petición y registra su latencia.
+     *
+     * @param peticion Petición
+     * @param esperado Código de estado esperado
+     * @param latencias Histograma de la operación
+     * @return Cuerpo JSON de la respuesta (vacío si no tiene)
+     */
+    private CompletableFuture<JsonNode> enviar(HttpRequest.Builder peticion, int esperado,
+                                               HistogramaLatencias latencias) {
+        long inicio = System.nanoTime();
+        return cliente.sendAsync(peticion.build(), HttpResponse.BodyHandlers.ofByteArray())
+            .handle((respuesta, error) -> {
+                latencias.registrar(System.nanoTime() - inicio);
+                if (error != null || respuesta.statusCode() != esperado) {
+                    errores.incrementAndGet();
+                    throw new IllegalStateException(error != null ? error.toString()
+                        : "HTTP " + respuesta.statusCode() + ": " + new String(respuesta.body()));
+                }
+                try {
+                    return respuesta.body().length > 0 ? mapper.readTree(respuesta.body()) : mapper.createObjectNode();
+                } catch (IOException e) {
+                    errores.incrementAndGet();
+                    throw new IllegalStateException("Respuesta no válida: " + e.getMessage(), e);
+                }
+            });
+    }
+
+    private HttpRequest.Builder peticion(String ruta) {
+        return HttpRequest.newBuilder(URI.create(api + ruta))
+            .timeout(TIEMPO_MAXIMO)
+            .header("Content-Type", "application/json");
+    }
+
+    /**
+     * Obtiene el primer curso del catálogo.
+     */
+    private String primerCurso() throws IOException, InterruptedException {
+        HttpResponse<byte[]> respuesta = cliente.send(peticion("/cursos").GET().build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode catalogo = mapper.readTree(respuesta.body());
+        if (respuesta.statusCode() != 200 || !catalogo.isArray() || catalogo.size() == 0) {
+            throw new IOException("El servidor no tiene cursos en su catálogo");
+        }
+        return catalogo.get(0).path("id").asText();
+    }
+
+    /**
+     * Resultado de una prueba de carga.
+     */
+    public final class Resultado {
+
+        /** Aprendices concurrentes */
+        private final int aprendices;
+
+        /** Duración de la prueba en nanosegundos */
+        private final long duracionNanos;
+
+        private Resultado(int aprendices, long duracionNanos) {
+            this.aprendices = aprendices;
+            this.duracionNanos = duracionNanos;
+        }
+
+        /**
+         * Obtiene el número total de peticiones enviadas.
+         *
+         * @return Número de peticiones
+         */
+        public long getPeticiones() {
+            return inicios.getTotal() + respuestas.getTotal() + cierres.getTotal();
+        }
+
+        /**
+         * Obtiene el número de peticiones fallidas.
+         *
+         * @return Número de errores
+         */
+        public long getErrores() {
+            return errores.get();
+        }
+
+        /**
+         * Obtiene el rendimiento de la prueba.
+         *
+         * @return Peticiones por segundo
+         */
+        public double getPeticionesPorSegundo() {
+            return getPeticiones() / (duracionNanos / 1e9);
+        }
+
+        /**
+         * Escribe el informe de la prueba.
+         *
+         * @param salida Flujo de salida
+         */
+        public void imprimir(PrintStream salida) {
+            salida.printf(Locale.ROOT, "Aprendices concurrentes: %d (%d sin completar)%n",
+                aprendices, aprendicesFallidos.get());
+            salida.printf(Locale.ROOT, "Peticiones: %d, errores: %d, duración: %.2f s%n",
+                getPeticiones(), getErrores(), duracionNanos / 1e9);
+            salida.printf(Locale.ROOT, "Rendimiento: %.1f peticiones/s%n", getPeticionesPorSegundo());
+            salida.printf(Locale.ROOT, "%-12s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Operación", "Total", "Media", "p50", "p90", "p99", "p99.9", "Máx");
+            imprimir(salida, "inicio", inicios);
+            imprimir(salida, "respuesta", respuestas);
+            imprimir(salida, "cierre", cierres);
+            salida.println("(latencias en milisegundos)");
+        }
+
+        private void imprimir(PrintStream salida, String operacion, HistogramaLatencias latencias) {
+            salida.printf(Locale.ROOT, "%-12s %9d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n", operacion,
+                latencias.getTotal(), latencias.getMedia() / 1000,
+                latencias.percentil(50) / 1000.0, latencias.percentil(90) / 1000.0,
+                latencias.percentil(99) / 1000.0, latencias.percentil(99.9) / 1000.0,
+                latencias.getMaximo() / 1000.0);
+        }
+    }
+
+    /**
+     * Ejecuta la prueba de carga desde la línea de comandos.
+     *
+     * @param args Opciones {@code --url=}, {@code --aprendices=}, {@code --respuestas=},
+     *             {@code --curso=}, {@code --bloque=} y {@code --estrategia=}
+     * @throws Exception si la prueba no puede ejecutarse
+     */
+    public static void main(String[] args) throws Exception {
+        String url = "http://localhost:8080";
+        int aprendices = APRENDICES_POR_DEFECTO;
+        int maxRespuestas = RESPUESTAS_POR_DEFECTO;
+        String curso = null;
+        String bloque = null;
+        String estrategia = "Secuencial";
+        for (String arg : args) {
+            String valor = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--url=")) {
+                url = valor;
+            } else if (arg.startsWith("--aprendices=")) {
+                aprendices = Integer.parseInt(valor);
+            } else if (arg.startsWith("--respuestas=")) {
+                maxRespuestas = Integer.parseInt(valor);
+            } else if (arg.startsWith("--curso=")) {
+                curso = valor;
+            } else if (arg.startsWith("--bloque=")) {
+                bloque = valor;
+            } else if (arg.startsWith("--estrategia=")) {
+                estrategia = valor;
+            } else {
+                System.err.println("Opción desconocida: " + arg);
+                System.exit(2);
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "Prueba de carga contra %s con %d aprendices...%n", url, aprendices);
+        Resultado resultado = new PruebaCarga(url).ejecutar(aprendices, maxRespuestas, curso, bloque, estrategia);
+        resultado.imprimir(System.out);
+        System.exit(resultado.getErrores() > 0 ? 1 : 0);
+    }
+}
@@ -0,0 +1,237 @@
+package com.kursor.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kursor.domain.Bloque;
+import com.kursor.domain.Curso;
+import com.kursor.domain.EstrategiaAprendizaje;
+import com.kursor.domain.Pregunta;
+import com.kursor.domain.Respuesta;
+import com.kursor.server.carga.PruebaCarga;
+import com.kursor.shared.util.CatalogoSnapshot;
+import com.kursor.shared.util.CursoManager;
+import com.kursor.shared.util.ModuleManager;
+import com.kursor.shared.util.StrategyManager;
+import com.kursor.strategy.EstrategiaModule;
+import com.kursor.yaml.dto.CursoDTO;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests para KursorServer y su API
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ */
+class KursorServerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient cliente = HttpClient.newHttpClient();
+    private ServicioSesiones servicio;
+    private KursorServer servidor;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Bloque bloque = new Bloque("b1", "Bloque 1", "Primer bloque", "test");
+        for (int i = 1; i <= 3; i++) {
+            bloque.addPregunta(new PreguntaPrueba("p" + i, "Pregunta " + i, "A"));
+        }
+        Curso curso = new Curso("curso1", "Curso de prueba", "Descripción");
+        curso.addBloque(bloque);
+        CursoDTO cursoDTO = new CursoDTO(curso);
+
+        CursoManager cursoManager = mock(CursoManager.class);
+        when(cursoManager.getCatalogo()).thenReturn(new CatalogoSnapshot(1, List.of(cursoDTO)));
+        when(cursoManager.obtenerCursoPorId("curso1")).thenReturn(cursoDTO);
+
+        StrategyManager strategyManager = mock(StrategyManager.class);
+        EstrategiaModule secuencial = mock(EstrategiaModule.class);
+        when(secuencial.getNombre()).thenReturn("Secuencial");
+        when(strategyManager.getStrategies()).thenReturn(List.of(secuencial));
+        when(strategyManager.findStrategyByName("Secuencial")).thenReturn(secuencial);
+        when(strategyManager.crearEstrategia(eq("Secuencial"), anyList()))
+            .thenAnswer(invocacion -> new EstrategiaPrueba(invocacion.getArgument(1)));
+
+        servicio = new ServicioSesiones(cursoManager, strategyManager, mock(ModuleManager.class), false);
+        servidor = new KursorServer(0, 8, 30, servicio);
+        servidor.iniciar();
+        url = "http://localhost:" + servidor.getPuerto();
+    }
+
+    @AfterEach
+    void tearDown() {
+        servidor.detener(0);
+    }
+
+    @Test
+    void testCatalogoYEstrategias() throws Exception {
+        JsonNode catalogo = mapper.readTree(get("/api/cursos").body());
+        assertEquals(1, catalogo.size());
+        assertEquals("curso1", catalogo.get(0).path("id").asText());
+        assertFalse(catalogo.get(0).has("bloques"));
+
+        JsonNode estrategias = mapper.readTree(get("/api/estrategias").body());
+        assertEquals("Secuencial", estrategias.get(0).path("nombre").asText());
+    }
+
+    @Test
+    void testRecorridoDeUnaSesion() throws Exception {
+        HttpResponse<String> inicio = post("/api/sesiones", "{\"cursoId\":\"curso1\",\"bloqueId\":\"b1\"}");
+        assertEquals(201, inicio.statusCode());
+        JsonNode sesion = mapper.readTree(inicio.body());
+        String id = sesion.path("id").asText();
+        assertEquals("/api/sesiones/" + id, inicio.headers().firstValue("Location").orElse(null));
+        assertEquals("p1", sesion.path("pregunta").path("id").asText());
+        assertEquals("Pregunta 1", sesion.path("pregunta").path("enunciado").asText());
+        assertEquals(2, sesion.path("pregunta").path("opciones").size());
+        assertFalse(sesion.path("pregunta").has("respuestaCorrecta"), "No debe desvelar la solución");
+
+        JsonNode respuesta = mapper.readTree(post("/api/sesiones/" + id + "/respuestas",
+            "{\"preguntaId\":\"p1\",\"respuesta\":\"A\"}").body());
+        assertTrue(respuesta.path("correcta").asBoolean());
+        assertEquals("p2", respuesta.path("pregunta").path("id").asText());
+
+        // Una petición repetida no vuelve a responder
+        assertEquals(409, post("/api/sesiones/" + id + "/respuestas",
+            "{\"preguntaId\":\"p1\",\"respuesta\":\"A\"}").statusCode());
+
+        post("/api/sesiones/" + id + "/respuestas", "{\"respuesta\":\"B\"}");
+        JsonNode fin = mapper.readTree(post("/api/sesiones/" + id + "/respuestas", "{\"respuesta\":\"A\"}").body());
+        assertTrue(fin.path("terminada").asBoolean());
+        assertEquals(3, fin.path("respondidas").asInt());
+        assertEquals(2, fin.path("aciertos").asInt());
+        assertEquals(204, get("/api/sesiones/" + id + "/pregunta").statusCode());
+
+        assertEquals(204, enviar(HttpRequest.newBuilder(URI.create(url + "/api/sesiones/" + id)).DELETE()).statusCode());
+        assertEquals(404, get("/api/sesiones/" + id).statusCode());
+        assertEquals(0, servicio.getNumeroSesiones());
+    }
+
+    @Test
+    void testErrores() throws Exception {
+        assertEquals(404, post("/api/sesiones", "{\"cursoId\":\"no-existe\"}").statusCode());
+        assertEquals(404, post("/api/sesiones", "{\"cursoId\":\"curso1\",\"bloqueId\":\"b9\"}").statusCode());
+        assertEquals(400, post("/api/sesiones", "{}").statusCode());
+        assertEquals(400, post("/api/sesiones", "no es json").statusCode());
+        assertEquals(405, post("/api/cursos", "{}").statusCode());
+        assertEquals(404, get("/api/desconocido").statusCode());
+
+        HttpResponse<String> error = get("/api/sesiones/no-existe/pregunta");
+        assertEquals(404, error.statusCode());
+        assertTrue(mapper.readTree(error.body()).path("error").asText().contains("no-existe"));
+    }
+
+    @Test
+    void testPruebaDeCarga() throws Exception {
+        PruebaCarga.Resultado resultado = new PruebaCarga(url).ejecutar(50, 10, null, null, "Secuencial");
+
+        assertEquals(0, resultado.getErrores());
+        assertEquals(50 * 5, resultado.getPeticiones());
+        assertTrue(resultado.getPeticionesPorSegundo() > 0);
+        assertEquals(0, servicio.getNumeroSesiones());
+    }
+
+    private HttpResponse<String> get(String ruta) throws Exception {
+        return enviar(HttpRequest.newBuilder(URI.create(url + ruta)).GET());
+    }
+
+    private HttpResponse<String> post(String ruta, String cuerpo) throws Exception {
+        return enviar(HttpRequest.newBuilder(URI.create(url + ruta)).POST(HttpRequest.BodyPublishers.ofString(cuerpo)));
+    }
+
+    private HttpResponse<String> enviar(HttpRequest.Builder peticion) throws Exception {
+        return cliente.send(peticion.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /** Pregunta de opción múltiple mínima */
+    public static class PreguntaPrueba extends Pregunta {
+        private final String enunciado;
+        private final String respuestaCorrecta;
+
+        PreguntaPrueba(String id, String enunciado, String respuestaCorrecta) {
+            super(id, "test");
+            this.enunciado = enunciado;
+            this.respuestaCorrecta = respuestaCorrecta;
+        }
+
+        @Override
+        public String getEnunciado() {
+            return enunciado;
+        }
+
+        public List<String> getOpciones() {
+            return List.of("A", "B");
+        }
+
+        public String getRespuestaCorrecta() {
+            return respuestaCorrecta;
+        }
+
+        @Override
+        public boolean esCorrecta(String respuesta) {
+            return respuestaCorrecta.equals(respuesta);
+        }
+    }
+
+    /** Estrategia secuencial mínima */
+    private static class EstrategiaPrueba implements EstrategiaAprendizaje {
+        private final List<Pregunta> preguntas;
+        private int indice;
+
+        EstrategiaPrueba(List<Pregunta> preguntas) {
+            this.preguntas = preguntas;
+        }
+
+        @Override
+        public String getNombre() {
+            return "Secuencial";
+        }
+
+        @Override
+        public Pregunta primeraPregunta() {
+            indice = 0;
+            return preguntas.get(0);
+        }
+
+        @Override
+        public void registrarRespuesta(Respuesta respuesta) {
+        }
+
+        @Override
+        public boolean hayMasPreguntas() {
+            return indice < preguntas.size() - 1;
+        }
+
+        @Override
+        public Pregunta siguientePregunta() {
+            return hayMasPreguntas() ? preguntas.get(++indice) : null;
+        }
+
+        @Override
+        public double getProgreso() {
+            return (indice + 1.0) / preguntas.size();
+        }
+
+        @Override
+        public String serializarEstado() {
+            return String.valueOf(indice);
+        }
+
+        @Override
+        public void deserializarEstado(String estado) {
+            indice = Integer.parseInt(estado);
+        }
+    }
+}
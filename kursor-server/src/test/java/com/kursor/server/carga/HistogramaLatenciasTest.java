@@ -0,0 +1,61 @@
+package com.kursor.server.carga;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para HistogramaLatencias
+ *
+ * @author Juan José Ruiz Pérez <jjrp1@um.es>
+ * @version 1.0.0
+ * @since 2.0.0
+ */
+class HistogramaLatenciasTest {
+
+    @Test
+    void testIntervalosContiguos() {
+        long anterior = -1;
+        for (int i = 0; i < 1000; i++) {
+            long superior = HistogramaLatencias.limiteSuperior(i);
+            assertEquals(i, HistogramaLatencias.indice(superior));
+            assertEquals(i, HistogramaLatencias.indice(anterior + 1));
+            anterior = superior;
+        }
+    }
+
+    @Test
+    void testPercentilesDeDistribucionUniforme() {
+        HistogramaLatencias histograma = new HistogramaLatencias();
+        for (int ms = 1; ms <= 1000; ms++) {
+            histograma.registrar(ms * 1_000_000L);
+        }
+
+        assertEquals(1000, histograma.getTotal());
+        assertEquals(500_500, histograma.getMedia(), 1);
+        assertEquals(1_000_000, histograma.getMaximo());
+        assertEquals(500_000, histograma.percentil(50), 500_000 * 0.03);
+        assertEquals(990_000, histograma.percentil(99), 990_000 * 0.03);
+        assertEquals(1_000_000, histograma.percentil(100));
+    }
+
+    @Test
+    void testHistogramaVacio() {
+        HistogramaLatencias histograma = new HistogramaLatencias();
+
+        assertEquals(0, histograma.getTotal());
+        assertEquals(0, histograma.percentil(99));
+        assertThrows(IllegalArgumentException.class, () -> histograma.percentil(101));
+    }
+
+    @Test
+    void testLatenciasExtremas() {
+        HistogramaLatencias histograma = new HistogramaLatencias();
+        histograma.registrar(-5);
+        histograma.registrar(Long.MAX_VALUE);
+
+        assertEquals(2, histograma.getTotal());
+        assertEquals(0, histograma.percentil(50));
+        assertEquals(histograma.getMaximo(), histograma.percentil(100));
+    }
+}
@@ -1,5 +1,8 @@
 package com.kursor.studio.config;
 
+import com.kursor.persistence.config.PerfilPersistencia;
+import com.kursor.persistence.config.PoolConexionesSQLite;
+import com.kursor.persistence.config.ProveedorConexionesSQLite;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
@@ -32,6 +35,9 @@ public class PersistenceConfig {
     // EntityManagerFactory para kursor (datos a explorar)
     private static EntityManagerFactory kursorEMF;
     
+    // Pool de conexiones de lectura a la base de datos de kursor
+    private static PoolConexionesSQLite kursorPool;
+    
     private static boolean initialized = false;
     
     /**
@@ -99,6 +105,10 @@ public class PersistenceConfig {
     /**
      * Inicializa la base de datos de kursor (datos a explorar).
      * 
+     * <p>La base de datos se abre con las conexiones de lectura de un
+     * {@link PoolConexionesSQLite}, de modo que con el journal WAL la
+     * exploración no bloquea a Kursor mientras registra respuestas.</p>
+     * 
      * @param databasePath Ruta a la base de datos de kursor
      */
     public static synchronized void initializeKursor(String databasePath) {
@@ -108,18 +118,22 @@ public class PersistenceConfig {
             // Cerrar conexión anterior si existe
             if (kursorEMF != null) {
                 kursorEMF.close();
+                kursorEMF = null;
                 logger.debug("Conexión anterior a kursor cerrada");
             }
+            if (kursorPool != null) {
+                kursorPool.close();
+                kursorPool = null;
+            }
+            kursorPool = new PoolConexionesSQLite(databasePath, PerfilPersistencia.configurado());
             
             // Crear configuración programática para evitar problemas de validación
             org.hibernate.cfg.Configuration hibernateConfig = new org.hibernate.cfg.Configuration();
             
             // Configurar dialecto y driver
             hibernateConfig.setProperty("hibernate.dialect", "org.hibernate.community.dialect.SQLiteDialect");
-            hibernateConfig.setProperty("hibernate.connection.driver_class", "org.sqlite.JDBC");
-            hibernateConfig.setProperty("hibernate.connection.url", "jdbc:sqlite:" + databasePath);
-            hibernateConfig.setProperty("hibernate.connection.username", "");
-            hibernateConfig.setProperty("hibernate.connection.password", "");
+            hibernateConfig.getProperties().put("hibernate.connection.provider_class",
+                new ProveedorConexionesSQLite(kursorPool, true));
             
             // Deshabilitar completamente la validación de esquema
             hibernateConfig.setProperty("hibernate.hbm2ddl.auto", "none");
@@ -127,12 +141,8 @@ public class PersistenceConfig {
             hibernateConfig.setProperty("hibernate.jdbc.lob.non_contextual_creation", "true");
             hibernateConfig.setProperty("hibernate.validator.apply_to_ddl", "false");
             hibernateConfig.setProperty("hibernate.schema_update.unique_constraint_strategy", "SKIP");
-            hibernateConfig.setProperty("hibernate.connection.provider_disables_autocommit", "true");
             hibernateConfig.setProperty("hibernate.show_sql", "false");
             hibernateConfig.setProperty("hibernate.format_sql", "true");
-            hibernateConfig.setProperty("hibernate.connection.pool_size", "1");
-            hibernateConfig.setProperty("hibernate.connection.autocommit", "false");
-            hibernateConfig.setProperty("hibernate.connection.foreign_keys", "true");
             
             // Agregar entidades de kursor-core
             hibernateConfig.addAnnotatedClass(com.kursor.persistence.entity.Sesion.class);
@@ -147,6 +157,10 @@ public class PersistenceConfig {
             logger.info("Base de datos de kursor inicializada correctamente: {}", databasePath);
             
         } catch (Exception e) {
+            if (kursorPool != null) {
+                kursorPool.close();
+                kursorPool = null;
+            }
             logger.error("Error al inicializar base de datos de kursor: {}", databasePath, e);
             throw new RuntimeException("Error al inicializar base de datos de kursor: " + databasePath, e);
         }
@@ -219,6 +233,9 @@ public class PersistenceConfig {
                     kursorEMF.close();
                     logger.info("Base de datos de kursor cerrada correctamente");
                 }
+                if (kursorPool != null) {
+                    kursorPool.close();
+                }
                 
                 logger.info("PersistenceConfig de Kursor Studio cerrado exitosamente");
             } catch (Exception e) {
@@ -226,6 +243,7 @@ public class PersistenceConfig {
             } finally {
                 kursorStudioEMF = null;
                 kursorEMF = null;
+                kursorPool = null;
                 initialized = false;
             }
         }